@@ -0,0 +1,49 @@
+package com.redis.om.spring.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.repository.core.support.QueryCreationListener;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.query.RepositoryQuery;
+
+import com.redis.om.spring.annotations.EnableRedisDocumentRepositories;
+import com.redis.om.spring.annotations.EnableRedisEnhancedRepositories;
+
+/**
+ * The Spring Boot application the Redis-backed benchmarks run against.
+ */
+@SpringBootApplication
+@EnableRedisDocumentRepositories(
+    basePackages = "com.redis.om.spring.benchmarks.fixtures"
+)
+@EnableRedisEnhancedRepositories(
+    basePackages = "com.redis.om.spring.benchmarks.fixtures"
+)
+public class BenchmarkApplication {
+  /**
+   * The repository query methods created at startup, keyed by
+   * {@code <entity simple name>.<method name>}, so that their query preparation can be measured
+   * in isolation.
+   */
+  static final Map<String, RepositoryQuery> QUERIES = new ConcurrentHashMap<>();
+
+  @Bean
+  static BeanPostProcessor repositoryQueryCapture() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+          factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addQueryCreationListener(
+              (QueryCreationListener<RepositoryQuery>) query -> QUERIES.put(query.getQueryMethod()
+                  .getEntityInformation().getJavaType().getSimpleName() + "." + query.getQueryMethod().getName(),
+                  query)));
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,112 @@
+package com.redis.om.spring.benchmarks;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Starts the {@link BenchmarkApplication} against Redis for the Redis-backed benchmarks.
+ * <p>
+ * Set the {@value #REDIS_PROPERTY} system property to {@code host:port} to benchmark against an
+ * already running Redis 8 or Redis Stack instance (e.g. the one from the repository's
+ * {@code docker-compose.yml}); otherwise a throwaway Redis container is started with Testcontainers
+ * and stopped on {@link #close()}.
+ * </p>
+ */
+public final class BenchmarkContext implements AutoCloseable {
+  /** System property holding the {@code host:port} of the Redis instance to benchmark against. */
+  public static final String REDIS_PROPERTY = "redis.om.benchmarks.redis";
+
+  private final GenericContainer<?> container;
+  private final ConfigurableApplicationContext context;
+
+  private BenchmarkContext(GenericContainer<?> container, ConfigurableApplicationContext context) {
+    this.container = container;
+    this.context = context;
+  }
+
+  /**
+   * Starts Redis, if needed, and the benchmark application.
+   *
+   * @return the started context
+   */
+  @SuppressWarnings(
+    "resource"
+  )
+  public static BenchmarkContext start() {
+    String host;
+    int port;
+    GenericContainer<?> container = null;
+
+    String redis = System.getProperty(REDIS_PROPERTY);
+    if (redis != null && !redis.isBlank()) {
+      String[] hostAndPort = redis.split(":");
+      host = hostAndPort[0];
+      port = hostAndPort.length > 1 ? Integer.parseInt(hostAndPort[1]) : 6379;
+    } else {
+      container = new GenericContainer<>(DockerImageName.parse("redis:latest")).withExposedPorts(6379);
+      container.start();
+      host = container.getHost();
+      port = container.getFirstMappedPort();
+    }
+
+    ConfigurableApplicationContext context = new SpringApplicationBuilder(BenchmarkApplication.class) //
+        .web(WebApplicationType.NONE) //
+        .properties( //
+            "spring.main.banner-mode=off", //
+            "spring.data.redis.host=" + host, //
+            "spring.data.redis.port=" + port, //
+            "logging.level.root=WARN" //
+        ).run();
+    return new BenchmarkContext(container, context);
+  }
+
+  /**
+   * Returns the bean of the given type.
+   *
+   * @param type the bean type
+   * @param <T>  the bean type
+   * @return the bean
+   */
+  public <T> T getBean(Class<T> type) {
+    return context.getBean(type);
+  }
+
+  /**
+   * Returns the bean with the given name.
+   *
+   * @param name the bean name
+   * @param type the bean type
+   * @param <T>  the bean type
+   * @return the bean
+   */
+  public <T> T getBean(String name, Class<T> type) {
+    return context.getBean(name, type);
+  }
+
+  /**
+   * Returns a repository query method created for the benchmark repositories.
+   *
+   * @param entityClass the repository's entity type
+   * @param methodName  the query method name
+   * @return the repository query
+   */
+  public RepositoryQuery getRepositoryQuery(Class<?> entityClass, String methodName) {
+    RepositoryQuery query = BenchmarkApplication.QUERIES.get(entityClass.getSimpleName() + "." + methodName);
+    if (query == null) {
+      throw new IllegalArgumentException("No query method " + methodName + " for " + entityClass.getSimpleName());
+    }
+    return query;
+  }
+
+  @Override
+  public void close() {
+    context.close();
+    if (container != null) {
+      container.stop();
+    }
+  }
+}
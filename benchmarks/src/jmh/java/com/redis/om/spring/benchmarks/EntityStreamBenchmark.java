@@ -0,0 +1,81 @@
+package com.redis.om.spring.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.redis.om.spring.benchmarks.fixtures.Product;
+import com.redis.om.spring.benchmarks.fixtures.Product$;
+import com.redis.om.spring.benchmarks.fixtures.ProductRepository;
+import com.redis.om.spring.benchmarks.fixtures.Products;
+import com.redis.om.spring.search.stream.EntityStream;
+
+/**
+ * Measures entity stream queries, returning whole entities and projected fields, against a seeded
+ * JSON document data set.
+ */
+@State(
+  Scope.Benchmark
+)
+@BenchmarkMode(
+  Mode.AverageTime
+)
+@OutputTimeUnit(
+  TimeUnit.MICROSECONDS
+)
+public class EntityStreamBenchmark {
+  @Param(
+    { "1000" }
+  )
+  public int dataSetSize;
+
+  private BenchmarkContext context;
+  private ProductRepository documents;
+  private EntityStream entityStream;
+
+  @Setup(
+    Level.Trial
+  )
+  public void setUp() {
+    context = BenchmarkContext.start();
+    documents = context.getBean(ProductRepository.class);
+    entityStream = context.getBean(EntityStream.class);
+    documents.saveAll(Products.documents(dataSetSize));
+  }
+
+  @TearDown(
+    Level.Trial
+  )
+  public void tearDown() {
+    documents.deleteAll();
+    context.close();
+  }
+
+  @Benchmark
+  public List<Product> filterAndCollect() {
+    return entityStream.of(Product.class) //
+        .filter(Product$.CATEGORY.eq("audio")) //
+        .filter(Product$.PRICE.between(10.0, 600.0)) //
+        .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public List<String> filterAndMap() {
+    return entityStream.of(Product.class) //
+        .filter(Product$.CATEGORY.eq("audio")) //
+        .filter(Product$.PRICE.between(10.0, 600.0)) //
+        .map(Product$.NAME) //
+        .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public List<Product> sortedAndLimited() {
+    return entityStream.of(Product.class) //
+        .filter(Product$.CATEGORY.eq("camera")) //
+        .sorted(Product$.PRICE) //
+        .limit(20) //
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,99 @@
+package com.redis.om.spring.benchmarks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.redis.om.spring.benchmarks.fixtures.Product;
+import com.redis.om.spring.benchmarks.fixtures.ProductHash;
+import com.redis.om.spring.benchmarks.fixtures.ProductHashRepository;
+import com.redis.om.spring.benchmarks.fixtures.ProductRepository;
+import com.redis.om.spring.benchmarks.fixtures.Products;
+
+/**
+ * Measures lookups by id, {@code findAll} and derived query methods of JSON document and hash
+ * repositories against a seeded data set.
+ */
+@State(
+  Scope.Benchmark
+)
+@BenchmarkMode(
+  Mode.AverageTime
+)
+@OutputTimeUnit(
+  TimeUnit.MICROSECONDS
+)
+public class FindBenchmark {
+  @Param(
+    { "1000" }
+  )
+  public int dataSetSize;
+
+  private BenchmarkContext context;
+  private ProductRepository documents;
+  private ProductHashRepository hashes;
+  private String documentId;
+  private String hashId;
+
+  @Setup(
+    Level.Trial
+  )
+  public void setUp() {
+    context = BenchmarkContext.start();
+    documents = context.getBean(ProductRepository.class);
+    hashes = context.getBean(ProductHashRepository.class);
+    documentId = documents.saveAll(Products.documents(dataSetSize)).get(dataSetSize / 2).getId();
+    hashId = hashes.saveAll(Products.hashes(dataSetSize)).get(dataSetSize / 2).getId();
+  }
+
+  @TearDown(
+    Level.Trial
+  )
+  public void tearDown() {
+    documents.deleteAll();
+    hashes.deleteAll();
+    context.close();
+  }
+
+  @Benchmark
+  public Optional<Product> findDocumentById() {
+    return documents.findById(documentId);
+  }
+
+  @Benchmark
+  public Optional<ProductHash> findHashById() {
+    return hashes.findById(hashId);
+  }
+
+  @Benchmark
+  public List<Product> findAllDocuments() {
+    return documents.findAll();
+  }
+
+  @Benchmark
+  public List<ProductHash> findAllHashes() {
+    return hashes.findAll();
+  }
+
+  @Benchmark
+  public List<Product> findDocumentsByCategoryAndPriceBetween() {
+    return documents.findByCategoryAndPriceBetween("audio", 10.0, 600.0);
+  }
+
+  @Benchmark
+  public List<ProductHash> findHashesByCategoryAndPriceBetween() {
+    return hashes.findByCategoryAndPriceBetween("audio", 10.0, 600.0);
+  }
+
+  @Benchmark
+  public List<Product> findDocumentsByNameStartingWith() {
+    return documents.findByNameStartingWith("wirel");
+  }
+
+  @Benchmark
+  public List<ProductHash> findHashesByNameStartingWith() {
+    return hashes.findByNameStartingWith("wirel");
+  }
+}
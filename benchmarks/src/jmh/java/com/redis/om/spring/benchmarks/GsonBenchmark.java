@@ -0,0 +1,48 @@
+package com.redis.om.spring.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.google.gson.Gson;
+import com.redis.om.spring.RedisModulesConfiguration;
+import com.redis.om.spring.benchmarks.fixtures.Product;
+import com.redis.om.spring.benchmarks.fixtures.Products;
+
+/**
+ * Measures Gson encoding and decoding of a typical {@code @Document} entity, using the same
+ * type adapters as the {@code omGsonBuilder} bean.
+ */
+@State(
+  Scope.Benchmark
+)
+@BenchmarkMode(
+  Mode.AverageTime
+)
+@OutputTimeUnit(
+  TimeUnit.NANOSECONDS
+)
+public class GsonBenchmark {
+  private Gson gson;
+  private Product product;
+  private String json;
+
+  @Setup
+  public void setUp() {
+    gson = new RedisModulesConfiguration().gsonBuilder(List.of()).create();
+    product = Products.documents(1).get(0);
+    product.setId("01HZXBENCHMARK0000000000000");
+    json = gson.toJson(product);
+  }
+
+  @Benchmark
+  public String encode() {
+    return gson.toJson(product);
+  }
+
+  @Benchmark
+  public Product decode() {
+    return gson.fromJson(json, Product.class);
+  }
+}
@@ -0,0 +1,54 @@
+package com.redis.om.spring.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.convert.RedisData;
+
+import com.redis.om.spring.benchmarks.fixtures.ProductHash;
+import com.redis.om.spring.benchmarks.fixtures.Products;
+import com.redis.om.spring.convert.MappingRedisOMConverter;
+
+/**
+ * Measures {@link MappingRedisOMConverter#write(Object, RedisData)} and
+ * {@link MappingRedisOMConverter#read(Class, RedisData)} of a typical {@code @RedisHash} entity
+ * with text, numeric, tag, geo and date fields.
+ */
+@State(
+  Scope.Benchmark
+)
+@BenchmarkMode(
+  Mode.AverageTime
+)
+@OutputTimeUnit(
+  TimeUnit.NANOSECONDS
+)
+public class MappingConverterBenchmark {
+  private MappingRedisOMConverter converter;
+  private ProductHash product;
+  private RedisData written;
+
+  @Setup
+  public void setUp() {
+    converter = new MappingRedisOMConverter();
+    product = Products.hashes(1).get(0);
+    product.setId("01HZXBENCHMARK0000000000000");
+    written = new RedisData();
+    converter.write(product, written);
+  }
+
+  @Benchmark
+  public RedisData write() {
+    RedisData sink = new RedisData();
+    converter.write(product, sink);
+    return sink;
+  }
+
+  @Benchmark
+  public ProductHash read() {
+    RedisData source = new RedisData(written.getBucket());
+    source.setId(written.getId());
+    source.setKeyspace(written.getKeyspace());
+    return converter.read(ProductHash.class, source);
+  }
+}
@@ -0,0 +1,82 @@
+package com.redis.om.spring.benchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.redis.om.spring.benchmarks.fixtures.Product;
+import com.redis.om.spring.benchmarks.fixtures.Products;
+import com.redis.om.spring.util.ObjectUtils;
+
+/**
+ * Measures the {@link ObjectUtils} reflection helpers used on every read and write, and the
+ * vector conversions used when storing and querying embeddings.
+ */
+@State(
+  Scope.Benchmark
+)
+@BenchmarkMode(
+  Mode.AverageTime
+)
+@OutputTimeUnit(
+  TimeUnit.NANOSECONDS
+)
+public class ObjectUtilsBenchmark {
+  @Param(
+    { "384", "1536" }
+  )
+  public int dimensions;
+
+  private Product product;
+  private Field priceField;
+  private float[] vector;
+  private byte[] vectorBytes;
+
+  @Setup
+  public void setUp() throws NoSuchFieldException {
+    product = Products.documents(1).get(0);
+    product.setId("01HZXBENCHMARK0000000000000");
+    priceField = Product.class.getDeclaredField("price");
+
+    Random random = new Random(42);
+    vector = new float[dimensions];
+    for (int i = 0; i < dimensions; i++) {
+      vector[i] = random.nextFloat();
+    }
+    vectorBytes = ObjectUtils.floatArrayToByteArray(vector);
+  }
+
+  @Benchmark
+  public List<Field> getDeclaredFieldsTransitively() {
+    return ObjectUtils.getDeclaredFieldsTransitively(Product.class);
+  }
+
+  @Benchmark
+  public Object getIdFieldForEntity() {
+    return ObjectUtils.getIdFieldForEntity(product);
+  }
+
+  @Benchmark
+  public Method getGetterForField() {
+    return ObjectUtils.getGetterForField(Product.class, priceField);
+  }
+
+  @Benchmark
+  public Object getValueByPath() {
+    return ObjectUtils.getValueByPath(product, "$.location");
+  }
+
+  @Benchmark
+  public byte[] floatArrayToByteArray() {
+    return ObjectUtils.floatArrayToByteArray(vector);
+  }
+
+  @Benchmark
+  public float[] byteArrayToFloatArray() {
+    return ObjectUtils.byteArrayToFloatArray(vectorBytes);
+  }
+}
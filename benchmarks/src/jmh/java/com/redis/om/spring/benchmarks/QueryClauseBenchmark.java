@@ -0,0 +1,49 @@
+package com.redis.om.spring.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+
+import com.redis.om.spring.repository.query.clause.QueryClause;
+
+/**
+ * Measures {@link QueryClause#prepareQuery(String, Object...)} for the most common clause types.
+ */
+@State(
+  Scope.Benchmark
+)
+@BenchmarkMode(
+  Mode.AverageTime
+)
+@OutputTimeUnit(
+  TimeUnit.NANOSECONDS
+)
+public class QueryClauseBenchmark {
+  private final Set<String> tags = Set.of("wireless", "tag-7", "pro");
+  private final Point point = new Point(-122.1, 37.4);
+  private final Distance distance = new Distance(10, Metrics.KILOMETERS);
+
+  @Benchmark
+  public String textStartingWith() {
+    return QueryClause.TEXT_STARTING_WITH.prepareQuery("name", "wirel");
+  }
+
+  @Benchmark
+  public String numericBetween() {
+    return QueryClause.NUMERIC_BETWEEN.prepareQuery("price", 10.0, 60.0);
+  }
+
+  @Benchmark
+  public String tagContainingAll() {
+    return QueryClause.TAG_CONTAINING_ALL.prepareQuery("tags", tags);
+  }
+
+  @Benchmark
+  public String geoNear() {
+    return QueryClause.GEO_NEAR.prepareQuery("location", point, distance);
+  }
+}
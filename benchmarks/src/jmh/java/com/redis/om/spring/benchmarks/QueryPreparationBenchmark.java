@@ -0,0 +1,94 @@
+package com.redis.om.spring.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.redis.om.spring.benchmarks.fixtures.Product;
+import com.redis.om.spring.benchmarks.fixtures.Product$;
+import com.redis.om.spring.benchmarks.fixtures.ProductHash;
+import com.redis.om.spring.repository.query.RediSearchQuery;
+import com.redis.om.spring.repository.query.RedisEnhancedQuery;
+import com.redis.om.spring.search.stream.EntityStream;
+import com.redis.om.spring.search.stream.SearchStream;
+import com.redis.om.spring.search.stream.SearchStreamImpl;
+
+import redis.clients.jedis.search.Query;
+
+/**
+ * Measures how long it takes to turn a repository query method invocation, or an entity stream
+ * pipeline, into a RediSearch query, without executing it.
+ * <p>
+ * The query preparation methods are internal, so they are invoked through method handles; the
+ * handles are resolved once per trial and do not affect the measurement.
+ * </p>
+ */
+@State(
+  Scope.Benchmark
+)
+@BenchmarkMode(
+  Mode.AverageTime
+)
+@OutputTimeUnit(
+  TimeUnit.NANOSECONDS
+)
+public class QueryPreparationBenchmark {
+  private final Object[] parameters = { "audio", 10.0, 60.0 };
+
+  private BenchmarkContext context;
+  private MethodHandle documentQuery;
+  private MethodHandle hashQuery;
+  private MethodHandle streamQuery;
+  private EntityStream entityStream;
+
+  @Setup(
+    Level.Trial
+  )
+  public void setUp() throws ReflectiveOperationException {
+    context = BenchmarkContext.start();
+    entityStream = context.getBean(EntityStream.class);
+
+    MethodType prepareQuery = MethodType.methodType(String.class, Object[].class, boolean.class);
+    documentQuery = privateLookup(RediSearchQuery.class) //
+        .findVirtual(RediSearchQuery.class, "prepareQuery", prepareQuery) //
+        .bindTo(context.getRepositoryQuery(Product.class, "findByCategoryAndPriceBetween"));
+    hashQuery = privateLookup(RedisEnhancedQuery.class) //
+        .findVirtual(RedisEnhancedQuery.class, "prepareQuery", prepareQuery) //
+        .bindTo(context.getRepositoryQuery(ProductHash.class, "findByCategoryAndPriceBetween"));
+    streamQuery = privateLookup(SearchStreamImpl.class) //
+        .findVirtual(SearchStreamImpl.class, "prepareQuery", MethodType.methodType(Query.class));
+  }
+
+  @TearDown(
+    Level.Trial
+  )
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public String documentRepositoryQuery() throws Throwable {
+    return (String) documentQuery.invoke(parameters, false);
+  }
+
+  @Benchmark
+  public String hashRepositoryQuery() throws Throwable {
+    return (String) hashQuery.invoke(parameters, false);
+  }
+
+  @Benchmark
+  public Query entityStreamQuery() throws Throwable {
+    SearchStream<Product> stream = entityStream.of(Product.class) //
+        .filter(Product$.CATEGORY.eq("audio")) //
+        .filter(Product$.PRICE.between(10.0, 60.0)) //
+        .filter(Product$.NAME.startsWith("wirel"));
+    return (Query) streamQuery.invoke(stream);
+  }
+
+  private static MethodHandles.Lookup privateLookup(Class<?> target) throws IllegalAccessException {
+    return MethodHandles.privateLookupIn(target, MethodHandles.lookup());
+  }
+}
@@ -0,0 +1,69 @@
+package com.redis.om.spring.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.redis.om.spring.benchmarks.fixtures.Product;
+import com.redis.om.spring.benchmarks.fixtures.ProductHash;
+import com.redis.om.spring.benchmarks.fixtures.ProductHashRepository;
+import com.redis.om.spring.benchmarks.fixtures.ProductRepository;
+import com.redis.om.spring.benchmarks.fixtures.Products;
+
+/**
+ * Measures {@code saveAll} throughput of JSON document and hash repositories for different batch
+ * sizes. The same batch is saved on every invocation, so after the first one each invocation
+ * measures a pipelined upsert of existing keys.
+ */
+@State(
+  Scope.Benchmark
+)
+@BenchmarkMode(
+  Mode.AverageTime
+)
+@OutputTimeUnit(
+  TimeUnit.MILLISECONDS
+)
+public class SaveAllBenchmark {
+  @Param(
+    { "100", "1000" }
+  )
+  public int batchSize;
+
+  private BenchmarkContext context;
+  private ProductRepository documents;
+  private ProductHashRepository hashes;
+  private List<Product> documentBatch;
+  private List<ProductHash> hashBatch;
+
+  @Setup(
+    Level.Trial
+  )
+  public void setUp() {
+    context = BenchmarkContext.start();
+    documents = context.getBean(ProductRepository.class);
+    hashes = context.getBean(ProductHashRepository.class);
+    documentBatch = Products.documents(batchSize);
+    hashBatch = Products.hashes(batchSize);
+  }
+
+  @TearDown(
+    Level.Trial
+  )
+  public void tearDown() {
+    documents.deleteAll();
+    hashes.deleteAll();
+    context.close();
+  }
+
+  @Benchmark
+  public List<Product> saveAllDocuments() {
+    return documents.saveAll(documentBatch);
+  }
+
+  @Benchmark
+  public List<ProductHash> saveAllHashes() {
+    return hashes.saveAll(hashBatch);
+  }
+}
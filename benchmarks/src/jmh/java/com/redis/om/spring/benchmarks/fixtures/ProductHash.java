@@ -0,0 +1,53 @@
+package com.redis.om.spring.benchmarks.fixtures;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.core.RedisHash;
+
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.Searchable;
+
+import lombok.*;
+
+@Data
+@RequiredArgsConstructor(
+    staticName = "of"
+)
+@NoArgsConstructor(
+    force = true
+)
+@RedisHash
+public class ProductHash {
+  @Id
+  private String id;
+
+  @NonNull
+  @Searchable
+  private String name;
+
+  @NonNull
+  @Indexed
+  private String category;
+
+  @NonNull
+  @Indexed
+  private Double price;
+
+  @NonNull
+  @Indexed
+  private Set<String> tags;
+
+  @NonNull
+  @Indexed
+  private Point location;
+
+  @NonNull
+  @Indexed
+  private LocalDate releaseDate;
+
+  @NonNull
+  private String description;
+}
@@ -0,0 +1,11 @@
+package com.redis.om.spring.benchmarks.fixtures;
+
+import java.util.List;
+
+import com.redis.om.spring.repository.RedisEnhancedRepository;
+
+public interface ProductHashRepository extends RedisEnhancedRepository<ProductHash, String> {
+  List<ProductHash> findByCategoryAndPriceBetween(String category, double min, double max);
+
+  List<ProductHash> findByNameStartingWith(String prefix);
+}
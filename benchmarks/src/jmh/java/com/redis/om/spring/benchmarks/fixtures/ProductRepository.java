@@ -0,0 +1,11 @@
+package com.redis.om.spring.benchmarks.fixtures;
+
+import java.util.List;
+
+import com.redis.om.spring.repository.RedisDocumentRepository;
+
+public interface ProductRepository extends RedisDocumentRepository<Product, String> {
+  List<Product> findByCategoryAndPriceBetween(String category, double min, double max);
+
+  List<Product> findByNameStartingWith(String prefix);
+}
@@ -0,0 +1,91 @@
+package com.redis.om.spring.benchmarks.fixtures;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.springframework.data.geo.Point;
+
+/**
+ * Generates reproducible product data sets for the benchmarks.
+ */
+public final class Products {
+  /** The categories products are spread over. */
+  public static final List<String> CATEGORIES = List.of("audio", "camera", "computer", "gaming", "phone", "wearable");
+
+  private static final List<String> WORDS = List.of("wireless", "pro", "ultra", "mini", "smart", "classic", "max",
+      "lite", "studio", "sport");
+
+  private Products() {
+  }
+
+  /**
+   * Creates {@code count} JSON document products.
+   *
+   * @param count the number of products
+   * @return the products, without ids
+   */
+  public static List<Product> documents(int count) {
+    Random random = new Random(42);
+    List<Product> products = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      products.add(Product.of(name(random, i), category(i), price(random), tags(random), location(random),
+          releaseDate(random), description(random)));
+    }
+    return products;
+  }
+
+  /**
+   * Creates {@code count} hash products.
+   *
+   * @param count the number of products
+   * @return the products, without ids
+   */
+  public static List<ProductHash> hashes(int count) {
+    Random random = new Random(42);
+    List<ProductHash> products = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      products.add(ProductHash.of(name(random, i), category(i), price(random), tags(random), location(random),
+          releaseDate(random), description(random)));
+    }
+    return products;
+  }
+
+  private static String name(Random random, int i) {
+    return word(random) + " " + word(random) + " " + i;
+  }
+
+  private static String category(int i) {
+    return CATEGORIES.get(i % CATEGORIES.size());
+  }
+
+  private static double price(Random random) {
+    return Math.round(random.nextDouble() * 200_000) / 100.0;
+  }
+
+  private static Set<String> tags(Random random) {
+    return Set.of(word(random), "tag-" + random.nextInt(50));
+  }
+
+  private static Point location(Random random) {
+    return new Point(-122.5 + random.nextDouble(), 37.2 + random.nextDouble());
+  }
+
+  private static LocalDate releaseDate(Random random) {
+    return LocalDate.of(2015, 1, 1).plusDays(random.nextInt(3_650));
+  }
+
+  private static String description(Random random) {
+    StringBuilder description = new StringBuilder();
+    for (int i = 0; i < 30; i++) {
+      description.append(word(random)).append(' ');
+    }
+    return description.toString().trim();
+  }
+
+  private static String word(Random random) {
+    return WORDS.get(random.nextInt(WORDS.size()));
+  }
+}
@@ -1,6 +1,10 @@
 package com.redis.om.spring;
 
+import static com.redis.om.spring.util.ObjectUtils.getBeanDefinitionsFor;
+import static com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively;
+
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.net.InetAddress;
 import java.util.Map;
 
@@ -13,15 +17,24 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.lang.Nullable;
 import org.springframework.web.client.DefaultResponseErrorHandler;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Vectorize;
+import com.redis.om.spring.ops.CommandListener;
 import com.redis.om.spring.vectorize.DefaultEmbedder;
 import com.redis.om.spring.vectorize.Embedder;
+import com.redis.om.spring.vectorize.EmbeddingCache;
 import com.redis.om.spring.vectorize.EmbeddingModelFactory;
+import com.redis.om.spring.vectorize.EmbeddingScheduler;
 import com.redis.om.spring.vectorize.SpringAiProperties;
 import com.redis.om.spring.vectorize.face.FaceDetectionTranslator;
 import com.redis.om.spring.vectorize.face.FaceFeatureTranslator;
@@ -437,6 +450,8 @@ public class AIRedisConfiguration {
    * @param defaultImagePipeline  preprocessing pipeline for images (nullable)
    * @param properties            AI Redis OM configuration properties
    * @param embeddingModelFactory factory for creating embedding models for various providers
+   * @param embeddingCache        cache of computed embeddings (nullable)
+   * @param embeddingScheduler    scheduler of the requests sent to embedding providers
    * @param ac                    Spring application context for accessing other beans
    * @return a configured DefaultEmbedder instance
    */
@@ -453,8 +468,71 @@ public class AIRedisConfiguration {
   ) ImageFactory imageFactory, @Nullable @Qualifier(
     "djlDefaultImagePipeline"
   ) Pipeline defaultImagePipeline, AIRedisOMProperties properties, EmbeddingModelFactory embeddingModelFactory,
-      ApplicationContext ac) {
+      @Nullable EmbeddingCache embeddingCache, EmbeddingScheduler embeddingScheduler, ApplicationContext ac) {
     return new DefaultEmbedder(ac, embeddingModelFactory, imageEmbeddingModel, faceEmbeddingModel, imageFactory,
-        defaultImagePipeline, properties);
+        defaultImagePipeline, properties, embeddingCache, embeddingScheduler);
+  }
+
+  /**
+   * Creates the scheduler of the requests the Embedder sends to embedding providers, configured
+   * with the {@code redis.om.spring.ai.embedding-scheduler} properties.
+   *
+   * @param properties AI Redis OM configuration properties
+   * @return the embedding scheduler
+   */
+  @Bean(
+      name = "embeddingScheduler"
+  )
+  public EmbeddingScheduler embeddingScheduler(AIRedisOMProperties properties) {
+    return new EmbeddingScheduler(properties.getEmbeddingScheduler());
+  }
+
+  /**
+   * Creates the cache of computed embeddings used by the Embedder, when enabled with
+   * {@code redis.om.spring.ai.embedding-cache.enabled=true}.
+   *
+   * @param properties      AI Redis OM configuration properties
+   * @param template        template for the Redis tier of the cache
+   * @param commandListener listener receiving the cache hit and miss counts
+   * @return the embedding cache
+   */
+  @Bean(
+      name = "embeddingCache"
+  )
+  @ConditionalOnProperty(
+      name = "redis.om.spring.ai.embedding-cache.enabled", havingValue = "true"
+  )
+  public EmbeddingCache embeddingCache(AIRedisOMProperties properties, StringRedisTemplate template,
+      CommandListener commandListener) {
+    AIRedisOMProperties.EmbeddingCacheProperties cache = properties.getEmbeddingCache();
+    return new EmbeddingCache(cache.isRedisEnabled() ? template : null, commandListener, cache.getKeyPrefix(), cache
+        .getMaxEntries(), cache.getRedisTtl(), cache.getRedisMaxEntries());
+  }
+
+  /**
+   * Checks the destination fields of {@code @Vectorize} fields when the application context is
+   * refreshed, failing startup for destinations indexed with an integer vector type, which can not
+   * hold the float embeddings produced by embedding models.
+   *
+   * @param cre the context refreshed event containing the application context
+   */
+  @EventListener(
+    ContextRefreshedEvent.class
+  )
+  public void validateVectorizeDestinations(ContextRefreshedEvent cre) {
+    for (var beanDef : getBeanDefinitionsFor(cre.getApplicationContext(), Document.class, RedisHash.class)) {
+      Class<?> cl;
+      try {
+        cl = Class.forName(beanDef.getBeanClassName());
+      } catch (ClassNotFoundException e) {
+        continue;
+      }
+      for (Field field : getDeclaredFieldsTransitively(cl)) {
+        Vectorize vectorize = field.getAnnotation(Vectorize.class);
+        if (vectorize != null) {
+          DefaultEmbedder.destinationVectorType(cl, vectorize);
+        }
+      }
+    }
   }
-}
\ No newline at end of file
+}
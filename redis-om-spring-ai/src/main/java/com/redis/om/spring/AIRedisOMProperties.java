@@ -1,8 +1,14 @@
 package com.redis.om.spring;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import com.redis.om.spring.annotations.EmbeddingProvider;
+
 import jakarta.validation.constraints.NotNull;
 
 /**
@@ -50,6 +56,16 @@ public class AIRedisOMProperties {
    */
   private int embeddingBatchSize = 1000;
 
+  /**
+   * Configuration for the cache of computed embeddings.
+   */
+  private final EmbeddingCacheProperties embeddingCache = new EmbeddingCacheProperties();
+
+  /**
+   * Configuration for the scheduling of requests to embedding providers.
+   */
+  private final EmbeddingSchedulerProperties embeddingScheduler = new EmbeddingSchedulerProperties();
+
   /**
    * Configuration for Deep Java Library (DJL) embedding providers.
    * Supports image embeddings, sentence embeddings, and face detection/embeddings.
@@ -171,6 +187,378 @@ public class AIRedisOMProperties {
     this.embeddingBatchSize = embeddingBatchSize;
   }
 
+  /**
+   * Gets the configuration for the cache of computed embeddings.
+   *
+   * @return the embedding cache configuration object
+   * @since 2.0.5
+   */
+  public EmbeddingCacheProperties getEmbeddingCache() {
+    return embeddingCache;
+  }
+
+  /**
+   * Gets the configuration for the scheduling of requests to embedding providers.
+   *
+   * @return the embedding scheduler configuration object
+   * @since 2.0.5
+   */
+  public EmbeddingSchedulerProperties getEmbeddingScheduler() {
+    return embeddingScheduler;
+  }
+
+  /**
+   * Configuration for the cache of computed embeddings.
+   * <p>
+   * When enabled, {@link com.redis.om.spring.annotations.Vectorize @Vectorize} fields whose text or
+   * image is unchanged since it was last embedded by the same model reuse the earlier embedding
+   * instead of calling the provider again. Embeddings are kept in a bounded in-process map and in
+   * one Redis hash per model, keyed by the SHA-256 hash of the content.
+   * </p>
+   *
+   * @since 2.0.5
+   * @see com.redis.om.spring.vectorize.EmbeddingCache
+   */
+  public static class EmbeddingCacheProperties {
+    /**
+     * Whether computed embeddings are cached. Default is false.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of embeddings kept in the in-process tier. Default is 10000.
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * Whether embeddings are also cached in Redis and shared between processes. Default is true.
+     */
+    private boolean redisEnabled = true;
+
+    /**
+     * Prefix of the Redis keys, followed by the embedding model identifier.
+     */
+    private String keyPrefix = "redis-om:embeddings:";
+
+    /**
+     * Time-to-live of the embeddings cached in Redis. Default is 7 days.
+     */
+    private Duration redisTtl = Duration.ofDays(7);
+
+    /**
+     * Maximum number of embeddings per embedding model kept in Redis; the oldest are deleted first.
+     * Default is 100000.
+     */
+    private int redisMaxEntries = 100_000;
+
+    /**
+     * Default constructor for configuration properties binding.
+     */
+    public EmbeddingCacheProperties() {
+      // Default constructor
+    }
+
+    /**
+     * Returns whether computed embeddings are cached.
+     *
+     * @return true if the embedding cache is enabled
+     */
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    /**
+     * Sets whether computed embeddings are cached.
+     *
+     * @param enabled true to enable the embedding cache
+     */
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    /**
+     * Gets the maximum number of embeddings kept in the in-process tier.
+     *
+     * @return the maximum number of locally cached embeddings
+     */
+    public int getMaxEntries() {
+      return maxEntries;
+    }
+
+    /**
+     * Sets the maximum number of embeddings kept in the in-process tier.
+     *
+     * @param maxEntries the maximum number of locally cached embeddings
+     */
+    public void setMaxEntries(int maxEntries) {
+      this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns whether embeddings are also cached in Redis.
+     *
+     * @return true if the Redis tier is used
+     */
+    public boolean isRedisEnabled() {
+      return redisEnabled;
+    }
+
+    /**
+     * Sets whether embeddings are also cached in Redis.
+     *
+     * @param redisEnabled true to use the Redis tier
+     */
+    public void setRedisEnabled(boolean redisEnabled) {
+      this.redisEnabled = redisEnabled;
+    }
+
+    /**
+     * Gets the prefix of the Redis keys.
+     *
+     * @return the key prefix
+     */
+    public String getKeyPrefix() {
+      return keyPrefix;
+    }
+
+    /**
+     * Sets the prefix of the Redis keys.
+     *
+     * @param keyPrefix the key prefix
+     */
+    public void setKeyPrefix(String keyPrefix) {
+      this.keyPrefix = keyPrefix;
+    }
+
+    /**
+     * Gets the time-to-live of the embeddings cached in Redis.
+     *
+     * @return the time-to-live of the Redis tier
+     */
+    public Duration getRedisTtl() {
+      return redisTtl;
+    }
+
+    /**
+     * Sets the time-to-live of the embeddings cached in Redis.
+     *
+     * @param redisTtl the time-to-live of the Redis tier
+     */
+    public void setRedisTtl(Duration redisTtl) {
+      this.redisTtl = redisTtl;
+    }
+
+    /**
+     * Gets the maximum number of embeddings per embedding model kept in Redis.
+     *
+     * @return the maximum number of embeddings per model in the Redis tier
+     */
+    public int getRedisMaxEntries() {
+      return redisMaxEntries;
+    }
+
+    /**
+     * Sets the maximum number of embeddings per embedding model kept in Redis.
+     *
+     * @param redisMaxEntries the maximum number of embeddings per model in the Redis tier
+     */
+    public void setRedisMaxEntries(int redisMaxEntries) {
+      this.redisMaxEntries = redisMaxEntries;
+    }
+  }
+
+  /**
+   * Configuration for the scheduling of requests to embedding providers.
+   * <p>
+   * Texts are sent to a provider in sub-batches within its request limits, with up to
+   * {@code maxConcurrentRequests} requests in flight across all providers. Each sub-batch is retried
+   * on its own when it fails. Limits are configured per provider, for example
+   * {@code redis.om.spring.ai.embedding-scheduler.limits.openai.max-batch-size=512}, and default to
+   * the documented request limits of OpenAI, Vertex AI and Bedrock Cohere. Providers without limits
+   * receive each batch of {@code embeddingBatchSize} texts in a single request.
+   * </p>
+   *
+   * @since 2.0.5
+   * @see com.redis.om.spring.vectorize.EmbeddingScheduler
+   */
+  public static class EmbeddingSchedulerProperties {
+    /**
+     * Maximum number of embedding requests in flight at once. Default is 4.
+     */
+    private int maxConcurrentRequests = 4;
+
+    /**
+     * Maximum number of attempts per sub-batch, including the first. Default is 3.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Milliseconds to wait before the first retry of a sub-batch, doubled for every further retry.
+     * Default is 500.
+     */
+    private long retryBackoff = 500;
+
+    /**
+     * Request limits per embedding provider.
+     */
+    private final Map<EmbeddingProvider, ProviderLimits> limits = new EnumMap<>(EmbeddingProvider.class);
+
+    /**
+     * Default constructor for configuration properties binding.
+     */
+    public EmbeddingSchedulerProperties() {
+      limits.put(EmbeddingProvider.OPENAI, new ProviderLimits(2048, 300_000));
+      limits.put(EmbeddingProvider.VERTEX_AI, new ProviderLimits(250, 20_000));
+      limits.put(EmbeddingProvider.AMAZON_BEDROCK_COHERE, new ProviderLimits(96, 0));
+    }
+
+    /**
+     * Gets the maximum number of embedding requests in flight at once.
+     *
+     * @return the maximum number of concurrent requests
+     */
+    public int getMaxConcurrentRequests() {
+      return maxConcurrentRequests;
+    }
+
+    /**
+     * Sets the maximum number of embedding requests in flight at once.
+     *
+     * @param maxConcurrentRequests the maximum number of concurrent requests
+     */
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+      this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    /**
+     * Gets the maximum number of attempts per sub-batch.
+     *
+     * @return the maximum number of attempts
+     */
+    public int getMaxAttempts() {
+      return maxAttempts;
+    }
+
+    /**
+     * Sets the maximum number of attempts per sub-batch.
+     *
+     * @param maxAttempts the maximum number of attempts, 1 to disable retries
+     */
+    public void setMaxAttempts(int maxAttempts) {
+      this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Gets the milliseconds to wait before the first retry of a sub-batch.
+     *
+     * @return the initial backoff in milliseconds
+     */
+    public long getRetryBackoff() {
+      return retryBackoff;
+    }
+
+    /**
+     * Sets the milliseconds to wait before the first retry of a sub-batch.
+     *
+     * @param retryBackoff the initial backoff in milliseconds
+     */
+    public void setRetryBackoff(long retryBackoff) {
+      this.retryBackoff = retryBackoff;
+    }
+
+    /**
+     * Gets the request limits per embedding provider.
+     *
+     * @return the request limits by provider
+     */
+    public Map<EmbeddingProvider, ProviderLimits> getLimits() {
+      return limits;
+    }
+
+    /**
+     * Gets the request limits of an embedding provider.
+     *
+     * @param provider the embedding provider
+     * @return the request limits, unlimited if none are configured
+     */
+    public ProviderLimits getLimitsFor(EmbeddingProvider provider) {
+      return limits.getOrDefault(provider, ProviderLimits.UNLIMITED);
+    }
+  }
+
+  /**
+   * Request limits of an embedding provider. A limit of 0 means unlimited.
+   *
+   * @since 2.0.5
+   */
+  public static class ProviderLimits {
+    static final ProviderLimits UNLIMITED = new ProviderLimits(0, 0);
+
+    /**
+     * Maximum number of texts per request.
+     */
+    private int maxBatchSize;
+
+    /**
+     * Maximum estimated number of tokens per request.
+     */
+    private long maxTokens;
+
+    /**
+     * Default constructor for configuration properties binding.
+     */
+    public ProviderLimits() {
+      // Default constructor
+    }
+
+    /**
+     * Creates request limits.
+     *
+     * @param maxBatchSize the maximum number of texts per request
+     * @param maxTokens    the maximum estimated number of tokens per request
+     */
+    public ProviderLimits(int maxBatchSize, long maxTokens) {
+      this.maxBatchSize = maxBatchSize;
+      this.maxTokens = maxTokens;
+    }
+
+    /**
+     * Gets the maximum number of texts per request.
+     *
+     * @return the maximum batch size, 0 if unlimited
+     */
+    public int getMaxBatchSize() {
+      return maxBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of texts per request.
+     *
+     * @param maxBatchSize the maximum batch size, 0 if unlimited
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+      this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Gets the maximum estimated number of tokens per request.
+     *
+     * @return the maximum number of tokens, 0 if unlimited
+     */
+    public long getMaxTokens() {
+      return maxTokens;
+    }
+
+    /**
+     * Sets the maximum estimated number of tokens per request.
+     *
+     * @param maxTokens the maximum number of tokens, 0 if unlimited
+     */
+    public void setMaxTokens(long maxTokens) {
+      this.maxTokens = maxTokens;
+    }
+  }
+
   /**
    * Configuration for Deep Java Library (DJL) embedding providers.
    * <p>
@@ -215,6 +603,18 @@ public class AIRedisOMProperties {
      */
     private boolean defaultImagePipelineCenterCrop = true;
 
+    /**
+     * Maximum number of images decoded and passed to a single image or face model inference call.
+     * Default is 32.
+     */
+    private int maxImagesPerBatch = 32;
+
+    /**
+     * Maximum number of predictors kept per image and face model, which bounds the number of
+     * concurrent inferences per model. Default is 4.
+     */
+    private int predictorPoolSize = 4;
+
     // sentence tokenizer settings
     /**
      * Maximum length for sentence tokenization.
@@ -377,6 +777,46 @@ public class AIRedisOMProperties {
       this.defaultImagePipelineCenterCrop = defaultImagePipelineCenterCrop;
     }
 
+    /**
+     * Gets the maximum number of images passed to a single inference call.
+     *
+     * @return the maximum number of images per batch
+     * @since 2.0.5
+     */
+    public int getMaxImagesPerBatch() {
+      return maxImagesPerBatch;
+    }
+
+    /**
+     * Sets the maximum number of images passed to a single inference call.
+     *
+     * @param maxImagesPerBatch the maximum number of images per batch
+     * @since 2.0.5
+     */
+    public void setMaxImagesPerBatch(int maxImagesPerBatch) {
+      this.maxImagesPerBatch = maxImagesPerBatch;
+    }
+
+    /**
+     * Gets the maximum number of predictors kept per image and face model.
+     *
+     * @return the predictor pool size
+     * @since 2.0.5
+     */
+    public int getPredictorPoolSize() {
+      return predictorPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of predictors kept per image and face model.
+     *
+     * @param predictorPoolSize the predictor pool size
+     * @since 2.0.5
+     */
+    public void setPredictorPoolSize(int predictorPoolSize) {
+      this.predictorPoolSize = predictorPoolSize;
+    }
+
     /**
      * Gets the maximum length for sentence tokenization.
      *
@@ -1,16 +1,24 @@
 package com.redis.om.spring.vectorize;
 
 import static com.redis.om.spring.annotations.EmbeddingType.SENTENCE;
-import static com.redis.om.spring.util.ObjectUtils.byteArrayToFloatArray;
 import static com.redis.om.spring.util.ObjectUtils.floatArrayToByteArray;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.function.Function;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
@@ -24,17 +32,18 @@ import org.springframework.ai.transformers.TransformersEmbeddingModel;
 import org.springframework.ai.vertexai.embedding.text.VertexAiTextEmbeddingModel;
 import org.springframework.beans.PropertyAccessor;
 import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
-import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
 
 import com.redis.om.spring.AIRedisOMProperties;
 import com.redis.om.spring.annotations.Document;
-import com.redis.om.spring.annotations.EmbeddingType;
 import com.redis.om.spring.annotations.Vectorize;
+import com.redis.om.spring.indexing.VectorType;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.util.ObjectUtils;
 
-import ai.djl.inference.Predictor;
 import ai.djl.modality.cv.Image;
 import ai.djl.modality.cv.ImageFactory;
 import ai.djl.modality.cv.translator.ImageFeatureExtractor;
@@ -55,13 +64,14 @@ import ai.djl.translate.TranslateException;
  * 
  * <p>The embedder automatically processes entities annotated with {@link Vectorize} and populates their
  * embedding fields based on the configured embedding type and provider. It supports both single entity
- * and batch processing for improved performance.
+ * and batch processing for improved performance. Embeddings for hash entities are encoded in the
+ * {@link VectorType} the destination field is indexed with.
  * 
  * @see Embedder
  * @see Vectorize
  * @see EmbeddingModelFactory
  */
-public class DefaultEmbedder implements Embedder {
+public class DefaultEmbedder implements Embedder, DisposableBean {
   /** Logger instance for this class */
   private static final Log logger = LogFactory.getLog(DefaultEmbedder.class);
 
@@ -86,9 +96,21 @@ public class DefaultEmbedder implements Embedder {
   /** Feature extractor for processing images through the pipeline */
   private final ImageFeatureExtractor imageFeatureExtractor;
 
+  /** Pool of reusable predictors of the image embedding model */
+  private final PredictorPool<Image, float[]> imagePredictors;
+
+  /** Pool of reusable predictors of the facial embedding model */
+  private final PredictorPool<Image, float[]> facePredictors;
+
   /** Configuration properties for AI and embedding settings */
   private final AIRedisOMProperties properties;
 
+  /** Cache of computed embeddings, or null when embeddings are always computed */
+  private final EmbeddingCache embeddingCache;
+
+  /** Scheduler of the requests sent to embedding providers */
+  private final EmbeddingScheduler embeddingScheduler;
+
   /**
    * Constructs a new DefaultEmbedder with all required dependencies.
    * 
@@ -108,6 +130,36 @@ public class DefaultEmbedder implements Embedder {
       ImageFactory imageFactory, //
       Pipeline imagePipeline, //
       AIRedisOMProperties properties //
+  ) {
+    this(applicationContext, embeddingModelFactory, imageEmbeddingModel, faceEmbeddingModel, imageFactory,
+        imagePipeline, properties, null, new EmbeddingScheduler(properties.getEmbeddingScheduler()));
+  }
+
+  /**
+   * Constructs a new DefaultEmbedder that reuses cached embeddings of unchanged content and sends
+   * concurrent, size-limited requests to embedding providers.
+   * 
+   * @param applicationContext    Spring application context for resource loading
+   * @param embeddingModelFactory Factory for creating and caching embedding models
+   * @param imageEmbeddingModel   Deep learning model for general image embeddings
+   * @param faceEmbeddingModel    Deep learning model for facial embeddings
+   * @param imageFactory          Factory for creating image objects from input streams
+   * @param imagePipeline         Processing pipeline for image preprocessing
+   * @param properties            Configuration properties for AI services
+   * @param embeddingCache        Cache of computed embeddings, or null to always compute them
+   * @param embeddingScheduler    Scheduler of the requests sent to embedding providers
+   * @since 2.0.5
+   */
+  public DefaultEmbedder( //
+      ApplicationContext applicationContext, //
+      EmbeddingModelFactory embeddingModelFactory, //
+      ZooModel<Image, float[]> imageEmbeddingModel, //
+      ZooModel<Image, float[]> faceEmbeddingModel, //
+      ImageFactory imageFactory, //
+      Pipeline imagePipeline, //
+      AIRedisOMProperties properties, //
+      @Nullable EmbeddingCache embeddingCache, //
+      EmbeddingScheduler embeddingScheduler //
   ) {
     this.applicationContext = applicationContext;
     this.embeddingModelFactory = embeddingModelFactory;
@@ -118,179 +170,120 @@ public class DefaultEmbedder implements Embedder {
 
     // feature extractor
     this.imageFeatureExtractor = ImageFeatureExtractor.builder().setPipeline(imagePipeline).build();
+    this.imagePredictors = new PredictorPool<>(() -> imageEmbeddingModel.newPredictor(imageFeatureExtractor),
+        properties.getDjl().getPredictorPoolSize());
+    this.facePredictors = new PredictorPool<>(() -> faceEmbeddingModel.newPredictor(), properties.getDjl()
+        .getPredictorPoolSize());
     this.properties = properties;
+    this.embeddingCache = embeddingCache;
+    this.embeddingScheduler = embeddingScheduler;
   }
 
   /**
-   * Generates image embeddings for a batch of images and returns them as byte arrays.
+   * Generates image embeddings for a batch of fields with a pooled predictor of the image or face
+   * model. Images are decoded in chunks of at most {@code maxImagesPerBatch}, the next chunk being
+   * decoded while the current one is inferred, so no more than two chunks of decoded images are held
+   * in memory at once.
    * 
-   * @param isList List of input streams containing image data
-   * @return List of byte arrays representing the image embeddings, empty list if processing fails
+   * @param fieldDataList List of field data containing image resource paths
+   * @param predictors    Pool of predictors of the model
+   * @return The embeddings, in the order of the fields, with null for images that could not be
+   *         embedded
    */
-  private List<byte[]> getImageEmbeddingsAsByteArrayFor(List<InputStream> isList) {
-    var imgs = isList.stream().map(is -> {
-      try {
-        return imageFactory.fromInputStream(is);
-      } catch (IOException e) {
-        logger.warn("Error generating image embedding", e);
-        return null;
-      }
-    }).toList();
-
-    try {
-      if (!imgs.contains(null)) {
-        Predictor<Image, float[]> predictor = imageEmbeddingModel.newPredictor(imageFeatureExtractor);
-        return predictor.batchPredict(imgs).stream().map(ObjectUtils::floatArrayToByteArray).toList();
-      }
-    } catch (TranslateException e) {
-      logger.warn("Error generating image embedding", e);
+  private List<float[]> getImageEmbeddingsFor(List<FieldData> fieldDataList,
+      PredictorPool<Image, float[]> predictors) {
+    if (fieldDataList.isEmpty()) {
+      return List.of();
     }
 
-    return List.of();
-  }
-
-  /**
-   * Generates image embedding for a single image and returns it as a byte array.
-   * 
-   * @param is Input stream containing image data
-   * @return Byte array representing the image embedding, empty array if processing fails
-   */
-  private byte[] getImageEmbeddingsAsByteArrayFor(InputStream is) {
-    try {
-      var img = imageFactory.fromInputStream(is);
-      Predictor<Image, float[]> predictor = imageEmbeddingModel.newPredictor(imageFeatureExtractor);
-      return floatArrayToByteArray(predictor.predict(img));
-    } catch (IOException | TranslateException e) {
-      logger.warn("Error generating image embedding", e);
-      return new byte[] {};
+    int chunkSize = Math.max(1, properties.getDjl().getMaxImagesPerBatch());
+    List<float[]> embeddings = new ArrayList<>(fieldDataList.size());
+    Supplier<List<Image>> next = decodeImages(fieldDataList.subList(0, Math.min(chunkSize, fieldDataList.size())));
+    for (int start = 0; start < fieldDataList.size(); start += chunkSize) {
+      List<Image> images = next.get();
+      int nextStart = start + chunkSize;
+      if (nextStart < fieldDataList.size()) {
+        next = decodeImages(fieldDataList.subList(nextStart, Math.min(nextStart + chunkSize, fieldDataList.size())));
+      }
+      embeddings.addAll(predict(images, predictors));
     }
+    return embeddings;
   }
 
   /**
-   * Generates image embeddings for a batch of images and returns them as float arrays.
-   * 
-   * @param isList List of input streams containing image data
-   * @return List of float arrays representing the image embeddings
-   */
-  private List<float[]> getImageEmbeddingsAsFloatArrayFor(List<InputStream> isList) {
-    return getImageEmbeddingsAsByteArrayFor(isList).stream().map(ObjectUtils::byteArrayToFloatArray).toList();
-  }
-
-  /**
-   * Generates image embedding for a single image and returns it as a float array.
-   * 
-   * @param is Input stream containing image data
-   * @return Float array representing the image embedding
-   */
-  private float[] getImageEmbeddingsAsFloatArrayFor(InputStream is) {
-    return byteArrayToFloatArray(getImageEmbeddingsAsByteArrayFor(is));
-  }
-
-  /**
-   * Generates facial embeddings for a batch of images and returns them as byte arrays.
+   * Decodes the images of a chunk of fields in the background, on the pool of the embedding
+   * scheduler. The images are usually requested from a task of that same pool, so if no thread of
+   * the pool has started decoding them by then, the requesting thread decodes them itself instead of
+   * waiting for a thread it may be holding.
    * 
-   * @param isList List of input streams containing facial image data
-   * @return List of byte arrays representing the facial embeddings
+   * @param fieldDataList List of field data containing image resource paths
+   * @return Supplies the decoded images, with null for images that could not be read
    */
-  private List<byte[]> getFacialImageEmbeddingsAsByteArrayFor(List<InputStream> isList) {
-    return getFacialImageEmbeddingsAsFloatArrayFor(isList).stream().map(ObjectUtils::floatArrayToByteArray).toList();
+  private Supplier<List<Image>> decodeImages(List<FieldData> fieldDataList) {
+    AtomicBoolean claimed = new AtomicBoolean();
+    CompletableFuture<List<Image>> decoded = new CompletableFuture<>();
+    Runnable decode = () -> {
+      if (claimed.compareAndSet(false, true)) {
+        try {
+          decoded.complete(fieldDataList.stream().map(this::decodeImage).toList());
+        } catch (RuntimeException e) {
+          decoded.completeExceptionally(e);
+        }
+      }
+    };
+    embeddingScheduler.submit(() -> {
+      decode.run();
+      return null;
+    });
+    return () -> {
+      decode.run();
+      return embeddingScheduler.await(decoded);
+    };
   }
 
   /**
-   * Generates facial embedding for a single image and returns it as a byte array.
+   * Decodes the image of a field from the bytes read for its content hash, or else from its
+   * resource, closing the resource stream.
    * 
-   * @param is Input stream containing facial image data
-   * @return Byte array representing the facial embedding
-   * @throws IOException        If there's an error reading the image data
-   * @throws TranslateException If there's an error during model inference
+   * @param fieldData Field data containing an image resource path
+   * @return The decoded image, or null if it could not be read
    */
-  private byte[] getFacialImageEmbeddingsAsByteArrayFor(InputStream is) throws IOException, TranslateException {
-    return ObjectUtils.floatArrayToByteArray(getFacialImageEmbeddingsAsFloatArrayFor(is));
+  private Image decodeImage(FieldData fieldData) {
+    try (InputStream is = fieldData.content() != null ?
+        new ByteArrayInputStream(fieldData.content()) :
+        applicationContext.getResource(fieldData.value().toString()).getInputStream()) {
+      return imageFactory.fromInputStream(is);
+    } catch (IOException e) {
+      logger.warn("Error embedding image: " + fieldData.value(), e);
+      return null;
+    }
   }
 
   /**
-   * Generates facial embeddings for a batch of images and returns them as float arrays.
+   * Infers the embeddings of a chunk of decoded images in a single batch.
    * 
-   * @param isList List of input streams containing facial image data
-   * @return List of float arrays representing the facial embeddings, empty list if processing fails
+   * @param images     The decoded images, with null for images that could not be read
+   * @param predictors Pool of predictors of the model
+   * @return The embeddings, in the order of the images, with null for images that could not be
+   *         embedded
    */
-  private List<float[]> getFacialImageEmbeddingsAsFloatArrayFor(List<InputStream> isList) {
-    var imgs = isList.stream().map(is -> {
+  private List<float[]> predict(List<Image> images, PredictorPool<Image, float[]> predictors) {
+    List<Image> decoded = images.stream().filter(Objects::nonNull).toList();
+    List<float[]> predicted = List.of();
+    if (!decoded.isEmpty()) {
       try {
-        return imageFactory.fromInputStream(is);
-      } catch (IOException e) {
-        logger.warn("Error generating face embedding", e);
-        return null;
-      }
-    }).toList();
-
-    if (!imgs.contains(null)) {
-      try (Predictor<Image, float[]> predictor = faceEmbeddingModel.newPredictor()) {
-        return predictor.batchPredict(imgs);
+        predicted = predictors.batchPredict(decoded);
       } catch (TranslateException e) {
-        logger.warn("Error generating face embedding", e);
+        logger.warn("Error generating image embedding", e);
       }
     }
-    return List.of();
-  }
 
-  /**
-   * Generates facial embedding for a single image and returns it as a float array.
-   * 
-   * @param is Input stream containing facial image data
-   * @return Float array representing the facial embedding
-   * @throws IOException        If there's an error reading the image data
-   * @throws TranslateException If there's an error during model inference
-   */
-  private float[] getFacialImageEmbeddingsAsFloatArrayFor(InputStream is) throws IOException, TranslateException {
-    try (Predictor<Image, float[]> predictor = faceEmbeddingModel.newPredictor()) {
-      var img = imageFactory.fromInputStream(is);
-      return predictor.predict(img);
+    Iterator<float[]> iterator = predicted.iterator();
+    List<float[]> embeddings = new ArrayList<>(images.size());
+    for (Image image : images) {
+      embeddings.add(image != null && iterator.hasNext() ? iterator.next() : null);
     }
-  }
-
-  /**
-   * Generates text embeddings for a batch of texts using the specified model and returns them as byte arrays.
-   * 
-   * @param texts List of text strings to embed
-   * @param model The embedding model to use
-   * @return List of byte arrays representing the text embeddings
-   */
-  private List<byte[]> getEmbeddingsAsByteArrayFor(List<String> texts, EmbeddingModel model) {
-    return model.embed(texts).stream().map(ObjectUtils::floatArrayToByteArray).toList();
-  }
-
-  /**
-   * Generates text embeddings for a batch of texts using the specified model and returns them as float arrays.
-   * 
-   * @param texts List of text strings to embed
-   * @param model The embedding model to use
-   * @return List of float arrays representing the text embeddings
-   */
-  private List<float[]> getEmbeddingAsFloatArrayFor(List<String> texts, EmbeddingModel model) {
-    return model.embed(texts);
-  }
-
-  /**
-   * Generates text embedding for a single text using the specified model and returns it as a byte array.
-   * 
-   * @param text  Text string to embed
-   * @param model The embedding model to use
-   * @return Byte array representing the text embedding
-   */
-  private byte[] getEmbeddingsAsByteArrayFor(String text, EmbeddingModel model) {
-    return ObjectUtils.floatArrayToByteArray(model.embed(text));
-  }
-
-  /**
-   * Generates text embedding for a single text using the specified model and returns it as a float array.
-   * 
-   * @param text  Text string to embed
-   * @param model The embedding model to use
-   * @return Float array representing the text embedding
-   */
-  private float[] getEmbeddingAsFloatArrayFor(String text, EmbeddingModel model) {
-    return model.embed(text);
+    return embeddings;
   }
 
   /**
@@ -298,7 +291,9 @@ public class DefaultEmbedder implements Embedder {
    * 
    * Processes a single entity, examining fields annotated with {@link Vectorize} and generating
    * embeddings based on the configured embedding type and provider. The generated embeddings
-   * are automatically set on the destination fields specified in the annotation.
+   * are automatically set on the destination fields specified in the annotation. Fields whose
+   * content has been embedded before are served from the embedding cache, if one is configured,
+   * and the remaining fields are embedded concurrently.
    */
   @Override
   public void processEntity(Object item) {
@@ -309,22 +304,17 @@ public class DefaultEmbedder implements Embedder {
     List<Field> fields = ObjectUtils.getFieldsWithAnnotation(item.getClass(), Vectorize.class);
     if (!fields.isEmpty()) {
       PropertyAccessor accessor = PropertyAccessorFactory.forBeanPropertyAccess(item);
+      boolean isDocument = item.getClass().isAnnotationPresent(Document.class);
+      List<FieldData> batch = new ArrayList<>(fields.size());
       fields.forEach(f -> {
         Vectorize vectorize = f.getAnnotation(Vectorize.class);
         Object fieldValue = accessor.getPropertyValue(f.getName());
-        boolean isDocument = item.getClass().isAnnotationPresent(Document.class);
 
         if (fieldValue != null) {
-          switch (vectorize.embeddingType()) {
-            case IMAGE -> processImageEmbedding(accessor, vectorize, fieldValue, isDocument);
-            case WORD -> {
-              //TODO: implement me!
-            }
-            case FACE -> processFaceEmbedding(accessor, vectorize, fieldValue, isDocument);
-            case SENTENCE -> processSentenceEmbedding(accessor, vectorize, fieldValue, isDocument);
-          }
+          batch.add(fieldData(vectorize, item, f, accessor, fieldValue, isDocument));
         }
       });
+      processBatch(batch);
     }
   }
 
@@ -333,7 +323,8 @@ public class DefaultEmbedder implements Embedder {
    * 
    * Processes multiple entities in batches for improved performance. Entities are grouped
    * by embedding type and processed together to leverage batch inference capabilities
-   * of the underlying models.
+   * of the underlying models. Fields whose content has been embedded before are served from the
+   * embedding cache, if one is configured, and left out of the batches sent to the models.
    */
   @Override
   public <S> void processEntities(Iterable<S> items) {
@@ -357,7 +348,7 @@ public class DefaultEmbedder implements Embedder {
         Object fieldValue = accessor.getPropertyValue(field.getName());
 
         if (fieldValue != null) {
-          batch.add(new FieldData(vectorize, item, field, accessor, fieldValue, isDocument));
+          batch.add(fieldData(vectorize, item, field, accessor, fieldValue, isDocument));
         }
 
         if (batch.size() >= batchSize) {
@@ -374,251 +365,242 @@ public class DefaultEmbedder implements Embedder {
   }
 
   /**
-   * Processes a batch of field data by grouping them by embedding type and delegating
-   * to the appropriate batch processing method.
+   * Processes a batch of field data. Cached embeddings are applied first, then the remaining fields
+   * are grouped by their vectorize configuration and embedded concurrently through the embedding
+   * scheduler. Embeddings are set on the calling thread once all requests have completed.
    * 
    * @param batch List of field data to process
    */
   private void processBatch(List<FieldData> batch) {
-    batch.stream().collect(Collectors.groupingBy(fd -> fd.vectorize().embeddingType())).forEach(this::vectorizeBatch);
+    Map<Vectorize, List<FieldData>> groups = applyCachedEmbeddings(batch).stream().collect(Collectors.groupingBy(
+        FieldData::vectorize, LinkedHashMap::new, Collectors.toList()));
+    Map<Vectorize, CompletableFuture<List<float[]>>> requests = new LinkedHashMap<>();
+    groups.forEach((vectorize, fieldDataList) -> requests.put(vectorize, vectorizeBatch(vectorize, fieldDataList)));
+    requests.forEach((vectorize, request) -> applyEmbeddings(groups.get(vectorize), embeddingScheduler.await(request),
+        vectorize));
   }
 
   /**
-   * Vectorizes a batch of fields based on their embedding type.
+   * Schedules the embedding of a batch of fields sharing a vectorize configuration.
    * 
-   * @param embeddingType The type of embedding to generate
+   * @param vectorize     Vectorize annotation containing configuration
    * @param fieldDataList List of field data to vectorize
-   */
-  private void vectorizeBatch(EmbeddingType embeddingType, List<FieldData> fieldDataList) {
-    switch (embeddingType) {
-      case IMAGE -> processImageEmbedding(fieldDataList);
-      case WORD -> {
-        //TODO: implement me!
-      }
-      case FACE -> processFaceEmbedding(fieldDataList);
-      case SENTENCE -> processSentencesEmbedding(fieldDataList);
-    }
+   * @return The embeddings, in the order of the fields
+   */
+  private CompletableFuture<List<float[]>> vectorizeBatch(Vectorize vectorize, List<FieldData> fieldDataList) {
+    return switch (vectorize.embeddingType()) {
+      case IMAGE -> embeddingScheduler.submit(() -> getImageEmbeddingsFor(fieldDataList, imagePredictors));
+      case WORD -> CompletableFuture.completedFuture(List.of()); //TODO: implement me!
+      case FACE -> embeddingScheduler.submit(() -> getImageEmbeddingsFor(fieldDataList, facePredictors));
+      case SENTENCE -> scheduleSentenceEmbeddings(mapValues(fieldDataList), vectorize);
+    };
   }
 
   /**
-   * Processes image embeddings for a batch of fields, handling both document and hash mappings.
+   * Schedules the embedding of texts with the configured sentence embedding provider.
    * 
-   * @param fieldDataList List of field data containing image paths to process
+   * @param texts     List of texts to embed
+   * @param vectorize Configuration specifying the provider and model
+   * @return The embeddings, in the order of the texts, or an empty list if the provider does not
+   *         embed sentences
    */
-  private void processImageEmbedding(List<FieldData> fieldDataList) {
-    fieldDataList.stream().collect(Collectors.groupingBy(FieldData::isDocument)).forEach((isDocument,
-        groupedByIsDocument) -> groupedByIsDocument.stream().collect(Collectors.groupingBy(FieldData::vectorize))
-            .forEach((vectorize, groupedByVectorize) -> {
-              List<?> embeddings = isDocument ?
-                  getImageEmbeddingsAsFloatArrayFor(mapValuesToResources(groupedByVectorize)) :
-                  getImageEmbeddingsAsByteArrayFor(mapValuesToResources(groupedByVectorize));
-
-              if (embeddings != null) {
-                applyEmbeddings(groupedByVectorize, embeddings, vectorize);
-              }
-            }));
+  private CompletableFuture<List<float[]>> scheduleSentenceEmbeddings(List<String> texts, Vectorize vectorize) {
+    EmbeddingModel model = getSentenceEmbeddingModel(vectorize);
+    return model != null ?
+        embeddingScheduler.embed(vectorize.provider(), texts, model::embed) :
+        CompletableFuture.completedFuture(List.of());
   }
 
   /**
-   * Maps field values to resource input streams.
+   * Returns the sentence embedding model of the configured provider.
    * 
-   * @param fieldDataList List of field data containing resource paths
-   * @return List of input streams, empty list if any resource fails to load
+   * @param vectorize Configuration specifying the provider and model
+   * @return The embedding model, or null for providers that do not embed sentences
    */
-  private List<InputStream> mapValuesToResources(List<FieldData> fieldDataList) {
-    var resources = fieldDataList.stream().map(it -> {
-      try {
-        return applicationContext.getResource(it.value().toString()).getInputStream();
-      } catch (IOException e) {
-        logger.info("Error embedding image: ()" + it.value());
-        return null;
-      }
-    }).toList();
-    return resources.contains(null) ? List.of() : resources;
-  }
-
-  /**
-   * Processes image embedding for a single field.
-   * 
-   * @param accessor   Property accessor for setting the embedding value
-   * @param vectorize  Vectorize annotation containing configuration
-   * @param fieldValue The image resource path
-   * @param isDocument Whether the entity is a document (affects embedding format)
-   */
-  private void processImageEmbedding(PropertyAccessor accessor, Vectorize vectorize, Object fieldValue,
-      boolean isDocument) {
-    Resource resource = applicationContext.getResource(fieldValue.toString());
-    try {
-      if (isDocument) {
-        accessor.setPropertyValue(vectorize.destination(), getImageEmbeddingsAsFloatArrayFor(resource
-            .getInputStream()));
-      } else {
-        accessor.setPropertyValue(vectorize.destination(), getImageEmbeddingsAsByteArrayFor(resource.getInputStream()));
-      }
-    } catch (IOException e) {
-      logger.warn("Error generating image embedding", e);
-    }
+  private EmbeddingModel getSentenceEmbeddingModel(Vectorize vectorize) {
+    return switch (vectorize.provider()) {
+      case TRANSFORMERS -> getTransformersEmbeddingModel(vectorize);
+      case DJL -> null;
+      case OPENAI -> getOpenAiEmbeddingModel(vectorize);
+      case OLLAMA -> getOllamaEmbeddingModel(vectorize);
+      case AZURE_OPENAI -> getAzureOpenAiEmbeddingModel(vectorize);
+      case VERTEX_AI -> getVertexAiEmbeddingModel(vectorize);
+      case AMAZON_BEDROCK_COHERE -> getBedrockCohereEmbeddingModel(vectorize);
+      case AMAZON_BEDROCK_TITAN -> getBedrockTitanEmbeddingModel(vectorize);
+    };
   }
 
   /**
-   * Processes facial embeddings for a batch of fields, handling both document and hash mappings.
+   * Maps field values to string representations.
    * 
-   * @param fieldDataList List of field data containing facial image paths to process
+   * @param fieldDataList List of field data
+   * @return List of string values
    */
-  private void processFaceEmbedding(List<FieldData> fieldDataList) {
-    fieldDataList.stream().collect(Collectors.groupingBy(FieldData::isDocument)).forEach((isDocument,
-        groupedByIsDocument) -> groupedByIsDocument.stream().collect(Collectors.groupingBy(FieldData::vectorize))
-            .forEach((vectorize, groupedByVectorize) -> {
-              List<?> embeddings = isDocument ?
-                  getFacialImageEmbeddingsAsFloatArrayFor(mapValuesToResources(groupedByVectorize)) :
-                  getFacialImageEmbeddingsAsByteArrayFor(mapValuesToResources(groupedByVectorize));
-
-              if (embeddings != null) {
-                applyEmbeddings(groupedByVectorize, embeddings, vectorize);
-              }
-            }));
+  private List<String> mapValues(List<FieldData> fieldDataList) {
+    return fieldDataList.stream().map(it -> it.value().toString()).toList();
   }
 
   /**
-   * Processes facial embedding for a single field.
+   * Applies generated embeddings to their corresponding destination fields and adds them to the
+   * embedding cache.
    * 
-   * @param accessor   Property accessor for setting the embedding value
-   * @param vectorize  Vectorize annotation containing configuration
-   * @param fieldValue The facial image resource path
-   * @param isDocument Whether the entity is a document (affects embedding format)
-   */
-  private void processFaceEmbedding(PropertyAccessor accessor, Vectorize vectorize, Object fieldValue,
-      boolean isDocument) {
-    Resource resource = applicationContext.getResource(fieldValue.toString());
-    try {
-      if (isDocument) {
-        accessor.setPropertyValue(vectorize.destination(), getFacialImageEmbeddingsAsFloatArrayFor(resource
-            .getInputStream()));
-      } else {
-        accessor.setPropertyValue(vectorize.destination(), getFacialImageEmbeddingsAsByteArrayFor(resource
-            .getInputStream()));
+   * @param fieldDataList List of field data to update
+   * @param embeddings    List of generated embeddings, with null for fields that could not be embedded
+   * @param vectorize     Vectorize annotation containing destination field information
+   */
+  private void applyEmbeddings(List<FieldData> fieldDataList, List<float[]> embeddings, Vectorize vectorize) {
+    Map<String, float[]> computed = new HashMap<>();
+    for (int i = 0; i < fieldDataList.size() && i < embeddings.size(); i++) {
+      FieldData fieldData = fieldDataList.get(i);
+      float[] embedding = embeddings.get(i);
+      if (embedding == null) {
+        continue;
+      }
+      setEmbedding(fieldData, embedding);
+      if (fieldData.contentHash() != null && embedding.length > 0) {
+        computed.put(fieldData.contentHash(), embedding);
       }
-    } catch (IOException | TranslateException e) {
-      logger.warn("Error generating facial image embedding", e);
+    }
+    if (!computed.isEmpty()) {
+      embeddingCache.putAll(embeddingModelId(vectorize), computed);
     }
   }
 
   /**
-   * Processes sentence embeddings for a batch of fields, grouping by provider for efficient processing.
+   * Applies the cached embeddings of the given fields.
    * 
-   * @param fieldDataList List of field data containing text to process
-   */
-  private void processSentencesEmbedding(List<FieldData> fieldDataList) {
-    fieldDataList.stream().collect(Collectors.groupingBy(it -> it.vectorize().provider())).forEach((provider,
-        groupedFieldDataList) -> {
-      switch (provider) {
-        case TRANSFORMERS -> processSentenceEmbedding(groupedFieldDataList, this::getTransformersEmbeddingModel);
-        case DJL -> {
+   * @param fieldDataList List of field data to update
+   * @return The fields whose embeddings were not cached and still have to be generated
+   */
+  private List<FieldData> applyCachedEmbeddings(List<FieldData> fieldDataList) {
+    if (embeddingCache == null) {
+      return fieldDataList;
+    }
+
+    List<FieldData> pending = new ArrayList<>();
+    fieldDataList.stream().collect(Collectors.groupingBy(FieldData::vectorize)).forEach((vectorize,
+        groupedByVectorize) -> {
+      List<String> hashes = groupedByVectorize.stream().map(FieldData::contentHash).filter(Objects::nonNull).toList();
+      Map<String, float[]> cached = hashes.isEmpty() ?
+          Map.of() :
+          embeddingCache.getAll(embeddingModelId(vectorize), hashes);
+      for (FieldData fieldData : groupedByVectorize) {
+        float[] embedding = fieldData.contentHash() != null ? cached.get(fieldData.contentHash()) : null;
+        if (embedding != null) {
+          setEmbedding(fieldData, embedding);
+        } else {
+          pending.add(fieldData);
         }
-        case OPENAI -> processSentenceEmbedding(groupedFieldDataList, this::getOpenAiEmbeddingModel);
-        case OLLAMA -> processSentenceEmbedding(groupedFieldDataList, this::getOllamaEmbeddingModel);
-        case AZURE_OPENAI -> processSentenceEmbedding(groupedFieldDataList, this::getAzureOpenAiEmbeddingModel);
-        case VERTEX_AI -> processSentenceEmbedding(groupedFieldDataList, this::getVertexAiEmbeddingModel);
-        case AMAZON_BEDROCK_COHERE -> processSentenceEmbedding(groupedFieldDataList,
-            this::getBedrockCohereEmbeddingModel);
-        case AMAZON_BEDROCK_TITAN -> processSentenceEmbedding(groupedFieldDataList,
-            this::getBedrockTitanEmbeddingModel);
       }
     });
+    return pending;
   }
 
   /**
-   * Processes sentence embedding for a single field using the configured provider.
-   * 
-   * @param accessor   Property accessor for setting the embedding value
-   * @param vectorize  Vectorize annotation containing configuration
-   * @param fieldValue The text to embed
-   * @param isDocument Whether the entity is a document (affects embedding format)
-   */
-  private void processSentenceEmbedding(PropertyAccessor accessor, Vectorize vectorize, Object fieldValue,
-      boolean isDocument) {
-    switch (vectorize.provider()) {
-      case TRANSFORMERS -> processSentenceEmbedding(accessor, vectorize, fieldValue, isDocument,
-          this::getTransformersEmbeddingModel);
-      case DJL -> {
-      }
-      case OPENAI -> processSentenceEmbedding(accessor, vectorize, fieldValue, isDocument,
-          this::getOpenAiEmbeddingModel);
-      case OLLAMA -> processSentenceEmbedding(accessor, vectorize, fieldValue, isDocument,
-          this::getOllamaEmbeddingModel);
-      case AZURE_OPENAI -> processSentenceEmbedding(accessor, vectorize, fieldValue, isDocument,
-          this::getAzureOpenAiEmbeddingModel);
-      case VERTEX_AI -> processSentenceEmbedding(accessor, vectorize, fieldValue, isDocument,
-          this::getVertexAiEmbeddingModel);
-      case AMAZON_BEDROCK_COHERE -> processSentenceEmbedding(accessor, vectorize, fieldValue, isDocument,
-          this::getBedrockCohereEmbeddingModel);
-      case AMAZON_BEDROCK_TITAN -> processSentenceEmbedding(accessor, vectorize, fieldValue, isDocument,
-          this::getBedrockTitanEmbeddingModel);
-    }
-  }
-
-  /**
-   * Maps field values to string representations.
+   * Sets an embedding on the destination field, as a float array for documents and as a byte array
+   * in the destination field's vector type for hashes.
    * 
-   * @param fieldDataList List of field data
-   * @return List of string values
+   * @param fieldData Field data of the vectorized field
+   * @param embedding The embedding
    */
-  private List<String> mapValues(List<FieldData> fieldDataList) {
-    return fieldDataList.stream().map(it -> it.value().toString()).toList();
+  private void setEmbedding(FieldData fieldData, float[] embedding) {
+    Vectorize vectorize = fieldData.vectorize();
+    fieldData.accessor().setPropertyValue(vectorize.destination(), fieldData.isDocument() ?
+        embedding :
+        floatArrayToByteArray(embedding, vectorTypeOf(fieldData.item().getClass(), vectorize)));
   }
 
   /**
-   * Applies generated embeddings to their corresponding destination fields.
+   * Creates the field data of a field value, with the hash its embedding is cached under. The bytes
+   * of an image are read once: they are hashed and kept for the image to be decoded from.
    * 
-   * @param fieldDataList List of field data to update
-   * @param embeddings    List of generated embeddings
-   * @param vectorize     Vectorize annotation containing destination field information
-   */
-  private void applyEmbeddings(List<FieldData> fieldDataList, List<?> embeddings, Vectorize vectorize) {
-    for (int i = 0; i < fieldDataList.size() && i < embeddings.size(); i++) {
-      fieldDataList.get(i).accessor().setPropertyValue(vectorize.destination(), embeddings.get(i));
+   * @param vectorize  Vectorize annotation containing configuration
+   * @param item       The entity being processed
+   * @param field      The field being vectorized
+   * @param accessor   Property accessor for the entity
+   * @param fieldValue The text or image resource path to embed
+   * @param isDocument Whether the entity is a Document
+   * @return The field data, without a content hash if embeddings are not cached for the field
+   */
+  private FieldData fieldData(Vectorize vectorize, Object item, Field field, PropertyAccessor accessor,
+      Object fieldValue, boolean isDocument) {
+    if (embeddingCache == null || embeddingModelId(vectorize) == null) {
+      return new FieldData(vectorize, item, field, accessor, fieldValue, isDocument, null, null);
     }
+    if (vectorize.embeddingType() == SENTENCE) {
+      return new FieldData(vectorize, item, field, accessor, fieldValue, isDocument, EmbeddingCache.contentHash(
+          fieldValue.toString().getBytes(StandardCharsets.UTF_8)), null);
+    }
+    byte[] content;
+    try (InputStream is = applicationContext.getResource(fieldValue.toString()).getInputStream()) {
+      content = is.readAllBytes();
+    } catch (IOException e) {
+      // decoding reads the resource again and reports the failure
+      return new FieldData(vectorize, item, field, accessor, fieldValue, isDocument, null, null);
+    }
+    return new FieldData(vectorize, item, field, accessor, fieldValue, isDocument, EmbeddingCache.contentHash(
+        content), content);
+  }
+
+  /**
+   * Returns the identifier of the model that embeds a field, which embeddings are cached under.
+   * 
+   * @param vectorize Vectorize annotation containing configuration
+   * @return The model identifier, or null if the field is not embedded by a model
+   */
+  private String embeddingModelId(Vectorize vectorize) {
+    AIRedisOMProperties.Djl djl = properties.getDjl();
+    return switch (vectorize.embeddingType()) {
+      case IMAGE -> "djl-image:" + djl.getImageEmbeddingModelModelUrls() + ":" + djl
+          .getDefaultImagePipelineResizeWidth() + "x" + djl.getDefaultImagePipelineResizeHeight();
+      case FACE -> "djl-face:" + djl.getFaceEmbeddingModelModelUrls();
+      case WORD -> null;
+      case SENTENCE -> switch (vectorize.provider()) {
+        case TRANSFORMERS -> String.join(":", "transformers", vectorize.transformersModel(), vectorize
+            .transformersTokenizer(), String.join(",", vectorize.transformersTokenizerOptions()));
+        case DJL -> null;
+        case OPENAI -> "openai:" + vectorize.openAiEmbeddingModel().value;
+        case OLLAMA -> "ollama:" + vectorize.ollamaEmbeddingModel().id();
+        case AZURE_OPENAI -> "azure-openai:" + vectorize.azureOpenAiDeploymentName();
+        case VERTEX_AI -> "vertex-ai:" + vectorize.vertexAiApiModel();
+        case AMAZON_BEDROCK_COHERE -> "bedrock-cohere:" + vectorize.cohereEmbeddingModel().id();
+        case AMAZON_BEDROCK_TITAN -> "bedrock-titan:" + vectorize.titanEmbeddingModel().id();
+      };
+    };
   }
 
   /**
-   * Processes sentence embeddings for a batch using a model function.
+   * Returns the vector type of the destination field embeddings are written to.
    * 
-   * @param fieldDataList List of field data to process
-   * @param modelFunction Function to create the appropriate embedding model
+   * @param entityClass The entity class declaring the destination field
+   * @param vectorize   Vectorize annotation naming the destination field
+   * @return The destination field's vector type
    */
-  private void processSentenceEmbedding(List<FieldData> fieldDataList,
-      Function<Vectorize, EmbeddingModel> modelFunction) {
-    fieldDataList.stream().collect(Collectors.groupingBy(FieldData::isDocument)).forEach((isDocument,
-        groupedByIsDocument) -> groupedByIsDocument.stream().collect(Collectors.groupingBy(FieldData::vectorize))
-            .forEach((vectorize, groupedByVectorize) -> {
-              EmbeddingModel model = modelFunction.apply(vectorize);
-              List<?> embeddings = isDocument ?
-                  getEmbeddingAsFloatArrayFor(mapValues(groupedByVectorize), model) :
-                  getEmbeddingsAsByteArrayFor(mapValues(groupedByVectorize), model);
-
-              if (embeddings != null) {
-                applyEmbeddings(groupedByVectorize, embeddings, vectorize);
-              }
-            }));
+  private VectorType vectorTypeOf(Class<?> entityClass, Vectorize vectorize) {
+    return destinationVectorType(entityClass, vectorize);
   }
 
   /**
-   * Processes sentence embedding for a single field using a model function.
+   * Returns the vector type of the destination field of a vectorized field, rejecting integer
+   * types. Embedding models produce unscaled float vectors, which rounding to whole numbers would
+   * destroy, so {@code INT8} and {@code UINT8} fields can only hold vectors quantized by the
+   * application.
    * 
-   * @param accessor      Property accessor for setting the embedding value
-   * @param vectorize     Vectorize annotation containing configuration
-   * @param fieldValue    The text to embed
-   * @param isDocument    Whether the entity is a document (affects embedding format)
-   * @param modelFunction Function to create the appropriate embedding model
-   */
-  private void processSentenceEmbedding(PropertyAccessor accessor, Vectorize vectorize, Object fieldValue,
-      boolean isDocument, Function<Vectorize, EmbeddingModel> modelFunction) {
-    EmbeddingModel model = modelFunction.apply(vectorize);
-    if (isDocument) {
-      accessor.setPropertyValue(vectorize.destination(), getEmbeddingAsFloatArrayFor(fieldValue.toString(), model));
-    } else {
-      accessor.setPropertyValue(vectorize.destination(), getEmbeddingsAsByteArrayFor(fieldValue.toString(), model));
+   * @param entityClass The entity class declaring the destination field
+   * @param vectorize   Vectorize annotation naming the destination field
+   * @return The destination field's vector type
+   * @throws IllegalStateException if the destination field is indexed with an integer vector type
+   * @since 2.0.5
+   */
+  public static VectorType destinationVectorType(Class<?> entityClass, Vectorize vectorize) {
+    VectorType vectorType = ObjectUtils.getVectorType(ReflectionUtils.findField(entityClass, vectorize
+        .destination()));
+    if (vectorType == VectorType.INT8 || vectorType == VectorType.UINT8) {
+      throw new IllegalStateException(String.format(
+          "@Vectorize destination %s.%s is indexed as %s, which can not hold embeddings; use a float vector type",
+          entityClass.getSimpleName(), vectorize.destination(), vectorType));
     }
+    return vectorType;
   }
 
   /**
@@ -702,6 +684,15 @@ public class DefaultEmbedder implements Embedder {
     return true;
   }
 
+  /**
+   * Closes the pooled image and facial model predictors, releasing their native memory.
+   */
+  @Override
+  public void destroy() {
+    imagePredictors.close();
+    facePredictors.close();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -710,7 +701,7 @@ public class DefaultEmbedder implements Embedder {
     if (field.isAnnotationPresent(Vectorize.class)) {
       Vectorize vectorize = field.getAnnotation(Vectorize.class);
       return vectorize.embeddingType() == SENTENCE ?
-          getSentenceEmbeddingAsBytes(texts, vectorize) :
+          getSentenceEmbeddingAsBytes(texts, vectorize, vectorTypeOf(field.getDeclaringClass(), vectorize)) :
           Collections.emptyList();
     } else {
       return Collections.emptyList();
@@ -720,42 +711,14 @@ public class DefaultEmbedder implements Embedder {
   /**
    * Generates sentence embeddings as byte arrays using the appropriate provider.
    * 
-   * @param texts     List of texts to embed
-   * @param vectorize Configuration specifying the provider and model
+   * @param texts      List of texts to embed
+   * @param vectorize  Configuration specifying the provider and model
+   * @param vectorType The vector type to encode the embeddings in
    * @return List of byte arrays representing the embeddings
    */
-  private List<byte[]> getSentenceEmbeddingAsBytes(List<String> texts, Vectorize vectorize) {
-    return switch (vectorize.provider()) {
-      case TRANSFORMERS -> {
-        TransformersEmbeddingModel model = getTransformersEmbeddingModel(vectorize);
-        yield getEmbeddingsAsByteArrayFor(texts, model);
-      }
-      case DJL -> Collections.emptyList();
-      case OPENAI -> {
-        EmbeddingModel model = getOpenAiEmbeddingModel(vectorize);
-        yield getEmbeddingsAsByteArrayFor(texts, model);
-      }
-      case OLLAMA -> {
-        OllamaEmbeddingModel model = getOllamaEmbeddingModel(vectorize);
-        yield getEmbeddingsAsByteArrayFor(texts, model);
-      }
-      case AZURE_OPENAI -> {
-        AzureOpenAiEmbeddingModel model = getAzureOpenAiEmbeddingModel(vectorize);
-        yield getEmbeddingsAsByteArrayFor(texts, model);
-      }
-      case VERTEX_AI -> {
-        VertexAiTextEmbeddingModel model = getVertexAiEmbeddingModel(vectorize);
-        yield getEmbeddingsAsByteArrayFor(texts, model);
-      }
-      case AMAZON_BEDROCK_COHERE -> {
-        BedrockCohereEmbeddingModel model = getBedrockCohereEmbeddingModel(vectorize);
-        yield getEmbeddingsAsByteArrayFor(texts, model);
-      }
-      case AMAZON_BEDROCK_TITAN -> {
-        BedrockTitanEmbeddingModel model = getBedrockTitanEmbeddingModel(vectorize);
-        yield getEmbeddingsAsByteArrayFor(texts, model);
-      }
-    };
+  private List<byte[]> getSentenceEmbeddingAsBytes(List<String> texts, Vectorize vectorize, VectorType vectorType) {
+    return getSentenceEmbeddingAsFloats(texts, vectorize).stream().map(e -> floatArrayToByteArray(e, vectorType))
+        .toList();
   }
 
   /**
@@ -766,37 +729,7 @@ public class DefaultEmbedder implements Embedder {
    * @return List of float arrays representing the embeddings
    */
   private List<float[]> getSentenceEmbeddingAsFloats(List<String> texts, Vectorize vectorize) {
-    return switch (vectorize.provider()) {
-      case TRANSFORMERS -> {
-        TransformersEmbeddingModel model = getTransformersEmbeddingModel(vectorize);
-        yield getEmbeddingAsFloatArrayFor(texts, model);
-      }
-      case DJL -> Collections.emptyList(); //TODO what to do here?
-      case OPENAI -> {
-        EmbeddingModel model = getOpenAiEmbeddingModel(vectorize);
-        yield getEmbeddingAsFloatArrayFor(texts, model);
-      }
-      case OLLAMA -> {
-        OllamaEmbeddingModel model = getOllamaEmbeddingModel(vectorize);
-        yield getEmbeddingAsFloatArrayFor(texts, model);
-      }
-      case AZURE_OPENAI -> {
-        AzureOpenAiEmbeddingModel model = getAzureOpenAiEmbeddingModel(vectorize);
-        yield getEmbeddingAsFloatArrayFor(texts, model);
-      }
-      case VERTEX_AI -> {
-        VertexAiTextEmbeddingModel model = getVertexAiEmbeddingModel(vectorize);
-        yield getEmbeddingAsFloatArrayFor(texts, model);
-      }
-      case AMAZON_BEDROCK_COHERE -> {
-        BedrockCohereEmbeddingModel model = getBedrockCohereEmbeddingModel(vectorize);
-        yield getEmbeddingAsFloatArrayFor(texts, model);
-      }
-      case AMAZON_BEDROCK_TITAN -> {
-        BedrockTitanEmbeddingModel model = getBedrockTitanEmbeddingModel(vectorize);
-        yield getEmbeddingAsFloatArrayFor(texts, model);
-      }
-    };
+    return embeddingScheduler.await(scheduleSentenceEmbeddings(texts, vectorize));
   }
 
   /**
@@ -834,13 +767,15 @@ public class DefaultEmbedder implements Embedder {
 /**
  * Internal record for holding field data during batch processing.
  * 
- * @param vectorize  The Vectorize annotation configuration
- * @param item       The entity being processed
- * @param field      The field being vectorized
- * @param accessor   Property accessor for the entity
- * @param value      The field value to be vectorized
- * @param isDocument Whether the entity is a Document (affects embedding format)
+ * @param vectorize   The Vectorize annotation configuration
+ * @param item        The entity being processed
+ * @param field       The field being vectorized
+ * @param accessor    Property accessor for the entity
+ * @param value       The field value to be vectorized
+ * @param isDocument  Whether the entity is a Document (affects embedding format)
+ * @param contentHash The hash the embedding is cached under, or null if it is not cached
+ * @param content     The bytes of the image the hash was computed from, or null if not read yet
  */
 record FieldData(Vectorize vectorize, Object item, Field field, PropertyAccessor accessor, Object value,
-                 boolean isDocument) {
+                 boolean isDocument, String contentHash, byte[] content) {
 }
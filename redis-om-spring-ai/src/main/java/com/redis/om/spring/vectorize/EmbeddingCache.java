@@ -0,0 +1,293 @@
+package com.redis.om.spring.vectorize;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+
+import com.redis.om.spring.ops.CommandListener;
+import com.redis.om.spring.util.ObjectUtils;
+
+/**
+ * A two-tier cache of embeddings keyed by embedding model and content hash.
+ * <p>
+ * Saving an entity whose {@link com.redis.om.spring.annotations.Vectorize @Vectorize} source is
+ * byte for byte the same as content embedded before reuses the earlier embedding instead of
+ * calling the embedding provider again. Lookups first consult a bounded, least recently used map in
+ * the local process and then Redis, where each embedding is a string key named by the key prefix,
+ * the model identifier and the SHA-256 hash of the embedded content, holding the embedding as a
+ * little-endian {@code FLOAT32} vector. Embeddings found in Redis are promoted to the local tier,
+ * and computed embeddings are written to both.
+ * </p>
+ * <p>
+ * The Redis tier is bounded: each embedding expires after the configured time-to-live, and a sorted
+ * set per model, named by the key prefix followed by the model identifier, records when each
+ * embedding was stored so that the oldest ones are deleted once a model has more than the
+ * configured number of embeddings. Since the embeddings are separate keys, they are spread across
+ * the slots of a cluster.
+ * </p>
+ * <p>
+ * Hits and misses are counted per tier and reported to the {@link CommandListener}, which records
+ * them as metrics when Micrometer is in use.
+ * </p>
+ *
+ * @since 2.0.5
+ * @see com.redis.om.spring.AIRedisOMProperties.EmbeddingCacheProperties
+ */
+public class EmbeddingCache {
+  private final StringRedisTemplate template;
+  private final CommandListener commandListener;
+  private final String keyPrefix;
+  private final int maxEntries;
+  private final Duration redisTtl;
+  private final int maxRedisEntries;
+  private final LinkedHashMap<String, float[]> local;
+  private final LongAdder localHits = new LongAdder();
+  private final LongAdder redisHits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Creates a new embedding cache whose Redis tier keeps at most 100000 embeddings per model for
+   * seven days.
+   *
+   * @param template        the template for the Redis tier, or {@code null} to only cache locally
+   * @param commandListener the listener notified of lookups
+   * @param keyPrefix       the prefix of the Redis keys
+   * @param maxEntries      the maximum number of embeddings kept in the local tier
+   */
+  public EmbeddingCache(@Nullable StringRedisTemplate template, CommandListener commandListener, String keyPrefix,
+      int maxEntries) {
+    this(template, commandListener, keyPrefix, maxEntries, Duration.ofDays(7), 100_000);
+  }
+
+  /**
+   * Creates a new embedding cache.
+   *
+   * @param template        the template for the Redis tier, or {@code null} to only cache locally
+   * @param commandListener the listener notified of lookups
+   * @param keyPrefix       the prefix of the Redis keys
+   * @param maxEntries      the maximum number of embeddings kept in the local tier
+   * @param redisTtl        the time-to-live of the embeddings kept in the Redis tier
+   * @param maxRedisEntries the maximum number of embeddings per model kept in the Redis tier
+   */
+  public EmbeddingCache(@Nullable StringRedisTemplate template, CommandListener commandListener, String keyPrefix,
+      int maxEntries, Duration redisTtl, int maxRedisEntries) {
+    this.template = template;
+    this.commandListener = commandListener;
+    this.keyPrefix = keyPrefix;
+    this.maxEntries = Math.max(1, maxEntries);
+    this.redisTtl = redisTtl.compareTo(Duration.ofSeconds(1)) < 0 ? Duration.ofSeconds(1) : redisTtl;
+    this.maxRedisEntries = Math.max(1, maxRedisEntries);
+    this.local = new LinkedHashMap<>(Math.min(this.maxEntries, 1024), 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+        return size() > EmbeddingCache.this.maxEntries;
+      }
+    };
+  }
+
+  /**
+   * Computes the hash content is cached under.
+   *
+   * @param content the embedded text or image bytes
+   * @return the hex encoded SHA-256 hash of the content
+   */
+  public static String contentHash(byte[] content) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * Looks up the embeddings of the given content hashes.
+   *
+   * @param model         the identifier of the embedding model
+   * @param contentHashes the hashes of the embedded content
+   * @return the cached embeddings by content hash, without the hashes that were not found
+   */
+  public Map<String, float[]> getAll(String model, Collection<String> contentHashes) {
+    Set<String> distinct = new LinkedHashSet<>(contentHashes);
+    Map<String, float[]> found = new HashMap<>();
+    List<String> remote = new ArrayList<>();
+    synchronized (local) {
+      for (String hash : distinct) {
+        float[] embedding = local.get(localKey(model, hash));
+        if (embedding != null) {
+          found.put(hash, embedding);
+        } else {
+          remote.add(hash);
+        }
+      }
+    }
+    int fromLocal = found.size();
+
+    if (template != null && !remote.isEmpty()) {
+      byte[][] keys = remote.stream().map(hash -> entryKey(model, hash)).toArray(byte[][]::new);
+      List<byte[]> values = template.execute((RedisCallback<List<byte[]>>) connection -> connection.stringCommands()
+          .mGet(keys));
+      if (values != null) {
+        synchronized (local) {
+          for (int i = 0; i < remote.size() && i < values.size(); i++) {
+            if (values.get(i) != null) {
+              float[] embedding = ObjectUtils.byteArrayToFloatArray(values.get(i));
+              found.put(remote.get(i), embedding);
+              local.put(localKey(model, remote.get(i)), embedding);
+            }
+          }
+        }
+      }
+    }
+    int fromRedis = found.size() - fromLocal;
+    int missed = distinct.size() - found.size();
+
+    localHits.add(fromLocal);
+    redisHits.add(fromRedis);
+    misses.add(missed);
+    commandListener.embeddingCacheLookup(model, fromLocal, fromRedis, missed);
+    return found;
+  }
+
+  /**
+   * Looks up the embedding of the given content hash.
+   *
+   * @param model       the identifier of the embedding model
+   * @param contentHash the hash of the embedded content
+   * @return the cached embedding, or {@code null}
+   */
+  @Nullable
+  public float[] get(String model, String contentHash) {
+    return getAll(model, List.of(contentHash)).get(contentHash);
+  }
+
+  /**
+   * Stores computed embeddings.
+   *
+   * @param model      the identifier of the embedding model
+   * @param embeddings the embeddings by content hash
+   */
+  public void putAll(String model, Map<String, float[]> embeddings) {
+    if (embeddings.isEmpty()) {
+      return;
+    }
+    synchronized (local) {
+      embeddings.forEach((hash, embedding) -> local.put(localKey(model, hash), embedding));
+    }
+    if (template != null) {
+      storeInRedis(model, embeddings);
+    }
+  }
+
+  /**
+   * Writes embeddings to the Redis tier with their time-to-live, records them in the model's index
+   * and deletes the oldest embeddings of the model if it now holds more than the maximum.
+   */
+  private void storeInRedis(String model, Map<String, float[]> embeddings) {
+    byte[] indexKey = indexKey(model);
+    long now = System.currentTimeMillis();
+    List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+      embeddings.forEach((hash, embedding) -> {
+        connection.stringCommands().setEx(entryKey(model, hash), redisTtl.toSeconds(), ObjectUtils
+            .floatArrayToByteArray(embedding));
+        connection.zSetCommands().zAdd(indexKey, now, hash.getBytes(StandardCharsets.UTF_8));
+      });
+      // embeddings that expired on their own no longer count against the bound
+      connection.zSetCommands().zRemRangeByScore(indexKey, Range.closed(0d, (double) (now - redisTtl.toMillis())));
+      connection.keyCommands().expire(indexKey, redisTtl.toSeconds());
+      connection.zSetCommands().zCard(indexKey);
+      return null;
+    });
+
+    Object size = results.isEmpty() ? null : results.get(results.size() - 1);
+    long excess = size instanceof Long count ? count - maxRedisEntries : 0;
+    if (excess > 0) {
+      template.execute((RedisCallback<Object>) connection -> {
+        Set<Tuple> evicted = connection.zSetCommands().zPopMin(indexKey, excess);
+        if (evicted != null && !evicted.isEmpty()) {
+          connection.keyCommands().del(evicted.stream().map(t -> entryKey(model, new String(t.getValue(),
+              StandardCharsets.UTF_8))).toArray(byte[][]::new));
+        }
+        return null;
+      });
+    }
+  }
+
+  /**
+   * Stores a computed embedding.
+   *
+   * @param model       the identifier of the embedding model
+   * @param contentHash the hash of the embedded content
+   * @param embedding   the embedding
+   */
+  public void put(String model, String contentHash, float[] embedding) {
+    putAll(model, Map.of(contentHash, embedding));
+  }
+
+  /**
+   * Drops the embeddings held in the local tier. The Redis tier is left untouched.
+   */
+  public void clearLocal() {
+    synchronized (local) {
+      local.clear();
+    }
+  }
+
+  /**
+   * Returns the number of lookups answered by the local tier.
+   *
+   * @return the local hit count
+   */
+  public long getLocalHits() {
+    return localHits.sum();
+  }
+
+  /**
+   * Returns the number of lookups answered by the Redis tier.
+   *
+   * @return the Redis hit count
+   */
+  public long getRedisHits() {
+    return redisHits.sum();
+  }
+
+  /**
+   * Returns the number of lookups neither tier could answer.
+   *
+   * @return the miss count
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the share of lookups answered by either tier.
+   *
+   * @return the hit rate between {@code 0} and {@code 1}, or {@code 0} before the first lookup
+   */
+  public double getHitRate() {
+    long hits = getLocalHits() + getRedisHits();
+    long total = hits + getMisses();
+    return total == 0 ? 0 : (double) hits / total;
+  }
+
+  private byte[] indexKey(String model) {
+    return (keyPrefix + model).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private byte[] entryKey(String model, String contentHash) {
+    return (keyPrefix + model + ":" + contentHash).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String localKey(String model, String contentHash) {
+    return model + "#" + contentHash;
+  }
+}
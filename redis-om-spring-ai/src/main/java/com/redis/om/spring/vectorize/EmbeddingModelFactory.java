@@ -21,12 +21,12 @@ import org.springframework.ai.openai.OpenAiEmbeddingModel;
 import org.springframework.ai.openai.OpenAiEmbeddingOptions;
 import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.ai.openai.api.OpenAiApi.EmbeddingModel;
-import org.springframework.ai.retry.RetryUtils;
 import org.springframework.ai.transformers.TransformersEmbeddingModel;
 import org.springframework.ai.vertexai.embedding.VertexAiEmbeddingConnectionDetails;
 import org.springframework.ai.vertexai.embedding.text.VertexAiTextEmbeddingModel;
 import org.springframework.ai.vertexai.embedding.text.VertexAiTextEmbeddingOptions;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestClient;
@@ -63,6 +63,12 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
  * @see SpringAiProperties
  */
 public class EmbeddingModelFactory {
+  /**
+   * Retry template of the models that take one, making a single attempt: failed requests are
+   * retried by the {@link EmbeddingScheduler}, so retries within the model would multiply them
+   */
+  private static final RetryTemplate SINGLE_ATTEMPT = RetryTemplate.builder().maxAttempts(1).build();
+
   /** Main configuration properties for Redis OM AI features */
   private final AIRedisOMProperties properties;
 
@@ -256,7 +262,7 @@ public class EmbeddingModelFactory {
           .builder().requestFactory(factory)).build();
 
       embeddingModel = new OpenAiEmbeddingModel(openAiApi, MetadataMode.EMBED, OpenAiEmbeddingOptions.builder().model(
-          model).build(), RetryUtils.DEFAULT_RETRY_TEMPLATE);
+          model).build(), SINGLE_ATTEMPT);
     }
 
     modelCache.put(cacheKey, embeddingModel);
@@ -386,7 +392,8 @@ public class EmbeddingModelFactory {
 
     VertexAiTextEmbeddingOptions options = VertexAiTextEmbeddingOptions.builder().model(model).build();
 
-    VertexAiTextEmbeddingModel embeddingModel = new VertexAiTextEmbeddingModel(connectionDetails, options);
+    VertexAiTextEmbeddingModel embeddingModel = new VertexAiTextEmbeddingModel(connectionDetails, options,
+        SINGLE_ATTEMPT);
 
     modelCache.put(cacheKey, embeddingModel);
 
@@ -0,0 +1,179 @@
+package com.redis.om.spring.vectorize;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.beans.factory.DisposableBean;
+
+import com.redis.om.spring.AIRedisOMProperties;
+import com.redis.om.spring.annotations.EmbeddingProvider;
+
+/**
+ * Schedules the requests sent to embedding providers.
+ * <p>
+ * Texts are split into sub-batches that respect the maximum batch size and the maximum number of
+ * tokens per request configured for their provider, and the sub-batches are sent concurrently on
+ * a pool that bounds the number of requests in flight. A failed sub-batch is retried on its own,
+ * with exponential backoff, so a transient failure does not cost the whole batch. Requests of
+ * different fields, for example fields embedded by different providers, are scheduled on the same
+ * pool and therefore also run in parallel.
+ * </p>
+ * <p>
+ * Token counts are estimated at two characters per token. Tokenizers average about four characters
+ * per token on English prose, but far fewer on code, numbers and non-Latin scripts, so the estimate
+ * errs on the side of smaller requests rather than requests the provider rejects as too long.
+ * Models are built without retries of their own, so each failed request is retried here only.
+ * </p>
+ *
+ * @since 2.0.5
+ * @see com.redis.om.spring.AIRedisOMProperties.EmbeddingSchedulerProperties
+ */
+public class EmbeddingScheduler implements DisposableBean {
+  private static final Log logger = LogFactory.getLog(EmbeddingScheduler.class);
+
+  private final AIRedisOMProperties.EmbeddingSchedulerProperties properties;
+  private final ExecutorService executor;
+
+  /**
+   * Creates a new scheduler.
+   *
+   * @param properties the request limits and retry settings
+   */
+  public EmbeddingScheduler(AIRedisOMProperties.EmbeddingSchedulerProperties properties) {
+    this.properties = properties;
+    AtomicInteger threads = new AtomicInteger();
+    this.executor = Executors.newFixedThreadPool(Math.max(1, properties.getMaxConcurrentRequests()), r -> {
+      Thread thread = new Thread(r, "redis-om-embedding-" + threads.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Embeds texts with the given model, in sub-batches within the limits of its provider.
+   *
+   * @param provider the provider of the model
+   * @param texts    the texts to embed
+   * @param model    embeds one sub-batch of texts
+   * @return the embeddings, in the order of the texts
+   */
+  public CompletableFuture<List<float[]>> embed(EmbeddingProvider provider, List<String> texts,
+      Function<List<String>, List<float[]>> model) {
+    List<CompletableFuture<List<float[]>>> futures = split(texts, properties.getLimitsFor(provider)).stream() //
+        .map(subBatch -> submit(() -> embedWithRetries(provider, subBatch, model))) //
+        .toList();
+    return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)) //
+        .thenApply(v -> futures.stream().flatMap(future -> future.join().stream()).toList());
+  }
+
+  /**
+   * Runs a task on the pool, counting against the requests in flight.
+   *
+   * @param <T>  the result type
+   * @param task the task
+   * @return the result of the task
+   */
+  public <T> CompletableFuture<T> submit(Supplier<T> task) {
+    return CompletableFuture.supplyAsync(task, executor);
+  }
+
+  /**
+   * Waits for a scheduled request, rethrowing the exception it failed with.
+   *
+   * @param <T>    the result type
+   * @param future the scheduled request
+   * @return the result of the request
+   */
+  public <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Splits texts into sub-batches within the given limits. A single text exceeding the token limit
+   * is sent on its own.
+   *
+   * @param texts  the texts
+   * @param limits the request limits of the provider
+   * @return the sub-batches, in order
+   */
+  List<List<String>> split(List<String> texts, AIRedisOMProperties.ProviderLimits limits) {
+    int maxBatchSize = limits.getMaxBatchSize() > 0 ? limits.getMaxBatchSize() : Integer.MAX_VALUE;
+    long maxTokens = limits.getMaxTokens() > 0 ? limits.getMaxTokens() : Long.MAX_VALUE;
+
+    List<List<String>> subBatches = new ArrayList<>();
+    List<String> subBatch = new ArrayList<>();
+    long tokens = 0;
+    for (String text : texts) {
+      long estimate = estimateTokens(text);
+      if (!subBatch.isEmpty() && (subBatch.size() >= maxBatchSize || tokens + estimate > maxTokens)) {
+        subBatches.add(subBatch);
+        subBatch = new ArrayList<>();
+        tokens = 0;
+      }
+      subBatch.add(text);
+      tokens += estimate;
+    }
+    if (!subBatch.isEmpty()) {
+      subBatches.add(subBatch);
+    }
+    return subBatches;
+  }
+
+  static long estimateTokens(String text) {
+    return text.length() / 2 + 1;
+  }
+
+  private List<float[]> embedWithRetries(EmbeddingProvider provider, List<String> texts,
+      Function<List<String>, List<float[]>> model) {
+    int maxAttempts = Math.max(1, properties.getMaxAttempts());
+    long backoff = properties.getRetryBackoff();
+    for (int attempt = 1;; attempt++) {
+      try {
+        return model.apply(texts);
+      } catch (NonTransientAiException e) {
+        throw e;
+      } catch (RuntimeException e) {
+        if (attempt >= maxAttempts) {
+          throw e;
+        }
+        logger.warn(String.format("Embedding %d texts with %s failed (attempt %d of %d), retrying in %d ms", texts
+            .size(), provider, attempt, maxAttempts, backoff), e);
+        try {
+          Thread.sleep(backoff);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          throw e;
+        }
+        backoff *= 2;
+      }
+    }
+  }
+
+  /**
+   * Stops the pool, abandoning requests still in flight.
+   */
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+}
@@ -0,0 +1,107 @@
+package com.redis.om.spring.vectorize;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import ai.djl.inference.Predictor;
+import ai.djl.translate.TranslateException;
+
+/**
+ * A bounded pool of reusable DJL predictors of one model.
+ * <p>
+ * Predictors hold native inference state and are not thread safe, so each inference borrows a
+ * predictor for its exclusive use and returns it afterwards instead of creating a new one. At most
+ * {@code maxSize} predictors are created, and callers wait for a free predictor once all of them
+ * are in use. Closing the pool closes every predictor it created and releases their native memory.
+ * </p>
+ *
+ * @param <I> the model input type
+ * @param <O> the model output type
+ * @since 2.0.5
+ */
+public class PredictorPool<I, O> implements AutoCloseable {
+  private final Supplier<Predictor<I, O>> factory;
+  private final Semaphore permits;
+  private final Queue<Predictor<I, O>> idle = new ConcurrentLinkedQueue<>();
+  private final List<Predictor<I, O>> created = new CopyOnWriteArrayList<>();
+  private volatile boolean closed;
+
+  /**
+   * Creates a new pool. Predictors are only created once they are needed.
+   *
+   * @param factory creates a new predictor of the model
+   * @param maxSize the maximum number of predictors
+   */
+  public PredictorPool(Supplier<Predictor<I, O>> factory, int maxSize) {
+    this.factory = factory;
+    this.permits = new Semaphore(Math.max(1, maxSize), true);
+  }
+
+  /**
+   * Runs a batch inference on a pooled predictor.
+   *
+   * @param inputs the model inputs
+   * @return the model outputs, in the order of the inputs
+   * @throws TranslateException if the inference fails
+   */
+  public List<O> batchPredict(List<I> inputs) throws TranslateException {
+    Predictor<I, O> predictor = borrow();
+    try {
+      return predictor.batchPredict(inputs);
+    } finally {
+      release(predictor);
+    }
+  }
+
+  /**
+   * Returns the number of predictors created so far.
+   *
+   * @return the number of predictors
+   */
+  public int size() {
+    return created.size();
+  }
+
+  private Predictor<I, O> borrow() {
+    if (closed) {
+      throw new IllegalStateException("Predictor pool is closed");
+    }
+    permits.acquireUninterruptibly();
+    Predictor<I, O> predictor = idle.poll();
+    if (predictor == null) {
+      try {
+        predictor = factory.get();
+      } catch (RuntimeException e) {
+        permits.release();
+        throw e;
+      }
+      created.add(predictor);
+    }
+    return predictor;
+  }
+
+  private void release(Predictor<I, O> predictor) {
+    idle.offer(predictor);
+    permits.release();
+    // the pool may have been closed while the predictor was in use
+    if (closed) {
+      close();
+    }
+  }
+
+  /**
+   * Closes the predictors of the pool. Predictors still in use are closed when they are returned.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    Predictor<I, O> predictor;
+    while ((predictor = idle.poll()) != null) {
+      predictor.close();
+    }
+  }
+}
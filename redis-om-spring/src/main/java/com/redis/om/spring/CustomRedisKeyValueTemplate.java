@@ -1,11 +1,18 @@
 package com.redis.om.spring;
 
+import org.springframework.data.keyvalue.core.IdentifierGenerator;
 import org.springframework.data.keyvalue.core.KeyValueTemplate;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.redis.core.RedisKeyValueAdapter;
 import org.springframework.data.redis.core.RedisKeyValueTemplate;
 import org.springframework.data.redis.core.convert.RedisConverter;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 
+import com.redis.om.spring.id.IdSequenceGenerator;
 import com.redis.om.spring.id.ULIDIdentifierGenerator;
 
 /**
@@ -14,6 +21,8 @@ import com.redis.om.spring.id.ULIDIdentifierGenerator;
 public class CustomRedisKeyValueTemplate extends KeyValueTemplate {
 
   private final RedisKeyValueAdapter adapter;
+  private final IdentifierGenerator identifierGenerator;
+  private final @Nullable IdSequenceGenerator idSequenceGenerator;
 
   /**
    * Create new {@link RedisKeyValueTemplate}.
@@ -22,8 +31,72 @@ public class CustomRedisKeyValueTemplate extends KeyValueTemplate {
    * @param mappingContext must not be {@literal null}.
    */
   public CustomRedisKeyValueTemplate(RedisKeyValueAdapter adapter, RedisMappingContext mappingContext) {
-    super(adapter, mappingContext, ULIDIdentifierGenerator.INSTANCE);
+    this(adapter, mappingContext, ULIDIdentifierGenerator.INSTANCE, null);
+  }
+
+  /**
+   * Create new {@link RedisKeyValueTemplate}.
+   *
+   * @param adapter             must not be {@literal null}.
+   * @param mappingContext      must not be {@literal null}.
+   * @param identifierGenerator generates the ids of new entities, must not be {@literal null}.
+   * @param idSequenceGenerator generates the ids of new entities whose id is annotated with
+   *                            {@link com.redis.om.spring.id.IdSequence}, can be {@literal null}.
+   * @since 2.0.5
+   */
+  public CustomRedisKeyValueTemplate(RedisKeyValueAdapter adapter, RedisMappingContext mappingContext,
+      IdentifierGenerator identifierGenerator, @Nullable IdSequenceGenerator idSequenceGenerator) {
+    super(adapter, mappingContext, identifierGenerator);
     this.adapter = adapter;
+    this.identifierGenerator = identifierGenerator;
+    this.idSequenceGenerator = idSequenceGenerator;
+  }
+
+  /**
+   * Generates the id of a new entity, from its {@link com.redis.om.spring.id.IdSequence} if it has
+   * one and from the template's identifier generator otherwise.
+   *
+   * @param entity the persistent entity of the entity being saved
+   * @return the generated id
+   * @since 2.0.5
+   */
+  public Object generateIdentifierFor(KeyValuePersistentEntity<?, ?> entity) {
+    Object id = idSequenceGenerator != null ? idSequenceGenerator.generateIdentifierFor(entity) : null;
+    return id != null ? id : identifierGenerator.generateIdentifierOfType(entity.getRequiredIdProperty()
+        .getTypeInformation());
+  }
+
+  /* (non-Javadoc)
+   *
+   * @see org.springframework.data.keyvalue.core.KeyValueTemplate#insert(java.lang.Object) */
+  @Override
+  public <T> T insert(T objectToInsert) {
+    if (idSequenceGenerator != null) {
+      KeyValuePersistentEntity<?, ?> entity = getMappingContext().getRequiredPersistentEntity(ClassUtils.getUserClass(
+          objectToInsert));
+      if (entity.hasIdProperty()) {
+        PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(objectToInsert);
+        if (isUnassigned(entity.getRequiredIdProperty(), accessor.getProperty(entity.getRequiredIdProperty()))) {
+          Object id = idSequenceGenerator.generateIdentifierFor(entity);
+          if (id != null) {
+            accessor.setProperty(entity.getRequiredIdProperty(), id);
+            return super.insert(id, accessor.getBean());
+          }
+        }
+      }
+    }
+    return super.insert(objectToInsert);
+  }
+
+  /**
+   * Checks if an id has yet to be generated, i.e. if it is {@code null} or, for a primitive id that
+   * cannot be {@code null}, zero.
+   */
+  private static boolean isUnassigned(PersistentProperty<?> idProperty, @Nullable Object id) {
+    if (id == null) {
+      return true;
+    }
+    return idProperty.getType().isPrimitive() && id instanceof Number number && number.longValue() == 0;
   }
 
   /**
@@ -5,10 +5,10 @@ import static com.redis.om.spring.util.ObjectUtils.*;
 import java.lang.reflect.Field;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.springframework.beans.BeanWrapper;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.redis.connection.RedisConnection;
@@ -23,24 +23,27 @@ import org.springframework.data.redis.core.convert.ReferenceResolverImpl;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
 import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
-import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 
 import com.redis.om.spring.audit.EntityAuditor;
+import com.redis.om.spring.cache.EntityNearCache;
+import com.redis.om.spring.cache.NearCacheManager;
+import com.redis.om.spring.convert.HashDelta;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.convert.RedisOMCustomConversions;
 import com.redis.om.spring.id.IdentifierFilter;
 import com.redis.om.spring.indexing.RediSearchIndexer;
+import com.redis.om.spring.mapping.CompositeIdCodec;
 import com.redis.om.spring.mapping.RedisEnhancedMappingContext;
 import com.redis.om.spring.mapping.RedisEnhancedPersistentEntity;
+import com.redis.om.spring.ops.CommandListener;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.vectorize.Embedder;
 
-import jakarta.persistence.IdClass;
 import redis.clients.jedis.search.Query;
 import redis.clients.jedis.search.SearchResult;
 
@@ -77,6 +80,8 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
   private final EntityAuditor auditor;
   private final Embedder embedder;
   private final RedisOMProperties redisOMProperties;
+  @Nullable
+  private final NearCacheManager nearCacheManager;
 
   /**
    * Creates new {@link RedisKeyValueAdapter} with default
@@ -129,6 +134,29 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
    * @param embedder          must not be {@literal null}.
    * @param redisOMProperties must not be {@literal null}.
    */
+  public RedisEnhancedKeyValueAdapter( //
+      RedisOperations<?, ?> redisOps, //
+      RedisModulesOperations<?> rmo, //
+      RedisMappingContext mappingContext, //
+      @Nullable CustomConversions customConversions, //
+      RediSearchIndexer indexer, //
+      Embedder embedder, //
+      RedisOMProperties redisOMProperties) {
+    this(redisOps, rmo, mappingContext, customConversions, indexer, embedder, redisOMProperties, null);
+  }
+
+  /**
+   * Creates new {@link RedisKeyValueAdapter} with an optional near-cache for by-id lookups.
+   *
+   * @param redisOps          must not be {@literal null}.
+   * @param rmo               must not be {@literal null}.
+   * @param mappingContext    must not be {@literal null}.
+   * @param customConversions can be {@literal null}.
+   * @param indexer           must not be {@literal null}.
+   * @param embedder          must not be {@literal null}.
+   * @param redisOMProperties must not be {@literal null}.
+   * @param nearCacheManager  can be {@literal null} to disable near-caching.
+   */
   @SuppressWarnings(
     "unchecked"
   )
@@ -139,7 +167,8 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
       @Nullable CustomConversions customConversions, //
       RediSearchIndexer indexer, //
       Embedder embedder, //
-      RedisOMProperties redisOMProperties) {
+      RedisOMProperties redisOMProperties, //
+      @Nullable NearCacheManager nearCacheManager) {
     super(redisOps, mappingContext, customConversions);
 
     Assert.notNull(redisOps, "RedisOperations must not be null!");
@@ -159,6 +188,17 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
     this.auditor = new EntityAuditor(this.redisOperations);
     this.embedder = embedder;
     this.redisOMProperties = redisOMProperties;
+    this.nearCacheManager = nearCacheManager;
+  }
+
+  /**
+   * Returns the near-cache manager used for by-id lookups.
+   *
+   * @return the near-cache manager, or {@literal null} if near-caching is disabled
+   */
+  @Nullable
+  public NearCacheManager getNearCacheManager() {
+    return nearCacheManager;
   }
 
   private static String sanitizeKeyspace(String keyspace) {
@@ -177,13 +217,22 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
     RedisData rdo;
     // Resolve dynamic keyspace from @IndexingOptions if present
     String resolvedKeyspace = resolveDynamicKeyspace(item.getClass(), keyspace);
+    boolean diffWrites = redisOMProperties != null && redisOMProperties.getRepository().isDiffHashWrites();
+    Map<byte[], byte[]> current = null;
 
     if (item instanceof RedisData redisData) {
       rdo = redisData;
     } else {
       String idAsString = validateKeyForWriting(id, item);
       byte[] redisKey = createKey(sanitizeKeyspace(resolvedKeyspace), idAsString);
-      auditor.processEntity(redisKey, item);
+      if (diffWrites) {
+        // the stored hash is needed for the delta anyway and tells whether the entity is new
+        current = currentHash(redisKey);
+        auditor.processEntity(item, current.isEmpty());
+      } else {
+        // asks the server, since a near-cache entry may outlive a delete whose invalidation is in flight
+        auditor.processEntity(redisKey, item);
+      }
       embedder.processEntity(item);
 
       rdo = new RedisData();
@@ -193,22 +242,63 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
       rdo.setKeyspace(sanitizeKeyspace(resolvedKeyspace));
     }
 
-    redisOperations.executePipelined((RedisCallback<Object>) connection -> {
-      byte[] objectKey = createKey(sanitizeKeyspace(rdo.getKeyspace()), rdo.getId());
-      connection.keyCommands().del(objectKey);
-      Map<byte[], byte[]> rawMap = rdo.getBucket().rawMap();
-      connection.hashCommands().hMSet(objectKey, rawMap);
-
-      if (willExpire(rdo)) {
-        connection.keyCommands().expire(objectKey, rdo.getTimeToLive());
+    byte[] writtenKey = createKey(sanitizeKeyspace(rdo.getKeyspace()), rdo.getId());
+    Class<?> entityClass = item instanceof RedisData ? indexer.getEntityClassForKeyspace(keyspace) : item.getClass();
+    Map<byte[], byte[]> rawMap = rdo.getBucket().rawMap();
+    HashDelta delta = null;
+    if (diffWrites) {
+      if (current == null) {
+        current = currentHash(writtenKey);
       }
+      delta = current.isEmpty() ? null : HashDelta.between(current, rawMap);
+    }
 
-      return null;
-    });
+    if (delta == null) {
+      execute("HMSET", writtenKey, () -> redisOperations.executePipelined((RedisCallback<Object>) connection -> {
+        connection.keyCommands().del(writtenKey);
+        connection.hashCommands().hMSet(writtenKey, rawMap);
+
+        if (willExpire(rdo)) {
+          connection.keyCommands().expire(writtenKey, rdo.getTimeToLive());
+        }
+
+        return null;
+      }));
+    } else {
+      execute("HSET", writtenKey, () -> redisOperations.executePipelined((RedisCallback<Object>) connection -> {
+        if (!delta.getChangedFields().isEmpty()) {
+          connection.hashCommands().hMSet(writtenKey, delta.getChangedFields());
+        }
+        if (!delta.getRemovedFields().isEmpty()) {
+          connection.hashCommands().hDel(writtenKey, delta.getRemovedFieldsArray());
+        }
+
+        if (willExpire(rdo)) {
+          connection.keyCommands().expire(writtenKey, rdo.getTimeToLive());
+        } else {
+          connection.keyCommands().persist(writtenKey);
+        }
+
+        return null;
+      }));
+    }
+    invalidateNearCache(writtenKey);
+    modulesOperations.invalidateSearchResults(entityClass);
 
     return item;
   }
 
+  /**
+   * Reads the hash currently stored at the key with {@code HGETALL}, empty if the key does not
+   * exist. The near-cache is not consulted: its entries are invalidated asynchronously and a
+   * delta computed against a stale one would leave fields behind.
+   */
+  private Map<byte[], byte[]> currentHash(byte[] key) {
+    Map<byte[], byte[]> current = execute("HGETALL", key, () -> redisOperations.execute(
+        (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(key)));
+    return current != null ? current : Collections.emptyMap();
+  }
+
   /*
    * (non-Javadoc)
    *
@@ -216,6 +306,9 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
    * org.springframework.data.keyvalue.core.KeyValueAdapter#get(java.lang.Object,
    * java.lang.String, java.lang.Class)
    */
+  @SuppressWarnings(
+    "unchecked"
+  )
   @Nullable
   @Override
   public <T> T get(Object id, String keyspace, Class<T> type) {
@@ -227,8 +320,21 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
 
     byte[] binId = createKey(stringKeyspace, stringId);
 
-    Map<byte[], byte[]> raw = redisOperations.execute((RedisCallback<Map<byte[], byte[]>>) connection -> connection
-        .hashCommands().hGetAll(binId));
+    Optional<EntityNearCache> maybeNearCache = nearCacheManager != null ?
+        nearCacheManager.getCacheFor(type) :
+        Optional.empty();
+    String nearCacheKey = maybeNearCache.isPresent() ? new String(binId) : null;
+    Map<byte[], byte[]> raw = maybeNearCache.map(c -> (Map<byte[], byte[]>) c.get(nearCacheKey, Map.class)).orElse(
+        null);
+    if (raw == null) {
+      long epoch = maybeNearCache.map(EntityNearCache::epoch).orElse(0L);
+      raw = execute("HGETALL", binId, () -> redisOperations.execute(
+          (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(binId)));
+      if (!CollectionUtils.isEmpty(raw)) {
+        Map<byte[], byte[]> loaded = raw;
+        maybeNearCache.ifPresent(c -> c.putIfCurrent(nearCacheKey, loaded, epoch));
+      }
+    }
 
     if (CollectionUtils.isEmpty(raw)) {
       return null;
@@ -238,7 +344,7 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
     data.setId(stringId);
     data.setKeyspace(stringKeyspace);
 
-    T entity = readTimeToLiveIfSet(binId, converter.read(type, data));
+    T entity = readTimeToLiveIfSet(binId, decode(type, data));
     if (entity != null) {
       String redisKey = new String(binId);
       // Use optimized method if we can get the persistent entity
@@ -289,6 +395,10 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
         }
       }
     }
+    if (nearCacheManager != null) {
+      nearCacheManager.clear(type);
+    }
+    modulesOperations.invalidateSearchResults(type);
   }
 
   /**
@@ -381,10 +491,12 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
 
       byte[] keyToDelete = createKey(stringKeyspace, stringId);
 
-      redisOperations.execute((RedisCallback<Void>) connection -> {
+      execute("UNLINK", keyToDelete, () -> redisOperations.execute((RedisCallback<Void>) connection -> {
         connection.keyCommands().unlink(keyToDelete);
         return null;
-      });
+      }));
+      invalidateNearCache(keyToDelete);
+      modulesOperations.invalidateSearchResults(type);
     }
 
     return o;
@@ -429,8 +541,10 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
   public boolean contains(Object id, String keyspace) {
     // Note: contains() doesn't have type parameter, so we can't resolve dynamic keyspace here
     // The caller should ensure the correct keyspace is passed
+    // a near-cache entry may outlive a delete whose invalidation is in flight, so the server is asked
+    String key = getKey(keyspace, asStringValue(id));
     Boolean exists = redisOperations.execute((RedisCallback<Boolean>) connection -> connection.keyCommands().exists(
-        toBytes(getKey(keyspace, asStringValue(id)))));
+        toBytes(key)));
 
     return exists != null && exists;
   }
@@ -491,6 +605,42 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
 
       return null;
     });
+    invalidateNearCache(redisKey);
+    modulesOperations.invalidateSearchResults(update.getTarget());
+  }
+
+  private <R> R execute(String command, byte[] key, Supplier<R> call) {
+    CommandListener listener = modulesOperations.commandListener();
+    String keyAsString = new String(key);
+    listener.commandStarted(command, keyAsString);
+    Throwable error = null;
+    try {
+      return call.get();
+    } catch (RuntimeException e) {
+      error = e;
+      throw e;
+    } finally {
+      listener.commandFinished(command, keyAsString, error);
+    }
+  }
+
+  private <T> T decode(Class<T> type, RedisData data) {
+    CommandListener listener = modulesOperations.commandListener();
+    long start = System.nanoTime();
+    try {
+      T entity = converter.read(type, data);
+      listener.documentsDecoded(type, 1, System.nanoTime() - start);
+      return entity;
+    } catch (RuntimeException e) {
+      listener.decodeFailed(type, e);
+      throw e;
+    }
+  }
+
+  private void invalidateNearCache(byte[] key) {
+    if (nearCacheManager != null) {
+      nearCacheManager.invalidate(new String(key));
+    }
   }
 
   private RedisUpdateObject fetchDeletePathsFromHash(RedisUpdateObject redisUpdateObject, String path,
@@ -522,26 +672,10 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
     }
 
     // For composite IDs used in @IdClass
-    if (value != null) {
-      // Get all persistent entities
-      for (RedisPersistentEntity<?> entity : converter.getMappingContext().getPersistentEntities()) {
-        // Find the entity that uses this ID class
-        IdClass idClassAnn = entity.getType().getAnnotation(IdClass.class);
-        if (idClassAnn != null && idClassAnn.value().equals(value.getClass())) {
-          // Found the entity that uses this ID class
-          BeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(value);
-          RedisEnhancedPersistentEntity<?> enhancedEntity = (RedisEnhancedPersistentEntity<?>) entity;
-
-          // Build composite key from ID properties in order
-          List<String> idParts = new ArrayList<>();
-          for (RedisPersistentProperty idProperty : enhancedEntity.getIdProperties()) {
-            Object propertyValue = wrapper.getPropertyValue(idProperty.getName());
-            if (propertyValue != null) {
-              idParts.add(propertyValue.toString());
-            }
-          }
-          return String.join(":", idParts);
-        }
+    if (value != null && converter.getMappingContext() instanceof RedisEnhancedMappingContext enhancedContext) {
+      CompositeIdCodec codec = enhancedContext.getCompositeIdCodec(value.getClass());
+      if (codec != null) {
+        return codec.keyForId(value);
       }
     }
 
@@ -555,17 +689,7 @@ public class RedisEnhancedKeyValueAdapter extends RedisKeyValueAdapter {
 
     // Handle composite IDs
     if (entity.isIdClassComposite()) {
-      BeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(item);
-      List<String> idParts = new ArrayList<>();
-
-      for (RedisPersistentProperty idProperty : entity.getIdProperties()) {
-        Object propertyValue = wrapper.getPropertyValue(idProperty.getName());
-        if (propertyValue != null) {
-          idParts.add(propertyValue.toString());
-        }
-      }
-
-      return String.join(":", idParts);
+      return entity.getCompositeKey(item);
     } else {
       // Regular single ID handling
       return converter.getConversionService().convert(id, String.class);
@@ -26,27 +26,34 @@ import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
 import org.springframework.data.redis.core.convert.RedisCustomConversions;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
-import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
-import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import com.redis.om.spring.audit.EntityAuditor;
+import com.redis.om.spring.cache.DocumentSnapshots;
+import com.redis.om.spring.cache.EntityNearCache;
+import com.redis.om.spring.cache.NearCacheManager;
 import com.redis.om.spring.convert.RedisOMCustomConversions;
 import com.redis.om.spring.id.IdentifierFilter;
 import com.redis.om.spring.indexing.RediSearchIndexer;
+import com.redis.om.spring.mapping.CompositeIdCodec;
+import com.redis.om.spring.mapping.RedisEnhancedMappingContext;
 import com.redis.om.spring.mapping.RedisEnhancedPersistentEntity;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.json.JSONOperations;
+import com.redis.om.spring.ops.json.JsonMergePatch;
 import com.redis.om.spring.ops.search.SearchOperations;
+import com.redis.om.spring.serialization.gson.LazyReferenceProxy;
+import com.redis.om.spring.serialization.gson.LazyReferenceScope;
 import com.redis.om.spring.util.ObjectUtils;
 import com.redis.om.spring.vectorize.Embedder;
 
-import jakarta.persistence.IdClass;
 import redis.clients.jedis.json.Path2;
 import redis.clients.jedis.search.Document;
 import redis.clients.jedis.search.Query;
@@ -91,6 +98,11 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
   private final EntityAuditor auditor;
   private final Embedder embedder;
   private final RedisOMProperties redisOMProperties;
+  @Nullable
+  private final NearCacheManager nearCacheManager;
+  @Nullable
+  private final DocumentSnapshots documentSnapshots;
+  private Gson gson;
 
   /**
    * Creates new {@link RedisJSONKeyValueAdapter} with default
@@ -104,6 +116,32 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
    * @param embedder          the embedder for processing entity embeddings, must not be {@literal null}.
    * @param redisOMProperties the Redis OM configuration properties, must not be {@literal null}.
    */
+  public RedisJSONKeyValueAdapter( //
+      RedisOperations<?, ?> redisOps, //
+      RedisModulesOperations<?> rmo, //
+      @Qualifier(
+        "redisEnhancedMappingContext"
+      ) RedisMappingContext mappingContext, //
+      RediSearchIndexer indexer, //
+      GsonBuilder gsonBuilder, //
+      Embedder embedder, //
+      RedisOMProperties redisOMProperties) {
+    this(redisOps, rmo, mappingContext, indexer, gsonBuilder, embedder, redisOMProperties, null);
+  }
+
+  /**
+   * Creates new {@link RedisJSONKeyValueAdapter} with default
+   * {@link RedisCustomConversions} and an optional near-cache for by-id lookups.
+   *
+   * @param redisOps          must not be {@literal null}.
+   * @param rmo               must not be {@literal null}.
+   * @param mappingContext    must not be {@literal null}.
+   * @param indexer           must not be {@literal null}.
+   * @param gsonBuilder       the GSON builder for JSON serialization, must not be {@literal null}.
+   * @param embedder          the embedder for processing entity embeddings, must not be {@literal null}.
+   * @param redisOMProperties the Redis OM configuration properties, must not be {@literal null}.
+   * @param nearCacheManager  the near-cache manager, can be {@literal null} to disable near-caching.
+   */
   @SuppressWarnings(
     "unchecked"
   )
@@ -116,7 +154,8 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
       RediSearchIndexer indexer, //
       GsonBuilder gsonBuilder, //
       Embedder embedder, //
-      RedisOMProperties redisOMProperties) {
+      RedisOMProperties redisOMProperties, //
+      @Nullable NearCacheManager nearCacheManager) {
     super(redisOps, mappingContext, new RedisOMCustomConversions());
     this.modulesOperations = (RedisModulesOperations<String>) rmo;
     this.redisJSONOperations = modulesOperations.opsForJSON();
@@ -127,6 +166,34 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     this.gsonBuilder = gsonBuilder;
     this.embedder = embedder;
     this.redisOMProperties = redisOMProperties;
+    this.nearCacheManager = nearCacheManager;
+    this.documentSnapshots = redisOMProperties != null && redisOMProperties.getRepository().isDiffJsonWrites() ?
+        new DocumentSnapshots(redisOMProperties.getRepository().getDiffJsonWritesMaxSnapshots()) :
+        null;
+    if (nearCacheManager != null || documentSnapshots != null) {
+      modulesOperations.keyInvalidations().register(this::invalidateNearCache);
+    }
+  }
+
+  /**
+   * Returns the near-cache manager used for by-id lookups.
+   *
+   * @return the near-cache manager, or {@literal null} if near-caching is disabled
+   */
+  @Nullable
+  public NearCacheManager getNearCacheManager() {
+    return nearCacheManager;
+  }
+
+  /**
+   * Returns the document snapshots used for diff-based JSON writes.
+   *
+   * @return the snapshots, or {@literal null} if diff-based JSON writes are disabled
+   * @since 2.0.5
+   */
+  @Nullable
+  public DocumentSnapshots getDocumentSnapshots() {
+    return documentSnapshots;
   }
 
   /*
@@ -149,12 +216,24 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     String resolvedKeyspace = resolveDynamicKeyspace(item.getClass(), keyspace);
     String key = createKeyAsString(resolvedKeyspace, stringId);
 
-    processVersion(key, item);
-    auditor.processEntity(key, item);
+    Number loadedVersion = documentSnapshots != null ? getVersion(item) : null;
+    // the version read tells whether a versioned document exists; for any other document the auditor
+    // asks the server, since a near-cache entry may outlive a delete whose invalidation is in flight
+    Boolean existed = processVersion(key, item);
+    if (existed != null) {
+      auditor.processEntity(item, !existed);
+    } else {
+      auditor.processEntity(key, item);
+    }
     embedder.processEntity(item);
     Optional<Long> maybeTtl = getTTLForEntity(item);
 
-    ops.set(key, item);
+    String writtenJson = null;
+    if (documentSnapshots != null) {
+      writtenJson = writeDocument(ops, key, item, loadedVersion);
+    } else {
+      ops.set(key, item);
+    }
     processReferences(key, item);
 
     redisOperations.execute((RedisCallback<Object>) connection -> {
@@ -164,10 +243,66 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
       });
       return null;
     });
+    invalidateNearCache(key);
+    modulesOperations.invalidateSearchResults(item.getClass());
+    Number savedVersion = writtenJson != null ? getVersion(item) : null;
+    if (savedVersion != null) {
+      documentSnapshots.put(key, savedVersion, writtenJson);
+    }
 
     return item;
   }
 
+  /**
+   * Writes the document as a {@code JSON.MERGE} patch against its current content if that is known
+   * and the patch is smaller than the document, and in full with {@code JSON.SET} otherwise.
+   *
+   * @return the JSON document that is now stored
+   */
+  private String writeDocument(JSONOperations<String> ops, String key, Object item, @Nullable Number loadedVersion) {
+    String json = getGson().toJson(item);
+    String current = currentDocument(key, loadedVersion);
+    JsonObject patch = current != null ?
+        JsonMergePatch.diff(JsonParser.parseString(current), JsonParser.parseString(json)) :
+        null;
+    if (patch == null) {
+      ops.set(key, item);
+    } else if (!patch.isEmpty()) {
+      String patchJson = patch.toString();
+      if (patchJson.length() < json.length()) {
+        ops.merge(key, patch, Path2.ROOT_PATH);
+      } else {
+        ops.set(key, item);
+      }
+    }
+    return json;
+  }
+
+  /**
+   * Returns the snapshot recorded for the version the entity was loaded with, which the version
+   * check of this save has confirmed to be the stored document. The near-cache is not used: its
+   * entries are invalidated asynchronously, and a patch computed against a stale one would be
+   * merged into a document that has changed since.
+   */
+  @Nullable
+  private String currentDocument(String key, @Nullable Number loadedVersion) {
+    return loadedVersion != null ? documentSnapshots.get(key, loadedVersion) : null;
+  }
+
+  /**
+   * Returns the value of the entity's {@code @Version} property, or {@code null} if it has none or
+   * it is not set.
+   */
+  @Nullable
+  private Number getVersion(Object item) {
+    List<Field> fields = ObjectUtils.getFieldsWithAnnotation(item.getClass(), Version.class);
+    if (fields.size() == 1) {
+      Object version = new BeanWrapperImpl(item).getPropertyValue(fields.get(0).getName());
+      return version instanceof Number number ? number : null;
+    }
+    return null;
+  }
+
   /*
    * (non-Javadoc)
    *
@@ -201,7 +336,27 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     @SuppressWarnings(
       "unchecked"
     ) JSONOperations<String> ops = (JSONOperations<String>) redisJSONOperations;
-    T entity = ops.get(key, type);
+    Optional<EntityNearCache> maybeNearCache = nearCacheManager != null ?
+        nearCacheManager.getCacheFor(type) :
+        Optional.empty();
+    T entity;
+    if (maybeNearCache.isPresent()) {
+      EntityNearCache nearCache = maybeNearCache.get();
+      String json = nearCache.get(key, String.class);
+      if (json == null) {
+        long epoch = nearCache.epoch();
+        json = ops.get(key);
+        nearCache.putIfCurrent(key, json, epoch);
+      }
+      entity = json != null ? getGson().fromJson(json, type) : null;
+      recordSnapshot(key, json, entity);
+    } else if (documentSnapshots != null && !ObjectUtils.getFieldsWithAnnotation(type, Version.class).isEmpty()) {
+      String json = ops.get(key);
+      entity = json != null ? getGson().fromJson(json, type) : null;
+      recordSnapshot(key, json, entity);
+    } else {
+      entity = ops.get(key, type);
+    }
     if (entity != null) {
       // Use optimized method if we can get the persistent entity
       RedisPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(type);
@@ -242,14 +397,14 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     RedisPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(type);
     boolean useOptimized = persistentEntity instanceof RedisEnhancedPersistentEntity;
 
-    return searchResult.getDocuments().stream().map(d -> {
+    return LazyReferenceScope.with(() -> searchResult.getDocuments().stream().map(d -> {
       T entity = gson.fromJson(SafeEncoder.encode((byte[]) d.get("$")), type);
       if (useOptimized) {
         return ((RedisEnhancedPersistentEntity<?>) persistentEntity).populateRedisKey(entity, d.getId());
       } else {
         return ObjectUtils.populateRedisKey(entity, d.getId());
       }
-    }).toList();
+    }).toList());
   }
 
   /**
@@ -298,6 +453,8 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     if (entity != null) {
       String key = createKeyAsString(resolvedKeyspace, stringId);
       ops.del(key, Path2.ROOT_PATH);
+      invalidateNearCache(key);
+      modulesOperations.invalidateSearchResults(type);
     }
 
     return entity;
@@ -339,6 +496,13 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
         }
       }
     }
+    if (documentSnapshots != null) {
+      documentSnapshots.clear();
+    }
+    if (nearCacheManager != null) {
+      nearCacheManager.clear(type);
+    }
+    modulesOperations.invalidateSearchResults(type);
   }
 
   /*
@@ -378,8 +542,10 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
    */
   @Override
   public boolean contains(Object id, String keyspace) {
+    // a near-cache entry may outlive a delete whose invalidation is in flight, so the server is asked
+    String key = createKeyAsString(keyspace, id);
     Boolean exists = redisOperations.execute((RedisCallback<Boolean>) connection -> connection.keyCommands().exists(
-        toBytes(createKeyAsString(keyspace, id))));
+        toBytes(key)));
 
     return exists != null && exists;
   }
@@ -395,7 +561,14 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
       fields.forEach(f -> {
         var referencedValue = accessor.getPropertyValue(f.getName());
         if (referencedValue != null) {
-          if (referencedValue instanceof Collection<?> referenceValues) {
+          if (referencedValue instanceof LazyReferenceProxy lazy && !lazy.lazyReferenceResolved()) {
+            // keep the keys of references that were never loaded
+            if (referencedValue instanceof Collection<?>) {
+              ops.set(key, lazy.lazyReferenceKeys(), Path2.of("$." + f.getName()));
+            } else {
+              ops.set(key, lazy.lazyReferenceKeys().get(0), Path2.of("$." + f.getName()));
+            }
+          } else if (referencedValue instanceof Collection<?> referenceValues) {
             List<String> referenceKeys = new ArrayList<>();
             referenceValues.forEach(r -> {
               Object id = ObjectUtils.getIdFieldForEntity(r);
@@ -417,7 +590,32 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     }
   }
 
-  private void processVersion(String key, Object item) {
+  private void invalidateNearCache(String key) {
+    if (nearCacheManager != null) {
+      nearCacheManager.invalidate(key);
+    }
+    if (documentSnapshots != null) {
+      documentSnapshots.invalidate(key);
+    }
+  }
+
+  private void recordSnapshot(String key, @Nullable String json, @Nullable Object entity) {
+    if (documentSnapshots != null && json != null && entity != null) {
+      Number version = getVersion(entity);
+      if (version != null) {
+        documentSnapshots.put(key, version, json);
+      }
+    }
+  }
+
+  /**
+   * Checks the entity's {@code @Version} against the stored one and increments it.
+   *
+   * @return whether the document existed, as learned from reading its stored version, or
+   *         {@code null} if the entity is not versioned
+   */
+  @Nullable
+  private Boolean processVersion(String key, Object item) {
     List<Field> fields = ObjectUtils.getFieldsWithAnnotation(item.getClass(), Version.class);
     if (fields.size() == 1) {
       BeanWrapper wrapper = new BeanWrapperImpl(item);
@@ -427,7 +625,8 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
           Integer.class)) || (versionField.getType() == Long.class || isPrimitiveOfType(versionField.getType(),
               Long.class))) {
         Number version = (Number) wrapper.getPropertyValue(property);
-        Number dbVersion = getEntityVersion(key, property);
+        Long[] dbVersions = getEntityVersions(key, property);
+        Number dbVersion = dbVersions != null ? dbVersions[0] : null;
 
         if (dbVersion != null && version != null && dbVersion.longValue() != version.longValue()) {
           throw new OptimisticLockingFailureException(String.format(
@@ -446,8 +645,10 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
             }
           }
         }
+        return dbVersions != null;
       }
     }
+    return null;
   }
 
   private Optional<Long> getTTLForEntity(Object entity) {
@@ -500,12 +701,11 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
   @SuppressWarnings(
     "unchecked"
   )
-  private Number getEntityVersion(String key, String versionProperty) {
+  private Long[] getEntityVersions(String key, String versionProperty) {
     JSONOperations<String> ops = (JSONOperations<String>) redisJSONOperations;
     Class<?> type = new TypeToken<Long[]>() {
     }.getRawType();
-    Long[] dbVersionArray = (Long[]) ops.get(key, type, Path2.of("$." + versionProperty));
-    return dbVersionArray != null ? dbVersionArray[0] : null;
+    return (Long[]) ops.get(key, type, Path2.of("$." + versionProperty));
   }
 
   /**
@@ -559,17 +759,7 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
 
     // Handle composite IDs
     if (entity.isIdClassComposite()) {
-      BeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(item);
-      List<String> idParts = new ArrayList<>();
-
-      for (RedisPersistentProperty idProperty : entity.getIdProperties()) {
-        Object propertyValue = wrapper.getPropertyValue(idProperty.getName());
-        if (propertyValue != null) {
-          idParts.add(propertyValue.toString());
-        }
-      }
-
-      return String.join(":", idParts);
+      return entity.getCompositeKey(item);
     } else {
       // Regular single ID handling
       return getConverter().getConversionService().convert(id, String.class);
@@ -578,29 +768,25 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
 
   private String asStringValue(Object value) {
     // For composite IDs used in @IdClass
-    if (value != null) {
-      // Get all persistent entities
-      for (RedisPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
-        // Find the entity that uses this ID class
-        IdClass idClassAnn = entity.getType().getAnnotation(IdClass.class);
-        if (idClassAnn != null && idClassAnn.value().equals(value.getClass())) {
-          // Found the entity that uses this ID class
-          BeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(value);
-          RedisEnhancedPersistentEntity<?> enhancedEntity = (RedisEnhancedPersistentEntity<?>) entity;
-
-          // Build composite key from ID properties in order
-          List<String> idParts = new ArrayList<>();
-          for (RedisPersistentProperty idProperty : enhancedEntity.getIdProperties()) {
-            Object propertyValue = wrapper.getPropertyValue(idProperty.getName());
-            if (propertyValue != null) {
-              idParts.add(propertyValue.toString());
-            }
-          }
-          return String.join(":", idParts);
-        }
+    if (value != null && mappingContext instanceof RedisEnhancedMappingContext enhancedContext) {
+      CompositeIdCodec codec = enhancedContext.getCompositeIdCodec(value.getClass());
+      if (codec != null) {
+        return codec.keyForId(value);
       }
     }
 
     return getConverter().getConversionService().convert(value, String.class);
   }
+
+  /**
+   * Gets the Gson instance, creating it lazily if needed.
+   *
+   * @return the Gson instance for JSON serialization/deserialization
+   */
+  private Gson getGson() {
+    if (gson == null) {
+      gson = gsonBuilder.create();
+    }
+    return gson;
+  }
 }
@@ -5,7 +5,6 @@ import static com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively
 import static com.redis.om.spring.util.ObjectUtils.getRepositoryInterfacesWithIndexingOptions;
 import static com.redis.om.spring.util.ObjectUtils.resolveEntityTypeFromRepository;
 
-import java.time.*;
 import java.util.*;
 
 import org.apache.commons.lang3.ObjectUtils;
@@ -23,7 +22,6 @@ import org.springframework.context.annotation.*;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.env.Environment;
-import org.springframework.data.geo.Point;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisClientConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
@@ -36,13 +34,17 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
-import com.github.f4b6a3.ulid.Ulid;
 import com.google.gson.GsonBuilder;
 import com.redis.om.spring.annotations.Bloom;
 import com.redis.om.spring.annotations.Cuckoo;
 import com.redis.om.spring.annotations.Document;
 import com.redis.om.spring.annotations.IndexingOptions;
+import com.redis.om.spring.cache.NearCacheManager;
+import com.redis.om.spring.cache.SearchResultCache;
 import com.redis.om.spring.client.RedisModulesClient;
+import com.redis.om.spring.convert.RedisOMCustomConversions;
+import com.redis.om.spring.id.IdSequenceGenerator;
+import com.redis.om.spring.id.ULIDIdentifierGenerator;
 import com.redis.om.spring.indexing.RediSearchIndexer;
 import com.redis.om.spring.mapping.RedisEnhancedMappingContext;
 import com.redis.om.spring.ops.CommandListener;
@@ -52,6 +54,7 @@ import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.ops.pds.BloomOperations;
 import com.redis.om.spring.ops.pds.CountMinSketchOperations;
 import com.redis.om.spring.ops.pds.CuckooFilterOperations;
+import com.redis.om.spring.ops.search.SlowQueryLog;
 import com.redis.om.spring.repository.RedisDocumentRepository;
 import com.redis.om.spring.repository.RedisEnhancedRepository;
 import com.redis.om.spring.search.stream.EntityStream;
@@ -225,20 +228,16 @@ public class RedisModulesConfiguration {
     // Enable the spring.gson.* configuration in the configuration file
     customizers.forEach(c -> c.customize(builder));
 
-    builder.registerTypeAdapter(Point.class, PointTypeAdapter.getInstance());
-    builder.registerTypeAdapter(Date.class, DateTypeAdapter.getInstance());
-    builder.registerTypeAdapter(LocalDate.class, LocalDateTypeAdapter.getInstance());
-    builder.registerTypeAdapter(LocalDateTime.class, LocalDateTimeTypeAdapter.getInstance());
-    builder.registerTypeAdapter(Ulid.class, UlidTypeAdapter.getInstance());
-    builder.registerTypeAdapter(Instant.class, InstantTypeAdapter.getInstance());
-    builder.registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeTypeAdapter());
-    builder.registerTypeAdapter(YearMonth.class, new YearMonthTypeAdapter());
+    GsonTypeAdapters.registerDefaults(builder);
 
     builder.addSerializationExclusionStrategy(GsonReferencesSerializationExclusionStrategy.INSTANCE);
 
     // Register factory for handling Boolean values in Maps (must be after type adapters)
     builder.registerTypeAdapterFactory(MapBooleanTypeAdapterFactory.getInstance());
 
+    // Store @BinaryFormat and BinaryValue fields in their binary format
+    builder.registerTypeAdapterFactory(BinaryFormatTypeAdapterFactory.getInstance());
+
     return builder;
   }
 
@@ -292,7 +291,9 @@ public class RedisModulesConfiguration {
    * @param rmc             the Redis modules client for low-level access
    * @param template        the string Redis template for basic operations
    * @param gsonBuilder     the Gson builder for JSON serialization
-   * @param commandListener a command listener for monitoring Redis commands
+   * @param commandListener   a command listener for monitoring Redis commands
+   * @param searchResultCache the cache for search and aggregation results
+   * @param slowQueryLog      the log of slow searches
    * @return the Redis modules operations instance
    */
   @Bean(
@@ -306,8 +307,42 @@ public class RedisModulesConfiguration {
       StringRedisTemplate template, //
       @Qualifier(
         "omGsonBuilder"
-      ) GsonBuilder gsonBuilder, final CommandListener commandListener) {
-    return new RedisModulesOperations<>(rmc, template, gsonBuilder, commandListener);
+      ) GsonBuilder gsonBuilder, final CommandListener commandListener, //
+      SearchResultCache searchResultCache, //
+      SlowQueryLog slowQueryLog) {
+    return new RedisModulesOperations<>(rmc, template, gsonBuilder, commandListener, searchResultCache,
+        slowQueryLog);
+  }
+
+  /**
+   * Creates the cache for search and aggregation results.
+   * <p>
+   * The cache is inert unless {@code redis.om.spring.search-cache.enabled} is set.
+   *
+   * @param properties the Redis OM configuration properties
+   * @return the search result cache
+   */
+  @Bean(
+      name = "redisOMSearchResultCache"
+  )
+  public SearchResultCache searchResultCache(RedisOMProperties properties) {
+    return new SearchResultCache(properties);
+  }
+
+  /**
+   * Creates the log of slow repository and entity stream queries.
+   * <p>
+   * The log is inert unless {@code redis.om.spring.slow-query-log.enabled} is set.
+   *
+   * @param properties the Redis OM configuration properties
+   * @param client     the Redis modules client, used to profile sampled slow queries
+   * @return the slow-query log
+   */
+  @Bean(
+      name = "redisOMSlowQueryLog"
+  )
+  public SlowQueryLog slowQueryLog(RedisOMProperties properties, RedisModulesClient client) {
+    return new SlowQueryLog(properties, client);
   }
 
   /**
@@ -450,6 +485,28 @@ public class RedisModulesConfiguration {
         mappingContext);
   }
 
+  /**
+   * Creates the near-cache manager backing by-id lookups of entities annotated with
+   * {@link com.redis.om.spring.annotations.NearCache} or listed in
+   * {@code redis.om.spring.near-cache.entity-classes}.
+   * <p>
+   * Caches are created lazily, so applications that do not opt any entity in never open the
+   * dedicated tracking connections.
+   *
+   * @param properties the Redis OM configuration properties
+   * @param client     the Redis modules client used to open the tracking connections
+   * @param indexer    the search indexer used to resolve entity keyspaces
+   * @return the near-cache manager
+   */
+  @Bean(
+      name = "redisOMNearCacheManager"
+  )
+  public NearCacheManager nearCacheManager(RedisOMProperties properties, //
+      RedisModulesClient client, //
+      RediSearchIndexer indexer) {
+    return new NearCacheManager(properties, client, indexer);
+  }
+
   /**
    * Creates the Redis JSON key-value adapter for JSON document persistence.
    * <p>
@@ -464,6 +521,7 @@ public class RedisModulesConfiguration {
    * @param gsonBuilder            the Gson builder for JSON serialization
    * @param properties             the Redis OM configuration properties
    * @param embedder               optional embedder for vector generation
+   * @param nearCacheManager       the near-cache manager for by-id lookups
    * @return the configured JSON key-value adapter
    */
   @Bean(
@@ -482,9 +540,10 @@ public class RedisModulesConfiguration {
       RedisOMProperties properties, //
       @Nullable @Qualifier(
         "featureExtractor"
-      ) Embedder embedder) {
+      ) Embedder embedder, //
+      NearCacheManager nearCacheManager) {
     return new RedisJSONKeyValueAdapter(redisOps, redisModulesOperations, mappingContext, indexer, gsonBuilder,
-        embedder, properties);
+        embedder, properties, nearCacheManager);
   }
 
   /**
@@ -501,6 +560,7 @@ public class RedisModulesConfiguration {
    * @param gsonBuilder            the Gson builder for JSON serialization
    * @param properties             the Redis OM configuration properties
    * @param embedder               optional embedder for vector generation
+   * @param nearCacheManager       the near-cache manager for by-id lookups
    * @return the configured JSON key-value template
    */
   @Bean(
@@ -519,9 +579,11 @@ public class RedisModulesConfiguration {
       RedisOMProperties properties, //
       @Nullable @Qualifier(
         "featureExtractor"
-      ) Embedder embedder) {
+      ) Embedder embedder, //
+      NearCacheManager nearCacheManager) {
     return new CustomRedisKeyValueTemplate(new RedisJSONKeyValueAdapter(redisOps, redisModulesOperations,
-        mappingContext, indexer, gsonBuilder, embedder, properties), mappingContext);
+        mappingContext, indexer, gsonBuilder, embedder, properties, nearCacheManager), mappingContext,
+        identifierGenerator(properties), new IdSequenceGenerator(redisModulesOperations.template()));
   }
 
   /**
@@ -537,6 +599,7 @@ public class RedisModulesConfiguration {
    * @param indexer                the search indexer for creating indexes
    * @param properties             the Redis OM configuration properties
    * @param embedder               optional embedder for vector generation
+   * @param nearCacheManager       the near-cache manager for by-id lookups
    * @return the configured enhanced key-value template
    */
   @Bean(
@@ -552,10 +615,19 @@ public class RedisModulesConfiguration {
       RedisOMProperties properties, //
       @Nullable @Qualifier(
         "featureExtractor"
-      ) Embedder embedder) {
+      ) Embedder embedder, //
+      NearCacheManager nearCacheManager) {
     return new CustomRedisKeyValueTemplate(new RedisEnhancedKeyValueAdapter(redisOps, redisModulesOperations,
-        mappingContext, indexer, embedder, properties), //
-        mappingContext);
+        mappingContext, new RedisOMCustomConversions(), indexer, embedder, properties, nearCacheManager), //
+        mappingContext, //
+        identifierGenerator(properties), //
+        new IdSequenceGenerator(redisModulesOperations.template()));
+  }
+
+  private static ULIDIdentifierGenerator identifierGenerator(RedisOMProperties properties) {
+    return properties.getRepository().isPerThreadUlids() ?
+        ULIDIdentifierGenerator.PER_THREAD :
+        ULIDIdentifierGenerator.INSTANCE;
   }
 
   /**
@@ -0,0 +1,49 @@
+package com.redis.om.spring;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.redis.om.spring.actuate.SlowQueriesEndpoint;
+import com.redis.om.spring.ops.search.SlowQueryLog;
+
+/**
+ * Auto-configuration of the Redis OM actuator endpoints.
+ * <p>
+ * Registers the {@link SlowQueriesEndpoint} when Spring Boot actuator is on the classpath. Like
+ * every actuator endpoint it still has to be exposed, e.g. with
+ * {@code management.endpoints.web.exposure.include=redisomqueries}.
+ * </p>
+ *
+ * @since 2.0.5
+ */
+@Configuration(
+    proxyBeanMethods = false
+)
+@AutoConfigureAfter(
+  RedisModulesConfiguration.class
+)
+@ConditionalOnClass(
+  Endpoint.class
+)
+public class RedisOMEndpointConfiguration {
+
+  /**
+   * Creates the endpoint exposing the slow-query log.
+   *
+   * @param slowQueryLog the slow-query log
+   * @return the endpoint
+   */
+  @Bean
+  @ConditionalOnBean(
+    SlowQueryLog.class
+  )
+  @ConditionalOnMissingBean
+  public SlowQueriesEndpoint redisOMSlowQueriesEndpoint(SlowQueryLog slowQueryLog) {
+    return new SlowQueriesEndpoint(slowQueryLog);
+  }
+}
@@ -0,0 +1,67 @@
+package com.redis.om.spring;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.redis.om.spring.ops.CommandListener;
+import com.redis.om.spring.ops.MicrometerCommandListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Auto-configuration of Micrometer metrics and observations for Redis OM operations.
+ * <p>
+ * When {@code redis.om.spring.metrics.enabled=true}, Micrometer is on the classpath and no other
+ * {@link CommandListener} bean is defined, a {@link MicrometerCommandListener} replaces the no-op
+ * listener. It records into the application's
+ * {@link MeterRegistry} (the global registry if there is none) and, when Spring Boot actuator
+ * provides an {@link ObservationRegistry}, through it so that tracing handlers see the same
+ * operations. The metrics are then available under {@code /actuator/metrics/redis.om.*}.
+ * </p>
+ * <p>
+ * Instrumentation is opt-in, as it adds a timer per command. Timers publish no percentile
+ * histograms unless configured to through a {@link io.micrometer.core.instrument.config.MeterFilter}.
+ * </p>
+ *
+ * @since 2.0.5
+ */
+@Configuration(
+    proxyBeanMethods = false
+)
+@AutoConfigureBefore(
+  RedisModulesConfiguration.class
+)
+@ConditionalOnClass(
+  MeterRegistry.class
+)
+@ConditionalOnProperty(
+    name = "redis.om.spring.metrics.enabled", havingValue = "true"
+)
+public class RedisOMMetricsConfiguration {
+
+  /**
+   * Creates the Micrometer-backed command listener.
+   *
+   * @param meterRegistry       the application meter registry, if any
+   * @param observationRegistry the application observation registry, if any
+   * @return the command listener
+   */
+  @Bean(
+      name = "redisOMMicrometerCommandListener"
+  )
+  @ConditionalOnMissingBean(
+    CommandListener.class
+  )
+  public CommandListener micrometerCommandListener(ObjectProvider<MeterRegistry> meterRegistry,
+      ObjectProvider<ObservationRegistry> observationRegistry) {
+    return new MicrometerCommandListener(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+        observationRegistry.getIfAvailable());
+  }
+}
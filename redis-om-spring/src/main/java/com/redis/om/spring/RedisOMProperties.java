@@ -1,5 +1,6 @@
 package com.redis.om.spring;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -82,6 +83,21 @@ public class RedisOMProperties {
    */
   private final References references = new References();
 
+  /**
+   * Near-cache configuration settings.
+   */
+  private final NearCache nearCache = new NearCache();
+
+  /**
+   * Search result cache configuration settings.
+   */
+  private final SearchCache searchCache = new SearchCache();
+
+  /**
+   * Slow-query log configuration settings.
+   */
+  private final SlowQueryLog slowQueryLog = new SlowQueryLog();
+
   // Entra ID Authentication
   /**
    * Authentication configuration settings.
@@ -115,6 +131,33 @@ public class RedisOMProperties {
     return references;
   }
 
+  /**
+   * Gets the near-cache configuration.
+   *
+   * @return the near-cache configuration
+   */
+  public NearCache getNearCache() {
+    return nearCache;
+  }
+
+  /**
+   * Gets the search result cache configuration.
+   *
+   * @return the search result cache configuration
+   */
+  public SearchCache getSearchCache() {
+    return searchCache;
+  }
+
+  /**
+   * Gets the slow-query log configuration.
+   *
+   * @return the slow-query log configuration
+   */
+  public SlowQueryLog getSlowQueryLog() {
+    return slowQueryLog;
+  }
+
   /**
    * Configuration properties for authentication settings.
    * <p>
@@ -250,6 +293,38 @@ public class RedisOMProperties {
      */
     private boolean throwOnSaveAllFailure = false;
 
+    /**
+     * Whether saving a hash entity that already exists only writes the fields that changed.
+     * When false (default), the key is deleted and every field is rewritten.
+     * When true, the stored hash is compared with the mapped entity and only the changed fields
+     * are set and the removed fields deleted, which reduces write traffic and reindexing for wide
+     * hashes at the cost of reading the stored hash first.
+     */
+    private boolean diffHashWrites = false;
+
+    /**
+     * Whether saving a JSON document that already exists only sends the changed subtrees.
+     * When false (default), the whole document is written with {@code JSON.SET}.
+     * When true, a {@code @Version}ed entity loaded by id is diffed against the snapshot recorded
+     * when it was loaded, and the difference is applied as a {@code JSON.MERGE} patch. Entities
+     * without a confirmed version are written in full.
+     */
+    private boolean diffJsonWrites = false;
+
+    /**
+     * The maximum number of document snapshots kept for diff-based JSON writes.
+     */
+    private int diffJsonWritesMaxSnapshots = 1_000;
+
+    /**
+     * Whether ULID and random numeric ids are generated by a generator per thread.
+     * When false (default), all ids come from one monotonic ULID factory and one shared random
+     * source, so ULIDs increase strictly across threads. When true, each thread has its own, so
+     * ULIDs increase strictly per thread and are ordered by millisecond across threads, and
+     * concurrent saves do not contend on id generation.
+     */
+    private boolean perThreadUlids = false;
+
     /**
      * Default constructor for Repository configuration.
      */
@@ -322,6 +397,90 @@ public class RedisOMProperties {
       this.throwOnSaveAllFailure = throwOnSaveAllFailure;
     }
 
+    /**
+     * Checks if saves of existing hash entities only write the changed fields.
+     *
+     * @return {@code true} if hash writes are diffed against the stored hash, {@code false} if
+     *         the hash is rewritten
+     * @since 2.0.5
+     */
+    public boolean isDiffHashWrites() {
+      return diffHashWrites;
+    }
+
+    /**
+     * Sets whether saves of existing hash entities only write the changed fields.
+     *
+     * @param diffHashWrites {@code true} to diff hash writes against the stored hash,
+     *                       {@code false} to rewrite the hash
+     * @since 2.0.5
+     */
+    public void setDiffHashWrites(boolean diffHashWrites) {
+      this.diffHashWrites = diffHashWrites;
+    }
+
+    /**
+     * Checks if saves of existing JSON documents only send the changed subtrees.
+     *
+     * @return {@code true} if JSON writes are diffed and sent as merge patches, {@code false} if
+     *         documents are rewritten
+     * @since 2.0.5
+     */
+    public boolean isDiffJsonWrites() {
+      return diffJsonWrites;
+    }
+
+    /**
+     * Sets whether saves of existing JSON documents only send the changed subtrees.
+     *
+     * @param diffJsonWrites {@code true} to send merge patches, {@code false} to rewrite documents
+     * @since 2.0.5
+     */
+    public void setDiffJsonWrites(boolean diffJsonWrites) {
+      this.diffJsonWrites = diffJsonWrites;
+    }
+
+    /**
+     * Gets the maximum number of document snapshots kept for diff-based JSON writes.
+     *
+     * @return the maximum number of snapshots
+     * @since 2.0.5
+     */
+    public int getDiffJsonWritesMaxSnapshots() {
+      return diffJsonWritesMaxSnapshots;
+    }
+
+    /**
+     * Sets the maximum number of document snapshots kept for diff-based JSON writes.
+     *
+     * @param diffJsonWritesMaxSnapshots the maximum number of snapshots
+     * @since 2.0.5
+     */
+    public void setDiffJsonWritesMaxSnapshots(int diffJsonWritesMaxSnapshots) {
+      this.diffJsonWritesMaxSnapshots = diffJsonWritesMaxSnapshots;
+    }
+
+    /**
+     * Checks if ids are generated by a generator per thread.
+     *
+     * @return {@code true} if each thread generates ULIDs and random ids on its own, {@code false}
+     *         if all threads share one generator
+     * @since 2.0.5
+     */
+    public boolean isPerThreadUlids() {
+      return perThreadUlids;
+    }
+
+    /**
+     * Sets whether ids are generated by a generator per thread.
+     *
+     * @param perThreadUlids {@code true} to generate ULIDs and random ids per thread
+     * @since 2.0.5
+     */
+    public void setPerThreadUlids(boolean perThreadUlids) {
+      this.perThreadUlids = perThreadUlids;
+    }
+
     /**
      * Configuration properties for query behavior.
      * <p>
@@ -345,6 +504,11 @@ public class RedisOMProperties {
        */
       private Metrics defaultDistanceMetric = DEFAULT_DISTANCE_METRIC;
 
+      /**
+       * The number of sorted set members read per request by lexicographic range queries.
+       */
+      private int lexicographicPageSize = 1000;
+
       /**
        * Default constructor for Query configuration.
        */
@@ -405,6 +569,30 @@ public class RedisOMProperties {
       public void setDefaultDistanceMetric(Metrics defaultDistanceMetric) {
         this.defaultDistanceMetric = defaultDistanceMetric;
       }
+
+      /**
+       * Gets the number of sorted set members read per request by lexicographic range queries.
+       * <p>
+       * Queries on {@code lexicographic = true} fields walk the field's sorted set a page at a time
+       * and stop reading once the requested results are complete.
+       * </p>
+       *
+       * @return the page size
+       * @since 2.0.5
+       */
+      public int getLexicographicPageSize() {
+        return lexicographicPageSize;
+      }
+
+      /**
+       * Sets the number of sorted set members read per request by lexicographic range queries.
+       *
+       * @param lexicographicPageSize the page size (must be positive)
+       * @since 2.0.5
+       */
+      public void setLexicographicPageSize(int lexicographicPageSize) {
+        this.lexicographicPageSize = lexicographicPageSize;
+      }
     }
   }
 
@@ -427,6 +615,11 @@ public class RedisOMProperties {
      */
     private List<String> cachedReferenceClasses = new ArrayList<>();
 
+    /**
+     * The maximum number of lazy references loaded together.
+     */
+    private int lazyLoadBatchSize = 1_000;
+
     /**
      * Default constructor for References configuration.
      */
@@ -469,5 +662,408 @@ public class RedisOMProperties {
     public void setCachedReferenceClasses(List<String> cachedReferenceClasses) {
       this.cachedReferenceClasses = cachedReferenceClasses;
     }
+
+    /**
+     * Gets the maximum number of {@link com.redis.om.spring.annotations.LazyReference lazy
+     * references} loaded together with a single {@code JSON.MGET}.
+     *
+     * @return the lazy load batch size
+     * @since 2.0.5
+     */
+    public int getLazyLoadBatchSize() {
+      return lazyLoadBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of lazy references loaded together with a single {@code JSON.MGET}.
+     *
+     * @param lazyLoadBatchSize the lazy load batch size to set
+     * @since 2.0.5
+     */
+    public void setLazyLoadBatchSize(int lazyLoadBatchSize) {
+      this.lazyLoadBatchSize = lazyLoadBatchSize;
+    }
+  }
+
+  /**
+   * Configuration properties for the by-id near-cache.
+   * <p>
+   * Entities opt in either with the {@link com.redis.om.spring.annotations.NearCache} annotation
+   * or by listing their fully qualified class names in {@code entityClasses}; the latter use the
+   * default capacity and time to live configured here.
+   * </p>
+   */
+  public static class NearCache {
+    /**
+     * Whether near-caching is enabled at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whether server-assisted invalidation through {@code CLIENT TRACKING} is enabled.
+     */
+    private boolean trackingEnabled = true;
+
+    /**
+     * The default maximum number of entries per entity type.
+     */
+    private int defaultMaxEntries = 10_000;
+
+    /**
+     * The default entry time to live in seconds.
+     */
+    private long defaultTimeToLive = 60L;
+
+    /**
+     * List of fully qualified class names that should be near-cached.
+     */
+    private List<String> entityClasses = new ArrayList<>();
+
+    /**
+     * Default constructor for NearCache configuration.
+     */
+    public NearCache() {
+      // Default constructor for Spring configuration binding
+    }
+
+    /**
+     * Gets whether near-caching is enabled.
+     *
+     * @return true if near-caching is enabled
+     */
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    /**
+     * Sets whether near-caching is enabled.
+     *
+     * @param enabled true to enable near-caching
+     */
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    /**
+     * Gets whether server-assisted invalidation is enabled.
+     *
+     * @return true if {@code CLIENT TRACKING} invalidation is enabled
+     */
+    public boolean isTrackingEnabled() {
+      return trackingEnabled;
+    }
+
+    /**
+     * Sets whether server-assisted invalidation is enabled.
+     *
+     * @param trackingEnabled true to enable {@code CLIENT TRACKING} invalidation
+     */
+    public void setTrackingEnabled(boolean trackingEnabled) {
+      this.trackingEnabled = trackingEnabled;
+    }
+
+    /**
+     * Gets the default maximum number of entries per entity type.
+     *
+     * @return the default capacity
+     */
+    public int getDefaultMaxEntries() {
+      return defaultMaxEntries;
+    }
+
+    /**
+     * Sets the default maximum number of entries per entity type.
+     *
+     * @param defaultMaxEntries the default capacity to set
+     */
+    public void setDefaultMaxEntries(int defaultMaxEntries) {
+      this.defaultMaxEntries = defaultMaxEntries;
+    }
+
+    /**
+     * Gets the default entry time to live in seconds.
+     *
+     * @return the default time to live
+     */
+    public long getDefaultTimeToLive() {
+      return defaultTimeToLive;
+    }
+
+    /**
+     * Sets the default entry time to live in seconds.
+     *
+     * @param defaultTimeToLive the default time to live to set
+     */
+    public void setDefaultTimeToLive(long defaultTimeToLive) {
+      this.defaultTimeToLive = defaultTimeToLive;
+    }
+
+    /**
+     * Gets the list of class names that should be near-cached.
+     *
+     * @return the list of near-cached class names
+     */
+    public List<String> getEntityClasses() {
+      return entityClasses;
+    }
+
+    /**
+     * Sets the list of class names that should be near-cached.
+     *
+     * @param entityClasses the list of near-cached class names to set
+     */
+    public void setEntityClasses(List<String> entityClasses) {
+      this.entityClasses = entityClasses;
+    }
+  }
+
+  /**
+   * Configuration properties for the search result cache.
+   * <p>
+   * When enabled, the results of repository query methods, entity stream queries and
+   * aggregations are cached for at most {@code maxStaleness}, keyed by index and normalized
+   * query, and invalidated by writes performed through the repositories. An empty
+   * {@code entityClasses} list caches the queries of every entity type.
+   * </p>
+   * <p>
+   * Independently of {@code enabled}, a positive {@code suggestionTtl} caches the results of
+   * repository autocomplete methods per dictionary, prefix and options for that long, so that
+   * repeated keystrokes do not reach Redis.
+   * </p>
+   */
+  public static class SearchCache {
+    /**
+     * Whether search results are cached.
+     */
+    private boolean enabled = false;
+
+    /**
+     * The maximum number of cached results.
+     */
+    private int maxEntries = 1_000;
+
+    /**
+     * The maximum time a cached result is served after it was loaded.
+     */
+    private Duration maxStaleness = Duration.ofSeconds(5);
+
+    /**
+     * How long autocomplete suggestions are cached, zero to not cache them.
+     */
+    private Duration suggestionTtl = Duration.ZERO;
+
+    /**
+     * List of fully qualified class names whose query results are cached.
+     */
+    private List<String> entityClasses = new ArrayList<>();
+
+    /**
+     * Default constructor for SearchCache configuration.
+     */
+    public SearchCache() {
+      // Default constructor for Spring configuration binding
+    }
+
+    /**
+     * Gets whether search results are cached.
+     *
+     * @return true if the search result cache is enabled
+     */
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    /**
+     * Sets whether search results are cached.
+     *
+     * @param enabled true to enable the search result cache
+     */
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    /**
+     * Gets the maximum number of cached results.
+     *
+     * @return the cache capacity
+     */
+    public int getMaxEntries() {
+      return maxEntries;
+    }
+
+    /**
+     * Sets the maximum number of cached results.
+     *
+     * @param maxEntries the cache capacity to set
+     */
+    public void setMaxEntries(int maxEntries) {
+      this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Gets the maximum time a cached result is served after it was loaded.
+     *
+     * @return the maximum staleness
+     */
+    public Duration getMaxStaleness() {
+      return maxStaleness;
+    }
+
+    /**
+     * Sets the maximum time a cached result is served after it was loaded.
+     *
+     * @param maxStaleness the maximum staleness to set
+     */
+    public void setMaxStaleness(Duration maxStaleness) {
+      this.maxStaleness = maxStaleness;
+    }
+
+    /**
+     * Gets how long autocomplete suggestions are cached.
+     *
+     * @return the suggestion time-to-live, zero if suggestions are not cached
+     * @since 2.0.5
+     */
+    public Duration getSuggestionTtl() {
+      return suggestionTtl;
+    }
+
+    /**
+     * Sets how long autocomplete suggestions are cached.
+     *
+     * @param suggestionTtl the suggestion time-to-live to set, zero to not cache suggestions
+     * @since 2.0.5
+     */
+    public void setSuggestionTtl(Duration suggestionTtl) {
+      this.suggestionTtl = suggestionTtl;
+    }
+
+    /**
+     * Gets the list of class names whose query results are cached.
+     *
+     * @return the list of cached class names, empty for all entity types
+     */
+    public List<String> getEntityClasses() {
+      return entityClasses;
+    }
+
+    /**
+     * Sets the list of class names whose query results are cached.
+     *
+     * @param entityClasses the list of cached class names to set
+     */
+    public void setEntityClasses(List<String> entityClasses) {
+      this.entityClasses = entityClasses;
+    }
+  }
+
+  /**
+   * Configuration properties for the slow-query log.
+   * <p>
+   * When enabled, repository query methods and entity stream queries whose search and decode time
+   * exceeds {@code threshold} are logged and kept in a bounded in-memory buffer. A
+   * {@code profileSampleRate} fraction of them is re-run under {@code FT.PROFILE} so that the
+   * buffer also holds the query's iterator tree.
+   * </p>
+   */
+  public static class SlowQueryLog {
+    /**
+     * Whether slow queries are logged.
+     */
+    private boolean enabled = false;
+
+    /**
+     * The search plus decode time above which a query is considered slow.
+     */
+    private Duration threshold = Duration.ofMillis(100);
+
+    /**
+     * The fraction of slow queries re-run under FT.PROFILE, between 0.0 and 1.0.
+     */
+    private double profileSampleRate = 0.0;
+
+    /**
+     * The maximum number of slow queries kept in memory.
+     */
+    private int bufferSize = 100;
+
+    /**
+     * Default constructor for SlowQueryLog configuration.
+     */
+    public SlowQueryLog() {
+      // Default constructor for Spring configuration binding
+    }
+
+    /**
+     * Gets whether slow queries are logged.
+     *
+     * @return true if the slow-query log is enabled
+     */
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    /**
+     * Sets whether slow queries are logged.
+     *
+     * @param enabled true to enable the slow-query log
+     */
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    /**
+     * Gets the time above which a query is considered slow.
+     *
+     * @return the slow-query threshold
+     */
+    public Duration getThreshold() {
+      return threshold;
+    }
+
+    /**
+     * Sets the time above which a query is considered slow.
+     *
+     * @param threshold the slow-query threshold to set
+     */
+    public void setThreshold(Duration threshold) {
+      this.threshold = threshold;
+    }
+
+    /**
+     * Gets the fraction of slow queries re-run under FT.PROFILE.
+     *
+     * @return the profile sample rate
+     */
+    public double getProfileSampleRate() {
+      return profileSampleRate;
+    }
+
+    /**
+     * Sets the fraction of slow queries re-run under FT.PROFILE.
+     *
+     * @param profileSampleRate the profile sample rate to set, between 0.0 and 1.0
+     */
+    public void setProfileSampleRate(double profileSampleRate) {
+      this.profileSampleRate = profileSampleRate;
+    }
+
+    /**
+     * Gets the maximum number of slow queries kept in memory.
+     *
+     * @return the buffer size
+     */
+    public int getBufferSize() {
+      return bufferSize;
+    }
+
+    /**
+     * Sets the maximum number of slow queries kept in memory.
+     *
+     * @param bufferSize the buffer size to set
+     */
+    public void setBufferSize(int bufferSize) {
+      this.bufferSize = bufferSize;
+    }
   }
 }
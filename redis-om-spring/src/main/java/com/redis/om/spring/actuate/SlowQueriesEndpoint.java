@@ -0,0 +1,54 @@
+package com.redis.om.spring.actuate;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import com.redis.om.spring.ops.search.SlowQuery;
+import com.redis.om.spring.ops.search.SlowQueryLog;
+
+/**
+ * Actuator endpoint exposing the queries recorded by the {@link SlowQueryLog}, most recent first,
+ * including the {@code FT.PROFILE} iterator tree of the sampled ones.
+ * <p>
+ * Available at {@code /actuator/redisomqueries} once exposed through
+ * {@code management.endpoints.web.exposure.include}. A {@code DELETE} clears the buffer.
+ * </p>
+ *
+ * @since 2.0.5
+ */
+@Endpoint(
+    id = "redisomqueries"
+)
+public class SlowQueriesEndpoint {
+  private final SlowQueryLog slowQueryLog;
+
+  /**
+   * Creates a new endpoint.
+   *
+   * @param slowQueryLog the slow-query log to expose
+   */
+  public SlowQueriesEndpoint(SlowQueryLog slowQueryLog) {
+    this.slowQueryLog = slowQueryLog;
+  }
+
+  /**
+   * Returns the buffered slow queries.
+   *
+   * @return the slow queries, most recent first
+   */
+  @ReadOperation
+  public List<SlowQuery> slowQueries() {
+    return slowQueryLog.getSlowQueries();
+  }
+
+  /**
+   * Clears the buffered slow queries.
+   */
+  @DeleteOperation
+  public void clear() {
+    slowQueryLog.clear();
+  }
+}
@@ -0,0 +1,54 @@
+package com.redis.om.spring.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Stores a field as a compact binary encoding of its JSON form instead of plain JSON.
+ * <p>
+ * Intended for large, non-indexed payload fields, such as nested blobs that are never queried,
+ * which would otherwise pay the full cost of JSON text encoding, decoding and storage. The field is
+ * first mapped to its JSON tree exactly as it would be without the annotation, so all registered
+ * type adapters still apply, and the tree is then written in the given binary format. In
+ * {@link Document} entities the encoded bytes are stored as a base64 string leaf; in
+ * {@code @RedisHash} entities they are stored as raw bytes in the field's hash field.
+ * </p>
+ * <p>
+ * Fields that are also indexed keep being stored as plain JSON, since the search index has to
+ * read them. Declaring the field as a {@link com.redis.om.spring.serialization.binary.BinaryValue}
+ * defers decoding until the value is first accessed and writes unread values back unchanged.
+ * </p>
+ *
+ * <pre>{@code
+ * @Document
+ * public class Order {
+ *   @Id
+ *   private String id;
+ *
+ *   @Indexed
+ *   private String customer;
+ *
+ *   @BinaryFormat(SerializationHint.SMILE)
+ *   private BinaryValue<List<LineItem>> lineItems;
+ * }
+ * }</pre>
+ *
+ * @since 2.0.5
+ * @see SerializationHint#SMILE
+ * @see SerializationHint#CBOR
+ * @see com.redis.om.spring.serialization.binary.BinaryValue
+ */
+@Documented
+@Retention(
+  RetentionPolicy.RUNTIME
+)
+@Target(
+  { ElementType.FIELD, ElementType.ANNOTATION_TYPE }
+)
+public @interface BinaryFormat {
+  /**
+   * The binary format, either {@link SerializationHint#SMILE} or {@link SerializationHint#CBOR}.
+   *
+   * @return the binary format
+   */
+  SerializationHint value() default SerializationHint.SMILE;
+}
@@ -120,7 +120,8 @@ public @interface Indexed {
   VectorAlgorithm algorithm() default VectorAlgorithm.FLAT;
 
   /**
-   * Specifies the vector type. Current supported types are FLOAT32 and FLOAT64.
+   * Specifies the vector type. Supported types are FLOAT32, FLOAT64, FLOAT16, BFLOAT16, INT8
+   * and UINT8.
    * 
    * @return the vector type
    */
@@ -0,0 +1,48 @@
+package com.redis.om.spring.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Defers loading of a {@link org.springframework.data.annotation.Reference} field of a
+ * {@link Document} entity until it is first used.
+ * <p>
+ * By default references are resolved while the owning entity is read, so reading an entity loads
+ * its whole reference graph. A lazy reference is instead set to a lightweight proxy of the field
+ * type that only holds the referenced key. The referenced entity is loaded the first time a method
+ * is called on the proxy, together with every other lazy reference read since the last load, so
+ * the references of all entities of a result page are fetched with a single {@code JSON.MGET}.
+ * Collection references are proxied as a whole and load all their elements on first access.
+ * </p>
+ * <p>
+ * The proxy only intercepts method calls: referenced entities must be accessed through their
+ * methods, not their fields, and single references must be of a non-final type. Calling a method
+ * on the proxy of a reference whose entity no longer exists throws an
+ * {@link IllegalStateException}, and {@code equals} and {@code hashCode} of single-reference proxies
+ * compare the proxies rather than the referenced entities. Saving an entity whose lazy references
+ * were never accessed keeps the stored keys without loading them.
+ * </p>
+ *
+ * <pre>{@code
+ * @Document
+ * public class Order {
+ *   @Id
+ *   private String id;
+ *
+ *   @Reference
+ *   @LazyReference
+ *   private Customer customer;
+ * }
+ * }</pre>
+ *
+ * @since 2.0.5
+ * @see com.redis.om.spring.serialization.gson.LazyReferenceProxy
+ */
+@Documented
+@Retention(
+  RetentionPolicy.RUNTIME
+)
+@Target(
+  { ElementType.FIELD, ElementType.ANNOTATION_TYPE }
+)
+public @interface LazyReference {
+}
@@ -0,0 +1,59 @@
+package com.redis.om.spring.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Enables an in-process near-cache for an entity's by-id lookups.
+ * <p>
+ * When a {@code @Document} or {@code @RedisHash} entity is annotated with {@code @NearCache},
+ * {@code findById} and {@code findAllById} are first served from a bounded, per-entity local cache
+ * holding the raw stored representation (the JSON document or the hash fields). Existence checks,
+ * whether by {@code existsById} or before a save, always ask the server. Entries are evicted in
+ * least-recently-used order once {@link #maxEntries()} is reached and expire after
+ * {@link #timeToLive()} seconds.
+ * </p>
+ * <p>
+ * Coherence with the server is maintained through Redis client-side caching: a tracking connection
+ * enables {@code CLIENT TRACKING} in broadcast mode for the entity keyspace and invalidation messages
+ * evict the affected keys, so writes made by other processes are observed without waiting for the
+ * entry to expire.
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * @Document
+ * @NearCache(maxEntries = 5000, timeToLive = 300)
+ * public class Product {
+ *   @Id
+ *   private String id;
+ *   // ...
+ * }
+ * }</pre>
+ *
+ * @see com.redis.om.spring.cache.NearCacheManager
+ * @since 2.0.5
+ */
+@Documented
+@Inherited
+@Retention(
+  RetentionPolicy.RUNTIME
+)
+@Target(
+  { ElementType.TYPE }
+)
+public @interface NearCache {
+  /**
+   * The maximum number of entries held in memory for the entity type.
+   *
+   * @return the maximum number of cached entries
+   */
+  int maxEntries() default 10_000;
+
+  /**
+   * The time in seconds after which a cached entry is considered stale and reloaded.
+   * A value of zero or less disables time-based expiration.
+   *
+   * @return the entry time to live in seconds
+   */
+  long timeToLive() default 60L;
+}
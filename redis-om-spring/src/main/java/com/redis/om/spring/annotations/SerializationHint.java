@@ -20,6 +20,30 @@ public enum SerializationHint {
    */
   ORDINAL,
 
+  /**
+   * Serialize as Smile, Jackson's binary JSON format.
+   * <p>
+   * Used with {@link BinaryFormat} to store a non-indexed field as a compact binary encoding of
+   * its JSON form. Requires {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile} on
+   * the classpath.
+   * </p>
+   *
+   * @since 2.0.5
+   */
+  SMILE,
+
+  /**
+   * Serialize as CBOR (RFC 8949).
+   * <p>
+   * Used with {@link BinaryFormat} to store a non-indexed field as a compact binary encoding of
+   * its JSON form. Requires {@code com.fasterxml.jackson.dataformat:jackson-dataformat-cbor} on
+   * the classpath.
+   * </p>
+   *
+   * @since 2.0.5
+   */
+  CBOR,
+
   /**
    * No specific serialization hint.
    * <p>
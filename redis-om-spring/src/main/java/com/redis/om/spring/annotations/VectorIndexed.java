@@ -94,6 +94,10 @@ public @interface VectorIndexed {
    * <ul>
    * <li>{@link VectorType#FLOAT32} - 32-bit floating point (default)</li>
    * <li>{@link VectorType#FLOAT64} - 64-bit floating point</li>
+   * <li>{@link VectorType#FLOAT16} - 16-bit floating point</li>
+   * <li>{@link VectorType#BFLOAT16} - 16-bit brain floating point</li>
+   * <li>{@link VectorType#INT8} - 8-bit signed integer</li>
+   * <li>{@link VectorType#UINT8} - 8-bit unsigned integer</li>
    * </ul>
    * 
    * @return the vector component type
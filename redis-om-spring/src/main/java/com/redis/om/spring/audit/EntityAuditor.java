@@ -5,6 +5,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.PropertyAccessor;
 import org.springframework.beans.PropertyAccessorFactory;
@@ -15,9 +17,15 @@ import org.springframework.data.redis.core.RedisOperations;
 
 /**
  * Auditor for automatically setting entity audit fields like created and last modified dates.
+ * <p>
+ * The audit fields of each entity class are looked up once. Entities of a class without audit
+ * fields are left untouched, and for them the key-based variants do not check whether the key
+ * exists.
+ * </p>
  */
 public class EntityAuditor {
   private final RedisOperations<?, ?> redisOperations;
+  private final Map<Class<?>, AuditFields> auditFields = new ConcurrentHashMap<>();
 
   /**
    * Creates a new entity auditor.
@@ -28,6 +36,18 @@ public class EntityAuditor {
     this.redisOperations = redisOperations;
   }
 
+  /**
+   * Checks if entities of the given class have {@link CreatedDate} or {@link LastModifiedDate}
+   * fields.
+   *
+   * @param type the entity class
+   * @return {@code true} if auditing the entity sets any field
+   * @since 2.0.5
+   */
+  public boolean isAudited(Class<?> type) {
+    return !auditFieldsFor(type).isEmpty();
+  }
+
   /**
    * Processes entity audit fields based on whether the key exists.
    *
@@ -35,6 +55,9 @@ public class EntityAuditor {
    * @param item     the entity to audit
    */
   public void processEntity(byte[] redisKey, Object item) {
+    if (!isAudited(item.getClass())) {
+      return;
+    }
     boolean isNew = (boolean) redisOperations.execute((RedisCallback<Object>) connection -> !connection.keyCommands()
         .exists(redisKey));
     processEntity(item, isNew);
@@ -57,20 +80,46 @@ public class EntityAuditor {
    * @param isNew whether the entity is new
    */
   public void processEntity(Object item, boolean isNew) {
-    var auditClass = isNew ? CreatedDate.class : LastModifiedDate.class;
-
-    List<Field> fields = com.redis.om.spring.util.ObjectUtils.getFieldsWithAnnotation(item.getClass(), auditClass);
+    AuditFields audit = auditFieldsFor(item.getClass());
+    List<Field> fields = isNew ? audit.created() : audit.lastModified();
     if (!fields.isEmpty()) {
       PropertyAccessor accessor = PropertyAccessorFactory.forBeanPropertyAccess(item);
       fields.forEach(f -> {
-        if (f.getType() == Date.class) {
-          accessor.setPropertyValue(f.getName(), new Date(System.currentTimeMillis()));
-        } else if (f.getType() == LocalDateTime.class) {
-          accessor.setPropertyValue(f.getName(), LocalDateTime.now());
-        } else if (f.getType() == LocalDate.class) {
-          accessor.setPropertyValue(f.getName(), LocalDate.now());
+        Object now = currentTimestamp(f.getType());
+        if (now != null) {
+          accessor.setPropertyValue(f.getName(), now);
         }
       });
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Returns the current time as a value of an audit field type.
+   *
+   * @param type the type of the audit field
+   * @return the current time, or {@code null} if the type is not supported for auditing
+   * @since 2.0.5
+   */
+  public static Object currentTimestamp(Class<?> type) {
+    if (type == Date.class) {
+      return new Date(System.currentTimeMillis());
+    } else if (type == LocalDateTime.class) {
+      return LocalDateTime.now();
+    } else if (type == LocalDate.class) {
+      return LocalDate.now();
+    }
+    return null;
+  }
+
+  private AuditFields auditFieldsFor(Class<?> type) {
+    return auditFields.computeIfAbsent(type, t -> new AuditFields( //
+        com.redis.om.spring.util.ObjectUtils.getFieldsWithAnnotation(t, CreatedDate.class), //
+        com.redis.om.spring.util.ObjectUtils.getFieldsWithAnnotation(t, LastModifiedDate.class)));
+  }
+
+  private record AuditFields(List<Field> created, List<Field> lastModified) {
+    boolean isEmpty() {
+      return created.isEmpty() && lastModified.isEmpty();
+    }
+  }
+}
@@ -14,6 +14,8 @@ import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
+import org.json.JSONArray;
+import org.springframework.aop.framework.AopProxyUtils;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.core.Ordered;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -26,6 +28,12 @@ import com.redis.om.spring.annotations.AutoComplete;
 import com.redis.om.spring.annotations.AutoCompletePayload;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
+import com.redis.om.spring.repository.support.SimpleRedisDocumentRepository;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.json.Path2;
+import redis.clients.jedis.search.SearchProtocol.SearchCommand;
 
 /**
  * Aspect that automatically manages autocomplete suggestions for Redis entities.
@@ -64,6 +72,7 @@ import com.redis.om.spring.ops.search.SearchOperations;
 @Component
 public class AutoCompleteAspect implements Ordered {
   private static final Log logger = LogFactory.getLog(AutoCompleteAspect.class);
+  private static final int DELETE_BATCH_SIZE = 1000;
   final StringRedisTemplate template;
   private final Gson gson;
   private final RedisModulesOperations<String> rmo;
@@ -210,10 +219,8 @@ public class AutoCompleteAspect implements Ordered {
     "inRedisDocumentRepositoryDeleteAll()"
   )
   public void deleteAllSuggestions(JoinPoint jp) {
-    Repository<?, ?> repository = (Repository<?, ?>) jp.getTarget();
-    var typeArguments = GenericTypeResolver.resolveTypeArguments(repository.getClass(), Repository.class);
-    if (typeArguments != null && typeArguments.length > 0) {
-      Class<?> entityClass = typeArguments[0];
+    Class<?> entityClass = getEntityClass((Repository<?, ?>) jp.getTarget());
+    if (entityClass != null) {
       for (Field field : com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(entityClass)) {
         if (field.isAnnotationPresent(AutoComplete.class)) {
           String key = String.format(Suggestion.KEY_FORMAT_STRING, entityClass.getSimpleName(), field.getName());
@@ -284,25 +291,17 @@ public class AutoCompleteAspect implements Ordered {
 
   /**
    * Removes autocomplete suggestions before an entity is deleted by ID.
-   * This method retrieves the entity by ID first, then removes its suggestions.
+   * Only the autocomplete fields of the stored document are read, not the whole entity.
    * Uses @Before to ensure the entity still exists when suggestions are removed.
    * 
    * @param jp the join point providing method execution context
    * @param id the ID of the entity to be deleted
    */
-  @SuppressWarnings(
-    { "rawtypes", "unchecked" }
-  )
   @Before(
     "inRedisDocumentRepositoryDeleteById() && args(id)"
   )
   public void deleteSuggestionById(JoinPoint jp, Object id) {
-    CrudRepository repository = (CrudRepository) jp.getTarget();
-    Optional<Object> maybeEntity = repository.findById(id.toString());
-    if (maybeEntity.isPresent()) {
-      Object entity = maybeEntity.get();
-      deleteSuggestionsForEntity(entity);
-    }
+    deleteAllSuggestionByIds(jp, List.of(id));
   }
 
   /**
@@ -317,7 +316,9 @@ public class AutoCompleteAspect implements Ordered {
 
   /**
    * Removes autocomplete suggestions before entities are deleted by their IDs.
-   * This method retrieves each entity by ID first, then removes their suggestions.
+   * The values of the autocomplete fields are read for all IDs at once with one {@code JSON.MGET}
+   * per field and batch of {@value #DELETE_BATCH_SIZE} IDs, and the suggestions and their payloads
+   * are removed with pipelined {@code FT.SUGDEL} and {@code HDEL} commands.
    * Uses @Before to ensure the entities still exist when suggestions are removed.
    * 
    * @param jp  the join point providing method execution context
@@ -330,14 +331,29 @@ public class AutoCompleteAspect implements Ordered {
     "inRedisDocumentRepositoryDeleteAllById() && args(ids,..)"
   )
   public void deleteAllSuggestionByIds(JoinPoint jp, List<Object> ids) {
-    CrudRepository repository = (CrudRepository) jp.getTarget();
-
-    for (Object id : ids) {
-      Optional<Object> maybeEntity = repository.findById(id.toString());
-      if (maybeEntity.isPresent()) {
-        Object entity = maybeEntity.get();
-        deleteSuggestionsForEntity(entity);
+    Class<?> entityClass = getEntityClass((Repository<?, ?>) jp.getTarget());
+    if (entityClass == null || ids.isEmpty()) {
+      return;
+    }
+    if (!(repositoryImplementation(jp.getTarget()) instanceof SimpleRedisDocumentRepository repository)) {
+      // keys can only be derived by the built-in repository, other implementations load the entities
+      CrudRepository crudRepository = (CrudRepository) jp.getTarget();
+      for (Object id : ids) {
+        crudRepository.findById(id).ifPresent(this::deleteSuggestionsForEntity);
       }
+      return;
+    }
+
+    List<Field> fields = com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(entityClass).stream()
+        .filter(field -> field.isAnnotationPresent(AutoComplete.class)).toList();
+    if (fields.isEmpty()) {
+      return;
+    }
+
+    List<String> keys = ids.stream().map(id -> repository.getKeyForId(id)).toList();
+    for (int start = 0; start < keys.size(); start += DELETE_BATCH_SIZE) {
+      deleteSuggestionsForKeys(entityClass, fields, keys.subList(start, Math.min(start + DELETE_BATCH_SIZE, keys
+          .size())));
     }
   }
 
@@ -396,6 +412,58 @@ public class AutoCompleteAspect implements Ordered {
     }
   }
 
+  private void deleteSuggestionsForKeys(Class<?> entityClass, List<Field> fields, List<String> keys) {
+    String[] keyArray = keys.toArray(String[]::new);
+    Map<Field, List<JSONArray>> values = new LinkedHashMap<>();
+    for (Field field : fields) {
+      values.put(field, rmo.client().clientForJSON().jsonMGet(Path2.of("$." + com.redis.om.spring.util.ObjectUtils
+          .getJsonFieldName(field)), keyArray));
+    }
+
+    try (Jedis jedis = rmo.client().getJedis().get()) {
+      Pipeline pipeline = jedis.pipelined();
+      values.forEach((field, results) -> {
+        AutoComplete suggestible = field.getAnnotation(AutoComplete.class);
+        String key = !ObjectUtils.isEmpty(suggestible.name()) ?
+            suggestible.name() :
+            String.format(Suggestion.KEY_FORMAT_STRING, entityClass.getSimpleName(), field.getName());
+        String payLoadKey = !ObjectUtils.isEmpty(suggestible.name()) ?
+            suggestible.name() :
+            String.format(Suggestion.PAYLOAD_KEY_FORMAT_STRING, entityClass.getSimpleName(), field.getName());
+
+        for (JSONArray result : results) {
+          if (result != null && !result.isEmpty() && !result.isNull(0)) {
+            String suggestion = result.get(0).toString();
+            pipeline.sendCommand(SearchCommand.SUGDEL, key, suggestion);
+            pipeline.hdel(payLoadKey, suggestion);
+          }
+        }
+      });
+      pipeline.sync();
+    }
+  }
+
+  /**
+   * Returns the repository implementation behind the Spring Data repository proxy the advice was
+   * applied to.
+   */
+  private static Object repositoryImplementation(Object target) {
+    Object implementation = target;
+    while (implementation != null) {
+      Object unwrapped = AopProxyUtils.getSingletonTarget(implementation);
+      if (unwrapped == null) {
+        break;
+      }
+      implementation = unwrapped;
+    }
+    return implementation;
+  }
+
+  private Class<?> getEntityClass(Repository<?, ?> repository) {
+    var typeArguments = GenericTypeResolver.resolveTypeArguments(repository.getClass(), Repository.class);
+    return typeArguments != null && typeArguments.length > 0 ? typeArguments[0] : null;
+  }
+
   private void deleteSuggestionsForEntity(Object entity) {
     for (Field field : com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(entity.getClass())) {
       if (field.isAnnotationPresent(AutoComplete.class)) {
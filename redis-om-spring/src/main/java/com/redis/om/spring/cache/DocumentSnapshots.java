@@ -0,0 +1,93 @@
+package com.redis.om.spring.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A bounded record of the JSON documents last loaded or saved by this process, keyed by Redis key
+ * and stamped with the entity's {@link org.springframework.data.annotation.Version @Version}.
+ * <p>
+ * When diff-based JSON writes are enabled, saving a versioned {@code @Document} that was loaded by
+ * id computes a merge patch against its snapshot instead of rewriting the whole document. A
+ * snapshot is only used if it was recorded for the version the entity is saved with, which the
+ * optimistic version check has just confirmed to be the stored version; a document changed by a
+ * writer that does not advance the version is therefore not detected. Snapshots are kept in access
+ * order and the least recently used one is dropped once the capacity is exceeded.
+ * </p>
+ *
+ * @since 2.0.5
+ * @see com.redis.om.spring.RedisOMProperties.Repository#isDiffJsonWrites()
+ */
+public class DocumentSnapshots {
+  private final int maxEntries;
+  private final LinkedHashMap<String, Snapshot> snapshots;
+
+  /**
+   * Creates a new snapshot store.
+   *
+   * @param maxEntries the maximum number of snapshots to keep
+   */
+  public DocumentSnapshots(int maxEntries) {
+    this.maxEntries = Math.max(1, maxEntries);
+    this.snapshots = new LinkedHashMap<>(Math.min(this.maxEntries, 1024), 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+        return size() > DocumentSnapshots.this.maxEntries;
+      }
+    };
+  }
+
+  /**
+   * Returns the document recorded for the given key if it was recorded with the given version.
+   *
+   * @param key     the Redis key
+   * @param version the version the entity is saved with
+   * @return the recorded JSON document, or {@code null}
+   */
+  @Nullable
+  public synchronized String get(String key, Number version) {
+    Snapshot snapshot = snapshots.get(key);
+    return snapshot != null && snapshot.version() == version.longValue() ? snapshot.json() : null;
+  }
+
+  /**
+   * Records the document stored at the given key.
+   *
+   * @param key     the Redis key
+   * @param version the version of the stored document
+   * @param json    the stored JSON document
+   */
+  public synchronized void put(String key, Number version, String json) {
+    snapshots.put(key, new Snapshot(version.longValue(), json));
+  }
+
+  /**
+   * Drops the snapshot for the given key.
+   *
+   * @param key the Redis key
+   */
+  public synchronized void invalidate(String key) {
+    snapshots.remove(key);
+  }
+
+  /**
+   * Drops all snapshots.
+   */
+  public synchronized void clear() {
+    snapshots.clear();
+  }
+
+  /**
+   * Returns the number of snapshots held.
+   *
+   * @return the number of snapshots
+   */
+  public synchronized int size() {
+    return snapshots.size();
+  }
+
+  private record Snapshot(long version, String json) {
+  }
+}
@@ -0,0 +1,220 @@
+package com.redis.om.spring.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, time-aware local cache for the stored representation of a single entity type.
+ * <p>
+ * Values are kept in access order and the least recently used entry is evicted once the
+ * configured capacity is exceeded. Entries older than the configured time to live are treated
+ * as misses and removed on access. All operations are thread-safe; hit, miss, eviction and
+ * invalidation counters are kept in {@link LongAdder}s so reading statistics never blocks
+ * the cache.
+ * <p>
+ * Every invalidation advances an epoch counter. Readers capture the epoch with {@link #epoch()}
+ * before going to Redis and publish the loaded value with {@link #putIfCurrent(String, Object, long)},
+ * which discards it if an invalidation happened in the meantime, so a slow read can never resurrect
+ * a value that a concurrent write already invalidated.
+ *
+ * @see NearCacheManager
+ * @see com.redis.om.spring.annotations.NearCache
+ */
+public class EntityNearCache {
+  private final Class<?> entityClass;
+  private final String keyPrefix;
+  private final int maxEntries;
+  private final long timeToLiveMillis;
+  private final LinkedHashMap<String, Entry> entries;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+  private final AtomicLong epoch = new AtomicLong();
+
+  /**
+   * Creates a new near-cache for the given entity type.
+   *
+   * @param entityClass      the cached entity type
+   * @param keyPrefix        the key prefix (keyspace) of the cached entity keys
+   * @param maxEntries       the maximum number of entries to keep
+   * @param timeToLiveMillis the entry time to live in milliseconds, zero or less to disable expiration
+   */
+  public EntityNearCache(Class<?> entityClass, String keyPrefix, int maxEntries, long timeToLiveMillis) {
+    this.entityClass = entityClass;
+    this.keyPrefix = keyPrefix;
+    this.maxEntries = Math.max(1, maxEntries);
+    this.timeToLiveMillis = timeToLiveMillis;
+    this.entries = new LinkedHashMap<>(Math.min(this.maxEntries, 1024), 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        boolean evict = size() > EntityNearCache.this.maxEntries;
+        if (evict) {
+          evictions.increment();
+        }
+        return evict;
+      }
+    };
+  }
+
+  /**
+   * Returns the cached value for the given key, or {@code null} on a miss.
+   *
+   * @param key   the Redis key
+   * @param clazz the expected value type
+   * @param <V>   the value type
+   * @return the cached value or {@code null}
+   */
+  public <V> V get(String key, Class<V> clazz) {
+    Entry entry;
+    synchronized (entries) {
+      entry = entries.get(key);
+      if (entry != null && isExpired(entry)) {
+        entries.remove(key);
+        entry = null;
+      }
+    }
+    if (entry == null || !clazz.isInstance(entry.value)) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    return clazz.cast(entry.value);
+  }
+
+  /**
+   * Checks whether a live entry exists for the given key without affecting the statistics.
+   *
+   * @param key the Redis key
+   * @return {@code true} if a non-expired entry is cached
+   */
+  public boolean contains(String key) {
+    synchronized (entries) {
+      Entry entry = entries.get(key);
+      return entry != null && !isExpired(entry);
+    }
+  }
+
+  /**
+   * Stores a value for the given key, evicting the least recently used entry if needed.
+   *
+   * @param key   the Redis key
+   * @param value the raw stored representation, ignored if {@code null}
+   */
+  public void put(String key, Object value) {
+    if (value == null) {
+      return;
+    }
+    synchronized (entries) {
+      entries.put(key, new Entry(value, System.currentTimeMillis()));
+    }
+  }
+
+  /**
+   * Stores a value loaded from Redis unless an invalidation happened since {@code expectedEpoch}
+   * was captured.
+   *
+   * @param key           the Redis key
+   * @param value         the raw stored representation, ignored if {@code null}
+   * @param expectedEpoch the epoch captured with {@link #epoch()} before the value was loaded
+   * @return {@code true} if the value was cached
+   */
+  public boolean putIfCurrent(String key, Object value, long expectedEpoch) {
+    if (value == null) {
+      return false;
+    }
+    synchronized (entries) {
+      if (epoch.get() != expectedEpoch) {
+        return false;
+      }
+      entries.put(key, new Entry(value, System.currentTimeMillis()));
+      return true;
+    }
+  }
+
+  /**
+   * Returns the current invalidation epoch.
+   *
+   * @return the number of invalidations observed so far
+   */
+  public long epoch() {
+    return epoch.get();
+  }
+
+  /**
+   * Removes the entry for the given key.
+   *
+   * @param key the Redis key
+   */
+  public void invalidate(String key) {
+    synchronized (entries) {
+      epoch.incrementAndGet();
+      if (entries.remove(key) != null) {
+        invalidations.increment();
+      }
+    }
+  }
+
+  /**
+   * Removes all entries.
+   */
+  public void clear() {
+    synchronized (entries) {
+      epoch.incrementAndGet();
+      invalidations.add(entries.size());
+      entries.clear();
+    }
+  }
+
+  /**
+   * Returns whether the given key belongs to this cache's keyspace.
+   *
+   * @param key the Redis key
+   * @return {@code true} if the key starts with the cache key prefix
+   */
+  public boolean covers(String key) {
+    return key.startsWith(keyPrefix);
+  }
+
+  /**
+   * Returns the cached entity type.
+   *
+   * @return the entity class
+   */
+  public Class<?> getEntityClass() {
+    return entityClass;
+  }
+
+  /**
+   * Returns the key prefix of the cached entity keys.
+   *
+   * @return the key prefix
+   */
+  public String getKeyPrefix() {
+    return keyPrefix;
+  }
+
+  /**
+   * Returns a snapshot of the cache statistics.
+   *
+   * @return the current statistics
+   */
+  public NearCacheStats getStats() {
+    int size;
+    synchronized (entries) {
+      size = entries.size();
+    }
+    return new NearCacheStats(entityClass.getName(), size, maxEntries, hits.sum(), misses.sum(), evictions.sum(),
+        invalidations.sum());
+  }
+
+  private boolean isExpired(Entry entry) {
+    return timeToLiveMillis > 0 && System.currentTimeMillis() - entry.createdAt > timeToLiveMillis;
+  }
+
+  private record Entry(Object value, long createdAt) {
+  }
+}
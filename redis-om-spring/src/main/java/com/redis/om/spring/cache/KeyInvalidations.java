@@ -0,0 +1,47 @@
+package com.redis.om.spring.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Drops the state held in this process for documents that have been written, such as near-cache
+ * entries and the snapshots of diff-based JSON writes.
+ * <p>
+ * Components keeping per-key state register a listener; code that writes documents by key, such
+ * as repository deletes and server-side bulk updates, reports every key it wrote through
+ * {@link #invalidate(String)}.
+ * </p>
+ *
+ * @see com.redis.om.spring.ops.RedisModulesOperations#invalidateKeys(Class, java.util.Collection)
+ * @since 2.0.5
+ */
+public class KeyInvalidations {
+  private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates a new instance without listeners.
+   */
+  public KeyInvalidations() {
+  }
+
+  /**
+   * Registers a listener called with every invalidated key.
+   *
+   * @param listener the listener dropping the state held for a key
+   */
+  public void register(Consumer<String> listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Drops the state held for the given key.
+   *
+   * @param key the written Redis key
+   */
+  public void invalidate(String key) {
+    for (Consumer<String> listener : listeners) {
+      listener.accept(key);
+    }
+  }
+}
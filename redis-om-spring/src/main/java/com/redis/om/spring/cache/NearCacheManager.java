@@ -0,0 +1,367 @@
+package com.redis.om.spring.cache;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import com.redis.om.spring.RedisOMProperties;
+import com.redis.om.spring.annotations.IndexingOptions;
+import com.redis.om.spring.annotations.NearCache;
+import com.redis.om.spring.client.RedisModulesClient;
+import com.redis.om.spring.indexing.RediSearchIndexer;
+
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * Creates and keeps coherent the per-entity {@link EntityNearCache}s used by the key-value adapters
+ * to serve {@code findById} and {@code findAllById} from memory.
+ * <p>
+ * An entity type is near-cached when it is annotated with {@link NearCache} or when its fully
+ * qualified class name is listed in {@code redis.om.spring.near-cache.entity-classes}. Caches are
+ * created lazily on first use.
+ * </p>
+ * <p>
+ * Coherence relies on Redis client-side caching in broadcast mode. Two dedicated connections are
+ * opened the first time a cache is created: a subscriber listening on the
+ * {@value #INVALIDATION_CHANNEL} channel and a tracking connection that enables
+ * {@code CLIENT TRACKING ON REDIRECT <subscriber> BCAST PREFIX <keyspace>} for every cached keyspace.
+ * Any write to a matching key, by this or any other process, produces an invalidation message that
+ * evicts the local entry; a {@code null} message (sent on {@code FLUSHDB}/{@code FLUSHALL} or when
+ * the server drops tracking state) clears every cache. Should the subscriber connection fail, every
+ * cache is cleared, since invalidations may have been missed, and both connections are reopened and
+ * tracking re-enabled with an exponential backoff, clearing the caches again once invalidations
+ * flow anew. Should tracking be unavailable, for example in
+ * Sentinel deployments or when the server rejects the command, the caches keep working with local
+ * write invalidation and time-based expiration only.
+ * </p>
+ *
+ * @see NearCache
+ * @see EntityNearCache
+ * @since 2.0.5
+ */
+public class NearCacheManager implements DisposableBean {
+  /**
+   * The Pub/Sub channel on which Redis publishes client-side caching invalidation messages.
+   */
+  public static final String INVALIDATION_CHANNEL = "__redis__:invalidate";
+
+  private static final Log logger = LogFactory.getLog(NearCacheManager.class);
+
+  private static final long INITIAL_RECONNECT_DELAY_MILLIS = 500;
+  private static final long MAX_RECONNECT_DELAY_MILLIS = 30_000;
+
+  private final RedisOMProperties properties;
+  private final RedisModulesClient client;
+  private final RediSearchIndexer indexer;
+  private final Map<Class<?>, Optional<EntityNearCache>> caches = new ConcurrentHashMap<>();
+
+  private final Object trackingLock = new Object();
+  private Jedis subscriberConnection;
+  private Jedis trackingConnection;
+  private long subscriberId;
+  private boolean trackingStarted;
+  private volatile boolean trackingAvailable;
+  private volatile boolean closed;
+
+  /**
+   * Creates a new near-cache manager.
+   *
+   * @param properties the Redis OM configuration properties
+   * @param client     the Redis modules client used to open the tracking connections
+   * @param indexer    the indexer used to resolve entity keyspaces
+   */
+  public NearCacheManager(RedisOMProperties properties, RedisModulesClient client, RediSearchIndexer indexer) {
+    this.properties = properties;
+    this.client = client;
+    this.indexer = indexer;
+  }
+
+  /**
+   * Returns the near-cache for the given entity type, creating it on first use.
+   *
+   * @param entityClass the entity type
+   * @return the near-cache, or empty if the type is not near-cached
+   */
+  public Optional<EntityNearCache> getCacheFor(Class<?> entityClass) {
+    if (entityClass == null || closed || !properties.getNearCache().isEnabled()) {
+      return Optional.empty();
+    }
+    Optional<EntityNearCache> cache = caches.get(entityClass);
+    if (cache == null) {
+      Optional<EntityNearCache> created = createCacheFor(entityClass);
+      cache = caches.putIfAbsent(entityClass, created);
+      if (cache == null) {
+        cache = created;
+        created.ifPresent(c -> enableTrackingFor(c.getKeyPrefix()));
+      }
+    }
+    return cache;
+  }
+
+  /**
+   * Removes the given key from every near-cache whose keyspace covers it.
+   *
+   * @param key the Redis key that changed
+   */
+  public void invalidate(String key) {
+    for (Optional<EntityNearCache> cache : caches.values()) {
+      cache.filter(c -> c.covers(key)).ifPresent(c -> c.invalidate(key));
+    }
+  }
+
+  /**
+   * Removes every entry from the near-cache of the given entity type.
+   *
+   * @param entityClass the entity type
+   */
+  public void clear(Class<?> entityClass) {
+    Optional<EntityNearCache> cache = caches.get(entityClass);
+    if (cache != null) {
+      cache.ifPresent(EntityNearCache::clear);
+    }
+  }
+
+  /**
+   * Removes every entry from all near-caches.
+   */
+  public void clearAll() {
+    caches.values().forEach(cache -> cache.ifPresent(EntityNearCache::clear));
+  }
+
+  /**
+   * Returns whether server-assisted invalidation is active.
+   *
+   * @return {@code true} if invalidation messages are being received
+   */
+  public boolean isTrackingAvailable() {
+    return trackingAvailable;
+  }
+
+  /**
+   * Returns a snapshot of the statistics of every near-cache created so far.
+   *
+   * @return the statistics, one entry per near-cached entity type
+   */
+  public List<NearCacheStats> getStats() {
+    List<NearCacheStats> stats = new ArrayList<>();
+    caches.values().forEach(cache -> cache.ifPresent(c -> stats.add(c.getStats())));
+    return stats;
+  }
+
+  /**
+   * Disables tracking, closes the dedicated connections and clears all near-caches.
+   */
+  @Override
+  public void destroy() {
+    closed = true;
+    synchronized (trackingLock) {
+      if (trackingConnection != null) {
+        try {
+          trackingConnection.sendCommand(Protocol.Command.CLIENT, "TRACKING", "OFF");
+        } catch (Exception e) {
+          logger.debug("Failed to disable client tracking", e);
+        }
+      }
+      closeConnections();
+    }
+    clearAll();
+  }
+
+  private Optional<EntityNearCache> createCacheFor(Class<?> entityClass) {
+    RedisOMProperties.NearCache config = properties.getNearCache();
+    int maxEntries;
+    long timeToLive;
+    NearCache nearCache = entityClass.getAnnotation(NearCache.class);
+    if (nearCache != null) {
+      maxEntries = nearCache.maxEntries();
+      timeToLive = nearCache.timeToLive();
+    } else if (config.getEntityClasses().contains(entityClass.getName())) {
+      maxEntries = config.getDefaultMaxEntries();
+      timeToLive = config.getDefaultTimeToLive();
+    } else {
+      return Optional.empty();
+    }
+
+    IndexingOptions indexingOptions = entityClass.getAnnotation(IndexingOptions.class);
+    if (indexingOptions != null && indexingOptions.keyPrefix().contains("#{")) {
+      logger.warn(String.format("Near-cache disabled for %s because its key prefix is resolved dynamically", entityClass
+          .getName()));
+      return Optional.empty();
+    }
+
+    String keyPrefix = indexer.getKeyspaceForEntityClass(entityClass);
+    logger.info(String.format("Near-cache enabled for %s (keyspace: %s, max entries: %d, ttl: %ds)", entityClass
+        .getName(), keyPrefix, maxEntries, timeToLive));
+    return Optional.of(new EntityNearCache(entityClass, keyPrefix, maxEntries, TimeUnit.SECONDS.toMillis(
+        timeToLive)));
+  }
+
+  private void enableTrackingFor(String keyPrefix) {
+    if (!properties.getNearCache().isTrackingEnabled()) {
+      return;
+    }
+    synchronized (trackingLock) {
+      if (closed) {
+        return;
+      }
+      if (!trackingStarted) {
+        trackingStarted = true;
+        startListener();
+      }
+      if (trackingAvailable) {
+        track(keyPrefix);
+      }
+    }
+  }
+
+  private void track(String keyPrefix) {
+    try {
+      trackingConnection.sendCommand(Protocol.Command.CLIENT, "TRACKING", "ON", "REDIRECT", String.valueOf(
+          subscriberId), "BCAST", "PREFIX", keyPrefix);
+    } catch (Exception e) {
+      // e.g. the prefix overlaps one that is already tracked, in which case invalidations still arrive
+      logger.warn(String.format("Could not enable client tracking for prefix %s: %s", keyPrefix, e.getMessage()));
+    }
+  }
+
+  private void startListener() {
+    try {
+      Connection connection = connect();
+      if (connection == null) {
+        logger.info("Near-cache invalidation is not supported for this deployment, using time-based expiration");
+        return;
+      }
+      Thread listener = new Thread(() -> listen(connection), "roms-near-cache-invalidation");
+      listener.setDaemon(true);
+      listener.start();
+    } catch (Exception e) {
+      logger.warn("Near-cache invalidation unavailable, using time-based expiration: " + e.getMessage());
+      closeConnections();
+    }
+  }
+
+  /**
+   * Opens the subscriber and tracking connections and subscribes to the invalidation channel. Must
+   * be called holding {@code trackingLock}.
+   *
+   * @return the subscriber connection to read invalidations from, or {@code null} if the deployment
+   *         does not support dedicated connections
+   */
+  private Connection connect() {
+    Optional<Jedis> maybeSubscriber = client.openDedicatedConnection();
+    Optional<Jedis> maybeTracking = client.openDedicatedConnection();
+    if (maybeSubscriber.isEmpty() || maybeTracking.isEmpty()) {
+      maybeSubscriber.ifPresent(NearCacheManager::closeQuietly);
+      maybeTracking.ifPresent(NearCacheManager::closeQuietly);
+      return null;
+    }
+    subscriberConnection = maybeSubscriber.get();
+    trackingConnection = maybeTracking.get();
+    subscriberId = subscriberConnection.clientId();
+    Connection connection = subscriberConnection.getConnection();
+    connection.setTimeoutInfinite();
+    subscriberConnection.sendCommand(Protocol.Command.SUBSCRIBE, INVALIDATION_CHANNEL);
+    trackingAvailable = true;
+    return connection;
+  }
+
+  private void listen(Connection connection) {
+    while (connection != null) {
+      try {
+        while (!closed) {
+          onInvalidation(connection.getOne());
+        }
+        return;
+      } catch (Exception e) {
+        if (closed) {
+          return;
+        }
+        logger.warn("Near-cache invalidation listener stopped, reconnecting: " + e.getMessage());
+        synchronized (trackingLock) {
+          closeConnections();
+        }
+        // invalidations sent while the subscriber was gone are lost
+        clearAll();
+        connection = reconnect();
+      }
+    }
+  }
+
+  private Connection reconnect() {
+    long delay = INITIAL_RECONNECT_DELAY_MILLIS;
+    while (!closed) {
+      try {
+        Thread.sleep(delay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return null;
+      }
+      synchronized (trackingLock) {
+        if (closed) {
+          return null;
+        }
+        try {
+          Connection connection = connect();
+          if (connection != null) {
+            caches.values().forEach(cache -> cache.ifPresent(c -> track(c.getKeyPrefix())));
+            // entries cached before tracking resumed may have missed their invalidation
+            clearAll();
+            logger.info("Near-cache invalidation listener reconnected");
+            return connection;
+          }
+        } catch (Exception e) {
+          logger.debug("Failed to reconnect the near-cache invalidation listener", e);
+          closeConnections();
+        }
+      }
+      delay = Math.min(delay * 2, MAX_RECONNECT_DELAY_MILLIS);
+    }
+    return null;
+  }
+
+  private void closeConnections() {
+    trackingAvailable = false;
+    if (subscriberConnection != null) {
+      closeQuietly(subscriberConnection);
+      subscriberConnection = null;
+    }
+    if (trackingConnection != null) {
+      closeQuietly(trackingConnection);
+      trackingConnection = null;
+    }
+  }
+
+  private void onInvalidation(Object reply) {
+    if (!(reply instanceof List<?> parts) || parts.size() < 3 || !(parts.get(0) instanceof byte[] type) || !"message"
+        .equals(SafeEncoder.encode(type))) {
+      return;
+    }
+    Object payload = parts.get(2);
+    if (payload == null) {
+      clearAll();
+    } else if (payload instanceof List<?> keys) {
+      for (Object key : keys) {
+        if (key instanceof byte[] bytes) {
+          invalidate(SafeEncoder.encode(bytes));
+        }
+      }
+    } else if (payload instanceof byte[] bytes) {
+      invalidate(SafeEncoder.encode(bytes));
+    }
+  }
+
+  private static void closeQuietly(Jedis jedis) {
+    try {
+      jedis.close();
+    } catch (Exception e) {
+      logger.debug("Failed to close near-cache connection", e);
+    }
+  }
+}
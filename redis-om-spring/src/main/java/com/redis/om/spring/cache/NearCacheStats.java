@@ -0,0 +1,26 @@
+package com.redis.om.spring.cache;
+
+/**
+ * Point-in-time statistics of an {@link EntityNearCache}.
+ *
+ * @param entityClassName the fully qualified name of the cached entity type
+ * @param size            the number of entries currently cached
+ * @param maxEntries      the configured capacity
+ * @param hits            the number of lookups served from the cache
+ * @param misses          the number of lookups that had to go to Redis
+ * @param evictions       the number of entries evicted because the capacity was exceeded
+ * @param invalidations   the number of entries removed because of writes or server invalidations
+ */
+public record NearCacheStats(String entityClassName, int size, int maxEntries, long hits, long misses,
+                             long evictions, long invalidations) {
+
+  /**
+   * Returns the fraction of lookups served from the cache.
+   *
+   * @return the hit ratio between {@code 0.0} and {@code 1.0}
+   */
+  public double hitRatio() {
+    long total = hits + misses;
+    return total == 0 ? 0.0 : (double) hits / total;
+  }
+}
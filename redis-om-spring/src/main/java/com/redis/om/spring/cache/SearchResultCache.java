@@ -0,0 +1,220 @@
+package com.redis.om.spring.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.redis.om.spring.RedisOMProperties;
+import com.redis.om.spring.autocomplete.Suggestion;
+import com.redis.om.spring.repository.query.autocomplete.AutoCompleteOptions;
+
+/**
+ * A bounded, staleness-limited cache of search and aggregation results.
+ * <p>
+ * Entries are keyed by the owning entity type, the index name and the normalized command
+ * arguments of the query (query string, parameters, limit, sort, return fields, dialect, ...),
+ * so two calls only share a result when Redis would receive the exact same command. An entry is
+ * served for at most {@code redis.om.spring.search-cache.max-staleness} after it was loaded.
+ * </p>
+ * <p>
+ * Every write performed through the repositories and key-value adapters calls
+ * {@link #invalidate(Class)} for the written entity type, which advances a per-type generation
+ * and makes every result cached for that type's indexes a miss. Writes made by other processes
+ * are only observed once the staleness window elapses, so the cache is meant for read-heavy
+ * queries over slowly changing data. It is disabled by default.
+ * </p>
+ * <p>
+ * Autocomplete suggestions can be cached separately, for the shorter
+ * {@code redis.om.spring.search-cache.suggestion-ttl}, to absorb the burst of identical prefix
+ * lookups produced by keystrokes. They share the capacity and the per-type invalidation of the
+ * query results.
+ * </p>
+ *
+ * @see com.redis.om.spring.ops.search.CachingSearchOperations
+ * @since 2.0.5
+ */
+public class SearchResultCache {
+  private final RedisOMProperties.SearchCache config;
+  private final Map<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+  private final LinkedHashMap<Key, Entry> entries;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Creates a new search result cache.
+   *
+   * @param properties the Redis OM configuration properties
+   */
+  public SearchResultCache(RedisOMProperties properties) {
+    this.config = properties.getSearchCache();
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+        return size() > Math.max(1, config.getMaxEntries());
+      }
+    };
+  }
+
+  /**
+   * Returns whether results of queries against the given entity type may be cached.
+   *
+   * @param entityClass the entity type owning the queried index
+   * @return {@code true} if caching is enabled for the entity type
+   */
+  public boolean isEnabledFor(Class<?> entityClass) {
+    return config.isEnabled() && entityClass != null && (config.getEntityClasses().isEmpty() || config
+        .getEntityClasses().contains(entityClass.getName()));
+  }
+
+  /**
+   * Returns whether autocomplete suggestions of the given entity type may be cached.
+   *
+   * @param entityClass the entity type owning the suggestion dictionary
+   * @return {@code true} if a suggestion time-to-live is configured for the entity type
+   * @since 2.0.5
+   */
+  public boolean isSuggestionCachingEnabledFor(Class<?> entityClass) {
+    return suggestionTtlMillis() > 0 && entityClass != null && (config.getEntityClasses().isEmpty() || config
+        .getEntityClasses().contains(entityClass.getName()));
+  }
+
+  /**
+   * Returns the cached suggestions for the given prefix, loading and caching them on a miss.
+   *
+   * @param entityClass the entity type owning the suggestion dictionary
+   * @param key         the suggestion dictionary key
+   * @param prefix      the autocomplete prefix
+   * @param options     the autocomplete options
+   * @param loader      fetches the suggestions from Redis
+   * @return the cached or freshly loaded suggestions, as an unmodifiable list shared with the cache
+   * @since 2.0.5
+   */
+  public List<Suggestion> getSuggestions(Class<?> entityClass, String key, String prefix, AutoCompleteOptions options,
+      Supplier<List<Suggestion>> loader) {
+    String query = String.join("\u0000", "SUGGET", prefix, String.valueOf(options.isFuzzy()), String.valueOf(options
+        .isWithScore()), String.valueOf(options.isWithPayload()), String.valueOf(options.getLimit()));
+    return List.copyOf(get(entityClass, key, query, suggestionTtlMillis(), () -> {
+      List<Suggestion> suggestions = loader.get();
+      return suggestions != null ? List.copyOf(suggestions) : List.of();
+    }));
+  }
+
+  /**
+   * Returns the cached result for the given query, loading and caching it on a miss.
+   *
+   * @param entityClass the entity type owning the queried index
+   * @param indexName   the queried index
+   * @param query       the normalized query arguments
+   * @param loader      executes the query against Redis
+   * @param <R>         the result type
+   * @return the cached or freshly loaded result
+   */
+  public <R> R get(Class<?> entityClass, String indexName, String query, Supplier<R> loader) {
+    return get(entityClass, indexName, query, maxStalenessMillis(), loader);
+  }
+
+  @SuppressWarnings(
+    "unchecked"
+  )
+  private <R> R get(Class<?> entityClass, String indexName, String query, long maxStaleness, Supplier<R> loader) {
+    Key key = new Key(entityClass, indexName, query);
+    long generation = generationOf(entityClass).get();
+    synchronized (entries) {
+      Entry entry = entries.get(key);
+      if (entry != null) {
+        if (entry.generation == generation && System.currentTimeMillis() - entry.loadedAt <= maxStaleness) {
+          hits.increment();
+          return (R) entry.result;
+        }
+        entries.remove(key);
+      }
+    }
+
+    misses.increment();
+    R result = loader.get();
+    if (result != null) {
+      synchronized (entries) {
+        if (generationOf(entityClass).get() == generation) {
+          entries.put(key, new Entry(result, generation, System.currentTimeMillis()));
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Invalidates every cached result of queries against the given entity type's indexes.
+   *
+   * @param entityClass the written entity type
+   */
+  public void invalidate(Class<?> entityClass) {
+    if (entityClass != null && (config.isEnabled() || suggestionTtlMillis() > 0)) {
+      generationOf(entityClass).incrementAndGet();
+    }
+  }
+
+  /**
+   * Removes all cached results.
+   */
+  public void clear() {
+    generations.values().forEach(AtomicLong::incrementAndGet);
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  /**
+   * Returns the number of queries served from the cache.
+   *
+   * @return the hit count
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of queries that had to be sent to Redis.
+   *
+   * @return the miss count
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the number of results currently held, including ones that became stale.
+   *
+   * @return the cache size
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private AtomicLong generationOf(Class<?> entityClass) {
+    return generations.computeIfAbsent(entityClass, c -> new AtomicLong());
+  }
+
+  private long maxStalenessMillis() {
+    Duration maxStaleness = config.getMaxStaleness();
+    return maxStaleness != null ? maxStaleness.toMillis() : 0L;
+  }
+
+  private long suggestionTtlMillis() {
+    Duration suggestionTtl = config.getSuggestionTtl();
+    return suggestionTtl != null ? suggestionTtl.toMillis() : 0L;
+  }
+
+  private record Key(Class<?> entityClass, String indexName, String query) {
+  }
+
+  private record Entry(Object result, long generation, long loadedAt) {
+  }
+}
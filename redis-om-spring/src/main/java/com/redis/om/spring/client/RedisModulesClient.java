@@ -13,6 +13,7 @@ import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ObjectUtils;
 
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.redis.om.spring.RedisOMProperties;
 
@@ -52,6 +53,7 @@ public class RedisModulesClient {
   private final GsonBuilder builder;
   private final UnifiedJedis unifiedJedis;
   private final JedisConnectionFactory jedisConnectionFactory;
+  private volatile Gson gson;
 
   /**
    * Constructs a new RedisModulesClient.
@@ -219,6 +221,29 @@ public class RedisModulesClient {
     }
   }
 
+  /**
+   * Opens a new, dedicated Jedis connection that is not borrowed from the connection pool.
+   * <p>
+   * Dedicated connections are meant for long-lived, stateful uses such as Pub/Sub subscribers or
+   * {@code CLIENT TRACKING} sessions, which would otherwise pin a pooled connection. The caller owns
+   * the returned connection and is responsible for closing it. Only standalone deployments are
+   * supported; an empty Optional is returned in Sentinel mode.
+   *
+   * @return an Optional containing a new connection, or empty if not supported by the deployment
+   */
+  public Optional<Jedis> openDedicatedConnection() {
+    if (jedisConnectionFactory.getSentinelConfiguration() != null) {
+      return Optional.empty();
+    }
+    var hostAndPort = new HostAndPort(jedisConnectionFactory.getHostName(), jedisConnectionFactory.getPort());
+    var standaloneConfig = jedisConnectionFactory.getStandaloneConfiguration();
+    var username = standaloneConfig != null ? standaloneConfig.getUsername() : null;
+    var password = standaloneConfig != null ? standaloneConfig.getPassword() : RedisPassword.none();
+    var jedisClientConfig = createClientConfig(jedisConnectionFactory.getDatabase(), username, password,
+        jedisConnectionFactory.getClientConfiguration());
+    return Optional.of(new Jedis(hostAndPort, jedisClientConfig));
+  }
+
   /**
    * Attempts to retrieve the underlying JedisCluster connection if available.
    * <p>
@@ -249,6 +274,20 @@ public class RedisModulesClient {
     return builder;
   }
 
+  /**
+   * Returns a Gson instance created once from the configured builder, for operations that decode
+   * JSON on every call and should not create a new instance each time.
+   *
+   * @return the shared Gson instance
+   * @since 2.0.5
+   */
+  public Gson gson() {
+    if (gson == null) {
+      gson = builder.create();
+    }
+    return gson;
+  }
+
   private JedisClientConfig createClientConfig(int database, @Nullable String username, RedisPassword password,
       JedisClientConfiguration clientConfiguration) {
 
@@ -0,0 +1,45 @@
+package com.redis.om.spring.convert;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses numbers stored as ASCII decimal strings, such as the epoch timestamps the date and time
+ * converters write, straight from the bytes read from Redis.
+ * <p>
+ * Values made of an optional minus sign and up to 18 digits, which cannot overflow a {@code long},
+ * are parsed without decoding them into a {@link String} first. Anything else is handed to
+ * {@link Long#parseLong(String)}, so the accepted input and the exceptions thrown are unchanged.
+ * </p>
+ *
+ * @since 2.0.5
+ */
+final class AsciiNumbers {
+  private static final int MAX_FAST_DIGITS = 18;
+
+  private AsciiNumbers() {
+  }
+
+  /**
+   * Parses a {@code long} from its UTF-8 encoded decimal representation.
+   *
+   * @param source the encoded number
+   * @return the parsed value
+   * @throws NumberFormatException if the bytes do not contain a valid {@code long}
+   */
+  static long parseLong(byte[] source) {
+    int start = source.length > 0 && source[0] == '-' ? 1 : 0;
+    int digits = source.length - start;
+    if (digits == 0 || digits > MAX_FAST_DIGITS) {
+      return Long.parseLong(new String(source, StandardCharsets.UTF_8));
+    }
+    long value = 0;
+    for (int i = start; i < source.length; i++) {
+      int digit = source[i] - '0';
+      if (digit < 0 || digit > 9) {
+        return Long.parseLong(new String(source, StandardCharsets.UTF_8));
+      }
+      value = value * 10 + digit;
+    }
+    return start == 1 ? -value : value;
+  }
+}
@@ -49,8 +49,13 @@ public class BytesToBooleanConverter implements Converter<byte[], Boolean> {
    */
   @Override
   public Boolean convert(byte[] source) {
-    String value = toString(source);
-    return ("1".equals(value) || "true".equalsIgnoreCase(value)) ? Boolean.TRUE : Boolean.FALSE;
+    if (source.length == 1) {
+      return source[0] == '1' ? Boolean.TRUE : Boolean.FALSE;
+    }
+    // "true" in any case, compared on the ASCII bytes
+    boolean isTrue = source.length == 4 && (source[0] | 0x20) == 't' && (source[1] | 0x20) == 'r' && (source[2] |
+        0x20) == 'u' && (source[3] | 0x20) == 'e';
+    return isTrue ? Boolean.TRUE : Boolean.FALSE;
   }
 
   /**
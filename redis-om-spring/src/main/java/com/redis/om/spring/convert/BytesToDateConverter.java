@@ -45,7 +45,7 @@ public class BytesToDateConverter implements Converter<byte[], Date> {
    */
   @Override
   public Date convert(byte[] source) {
-    long milliseconds = Long.parseLong(toString(source));
+    long milliseconds = AsciiNumbers.parseLong(source);
     return new Date(milliseconds);
   }
 
@@ -48,7 +48,7 @@ public class BytesToLocalDateConverter implements Converter<byte[], LocalDate> {
    */
   @Override
   public LocalDate convert(byte[] source) {
-    return LocalDate.ofInstant(Instant.ofEpochSecond(Long.parseLong(toString(source))), ZoneId.systemDefault());
+    return LocalDate.ofInstant(Instant.ofEpochSecond(AsciiNumbers.parseLong(source)), ZoneId.systemDefault());
   }
 
   /**
@@ -48,7 +48,7 @@ public class BytesToLocalDateTimeConverter implements Converter<byte[], LocalDat
    */
   @Override
   public LocalDateTime convert(byte[] source) {
-    return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(toString(source))), ZoneId.systemDefault());
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(AsciiNumbers.parseLong(source)), ZoneId.systemDefault());
   }
 
   /**
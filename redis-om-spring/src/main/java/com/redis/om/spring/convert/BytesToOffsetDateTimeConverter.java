@@ -48,7 +48,7 @@ public class BytesToOffsetDateTimeConverter implements Converter<byte[], OffsetD
    */
   @Override
   public OffsetDateTime convert(byte[] source) {
-    return OffsetDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(toString(source))), ZoneId.systemDefault());
+    return OffsetDateTime.ofInstant(Instant.ofEpochMilli(AsciiNumbers.parseLong(source)), ZoneId.systemDefault());
   }
 
   /**
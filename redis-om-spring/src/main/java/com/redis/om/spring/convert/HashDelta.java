@@ -0,0 +1,92 @@
+package com.redis.om.spring.convert;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * The field-level difference between the Redis hash currently stored for an entity and the hash
+ * the entity maps to.
+ * <p>
+ * Applying a delta takes an {@code HSET} of the {@link #getChangedFields() changed fields} and an
+ * {@code HDEL} of the {@link #getRemovedFields() removed fields}, instead of deleting the key and
+ * rewriting every field. For wide hashes where a save only touches a few fields this writes less
+ * and, since the key never disappears, RediSearch only reindexes the document once and never drops
+ * it from query results in between.
+ * </p>
+ * <p>
+ * A delta is only as accurate as the snapshot it is computed from; a field written by another
+ * client after the snapshot was taken is only overwritten if this save also changes it.
+ * </p>
+ *
+ * @since 2.0.5
+ * @see com.redis.om.spring.RedisOMProperties.Repository#isDiffHashWrites()
+ */
+public final class HashDelta {
+  private final Map<byte[], byte[]> changedFields;
+  private final List<byte[]> removedFields;
+
+  private HashDelta(Map<byte[], byte[]> changedFields, List<byte[]> removedFields) {
+    this.changedFields = changedFields;
+    this.removedFields = removedFields;
+  }
+
+  /**
+   * Computes the delta that turns the {@code current} hash into the {@code target} hash.
+   *
+   * @param current the fields currently stored, as returned by {@code HGETALL}
+   * @param target  the fields the entity maps to
+   * @return the delta
+   */
+  public static HashDelta between(Map<byte[], byte[]> current, Map<byte[], byte[]> target) {
+    Map<ByteBuffer, byte[]> remaining = new HashMap<>(current.size() * 4 / 3 + 1);
+    current.forEach((field, value) -> remaining.put(ByteBuffer.wrap(field), value));
+
+    Map<byte[], byte[]> changed = new LinkedHashMap<>();
+    target.forEach((field, value) -> {
+      byte[] currentValue = remaining.remove(ByteBuffer.wrap(field));
+      if (currentValue == null || !Arrays.equals(currentValue, value)) {
+        changed.put(field, value);
+      }
+    });
+
+    List<byte[]> removed = new ArrayList<>(remaining.size());
+    remaining.keySet().forEach(field -> removed.add(field.array()));
+    return new HashDelta(changed, removed);
+  }
+
+  /**
+   * Returns the fields that are new or whose value changed, to be written with {@code HSET}.
+   *
+   * @return the changed fields and their new values
+   */
+  public Map<byte[], byte[]> getChangedFields() {
+    return changedFields;
+  }
+
+  /**
+   * Returns the fields that are no longer mapped, to be removed with {@code HDEL}.
+   *
+   * @return the removed fields
+   */
+  public List<byte[]> getRemovedFields() {
+    return removedFields;
+  }
+
+  /**
+   * Returns the removed fields as {@code HDEL} arguments.
+   *
+   * @return the removed fields
+   */
+  public byte[][] getRemovedFieldsArray() {
+    return removedFields.toArray(new byte[0][]);
+  }
+
+  /**
+   * Returns whether the stored hash already matches the target.
+   *
+   * @return {@code true} if there is nothing to write
+   */
+  public boolean isEmpty() {
+    return changedFields.isEmpty() && removedFields.isEmpty();
+  }
+}
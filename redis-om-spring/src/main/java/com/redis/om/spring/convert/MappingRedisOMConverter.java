@@ -3,9 +3,9 @@ package com.redis.om.spring.convert;
 import static com.redis.om.spring.util.ObjectUtils.getCollectionElementClass;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -13,6 +13,7 @@ import java.util.stream.StreamSupport;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.CollectionFactory;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.core.convert.support.DefaultConversionService;
@@ -37,10 +38,14 @@ import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.*;
 
+import com.redis.om.spring.annotations.BinaryFormat;
 import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.SerializationHint;
 import com.redis.om.spring.annotations.TagIndexed;
 import com.redis.om.spring.mapping.RedisEnhancedMappingContext;
 import com.redis.om.spring.repository.query.QueryUtils;
+import com.redis.om.spring.serialization.binary.BinaryCodec;
+import com.redis.om.spring.serialization.binary.BinaryValue;
 
 /**
  * Redis Object Mapper converter that provides enhanced mapping capabilities between
@@ -57,6 +62,10 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
   private final RedisTypeMapper typeMapper;
   private final Comparator<String> listKeyComparator = Comparator.nullsLast(NaturalOrderingKeyComparator.INSTANCE);
   private final ProjectionFactory projectionFactory;
+  private final Map<Class<?>, WritePlan> writePlans = new ConcurrentHashMap<>();
+  private final Map<TypeInformation<?>, ReadPlan> readPlans = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Map<String, Class<?>>> projectionPropertyTypes = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Map<String, String>> joinSeparators = new ConcurrentHashMap<>();
   private @Nullable ReferenceResolver referenceResolver;
   private CustomConversions customConversions;
 
@@ -183,37 +192,23 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
           .getType());
     }
 
-    RedisPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(readType);
-    EntityInstantiator instantiator = entityInstantiators.getInstantiatorFor(entity);
+    ReadPlan plan = readPlanFor(readType);
+    RedisPersistentEntity<?> entity = plan.entity();
 
     Object instance;
     if (type.isInterface()) {
       instance = source.getBucket().asMap();
     } else {
-      instance = instantiator.createInstance((RedisPersistentEntity<RedisPersistentProperty>) entity,
+      instance = plan.instantiator().createInstance((RedisPersistentEntity<RedisPersistentProperty>) entity,
           new PersistentEntityParameterValueProvider<>(entity, new ConverterAwareParameterValueProvider(entityClass,
               path, source, conversionService), this.conversionService));
     }
 
     if (type.isInterface()) {
       Map<String, Object> map = new HashMap<>();
-      RedisPersistentEntity<?> persistentEntity = mappingContext.getRequiredPersistentEntity(readType);
-
-      // Build a map of property names to their types from the projection interface
-      Map<String, Class<?>> projectionPropertyTypes = new HashMap<>();
-      for (java.lang.reflect.Method method : type.getMethods()) {
-        if (method.getParameterCount() == 0 && !method.getReturnType().equals(void.class)) {
-          String propertyName = null;
-          if (method.getName().startsWith("get") && method.getName().length() > 3) {
-            propertyName = StringUtils.uncapitalize(method.getName().substring(3));
-          } else if (method.getName().startsWith("is") && method.getName().length() > 2) {
-            propertyName = StringUtils.uncapitalize(method.getName().substring(2));
-          }
-          if (propertyName != null) {
-            projectionPropertyTypes.put(propertyName, method.getReturnType());
-          }
-        }
-      }
+      // The property names of the projection interface and their types
+      Map<String, Class<?>> projectionPropertyTypes = this.projectionPropertyTypes.computeIfAbsent(type,
+          MappingRedisOMConverter::resolveProjectionPropertyTypes);
 
       for (Entry<String, byte[]> entry : source.getBucket().asMap().entrySet()) {
         String key = entry.getKey();
@@ -227,7 +222,7 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
           convertedValue = conversionService.convert(value, targetType);
         } else {
           // Fall back to entity property type if available
-          RedisPersistentProperty persistentProperty = persistentEntity.getPersistentProperty(key);
+          RedisPersistentProperty persistentProperty = entity.getPersistentProperty(key);
           if (persistentProperty != null) {
             convertedValue = conversionService.convert(value, persistentProperty.getType());
           } else {
@@ -242,22 +237,70 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
       return projectionFactory.createProjection(type, map);
     } else {
       PersistentPropertyAccessor<Object> accessor = entity.getPropertyAccessor(instance);
-      entity.doWithProperties((PropertyHandler<RedisPersistentProperty>) persistentProperty -> {
-        InstanceCreatorMetadata<RedisPersistentProperty> constructor = entity.getInstanceCreatorMetadata();
-        if (constructor != null && constructor.isCreatorParameter(persistentProperty)) {
-          return;
-        }
+      for (RedisPersistentProperty persistentProperty : plan.properties()) {
         Object targetValue = readProperty(entityClass, path, source, persistentProperty);
         if (targetValue != null) {
           accessor.setProperty(persistentProperty, targetValue);
         }
-      });
-      readAssociation(path, source, entity, accessor);
+      }
+      if (plan.hasAssociations()) {
+        readAssociation(path, source, entity, accessor);
+      }
     }
 
     return (R) instance;
   }
 
+  /**
+   * Returns the read plan for the given type, resolving it on first use.
+   *
+   * @param type the type being read
+   * @return the read plan
+   */
+  private ReadPlan readPlanFor(TypeInformation<?> type) {
+    ReadPlan plan = readPlans.get(type);
+    if (plan == null) {
+      plan = readPlans.computeIfAbsent(type, this::createReadPlan);
+    }
+    return plan;
+  }
+
+  private ReadPlan createReadPlan(TypeInformation<?> type) {
+    RedisPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(type);
+    InstanceCreatorMetadata<RedisPersistentProperty> constructor = entity.getInstanceCreatorMetadata();
+    List<RedisPersistentProperty> properties = new ArrayList<>();
+
+    entity.doWithProperties((PropertyHandler<RedisPersistentProperty>) persistentProperty -> {
+      if (constructor == null || !constructor.isCreatorParameter(persistentProperty)) {
+        properties.add(persistentProperty);
+      }
+    });
+
+    boolean[] hasAssociations = { false };
+    entity.doWithAssociations((AssociationHandler<RedisPersistentProperty>) association -> hasAssociations[0] = true);
+
+    return new ReadPlan(entity, entityInstantiators.getInstantiatorFor(entity), List.copyOf(properties),
+        hasAssociations[0]);
+  }
+
+  private static Map<String, Class<?>> resolveProjectionPropertyTypes(Class<?> projectionType) {
+    Map<String, Class<?>> propertyTypes = new HashMap<>();
+    for (java.lang.reflect.Method method : projectionType.getMethods()) {
+      if (method.getParameterCount() == 0 && !method.getReturnType().equals(void.class)) {
+        String propertyName = null;
+        if (method.getName().startsWith("get") && method.getName().length() > 3) {
+          propertyName = StringUtils.uncapitalize(method.getName().substring(3));
+        } else if (method.getName().startsWith("is") && method.getName().length() > 2) {
+          propertyName = StringUtils.uncapitalize(method.getName().substring(2));
+        }
+        if (propertyName != null) {
+          propertyTypes.put(propertyName, method.getReturnType());
+        }
+      }
+    }
+    return propertyTypes;
+  }
+
   /**
    * Reads a property value from Redis data source and converts it to the appropriate type.
    *
@@ -273,6 +316,16 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
 
     String currentPath = !path.isEmpty() ? path + "." + persistentProperty.getName() : persistentProperty.getName();
 
+    if (binaryFormatOf(persistentProperty) != null) {
+      byte[] bytes = source.getBucket().get(currentPath);
+      if (bytes != null && BinaryCodec.isEncoded(bytes)) {
+        return readBinary(persistentProperty, bytes);
+      }
+      if (persistentProperty.getType() == BinaryValue.class) {
+        return readLegacyBinaryValue(entityClass, currentPath, source, persistentProperty);
+      }
+    }
+
     TypeInformation<?> typeInformation = persistentProperty.getTypeInformation();
 
     if (persistentProperty.isMap()) {
@@ -339,6 +392,73 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
     return fromBytes(sourceBytes, typeToUse);
   }
 
+  /**
+   * Returns the binary format a property is stored in, or {@code null} if it is mapped as usual.
+   */
+  @Nullable
+  private static SerializationHint binaryFormatOf(RedisPersistentProperty property) {
+    if (property.getType() != BinaryValue.class && !property.isAnnotationPresent(BinaryFormat.class)) {
+      return null;
+    }
+    java.lang.reflect.Field field = property.getField();
+    return field != null ? BinaryCodec.formatOf(field) : null;
+  }
+
+  private static byte[] writeBinary(RedisPersistentProperty property, Object value) {
+    java.lang.reflect.Type valueType = BinaryCodec.valueTypeOf(property.getRequiredField());
+    if (value instanceof BinaryValue<?> binaryValue) {
+      // values that were never decoded are written back unchanged
+      byte[] encoded = binaryValue.getEncoded();
+      if (encoded != null) {
+        return encoded;
+      }
+      value = binaryValue.get();
+    }
+    return BinaryCodec.encode(BinaryCodec.gson().toJsonTree(value, valueType), binaryFormatOf(property));
+  }
+
+  private static Object readBinary(RedisPersistentProperty property, byte[] bytes) {
+    java.lang.reflect.Type valueType = BinaryCodec.valueTypeOf(property.getRequiredField());
+    if (property.getType() == BinaryValue.class) {
+      return BinaryValue.encoded(bytes, b -> BinaryCodec.gson().fromJson(BinaryCodec.decode(b), valueType));
+    }
+    return BinaryCodec.gson().fromJson(BinaryCodec.decode(bytes), valueType);
+  }
+
+  /**
+   * Reads a {@link BinaryValue} property stored before it was binary encoded, i.e. mapped like a
+   * property of its value type, and wraps the value so that it is binary encoded when next written.
+   */
+  @Nullable
+  private Object readLegacyBinaryValue(Class<?> entityClass, String path, RedisData source,
+      RedisPersistentProperty property) {
+    ResolvableType valueType = ResolvableType.forType(BinaryCodec.valueTypeOf(property.getRequiredField()));
+    Class<?> valueClass = valueType.resolve(Object.class);
+    Object value;
+    if (Map.class.isAssignableFrom(valueClass)) {
+      Class<?> keyType = valueType.asMap().resolveGeneric(0);
+      Class<?> mapValueType = valueType.asMap().resolveGeneric(1);
+      keyType = keyType != null ? keyType : String.class;
+      mapValueType = mapValueType != null ? mapValueType : String.class;
+      value = conversionService.canConvert(byte[].class, mapValueType) ?
+          readMapOfSimpleTypes(path, valueClass, keyType, mapValueType, source) :
+          readMapOfComplexTypes(entityClass, path, valueClass, keyType, mapValueType, source);
+    } else if (Collection.class.isAssignableFrom(valueClass)) {
+      Class<?> elementType = valueType.asCollection().resolveGeneric(0);
+      value = readCollectionOrArray(entityClass, path, valueClass, elementType != null ? elementType : String.class,
+          source.getBucket());
+    } else if (source.getBucket().get(path) != null) {
+      byte[] bytes = source.getBucket().get(path);
+      value = conversionService.canConvert(byte[].class, valueClass) ? fromBytes(bytes, valueClass) : null;
+    } else {
+      Bucket nested = source.getBucket().extract(path + ".");
+      value = nested.isEmpty() || valueClass == Object.class ?
+          null :
+          readInternal(entityClass, path, valueClass, new RedisData(nested));
+    }
+    return value != null ? BinaryValue.of(value) : null;
+  }
+
   private void readAssociation(String path, RedisData source, RedisPersistentEntity<?> entity,
       PersistentPropertyAccessor<?> accessor) {
 
@@ -434,8 +554,8 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
     sink.setKeyspace(entity.getKeySpace());
 
     if (entity.getTypeInformation().isCollectionLike()) {
-      writeCollection(entity.getType(), entity.getKeySpace(), "", (List) source, entity.getTypeInformation()
-          .getRequiredComponentType(), sink);
+      writeCollection(entity.getKeySpace(), "", (List) source, entity.getTypeInformation().getRequiredComponentType(),
+          null, sink);
     } else {
       writeInternal(entity.getKeySpace(), "", source, entity.getTypeInformation(), sink);
     }
@@ -548,8 +668,8 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
       Collection<?> collection = pUpdate.getValue() instanceof Collection ?
           (Collection<?>) pUpdate.getValue() :
           Collections.singleton(pUpdate.getValue());
-      writeCollection(entity.getType(), entity.getKeySpace(), pUpdate.getPropertyPath(), collection, targetProperty
-          .getTypeInformation().getRequiredActualType(), sink);
+      writeCollection(entity.getKeySpace(), pUpdate.getPropertyPath(), collection, targetProperty.getTypeInformation()
+          .getRequiredActualType(), joinSeparatorFor(entity.getType(), pUpdate.getPropertyPath()), sink);
     } else if (targetProperty.isMap()) {
 
       Map<Object, Object> map = new HashMap<>();
@@ -659,72 +779,148 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
       typeMapper.writeType(value.getClass(), sink.getBucket().getPropertyPath(path));
     }
 
-    RedisPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(value.getClass());
+    WritePlan plan = writePlanFor(value.getClass());
+    RedisPersistentEntity<?> entity = plan.entity();
     PersistentPropertyAccessor<Object> accessor = entity.getPropertyAccessor(value);
 
-    entity.doWithProperties((PropertyHandler<RedisPersistentProperty>) persistentProperty -> {
-
-      String propertyStringPath = (!path.isEmpty() ? path + "." : "") + persistentProperty.getName();
-
-      Object propertyValue = accessor.getProperty(persistentProperty);
-      if (persistentProperty.isIdProperty()) {
-
-        if (propertyValue != null) {
-          sink.getBucket().put(propertyStringPath, toBytes(propertyValue));
-        }
-        return;
-      }
+    for (PropertyWrite property : plan.properties()) {
 
-      if (persistentProperty.isMap()) {
+      String propertyStringPath = property.pathFrom(path);
 
-        if (propertyValue != null) {
-          writeMap(entity.getType(), keyspace, propertyStringPath, persistentProperty.getMapValueType(),
-              (Map<?, ?>) propertyValue, sink);
+      Object propertyValue = accessor.getProperty(property.property());
+      switch (property.kind()) {
+        case ID -> {
+          if (propertyValue != null) {
+            sink.getBucket().put(propertyStringPath, toBytes(propertyValue));
+          }
         }
-      } else if (persistentProperty.isCollectionLike() && isByteArray(persistentProperty)) {
-
-        if (propertyValue == null) {
-          writeCollection(entity.getType(), keyspace, propertyStringPath, null, persistentProperty.getTypeInformation()
-              .getRequiredComponentType(), sink);
-        } else {
-
-          // Check if collection contains nulls (either null elements or arrays with nulls)
-          // If so, skip writing the collection entirely
-          boolean hasNulls = collectionContainsNulls(propertyValue);
-          if (hasNulls) {
-            // Don't persist collections with nulls
-            return;
+        case MAP -> {
+          if (propertyValue != null) {
+            writeMap(entity.getType(), keyspace, propertyStringPath, property.property().getMapValueType(),
+                (Map<?, ?>) propertyValue, sink);
           }
+        }
+        case COLLECTION -> {
+          String separator = path.isEmpty() ? property.joinSeparator() : null;
+          if (propertyValue == null) {
+            writeCollection(keyspace, propertyStringPath, null, property.typeHint(), separator, sink);
+          } else if (collectionContainsNulls(propertyValue)) {
+            // Don't persist collections with nulls (either null elements or arrays with nulls)
+            continue;
+          } else if (Iterable.class.isAssignableFrom(propertyValue.getClass())) {
 
-          if (Iterable.class.isAssignableFrom(propertyValue.getClass())) {
-
-            writeCollection(entity.getType(), keyspace, propertyStringPath, (Iterable<?>) propertyValue,
-                persistentProperty.getTypeInformation().getRequiredComponentType(), sink);
+            writeCollection(keyspace, propertyStringPath, (Iterable<?>) propertyValue, property.typeHint(), separator,
+                sink);
           } else if (propertyValue.getClass().isArray()) {
 
-            writeCollection(entity.getType(), keyspace, propertyStringPath, CollectionUtils.arrayToList(propertyValue),
-                persistentProperty.getTypeInformation().getRequiredComponentType(), sink);
+            writeCollection(keyspace, propertyStringPath, CollectionUtils.arrayToList(propertyValue), property
+                .typeHint(), separator, sink);
           } else {
 
             throw new RuntimeException("Don't know how to handle " + propertyValue.getClass() + " type collection");
           }
         }
+        case ENTITY -> {
+          if (propertyValue != null) {
+            writeInternal(keyspace, propertyStringPath, propertyValue, property.typeHint(), sink);
+          }
+        }
+        case BINARY -> {
+          if (propertyValue != null) {
+            sink.getBucket().put(propertyStringPath, writeBinary(property.property(), propertyValue));
+          }
+        }
+        default -> {
+          if (propertyValue != null) {
+            writeToBucket(propertyStringPath, propertyValue, sink, property.property().getType());
+          }
+        }
+      }
+    }
 
-      } else if (persistentProperty.isEntity()) {
+    if (plan.hasAssociations()) {
+      writeAssociation(path, entity, value, sink);
+    }
+  }
 
-        if (propertyValue != null) {
-          writeInternal(keyspace, propertyStringPath, propertyValue, persistentProperty.getTypeInformation()
-              .getRequiredActualType(), sink);
-        }
+  /**
+   * Returns the write plan for the given type, resolving it on first use.
+   *
+   * @param type the type of the value being written
+   * @return the write plan
+   */
+  private WritePlan writePlanFor(Class<?> type) {
+    WritePlan plan = writePlans.get(type);
+    if (plan == null) {
+      plan = writePlans.computeIfAbsent(type, this::createWritePlan);
+    }
+    return plan;
+  }
+
+  private WritePlan createWritePlan(Class<?> type) {
+    RedisPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(type);
+    List<PropertyWrite> properties = new ArrayList<>();
+
+    entity.doWithProperties((PropertyHandler<RedisPersistentProperty>) persistentProperty -> {
+      String name = persistentProperty.getName();
+      if (persistentProperty.isIdProperty()) {
+        properties.add(new PropertyWrite(persistentProperty, name, WriteKind.ID, null, null));
+      } else if (binaryFormatOf(persistentProperty) != null) {
+        properties.add(new PropertyWrite(persistentProperty, name, WriteKind.BINARY, null, null));
+      } else if (persistentProperty.isMap()) {
+        properties.add(new PropertyWrite(persistentProperty, name, WriteKind.MAP, null, null));
+      } else if (persistentProperty.isCollectionLike() && isByteArray(persistentProperty)) {
+        properties.add(new PropertyWrite(persistentProperty, name, WriteKind.COLLECTION, persistentProperty
+            .getTypeInformation().getRequiredComponentType(), joinSeparatorFor(entity.getType(), name)));
+      } else if (persistentProperty.isEntity()) {
+        properties.add(new PropertyWrite(persistentProperty, name, WriteKind.ENTITY, persistentProperty
+            .getTypeInformation().getRequiredActualType(), null));
       } else {
+        properties.add(new PropertyWrite(persistentProperty, name, WriteKind.SIMPLE, null, null));
+      }
+    });
+
+    boolean[] hasAssociations = { false };
+    entity.doWithAssociations((AssociationHandler<RedisPersistentProperty>) association -> hasAssociations[0] = true);
+
+    return new WritePlan(entity, List.copyOf(properties), hasAssociations[0]);
+  }
+
+  /**
+   * Returns the separator a collection field of strings annotated with {@link Indexed} or
+   * {@link TagIndexed} is joined with into a single tag value, or {@code null} if the field's
+   * elements are stored one by one. The field is looked up by name as
+   * {@link ReflectionUtils#findField(Class, String)} would, so a path that is not a field name yields
+   * {@code null}.
+   */
+  @Nullable
+  private String joinSeparatorFor(Class<?> entityClass, String fieldName) {
+    return joinSeparators.computeIfAbsent(entityClass, MappingRedisOMConverter::resolveJoinSeparators).get(fieldName);
+  }
 
-        if (propertyValue != null) {
-          writeToBucket(propertyStringPath, propertyValue, sink, persistentProperty.getType());
+  private static Map<String, String> resolveJoinSeparators(Class<?> entityClass) {
+    Map<String, String> separators = new HashMap<>();
+    Set<String> fieldNames = new HashSet<>();
+    ReflectionUtils.doWithFields(entityClass, field -> {
+      if (!fieldNames.add(field.getName())) {
+        // hidden by a field of the same name in a subclass
+        return;
+      }
+      try {
+        Class<?> collectionElementType = getCollectionElementClass(field).orElse(null);
+        if (collectionElementType == null || !CharSequence.class.isAssignableFrom(collectionElementType)) {
+          return;
+        }
+        if (field.isAnnotationPresent(Indexed.class)) {
+          separators.put(field.getName(), field.getAnnotation(Indexed.class).separator());
+        } else if (field.isAnnotationPresent(TagIndexed.class)) {
+          separators.put(field.getName(), field.getAnnotation(TagIndexed.class).separator());
         }
+      } catch (SecurityException | NoSuchElementException e) {
+        // it's ok, move on!
       }
     });
-
-    writeAssociation(path, entity, value, sink);
+    return separators;
   }
 
   private void writeAssociation(String path, RedisPersistentEntity<?> entity, @Nullable Object value, RedisData sink) {
@@ -779,46 +975,24 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
   }
 
   /**
-   * @param entityClass
    * @param keyspace
    * @param path
    * @param values
    * @param typeHint
+   * @param joinSeparator the separator to join the values into a single tag value with, or
+   *                      {@code null} to write each value
    * @param sink
    */
-  private void writeCollection(Class<?> entityClass, @Nullable String keyspace, String path,
-      @Nullable Iterable<?> values, TypeInformation<?> typeHint, RedisData sink) {
+  private void writeCollection(@Nullable String keyspace, String path, @Nullable Iterable<?> values,
+      TypeInformation<?> typeHint, @Nullable String joinSeparator, RedisData sink) {
 
     if (values == null) {
       return;
     }
 
-    Field field = null;
-    Class<?> collectionElementType = null;
-    Indexed indexed = null;
-    TagIndexed tagIndexed = null;
-    try {
-      field = ReflectionUtils.findField(entityClass, path);
-      if (field != null) {
-        Optional<Class<?>> maybeCollectionElementType = getCollectionElementClass(field);
-        collectionElementType = maybeCollectionElementType.orElse(null);
-        if (field.isAnnotationPresent(Indexed.class)) {
-          indexed = field.getAnnotation(Indexed.class);
-        } else if (field.isAnnotationPresent(TagIndexed.class)) {
-          tagIndexed = field.getAnnotation(TagIndexed.class);
-        }
-      }
-    } catch (SecurityException | NoSuchElementException e1) {
-      // it's ok, move on!
-    }
-
-    if ((field != null) && (collectionElementType != null) && (indexed != null || tagIndexed != null) && CharSequence.class
-        .isAssignableFrom(collectionElementType)) {
-      @SuppressWarnings(
-        "null"
-      ) String separator = indexed != null ? indexed.separator() : tagIndexed.separator();
+    if (joinSeparator != null) {
       String value = StreamSupport.stream(values.spliterator(), false).map(Object::toString).map(QueryUtils::escape)
-          .collect(Collectors.joining(separator));
+          .collect(Collectors.joining(joinSeparator));
       writeInternal(keyspace, path, value, typeHint, sink);
     } else {
       int i = 0;
@@ -856,23 +1030,25 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
       return;
     }
 
-    if (customConversions.hasCustomWriteTarget(value.getClass())) {
+    Optional<Class<?>> targetType = customConversions.getCustomWriteTarget(value.getClass());
 
-      Optional<Class<?>> targetType = customConversions.getCustomWriteTarget(value.getClass());
+    if (targetType.isPresent()) {
 
-      if (!propertyType.isPrimitive() && targetType.filter(it -> ClassUtils.isAssignable(Map.class, it))
-          .isEmpty() && customConversions.isSimpleType(value.getClass()) && value.getClass() != propertyType) {
+      boolean toMap = ClassUtils.isAssignable(Map.class, targetType.get());
+
+      if (!propertyType.isPrimitive() && !toMap && value.getClass() != propertyType && customConversions.isSimpleType(
+          value.getClass())) {
         typeMapper.writeType(value.getClass(), sink.getBucket().getPropertyPath(path));
       }
 
-      if (targetType.filter(it -> ClassUtils.isAssignable(Map.class, it)).isPresent()) {
+      if (toMap) {
 
         Map<?, ?> map = (Map<?, ?>) conversionService.convert(value, targetType.get());
         for (Map.Entry<?, ?> entry : map.entrySet()) {
           sink.getBucket().put(path + (StringUtils.hasText(path) ? "." : "") + entry.getKey(), toBytes(entry
               .getValue()));
         }
-      } else if (targetType.filter(it -> ClassUtils.isAssignable(byte[].class, it)).isPresent()) {
+      } else if (ClassUtils.isAssignable(byte[].class, targetType.get())) {
         sink.getBucket().put(path, toBytes(value));
       } else {
         throw new IllegalArgumentException(String.format("Cannot convert value '%s' of type %s to bytes.", value, value
@@ -884,34 +1060,14 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
   @Nullable
   private Object readCollectionOrArray(Class<?> entityClass, String path, Class<?> collectionType, Class<?> valueType,
       Bucket bucket) {
-    Field field = null;
-    Class<?> collectionElementType = null;
-    Indexed indexed = null;
-    TagIndexed tagIndexed = null;
-    try {
-      field = ReflectionUtils.findField(entityClass, path);
-      if (field != null) {
-        Optional<Class<?>> maybeCollectionElementType = com.redis.om.spring.util.ObjectUtils.getCollectionElementClass(
-            field);
-        collectionElementType = maybeCollectionElementType.orElse(null);
-        if (field.isAnnotationPresent(Indexed.class)) {
-          indexed = field.getAnnotation(Indexed.class);
-        } else if (field.isAnnotationPresent(TagIndexed.class)) {
-          tagIndexed = field.getAnnotation(TagIndexed.class);
-        }
-      }
-    } catch (SecurityException | NoSuchElementException e) {
-      // it's ok, move on!
-    }
+    String separator = joinSeparatorFor(entityClass, path);
 
     Collection<Object> target;
     boolean isArray = collectionType.isArray();
 
-    if ((field != null) && (indexed != null || tagIndexed != null) && (collectionElementType != null && CharSequence.class
-        .isAssignableFrom(collectionElementType))) {
-      @SuppressWarnings(
-        "null"
-      ) String separator = indexed != null ? indexed.separator() : tagIndexed.separator();
+    List<byte[]> simpleValues;
+
+    if (separator != null) {
       Bucket elementData = bucket.extract(path);
       TypeInformation<?> typeInformation = typeMapper.readType(elementData.getPropertyPath(path), TypeInformation.of(
           valueType));
@@ -932,6 +1088,13 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
           .toList();
       target = CollectionFactory.createCollection(collectionTypeToUse, valueType, values.size());
       target.addAll(values);
+    } else if (!path.isEmpty() && conversionService.canConvert(byte[].class, valueType) && (simpleValues = readIndexedValues(
+        path, bucket)) != null) {
+      Class<?> collectionTypeToUse = isArray ? ArrayList.class : collectionType;
+      target = CollectionFactory.createCollection(collectionTypeToUse, valueType, simpleValues.size());
+      for (byte[] value : simpleValues) {
+        target.add(fromBytes(value, valueType));
+      }
     } else {
       List<String> keys = new ArrayList<>(bucket.extractAllKeysFor(path));
       keys.sort(listKeyComparator);
@@ -1006,6 +1169,42 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
     return conversionService.convert(key, String.class);
   }
 
+  /**
+   * Reads the elements stored at {@code path.[0]}, {@code path.[1]}, ... in index order with a single
+   * pass over the bucket. Returns {@code null} if any key below the path is not a plain element, such
+   * as a type hint or a nested property, in which case the elements need to be read one by one.
+   *
+   * @param path   the path of the collection
+   * @param bucket the bucket to read from
+   * @return the element values in index order, or {@code null}
+   */
+  @Nullable
+  private static List<byte[]> readIndexedValues(String path, Bucket bucket) {
+    String prefix = path + ".[";
+    TreeMap<Integer, byte[]> values = new TreeMap<>();
+    for (Entry<String, byte[]> entry : bucket.entrySet()) {
+      String key = entry.getKey();
+      if (!key.startsWith(prefix)) {
+        continue;
+      }
+      int end = key.length() - 1;
+      int start = prefix.length();
+      if (end <= start || end - start > 9 || key.charAt(end) != ']' || (key.charAt(start) == '0' && end - start > 1)) {
+        return null;
+      }
+      int index = 0;
+      for (int i = start; i < end; i++) {
+        char c = key.charAt(i);
+        if (c < '0' || c > '9') {
+          return null;
+        }
+        index = index * 10 + (c - '0');
+      }
+      values.put(index, entry.getValue());
+    }
+    return new ArrayList<>(values.values());
+  }
+
   /**
    * @param path
    * @param mapType
@@ -1021,15 +1220,18 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
     Bucket partial = source.getBucket().extract(path + ".[");
 
     Map<Object, Object> target = CollectionFactory.createMap(mapType, partial.size());
+    boolean hasTypeHints = partial.keySet().stream().anyMatch(typeMapper::isTypeKey);
 
     for (Entry<String, byte[]> entry : partial.entrySet()) {
 
-      if (typeMapper.isTypeKey(entry.getKey())) {
+      if (hasTypeHints && typeMapper.isTypeKey(entry.getKey())) {
         continue;
       }
 
       Object key = extractMapKeyForPath(path, entry.getKey(), keyType);
-      Class<?> typeToUse = getTypeHint(path + ".[" + key + "]", source.getBucket(), valueType);
+      Class<?> typeToUse = hasTypeHints ?
+          getTypeHint(path + ".[" + key + "]", source.getBucket(), valueType) :
+          valueType;
       target.put(key, fromBytes(entry.getValue(), typeToUse));
     }
 
@@ -1615,4 +1817,55 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
       return (T) conversionService.convert(value, property.getType());
     }
   }
+
+  private enum WriteKind {
+    ID,
+    MAP,
+    COLLECTION,
+    ENTITY,
+    BINARY,
+    SIMPLE
+  }
+
+  /**
+   * How instances of a type are read, resolved once per type.
+   *
+   * @param entity          the persistent entity of the type
+   * @param instantiator    the instantiator creating instances of the type
+   * @param properties      the persistent properties that are set after instantiation, i.e. that are
+   *                        not creator parameters
+   * @param hasAssociations whether the entity has associations to resolve
+   */
+  private record ReadPlan(RedisPersistentEntity<?> entity, EntityInstantiator instantiator,
+      List<RedisPersistentProperty> properties, boolean hasAssociations) {
+  }
+
+  /**
+   * How the properties of a type are written, resolved once per type so that writing an instance
+   * needs no persistent property inspection, field lookups or annotation lookups.
+   *
+   * @param entity          the persistent entity of the type
+   * @param properties      the persistent properties, in the order they are written
+   * @param hasAssociations whether the entity has associations to write as references
+   */
+  private record WritePlan(RedisPersistentEntity<?> entity, List<PropertyWrite> properties, boolean hasAssociations) {
+  }
+
+  /**
+   * How a single persistent property is written.
+   *
+   * @param property      the persistent property
+   * @param name          the property name, which is also its path at the top level
+   * @param kind          how the value is written
+   * @param typeHint      the element type of a collection or the actual type of a nested entity
+   * @param joinSeparator for a collection of strings indexed as a tag, the separator its elements
+   *                      are joined with when it is a top-level property
+   */
+  private record PropertyWrite(RedisPersistentProperty property, String name, WriteKind kind,
+      @Nullable TypeInformation<?> typeHint, @Nullable String joinSeparator) {
+
+    String pathFrom(String path) {
+      return path.isEmpty() ? name : path + "." + name;
+    }
+  }
 }
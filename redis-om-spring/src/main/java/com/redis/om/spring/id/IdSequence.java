@@ -0,0 +1,55 @@
+package com.redis.om.spring.id;
+
+import static java.lang.annotation.ElementType.*;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the {@code @Id} of new entities from a sequence of dense, increasing numbers kept in
+ * Redis, instead of a ULID or a random number.
+ * <p>
+ * The sequence is a Redis counter that is never read one id at a time: each instance leases a block
+ * of {@link #blockSize()} consecutive numbers with a single {@code INCRBY} and hands them out locally
+ * (the hi/lo scheme), so saving many entities costs one round trip per block. Numbers are unique
+ * across all instances sharing the counter, but each instance consumes its own blocks, so ids are
+ * not ordered across instances and a block left unused at shutdown leaves a gap.
+ * </p>
+ * <p>
+ * The annotated property must be a {@code Long}, {@code Integer} or {@code String}. Example:
+ * </p>
+ * <pre>{@code
+ * @RedisHash
+ * public class Ticket {
+ *   @Id
+ *   @IdSequence(blockSize = 1000)
+ *   private Long id;
+ * }
+ * }</pre>
+ *
+ * @see IdSequenceGenerator
+ * @since 2.0.5
+ */
+@Retention(
+  RetentionPolicy.RUNTIME
+)
+@Target(
+    value = { FIELD, METHOD, ANNOTATION_TYPE }
+)
+public @interface IdSequence {
+  /**
+   * The Redis key holding the sequence counter; defaults to {@code sequence:} followed by the
+   * entity's keyspace without its trailing colon.
+   *
+   * @return the sequence key
+   */
+  String name() default "";
+
+  /**
+   * The number of ids leased from Redis at a time.
+   *
+   * @return the block size
+   */
+  int blockSize() default 100;
+}
@@ -0,0 +1,141 @@
+package com.redis.om.spring.id;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Hands out ids for entities whose {@code @Id} is annotated with {@link IdSequence}, leasing blocks
+ * of consecutive numbers from a Redis counter.
+ * <p>
+ * Each sequence keeps the block it is currently handing out; taking an id from it is a single atomic
+ * increment, and only the thread that finds the block exhausted leases the next one with
+ * {@code INCRBY}, while other threads needing an id at that moment wait for it. The counter holds
+ * the last number leased, so a block of size {@code n} leased when it is {@code c} covers
+ * {@code c - n + 1} through {@code c}, and a new counter starts at {@code 1}.
+ * </p>
+ *
+ * @since 2.0.5
+ */
+public class IdSequenceGenerator {
+  private static final String KEY_PREFIX = "sequence:";
+
+  private final StringRedisTemplate template;
+  private final Map<Class<?>, Optional<SequenceId>> sequenceIds = new ConcurrentHashMap<>();
+  private final Map<String, Sequence> sequences = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new generator.
+   *
+   * @param template the template used to lease blocks
+   */
+  public IdSequenceGenerator(StringRedisTemplate template) {
+    this.template = template;
+  }
+
+  /**
+   * Generates the id for a new entity if its id property is annotated with {@link IdSequence}.
+   *
+   * @param entity the persistent entity of the entity being saved
+   * @return the next id of the entity's sequence, converted to the id property type, or
+   *         {@code null} if the entity does not use a sequence
+   * @throws InvalidDataAccessApiUsageException if the id property type is not supported
+   */
+  @Nullable
+  public Object generateIdentifierFor(KeyValuePersistentEntity<?, ?> entity) {
+    Optional<SequenceId> sequenceId = sequenceIds.computeIfAbsent(entity.getType(), type -> resolve(entity));
+    if (sequenceId.isEmpty()) {
+      return null;
+    }
+    SequenceId id = sequenceId.get();
+    long next = next(id.name(), id.blockSize());
+    if (id.type() == String.class) {
+      return String.valueOf(next);
+    } else if (id.type() == Integer.class) {
+      if (next > Integer.MAX_VALUE) {
+        throw new InvalidDataAccessApiUsageException(String.format(
+            "Sequence %s exceeded the range of the Integer id of %s", id.name(), entity.getType().getName()));
+      }
+      return (int) next;
+    }
+    return next;
+  }
+
+  /**
+   * Returns the next number of a sequence, leasing a new block from Redis if the current one is
+   * exhausted.
+   *
+   * @param name      the Redis key of the sequence counter
+   * @param blockSize the number of ids to lease at a time; only the size given on first use of a
+   *                  sequence applies
+   * @return the next number
+   */
+  public long next(String name, int blockSize) {
+    return sequences.computeIfAbsent(name, key -> new Sequence(key, Math.max(1, blockSize))).next();
+  }
+
+  private Optional<SequenceId> resolve(KeyValuePersistentEntity<?, ?> entity) {
+    PersistentProperty<?> idProperty = entity.getIdProperty();
+    IdSequence sequence = idProperty != null ? idProperty.findAnnotation(IdSequence.class) : null;
+    if (sequence == null) {
+      return Optional.empty();
+    }
+
+    Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(idProperty.getType());
+    if (type != Long.class && type != Integer.class && type != String.class) {
+      throw new InvalidDataAccessApiUsageException(String.format(
+          "@IdSequence cannot generate ids of type %s for %s. Supported types are: Long, Integer, and String.", type
+              .getName(), entity.getType().getName()));
+    }
+
+    String name = sequence.name();
+    if (!StringUtils.hasText(name)) {
+      String keyspace = Objects.requireNonNull(entity.getKeySpace());
+      name = KEY_PREFIX + (keyspace.endsWith(":") ? keyspace.substring(0, keyspace.length() - 1) : keyspace);
+    }
+    return Optional.of(new SequenceId(name, sequence.blockSize(), type));
+  }
+
+  private record SequenceId(String name, int blockSize, Class<?> type) {
+  }
+
+  private record Block(AtomicLong next, long last) {
+  }
+
+  private final class Sequence {
+    private final String key;
+    private final int blockSize;
+    private volatile Block block = new Block(new AtomicLong(1), 0);
+
+    Sequence(String key, int blockSize) {
+      this.key = key;
+      this.blockSize = blockSize;
+    }
+
+    long next() {
+      while (true) {
+        Block current = block;
+        long id = current.next().getAndIncrement();
+        if (id <= current.last()) {
+          return id;
+        }
+        synchronized (this) {
+          if (block == current) {
+            long last = Objects.requireNonNull(template.opsForValue().increment(key, blockSize));
+            block = new Block(new AtomicLong(last - blockSize + 1), last);
+          }
+        }
+      }
+    }
+  }
+}
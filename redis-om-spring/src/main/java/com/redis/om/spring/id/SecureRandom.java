@@ -28,6 +28,7 @@ public class SecureRandom {
   }
 
   private static final AtomicReference<java.security.SecureRandom> secureRandom = new AtomicReference<>(null);
+  private static final int THREAD_CONFINED_SEED_LENGTH = 32;
 
   /**
    * Returns a secure random instance optimized for the current platform.
@@ -68,4 +69,32 @@ public class SecureRandom {
         "Could not create SecureRandom instance for any of the specified algorithms: " + StringUtils
             .collectionToCommaDelimitedString(OsTools.secureRandomAlgorithmNames()));
   }
+
+  /**
+   * Creates a secure random instance meant to be used by a single thread.
+   * <p>
+   * The platform-native algorithms preferred by {@link #getSecureRandom()} read from an operating
+   * system source behind a process-wide lock. The returned {@code SHA1PRNG} instance is seeded once
+   * from the shared instance returned by {@link #getSecureRandom()} and then generates from its own
+   * state, so instances held by different threads neither contend nor each draw seed material from
+   * the operating system. Falls back to the platform algorithms if {@code SHA1PRNG} is not
+   * available.
+   * </p>
+   *
+   * @return a new secure random instance
+   * @throws InvalidDataAccessApiUsageException if no suitable algorithm is found
+   * @since 2.0.5
+   */
+  static java.security.SecureRandom createThreadConfinedSecureRandom() {
+    java.security.SecureRandom random;
+    try {
+      random = java.security.SecureRandom.getInstance("SHA1PRNG");
+    } catch (NoSuchAlgorithmException e) {
+      return createSecureRandom();
+    }
+    byte[] seed = new byte[THREAD_CONFINED_SEED_LENGTH];
+    getSecureRandom().nextBytes(seed);
+    random.setSeed(seed);
+    return random;
+  }
 }
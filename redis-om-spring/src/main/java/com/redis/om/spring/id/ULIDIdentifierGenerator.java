@@ -1,5 +1,7 @@
 package com.redis.om.spring.id;
 
+import java.util.Random;
+
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.core.TypeInformation;
 import org.springframework.data.keyvalue.core.IdentifierGenerator;
@@ -7,6 +9,7 @@ import org.springframework.util.ClassUtils;
 
 import com.github.f4b6a3.ulid.Ulid;
 import com.github.f4b6a3.ulid.UlidCreator;
+import com.github.f4b6a3.ulid.UlidFactory;
 
 /**
  * ULID (Universally Unique Lexicographically Sortable Identifier) generator for Redis OM Spring.
@@ -50,6 +53,16 @@ import com.github.f4b6a3.ulid.UlidCreator;
  *     }
  *     }</pre>
  *
+ * <p>
+ * {@link #INSTANCE} draws every identifier from one process-wide monotonic factory and one shared
+ * {@link java.security.SecureRandom}, so identifiers are strictly increasing across all threads at
+ * the cost of a lock that every insert goes through. {@link #PER_THREAD} gives each thread its own
+ * monotonic factory and a random source seeded once from the shared one: identifiers are strictly
+ * increasing per thread and still ordered by their millisecond timestamp across threads, while
+ * concurrent inserts no longer contend.
+ * It is selected with {@code redis.om.spring.repository.per-thread-ulids=true}.
+ * </p>
+ *
  * @see com.github.f4b6a3.ulid.Ulid
  * @see org.springframework.data.keyvalue.core.IdentifierGenerator
  * @see UlidCreator
@@ -60,7 +73,19 @@ public enum ULIDIdentifierGenerator implements IdentifierGenerator {
   /**
    * Singleton instance of the ULID identifier generator.
    */
-  INSTANCE;
+  INSTANCE,
+
+  /**
+   * Generator using a monotonic ULID factory and a random source per thread.
+   *
+   * @since 2.0.5
+   */
+  PER_THREAD;
+
+  private static final ThreadLocal<Random> randoms = ThreadLocal.withInitial(
+      SecureRandom::createThreadConfinedSecureRandom);
+  private static final ThreadLocal<UlidFactory> ulidFactories = ThreadLocal.withInitial(() -> UlidFactory
+      .newMonotonicInstance(randoms.get()));
 
   /**
    * Generates an identifier of the specified type.
@@ -92,17 +117,25 @@ public enum ULIDIdentifierGenerator implements IdentifierGenerator {
     Class<?> type = identifierType.getType();
 
     if (ClassUtils.isAssignable(Ulid.class, type)) {
-      return (T) UlidCreator.getMonotonicUlid();
+      return (T) nextUlid();
     } else if (ClassUtils.isAssignable(String.class, type)) {
-      return (T) UlidCreator.getMonotonicUlid().toString();
+      return (T) nextUlid().toString();
     } else if (ClassUtils.isAssignable(Integer.class, type)) {
-      return (T) Integer.valueOf(SecureRandom.getSecureRandom().nextInt());
+      return (T) Integer.valueOf(random().nextInt());
     } else if (ClassUtils.isAssignable(Long.class, type)) {
-      return (T) Long.valueOf(SecureRandom.getSecureRandom().nextLong());
+      return (T) Long.valueOf(random().nextLong());
     }
 
     throw new InvalidDataAccessApiUsageException(String.format(
         "Identifier cannot be generated for %s. Supported types are: ULID, String, Integer, and Long.", identifierType
             .getType().getName()));
   }
+
+  private Ulid nextUlid() {
+    return this == PER_THREAD ? ulidFactories.get().create() : UlidCreator.getMonotonicUlid();
+  }
+
+  private Random random() {
+    return this == PER_THREAD ? randoms.get() : SecureRandom.getSecureRandom();
+  }
 }
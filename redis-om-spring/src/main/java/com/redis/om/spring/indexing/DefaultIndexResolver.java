@@ -1,5 +1,7 @@
 package com.redis.om.spring.indexing;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,6 +28,7 @@ public class DefaultIndexResolver implements IndexResolver {
   private final ApplicationContext applicationContext;
   private final ExpressionParser parser = new SpelExpressionParser();
   private static final Pattern SPEL_TEMPLATE_PATTERN = Pattern.compile("#\\{([^}]+)\\}");
+  private final Map<String, Expression> parsedExpressions = new ConcurrentHashMap<>();
 
   /**
    * Creates a new DefaultIndexResolver.
@@ -178,7 +181,7 @@ public class DefaultIndexResolver implements IndexResolver {
       while (matcher.find()) {
         String spelExpression = matcher.group(1);
         try {
-          Expression exp = parser.parseExpression(spelExpression);
+          Expression exp = parsedExpressions.computeIfAbsent(spelExpression, parser::parseExpression);
           Object evalResult = exp.getValue(evalContext);
           if (evalResult != null) {
             matcher.appendReplacement(result, Matcher.quoteReplacement(evalResult.toString()));
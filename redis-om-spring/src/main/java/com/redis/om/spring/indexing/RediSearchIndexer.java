@@ -12,6 +12,7 @@ import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BooleanSupplier;
+import java.util.function.UnaryOperator;
 
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.logging.Log;
@@ -28,8 +29,10 @@ import org.springframework.data.redis.core.TimeToLive;
 import org.springframework.data.redis.core.convert.KeyspaceConfiguration.KeyspaceSettings;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
-import org.springframework.expression.Expression;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.util.ClassUtils;
@@ -104,7 +107,10 @@ public class RediSearchIndexer {
   private final RedisMappingContext mappingContext;
   private final GsonBuilder gsonBuilder;
   private final RedisOMProperties properties;
-  private final ExpressionParser spelParser = new SpelExpressionParser();
+  private final ExpressionParser spelParser;
+  private final Map<String, SpelTemplate> spelTemplates = new ConcurrentHashMap<>();
+  private final Map<String, SpelTemplate> keyspaceTemplates = new ConcurrentHashMap<>();
+  private volatile StandardEvaluationContext evaluationContext;
 
   /**
    * Constructs a new RediSearchIndexer with the required dependencies.
@@ -122,6 +128,9 @@ public class RediSearchIndexer {
     this.gsonBuilder = gsonBuilder;
     this.rmo = rmo;
     this.mappingContext = mappingContext;
+    ClassLoader classLoader = ac != null ? ac.getClassLoader() : null;
+    this.spelParser = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED,
+        classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader()));
   }
 
   /**
@@ -142,6 +151,9 @@ public class RediSearchIndexer {
    * not contain a SpEL marker, or successfully evaluates, the resulting string is
    * returned. If any SpEL part fails to evaluate or the expression is malformed,
    * {@code defaultValue} is returned instead.
+   * <p>
+   * Each distinct expression is parsed only once, in SpEL's mixed compiler mode, and evaluated
+   * against a shared evaluation context, see {@link SpelTemplate}.
    *
    * @param expression   the raw string, possibly containing SpEL templates
    * @param defaultValue the value to return if evaluation fails or yields null parts
@@ -164,52 +176,27 @@ public class RediSearchIndexer {
       return defaultValue;
     }
 
-    try {
-      // Create evaluation context with Spring beans
-      StandardEvaluationContext context = new StandardEvaluationContext();
-      context.setBeanResolver(new BeanFactoryResolver(ac));
-      context.setVariable("environment", ac.getEnvironment());
-      context.setVariable("systemProperties", System.getProperties());
-
-      // Process template expressions - replace #{...} with evaluated values
-      String processedExpression = expression;
-      int startIndex = 0;
-      boolean hasFailedExpressions = false;
-
-      while ((startIndex = processedExpression.indexOf("#{", startIndex)) != -1) {
-        int endIndex = processedExpression.indexOf("}", startIndex);
-        if (endIndex == -1) {
-          break;
-        }
-
-        String spelPart = processedExpression.substring(startIndex + 2, endIndex);
-        try {
-          Expression spelExpression = spelParser.parseExpression(spelPart);
-          Object result = spelExpression.getValue(context);
-          if (result == null) {
-            // Null results should trigger fallback to default
-            logger.warn(String.format("SpEL expression part '%s' returned null. Using default value.", spelPart));
-            hasFailedExpressions = true;
-            startIndex = endIndex + 1;
-          } else {
-            String resultStr = result.toString();
-            processedExpression = processedExpression.substring(0, startIndex) + resultStr + processedExpression
-                .substring(endIndex + 1);
-          }
-        } catch (Exception e) {
-          // If any expression fails to evaluate, we should use the default fallback
-          logger.warn(String.format("Failed to evaluate SpEL expression part '%s': %s", spelPart, e.getMessage()));
-          hasFailedExpressions = true;
-          startIndex = endIndex + 1;
-        }
-      }
+    return renderTemplate(spelTemplates, expression, defaultValue, UnaryOperator.identity());
+  }
 
-      // If any expressions failed, return the default value
-      if (hasFailedExpressions) {
-        return defaultValue;
-      }
+  /**
+   * Evaluates a keyspace template like {@link #evaluateExpression(String, String)}, normalizing the
+   * result with a trailing colon. The normalized keyspace is memoized along with the evaluated
+   * template, so repeated lookups for the same tenant return the same string.
+   *
+   * @param expression   the raw key prefix, known to contain {@code #{...}} templates
+   * @param defaultValue the keyspace to return if evaluation fails
+   * @return the evaluated keyspace, or {@code defaultValue} on failure
+   */
+  private String evaluateKeyspaceExpression(String expression, String defaultValue) {
+    return renderTemplate(keyspaceTemplates, expression, defaultValue, this::getKeyspace);
+  }
 
-      return processedExpression;
+  private String renderTemplate(Map<String, SpelTemplate> templates, String expression, String defaultValue,
+      UnaryOperator<String> finisher) {
+    try {
+      return templates.computeIfAbsent(expression, raw -> SpelTemplate.parse(raw, spelParser, finisher)).render(
+          getEvaluationContext(), defaultValue);
     } catch (Exception e) {
       logger.warn(String.format("Failed to evaluate SpEL expression '%s': %s. Using default value.", expression, e
           .getMessage()));
@@ -217,6 +204,27 @@ public class RediSearchIndexer {
     }
   }
 
+  /**
+   * Returns the evaluation context shared by all SpEL template evaluations, creating it on first use.
+   * The context only holds the bean resolver and the {@code #environment} and
+   * {@code #systemProperties} variables, none of which change after startup.
+   */
+  private EvaluationContext getEvaluationContext() {
+    StandardEvaluationContext context = evaluationContext;
+    if (context == null) {
+      context = new StandardEvaluationContext();
+      context.setBeanResolver(new BeanFactoryResolver(ac));
+      context.setVariable("environment", ac.getEnvironment());
+      context.setVariable("systemProperties", System.getProperties());
+      // initialize the lazily created resolver lists before the context is shared between threads
+      context.getPropertyAccessors();
+      context.getMethodResolvers();
+      context.getConstructorResolvers();
+      evaluationContext = context;
+    }
+    return context;
+  }
+
   /**
    * Reads a repository interface's {@link IndexingOptions} annotation and resolves the
    * declared {@code indexName}, evaluating any SpEL template expressions. Returns
@@ -638,9 +646,7 @@ public class RediSearchIndexer {
       // If the key prefix contains SpEL, always re-evaluate it (don't use cache)
       if (!rawKeyPrefix.isBlank() && containsSpelExpression(rawKeyPrefix)) {
         String defaultKeyspace = deriveDefaultKeyspace(entityClass);
-        String keyspace = evaluateExpression(rawKeyPrefix, defaultKeyspace);
-        // Ensure keyspace ends with ":"
-        return keyspace.endsWith(":") ? keyspace : keyspace + ":";
+        return evaluateKeyspaceExpression(rawKeyPrefix, defaultKeyspace);
       }
     }
 
@@ -0,0 +1,157 @@
+package com.redis.om.spring.indexing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+
+/**
+ * A string containing {@code #{...}} SpEL template parts, such as a multi-tenant
+ * {@link com.redis.om.spring.annotations.IndexingOptions#keyPrefix()}, parsed once into literal
+ * segments and {@link Expression}s.
+ * <p>
+ * Rendering evaluates each expression against a shared {@link EvaluationContext} and memoizes the
+ * rendered string by the evaluated values, so that every evaluation for the same tenant returns the
+ * same string instance without rebuilding it. The memo is cleared once it holds
+ * {@value #MAX_RENDERED} entries.
+ * </p>
+ * <p>
+ * Parsing and rendering follow the rules {@link RediSearchIndexer#evaluateExpression(String, String)}
+ * has always applied: each part runs from {@code #{} to the next {@code }}, and a part that fails to
+ * parse or evaluate, or evaluates to {@code null}, makes the whole template render as the caller's
+ * default value.
+ * </p>
+ *
+ * @since 2.0.5
+ */
+final class SpelTemplate {
+  private static final Log logger = LogFactory.getLog(SpelTemplate.class);
+  private static final int MAX_RENDERED = 1024;
+
+  private final String template;
+  private final List<Object> segments;
+  private final int expressionCount;
+  private final UnaryOperator<String> finisher;
+  private final Map<Object, String> rendered = new ConcurrentHashMap<>();
+
+  private SpelTemplate(String template, List<Object> segments, int expressionCount, UnaryOperator<String> finisher) {
+    this.template = template;
+    this.segments = segments;
+    this.expressionCount = expressionCount;
+    this.finisher = finisher;
+  }
+
+  /**
+   * Parses a template. The caller is expected to have checked that the template contains at least
+   * one {@code #{} followed by a {@code }}.
+   *
+   * @param template the raw template string
+   * @param parser   the parser used for the expression parts
+   * @param finisher applied to each successfully rendered string before it is memoized, e.g. to
+   *                 normalize a keyspace
+   * @return the parsed template
+   */
+  static SpelTemplate parse(String template, ExpressionParser parser, UnaryOperator<String> finisher) {
+    List<Object> segments = new ArrayList<>();
+    int expressionCount = 0;
+    int position = 0;
+    int startIndex;
+    while ((startIndex = template.indexOf("#{", position)) != -1) {
+      int endIndex = template.indexOf("}", startIndex);
+      if (endIndex == -1) {
+        break;
+      }
+      if (startIndex > position) {
+        segments.add(template.substring(position, startIndex));
+      }
+      String spelPart = template.substring(startIndex + 2, endIndex);
+      try {
+        segments.add(parser.parseExpression(spelPart));
+      } catch (Exception e) {
+        segments.add(new InvalidPart(spelPart, e.getMessage()));
+      }
+      expressionCount++;
+      position = endIndex + 1;
+    }
+    if (position < template.length()) {
+      segments.add(template.substring(position));
+    }
+    return new SpelTemplate(template, List.copyOf(segments), expressionCount, finisher);
+  }
+
+  /**
+   * Renders the template.
+   *
+   * @param context      the evaluation context for the expression parts
+   * @param defaultValue the value to return if any part fails to evaluate or yields {@code null}
+   * @return the rendered and finished string, or {@code defaultValue}
+   */
+  String render(EvaluationContext context, String defaultValue) {
+    String[] values = new String[expressionCount];
+    int i = 0;
+    boolean hasFailedExpressions = false;
+    for (Object segment : segments) {
+      if (segment instanceof Expression expression) {
+        try {
+          Object result = expression.getValue(context);
+          if (result == null) {
+            logger.warn(String.format("SpEL expression part '%s' returned null. Using default value.", expression
+                .getExpressionString()));
+            hasFailedExpressions = true;
+          } else {
+            values[i] = result.toString();
+          }
+        } catch (Exception e) {
+          logger.warn(String.format("Failed to evaluate SpEL expression part '%s': %s", expression
+              .getExpressionString(), e.getMessage()));
+          hasFailedExpressions = true;
+        }
+        i++;
+      } else if (segment instanceof InvalidPart invalid) {
+        logger.warn(String.format("Failed to evaluate SpEL expression part '%s': %s", invalid.expression(), invalid
+            .message()));
+        hasFailedExpressions = true;
+        i++;
+      }
+    }
+
+    if (hasFailedExpressions) {
+      return defaultValue;
+    }
+
+    Object key = values.length == 1 ? values[0] : Arrays.asList(values);
+    String result = rendered.get(key);
+    if (result == null) {
+      result = finisher.apply(concatenate(values));
+      if (rendered.size() >= MAX_RENDERED) {
+        rendered.clear();
+      }
+      rendered.put(key, result);
+    }
+    return result;
+  }
+
+  private String concatenate(String[] values) {
+    StringBuilder sb = new StringBuilder(template.length());
+    int i = 0;
+    for (Object segment : segments) {
+      if (segment instanceof String literal) {
+        sb.append(literal);
+      } else {
+        sb.append(values[i++]);
+      }
+    }
+    return sb.toString();
+  }
+
+  private record InvalidPart(String expression, String message) {
+  }
+}
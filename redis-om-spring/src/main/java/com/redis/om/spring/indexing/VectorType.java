@@ -2,30 +2,84 @@ package com.redis.om.spring.indexing;
 
 /**
  * Enumeration of vector data types supported for vector indexing in Redis OM Spring.
- * This enum defines the floating-point precision options available when storing
- * and indexing vector embeddings.
+ * This enum defines the element types available when storing and indexing vector
+ * embeddings.
  * 
  * <p>Vector type selection impacts:</p>
  * <ul>
- * <li><strong>Storage efficiency</strong>: FLOAT32 uses 4 bytes per dimension, FLOAT64 uses 8 bytes</li>
+ * <li><strong>Storage efficiency</strong>: FLOAT32 uses 4 bytes per dimension, FLOAT64 uses 8 bytes,
+ * FLOAT16 and BFLOAT16 use 2 bytes and INT8 and UINT8 use a single byte</li>
  * <li><strong>Precision</strong>: FLOAT64 provides higher precision but at the cost of memory</li>
- * <li><strong>Performance</strong>: FLOAT32 operations are generally faster</li>
+ * <li><strong>Performance</strong>: smaller elements mean less memory traffic per distance computation</li>
  * </ul>
  * 
  * <p>Typical usage:</p>
  * <ul>
  * <li>FLOAT32 is recommended for most machine learning embeddings (default for most models)</li>
  * <li>FLOAT64 is used when higher precision is required or when working with scientific data</li>
+ * <li>FLOAT16 and BFLOAT16 halve the size of float embeddings at a small loss of recall</li>
+ * <li>INT8 and UINT8 hold embeddings that are already quantized to whole numbers</li>
  * </ul>
  * 
+ * <p>Float vectors given to Redis OM Spring, such as query vectors passed to
+ * {@code knn(int, float[])} or embeddings generated for {@code @Vectorize} fields of hashes, are
+ * encoded to the field's type with
+ * {@link com.redis.om.spring.util.ObjectUtils#floatArrayToByteArray(float[], VectorType)}. Integer
+ * types round each element to the nearest whole number and clamp it to the type's range, so they
+ * are rejected as {@code @Vectorize} destinations.</p>
+ * 
  * @since 1.0
  * @see com.redis.om.spring.annotations.VectorIndexed
  * @see com.redis.om.spring.indexing.DistanceMetric
  */
 public enum VectorType {
   /** 32-bit floating point vector type (single precision) */
-  FLOAT32,
+  FLOAT32(4),
 
   /** 64-bit floating point vector type (double precision) */
-  FLOAT64
+  FLOAT64(8),
+
+  /**
+   * 16-bit IEEE 754 floating point vector type (half precision)
+   *
+   * @since 2.0.5
+   */
+  FLOAT16(2),
+
+  /**
+   * 16-bit brain floating point vector type, with the exponent range of FLOAT32
+   *
+   * @since 2.0.5
+   */
+  BFLOAT16(2),
+
+  /**
+   * 8-bit signed integer vector type
+   *
+   * @since 2.0.5
+   */
+  INT8(1),
+
+  /**
+   * 8-bit unsigned integer vector type
+   *
+   * @since 2.0.5
+   */
+  UINT8(1);
+
+  private final int bytesPerElement;
+
+  VectorType(int bytesPerElement) {
+    this.bytesPerElement = bytesPerElement;
+  }
+
+  /**
+   * Returns the number of bytes each vector element takes.
+   *
+   * @return the element size in bytes
+   * @since 2.0.5
+   */
+  public int getBytesPerElement() {
+    return bytesPerElement;
+  }
 }
@@ -0,0 +1,152 @@
+package com.redis.om.spring.mapping;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.List;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Builds the id part of a Redis key for an entity with a composite primary key declared through
+ * JPA's {@code @IdClass}.
+ * <p>
+ * The key is the string value of each non-null {@code @Id} property, in declaration order, joined
+ * with {@value #SEPARATOR} (e.g. {@code "electronics:12345"}). It can be built either from the
+ * entity itself or from an instance of its id class. The property accessors of both classes are
+ * resolved once into {@link MethodHandle}s, preferring a getter and falling back to the field, so
+ * building a key involves no reflection lookups and no bean wrapper.
+ * </p>
+ * <p>
+ * Codecs are created by {@link RedisEnhancedPersistentEntity} and looked up by id class through
+ * {@link RedisEnhancedMappingContext#getCompositeIdCodec(Class)}.
+ * </p>
+ *
+ * @see jakarta.persistence.IdClass
+ * @since 2.0.5
+ */
+public final class CompositeIdCodec {
+  /** The separator between the id property values in a composite key. */
+  public static final String SEPARATOR = ":";
+
+  private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private final Class<?> entityType;
+  private final Class<?> idClass;
+  private final MethodHandle[] entityAccessors;
+  private final MethodHandle[] idAccessors;
+
+  private CompositeIdCodec(Class<?> entityType, Class<?> idClass, MethodHandle[] entityAccessors,
+      MethodHandle[] idAccessors) {
+    this.entityType = entityType;
+    this.idClass = idClass;
+    this.entityAccessors = entityAccessors;
+    this.idAccessors = idAccessors;
+  }
+
+  /**
+   * Creates a codec for the given entity type and id class.
+   *
+   * @param entityType   the entity type
+   * @param idClass      the id class declared by {@code @IdClass}
+   * @param idProperties the entity's {@code @Id} properties, in declaration order
+   * @return the codec
+   */
+  static CompositeIdCodec of(Class<?> entityType, Class<?> idClass, List<RedisPersistentProperty> idProperties) {
+    MethodHandle[] entityAccessors = new MethodHandle[idProperties.size()];
+    MethodHandle[] idAccessors = new MethodHandle[idProperties.size()];
+    for (int i = 0; i < idProperties.size(); i++) {
+      String name = idProperties.get(i).getName();
+      entityAccessors[i] = accessorFor(entityType, name);
+      idAccessors[i] = accessorFor(idClass, name);
+    }
+    return new CompositeIdCodec(entityType, idClass, entityAccessors, idAccessors);
+  }
+
+  /**
+   * Returns the id class this codec reads keys from.
+   *
+   * @return the id class
+   */
+  public Class<?> getIdClass() {
+    return idClass;
+  }
+
+  /**
+   * Builds the composite key from the {@code @Id} properties of an entity.
+   *
+   * @param entity the entity, an instance of the codec's entity type
+   * @return the composite key
+   */
+  public String keyForEntity(Object entity) {
+    return encode(entityAccessors, entity);
+  }
+
+  /**
+   * Builds the composite key from an instance of the id class.
+   *
+   * @param id the id, an instance of the codec's id class
+   * @return the composite key
+   */
+  public String keyForId(Object id) {
+    return encode(idAccessors, id);
+  }
+
+  private String encode(MethodHandle[] accessors, Object source) {
+    StringBuilder key = new StringBuilder();
+    for (int i = 0; i < accessors.length; i++) {
+      Object value = read(accessors[i], source, i);
+      if (value != null) {
+        if (!key.isEmpty()) {
+          key.append(SEPARATOR);
+        }
+        key.append(value);
+      }
+    }
+    return key.toString();
+  }
+
+  private Object read(MethodHandle accessor, Object source, int index) {
+    if (accessor == null) {
+      throw new MappingException(String.format("Composite id property #%d of %s not readable from %s", index,
+          entityType.getName(), source.getClass().getName()));
+    }
+    try {
+      return (Object) accessor.invokeExact(source);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new MappingException(String.format("Failed to read composite id of %s from %s", entityType.getName(),
+          source.getClass().getName()), e);
+    }
+  }
+
+  /**
+   * Resolves a getter, or else a field, handle for the property; {@code null} if the type has
+   * neither, in which case building a key from that type fails.
+   */
+  private static MethodHandle accessorFor(Class<?> type, String propertyName) {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, propertyName);
+      if (descriptor != null && descriptor.getReadMethod() != null) {
+        ReflectionUtils.makeAccessible(descriptor.getReadMethod());
+        return lookup.unreflect(descriptor.getReadMethod()).asType(ACCESSOR_TYPE);
+      }
+      Field field = ReflectionUtils.findField(type, propertyName);
+      if (field != null) {
+        ReflectionUtils.makeAccessible(field);
+        return lookup.unreflectGetter(field).asType(ACCESSOR_TYPE);
+      }
+    } catch (IllegalAccessException e) {
+      throw new MappingException(String.format("Cannot access composite id property %s of %s", propertyName, type
+          .getName()), e);
+    }
+    return null;
+  }
+}
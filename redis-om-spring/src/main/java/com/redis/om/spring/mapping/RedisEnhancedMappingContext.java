@@ -1,5 +1,8 @@
 package com.redis.om.spring.mapping;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.data.core.TypeInformation;
@@ -9,6 +12,9 @@ import org.springframework.data.redis.core.convert.MappingConfiguration;
 import org.springframework.data.redis.core.index.IndexConfiguration;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
+import org.springframework.lang.Nullable;
+
+import jakarta.persistence.IdClass;
 
 /**
  * Enhanced Redis mapping context that extends Spring Data Redis's {@link RedisMappingContext}
@@ -39,6 +45,7 @@ public class RedisEnhancedMappingContext extends RedisMappingContext {
   private final MappingConfiguration mappingConfiguration;
   private final TimeToLiveAccessor timeToLiveAccessor;
   private final ClassLoaderAwareKeyspaceResolver keyspaceResolver;
+  private final Map<Class<?>, RedisEnhancedPersistentEntity<?>> idClassToEntity = new ConcurrentHashMap<>();
 
   /**
    * Creates a new {@code RedisEnhancedMappingContext} with the specified mapping configuration.
@@ -71,7 +78,30 @@ public class RedisEnhancedMappingContext extends RedisMappingContext {
 
   @Override
   protected <T> RedisPersistentEntity<T> createPersistentEntity(TypeInformation<T> typeInformation) {
-    return new RedisEnhancedPersistentEntity<>(typeInformation, getKeySpaceResolver(), timeToLiveAccessor);
+    RedisEnhancedPersistentEntity<T> entity = new RedisEnhancedPersistentEntity<>(typeInformation,
+        getKeySpaceResolver(), timeToLiveAccessor);
+    IdClass idClass = typeInformation.getType().getAnnotation(IdClass.class);
+    if (idClass != null) {
+      idClassToEntity.putIfAbsent(idClass.value(), entity);
+    }
+    return entity;
+  }
+
+  /**
+   * Returns the codec for keys of the entity that declares the given class as its {@code @IdClass}.
+   * <p>
+   * This is a single map lookup, so callers can use it to tell composite ids apart from simple ids
+   * on every key-value operation; it returns {@literal null} for all other classes, including the
+   * id types of entities that have not been added to this context yet.
+   *
+   * @param idClass the class of an id value
+   * @return the codec, or {@literal null} if no entity uses the class as its id class
+   * @since 2.0.5
+   */
+  @Nullable
+  public CompositeIdCodec getCompositeIdCodec(Class<?> idClass) {
+    RedisEnhancedPersistentEntity<?> entity = idClassToEntity.get(idClass);
+    return entity != null ? entity.getCompositeIdCodec() : null;
   }
 
   /**
@@ -50,6 +50,7 @@ public class RedisEnhancedPersistentEntity<T> extends BasicRedisPersistentEntity
 
   private final List<RedisPersistentProperty> idProperties = new ArrayList<>();
   private final boolean hasIdClass;
+  private volatile CompositeIdCodec compositeIdCodec;
   private volatile Optional<Field> redisKeyField = null; // Lazy initialized
 
   /**
@@ -132,6 +133,39 @@ public class RedisEnhancedPersistentEntity<T> extends BasicRedisPersistentEntity
     return hasIdClass;
   }
 
+  @Override
+  public void verify() {
+    super.verify();
+    if (hasIdClass) {
+      compositeIdCodec = CompositeIdCodec.of(getType(), getType().getAnnotation(IdClass.class).value(), idProperties);
+    }
+  }
+
+  /**
+   * Returns the codec that builds keys for this entity's composite id, created once the entity's
+   * properties have been registered.
+   *
+   * @return the composite id codec, or {@literal null} if the entity does not use {@code @IdClass}
+   * @since 2.0.5
+   */
+  @Nullable
+  public CompositeIdCodec getCompositeIdCodec() {
+    return compositeIdCodec;
+  }
+
+  /**
+   * Returns the id part of the Redis key for the given entity: the composite key for entities using
+   * {@code @IdClass}, otherwise {@literal null} so the caller converts the single id as usual.
+   *
+   * @param entity an instance of this entity type
+   * @return the composite key, or {@literal null} for single-id entities
+   * @since 2.0.5
+   */
+  @Nullable
+  public String getCompositeKey(Object entity) {
+    return compositeIdCodec != null ? compositeIdCodec.keyForEntity(entity) : null;
+  }
+
   /**
    * Returns the field annotated with @RedisKey if present.
    * This method caches the result for performance.
@@ -1,8 +1,8 @@
 package com.redis.om.spring.metamodel.indexed;
 
-import java.util.function.Consumer;
 
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
+import com.redis.om.spring.search.stream.actions.BulkUpdateAction;
 import com.redis.om.spring.search.stream.actions.ToggleAction;
 
 /**
@@ -54,7 +54,7 @@ public class BooleanField<E, T> extends TagField<E, T> {
    *
    * @return a consumer that toggles the field value when applied to an entity
    */
-  public Consumer<E> toggle() {
+  public BulkUpdateAction<E> toggle() {
     return new ToggleAction<>(searchFieldAccessor);
   }
 }
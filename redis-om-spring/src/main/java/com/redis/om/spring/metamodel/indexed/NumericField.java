@@ -4,10 +4,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
-import java.util.function.Consumer;
 
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
+import com.redis.om.spring.search.stream.actions.BulkUpdateAction;
 import com.redis.om.spring.search.stream.actions.NumIncrByAction;
 import com.redis.om.spring.search.stream.predicates.numeric.*;
 
@@ -172,7 +172,7 @@ public class NumericField<E, T> extends MetamodelField<E, T> {
    * @param value the amount to increment by
    * @return a Consumer that increments this field by the specified value
    */
-  public Consumer<E> incrBy(Long value) {
+  public BulkUpdateAction<E> incrBy(Long value) {
     return new NumIncrByAction<>(searchFieldAccessor, value);
   }
 
@@ -182,7 +182,7 @@ public class NumericField<E, T> extends MetamodelField<E, T> {
    * @param value the amount to decrement by
    * @return a Consumer that decrements this field by the specified value
    */
-  public Consumer<E> decrBy(Long value) {
+  public BulkUpdateAction<E> decrBy(Long value) {
     return new NumIncrByAction<>(searchFieldAccessor, -value);
   }
 
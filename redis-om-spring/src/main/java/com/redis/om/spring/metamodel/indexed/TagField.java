@@ -4,12 +4,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Set;
-import java.util.function.Consumer;
 import java.util.function.ToLongFunction;
 
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 import com.redis.om.spring.search.stream.actions.*;
+import com.redis.om.spring.search.stream.actions.BulkUpdateAction;
 import com.redis.om.spring.search.stream.predicates.tag.ContainsAllPredicate;
 import com.redis.om.spring.search.stream.predicates.tag.EqualPredicate;
 import com.redis.om.spring.search.stream.predicates.tag.InPredicate;
@@ -249,7 +249,7 @@ public class TagField<E, T> extends MetamodelField<E, T> {
    * @param value the tag value to append
    * @return a consumer that performs the append operation
    */
-  public Consumer<E> add(Object value) {
+  public BulkUpdateAction<E> add(Object value) {
     return new ArrayAppendAction<>(searchFieldAccessor, value);
   }
 
@@ -262,7 +262,7 @@ public class TagField<E, T> extends MetamodelField<E, T> {
    * @param index the position at which to insert the value (0-based)
    * @return a consumer that performs the insert operation
    */
-  public Consumer<E> insert(Object value, Integer index) {
+  public BulkUpdateAction<E> insert(Object value, Integer index) {
     return new ArrayInsertAction<>(searchFieldAccessor, value, index);
   }
 
@@ -275,7 +275,7 @@ public class TagField<E, T> extends MetamodelField<E, T> {
    * @param value the tag value to prepend
    * @return a consumer that performs the prepend operation
    */
-  public Consumer<E> prepend(Object value) {
+  public BulkUpdateAction<E> prepend(Object value) {
     return new ArrayInsertAction<>(searchFieldAccessor, value, 0);
   }
 
@@ -377,7 +377,7 @@ public class TagField<E, T> extends MetamodelField<E, T> {
    * @param end   the ending index of the range to keep (inclusive)
    * @return a consumer that performs the trim operation
    */
-  public Consumer<E> trimToRange(Integer begin, Integer end) {
+  public BulkUpdateAction<E> trimToRange(Integer begin, Integer end) {
     return new ArrayTrimAction<>(searchFieldAccessor, begin, end);
   }
 }
\ No newline at end of file
@@ -1,11 +1,11 @@
 package com.redis.om.spring.metamodel.indexed;
 
 import java.util.Arrays;
-import java.util.function.Consumer;
 import java.util.function.ToLongFunction;
 
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
+import com.redis.om.spring.search.stream.actions.BulkUpdateAction;
 import com.redis.om.spring.search.stream.actions.StrLengthAction;
 import com.redis.om.spring.search.stream.actions.StringAppendAction;
 import com.redis.om.spring.search.stream.predicates.fulltext.*;
@@ -199,7 +199,7 @@ public class TextField<E, T> extends MetamodelField<E, T> {
    * @param value the string to append
    * @return a Consumer that appends the value to this field
    */
-  public Consumer<E> append(String value) {
+  public BulkUpdateAction<E> append(String value) {
     return new StringAppendAction<>(searchFieldAccessor, value);
   }
 
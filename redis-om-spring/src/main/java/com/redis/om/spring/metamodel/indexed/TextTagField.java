@@ -1,9 +1,9 @@
 package com.redis.om.spring.metamodel.indexed;
 
-import java.util.function.Consumer;
 import java.util.function.ToLongFunction;
 
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
+import com.redis.om.spring.search.stream.actions.BulkUpdateAction;
 import com.redis.om.spring.search.stream.actions.StrLengthAction;
 import com.redis.om.spring.search.stream.actions.StringAppendAction;
 import com.redis.om.spring.search.stream.predicates.lexicographic.LexicographicBetweenMarker;
@@ -87,7 +87,7 @@ public class TextTagField<E, T> extends TagField<E, T> {
    * @param value The string value to append to the field
    * @return A consumer that performs the append operation on an entity
    */
-  public Consumer<E> append(String value) {
+  public BulkUpdateAction<E> append(String value) {
     return new StringAppendAction<>(searchFieldAccessor, value);
   }
 
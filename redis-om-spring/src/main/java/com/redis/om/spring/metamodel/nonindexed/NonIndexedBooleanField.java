@@ -1,9 +1,9 @@
 package com.redis.om.spring.metamodel.nonindexed;
 
-import java.util.function.Consumer;
 
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
+import com.redis.om.spring.search.stream.actions.BulkUpdateAction;
 import com.redis.om.spring.search.stream.actions.ToggleAction;
 
 /**
@@ -31,7 +31,7 @@ public class NonIndexedBooleanField<E, T> extends MetamodelField<E, T> {
    * 
    * @return a consumer that performs the toggle operation when applied to an entity
    */
-  public Consumer<E> toggle() {
+  public BulkUpdateAction<E> toggle() {
     return new ToggleAction<>(searchFieldAccessor);
   }
 }
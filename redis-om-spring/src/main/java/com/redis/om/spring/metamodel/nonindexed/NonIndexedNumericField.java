@@ -1,9 +1,9 @@
 package com.redis.om.spring.metamodel.nonindexed;
 
-import java.util.function.Consumer;
 
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
+import com.redis.om.spring.search.stream.actions.BulkUpdateAction;
 import com.redis.om.spring.search.stream.actions.NumIncrByAction;
 
 /**
@@ -33,7 +33,7 @@ public class NonIndexedNumericField<E, T> extends MetamodelField<E, T> {
    * @param value the value to increment by
    * @return a consumer that performs the increment operation when applied to an entity
    */
-  public Consumer<E> incrBy(Long value) {
+  public BulkUpdateAction<E> incrBy(Long value) {
     return new NumIncrByAction<>(searchFieldAccessor, value);
   }
 
@@ -44,7 +44,7 @@ public class NonIndexedNumericField<E, T> extends MetamodelField<E, T> {
    * @param value the value to decrement by
    * @return a consumer that performs the decrement operation when applied to an entity
    */
-  public Consumer<E> decrBy(Long value) {
+  public BulkUpdateAction<E> decrBy(Long value) {
     return new NumIncrByAction<>(searchFieldAccessor, -value);
   }
 
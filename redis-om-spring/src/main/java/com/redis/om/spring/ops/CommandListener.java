@@ -169,4 +169,104 @@ public interface CommandListener {
 
   default void commandFailed(SearchProtocol.SearchCommand command, String indexName, Throwable t) {
   }
+
+  /**
+   * Called before a RedisJSON, hash or probabilistic data structure command is sent.
+   *
+   * @param command the command name, e.g. {@code JSON.GET} or {@code BF.ADD}
+   * @param key     the (first) key the command operates on, may be {@code null}
+   * @since 2.0.5
+   */
+  default void commandStarted(String command, String key) {
+  }
+
+  /**
+   * Called after a command announced with {@link #commandStarted(String, String)} completed,
+   * whether it succeeded or not.
+   *
+   * @param command the command name
+   * @param key     the (first) key the command operates on, may be {@code null}
+   * @param error   the failure, or {@code null} if the command succeeded
+   * @since 2.0.5
+   */
+  default void commandFinished(String command, String key, Throwable error) {
+  }
+
+  /**
+   * Called before a batch of commands is sent in a single pipeline.
+   *
+   * @param operation   the repository operation issuing the pipeline, e.g. {@code saveAll}
+   * @param entityClass the type of the written entities
+   * @param size        the number of entities written by the pipeline
+   * @since 2.0.5
+   */
+  default void pipelineStarted(String operation, Class<?> entityClass, int size) {
+  }
+
+  /**
+   * Called after a pipeline announced with {@link #pipelineStarted(String, Class, int)} was synced.
+   *
+   * @param operation   the repository operation issuing the pipeline
+   * @param entityClass the type of the written entities
+   * @param size        the number of entities written by the pipeline
+   * @since 2.0.5
+   */
+  default void pipelineFinished(String operation, Class<?> entityClass, int size) {
+  }
+
+  /**
+   * Called after raw Redis replies were turned into entities, with the time spent client-side.
+   *
+   * @param entityClass the decoded entity type
+   * @param count       the number of decoded documents
+   * @param decodeNanos the time spent decoding, in nanoseconds
+   * @since 2.0.5
+   */
+  default void documentsDecoded(Class<?> entityClass, int count, long decodeNanos) {
+  }
+
+  /**
+   * Called when a raw Redis reply could not be turned into an entity.
+   *
+   * @param entityClass the entity type being decoded
+   * @param error       the deserialization failure
+   * @since 2.0.5
+   */
+  default void decodeFailed(Class<?> entityClass, Throwable error) {
+  }
+
+  /**
+   * Called before a derived or {@code @Query} repository method is executed.
+   *
+   * @param repository the simple name of the repository interface
+   * @param method     the query method name
+   * @since 2.0.5
+   */
+  default void repositoryQueryStarted(String repository, String method) {
+  }
+
+  /**
+   * Called after a repository method announced with {@link #repositoryQueryStarted(String, String)}
+   * completed, whether it succeeded or not.
+   *
+   * @param repository the simple name of the repository interface
+   * @param method     the query method name
+   * @param error      the failure, or {@code null} if the method succeeded
+   * @since 2.0.5
+   */
+  default void repositoryQueryFinished(String repository, String method, Throwable error) {
+  }
+
+  /**
+   * Called after embeddings were looked up in the embedding cache before calling an embedding
+   * provider.
+   *
+   * @param model     the identifier of the embedding model
+   * @param localHits the number of embeddings found in the in-process tier
+   * @param redisHits the number of embeddings found in the Redis tier
+   * @param misses    the number of embeddings that have to be computed
+   * @since 2.0.5
+   */
+  default void embeddingCacheLookup(String model, int localHits, int redisHits, int misses) {
+  }
 }
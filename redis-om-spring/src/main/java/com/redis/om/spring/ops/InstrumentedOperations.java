@@ -0,0 +1,60 @@
+package com.redis.om.spring.ops;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Locale;
+
+/**
+ * Wraps module operation interfaces so that every call is reported to a {@link CommandListener}.
+ * <p>
+ * Used for the probabilistic data structure operations, whose implementations are thin
+ * one-call-per-method adapters over Jedis. Each invocation is reported as
+ * {@code <family>.<method>} (e.g. {@code bf.add}) with the first argument as the key. When the
+ * listener is the {@link NoOpCommandListener} the target is returned unwrapped.
+ * </p>
+ *
+ * @since 2.0.5
+ */
+final class InstrumentedOperations {
+
+  private InstrumentedOperations() {
+  }
+
+  /**
+   * Returns a proxy of {@code target} that reports each call to {@code listener}.
+   *
+   * @param <T>      the operations interface type
+   * @param type     the operations interface
+   * @param target   the operations implementation
+   * @param family   the command family prefix, e.g. {@code bf}
+   * @param listener the command listener
+   * @return the instrumented operations, or {@code target} if there is nothing to report to
+   */
+  @SuppressWarnings(
+    "unchecked"
+  )
+  static <T> T instrument(Class<? super T> type, T target, String family, CommandListener listener) {
+    if (listener == null || listener instanceof NoOpCommandListener) {
+      return target;
+    }
+    String prefix = family.toLowerCase(Locale.ROOT) + ".";
+    Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (p, method, args) -> {
+      if (method.getDeclaringClass() == Object.class) {
+        return method.invoke(target, args);
+      }
+      String command = prefix + method.getName();
+      String key = args != null && args.length > 0 && args[0] != null ? args[0].toString() : null;
+      listener.commandStarted(command, key);
+      Throwable error = null;
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        error = e.getCause();
+        throw error;
+      } finally {
+        listener.commandFinished(command, key, error);
+      }
+    });
+    return (T) proxy;
+  }
+}
@@ -0,0 +1,486 @@
+package com.redis.om.spring.ops;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.redis.om.spring.autocomplete.Suggestion;
+import com.redis.om.spring.repository.query.autocomplete.AutoCompleteOptions;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import redis.clients.jedis.search.FTCreateParams;
+import redis.clients.jedis.search.FTSearchParams;
+import redis.clients.jedis.search.IndexOptions;
+import redis.clients.jedis.search.Query;
+import redis.clients.jedis.search.Schema;
+import redis.clients.jedis.search.SearchResult;
+import redis.clients.jedis.search.aggr.AggregationBuilder;
+import redis.clients.jedis.search.aggr.AggregationResult;
+import redis.clients.jedis.search.hybrid.HybridResult;
+import redis.clients.jedis.search.schemafields.SchemaField;
+
+/**
+ * A {@link CommandListener} that records Micrometer metrics and observations for every Redis OM
+ * operation.
+ * <p>
+ * Every started/finished pair is wrapped in an {@link Observation}, so the same calls produce
+ * timers and, when a tracer is configured, spans:
+ * </p>
+ * <ul>
+ * <li>{@value #COMMAND_OBSERVATION} - search, aggregation, index, suggestion, RedisJSON, hash and
+ * probabilistic commands, tagged with {@code operation} and {@code index}</li>
+ * <li>{@value #REPOSITORY_OBSERVATION} - repository query methods, tagged with {@code repository}
+ * and {@code method}</li>
+ * <li>{@value #PIPELINE_OBSERVATION} - pipelined repository writes, tagged with {@code operation}
+ * and {@code entity}</li>
+ * </ul>
+ * <p>
+ * In addition it records the {@value #PIPELINE_SIZE} and {@value #SEARCH_RESULTS} distribution
+ * summaries, and the client-side {@value #DECODE_TIMER} timer with the {@value #DOCUMENTS_DECODED}
+ * and {@value #DECODE_ERRORS} counters, which separate time spent in Gson and the mapping converter
+ * from time spent waiting on Redis. Embedding cache lookups are counted by {@value #EMBEDDING_CACHE},
+ * tagged with the {@code model} and a {@code result} of {@code local}, {@code redis} or
+ * {@code miss}, from which the hit rate follows.
+ * </p>
+ * <p>
+ * Observations are started and stopped on the calling thread, matching how the operations invoke
+ * their listener, and carry an {@code outcome} tag of {@code success} or {@code failure}.
+ * </p>
+ *
+ * @since 2.0.5
+ */
+public class MicrometerCommandListener implements CommandListener {
+  /** Observation name for individual Redis commands. */
+  public static final String COMMAND_OBSERVATION = "redis.om.command";
+  /** Observation name for repository query methods. */
+  public static final String REPOSITORY_OBSERVATION = "redis.om.repository.query";
+  /** Observation name for pipelined repository writes. */
+  public static final String PIPELINE_OBSERVATION = "redis.om.pipeline";
+  /** Distribution summary of the number of entities written per pipeline. */
+  public static final String PIPELINE_SIZE = "redis.om.pipeline.size";
+  /** Distribution summary of the number of documents returned per search. */
+  public static final String SEARCH_RESULTS = "redis.om.search.results";
+  /** Timer of the client-side time spent turning replies into entities. */
+  public static final String DECODE_TIMER = "redis.om.decode";
+  /** Counter of decoded documents. */
+  public static final String DOCUMENTS_DECODED = "redis.om.documents.decoded";
+  /** Counter of documents that failed to decode. */
+  public static final String DECODE_ERRORS = "redis.om.decode.errors";
+  /** Counter of embedding cache lookups, tagged with the tier that answered them. */
+  public static final String EMBEDDING_CACHE = "redis.om.embedding.cache";
+
+  private static final String NONE = "none";
+
+  private final MeterRegistry meterRegistry;
+  private final ObservationRegistry observationRegistry;
+  private final ThreadLocal<Deque<Observation.Scope>> inFlight = ThreadLocal.withInitial(ArrayDeque::new);
+
+  /**
+   * Creates a listener that records timers directly into the given meter registry.
+   *
+   * @param meterRegistry the registry receiving the metrics
+   */
+  public MicrometerCommandListener(MeterRegistry meterRegistry) {
+    this(meterRegistry, null);
+  }
+
+  /**
+   * Creates a listener that records observations into the given observation registry, typically the
+   * one auto-configured by Spring Boot with metrics and tracing handlers.
+   *
+   * @param meterRegistry       the registry receiving the summaries and counters
+   * @param observationRegistry the observation registry, or {@code null} to time commands directly
+   *                            into {@code meterRegistry}
+   */
+  public MicrometerCommandListener(MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+    this.meterRegistry = meterRegistry;
+    if (observationRegistry == null || observationRegistry.isNoop()) {
+      observationRegistry = ObservationRegistry.create();
+      observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+    }
+    this.observationRegistry = observationRegistry;
+  }
+
+  // search
+
+  @Override
+  public void searchStarted(String indexName, Query q, FTSearchParams params) {
+    startCommand("ft.search", indexName);
+  }
+
+  @Override
+  public void searchFinished(String indexName, Query q, FTSearchParams params, SearchResult searchResult) {
+    if (searchResult != null) {
+      DistributionSummary.builder(SEARCH_RESULTS).baseUnit("documents").tag("index", indexName).register(
+          meterRegistry).record(searchResult.getDocuments().size());
+    }
+    stop(searchResult == null);
+  }
+
+  @Override
+  public void aggregateStarted(String indexName, AggregationBuilder q) {
+    startCommand("ft.aggregate", indexName);
+  }
+
+  @Override
+  public void aggregateFinished(String indexName, AggregationBuilder q, AggregationResult result) {
+    stop(result == null);
+  }
+
+  @Override
+  public void cursorReadStarted(String indexName, long cursorId, int count) {
+    startCommand("ft.cursor.read", indexName);
+  }
+
+  @Override
+  public void cursorReadFinished(String indexName, long cursorId, int count, AggregationResult aggregationResult) {
+    stop(aggregationResult == null);
+  }
+
+  @Override
+  public void cursorDeleteStarted(String indexName, long cursorId) {
+    startCommand("ft.cursor.del", indexName);
+  }
+
+  @Override
+  public void cursorDeleteFinished(String indexName, long cursorId, String result) {
+    stop(false);
+  }
+
+  @Override
+  public void hybridSearchStarted(String indexName) {
+    startCommand("ft.hybrid", indexName);
+  }
+
+  @Override
+  public void hybridSearchFinished(String indexName, HybridResult result) {
+    stop(result == null);
+  }
+
+  @Override
+  public void explainStarted(String indexName, Query q) {
+    startCommand("ft.explain", indexName);
+  }
+
+  @Override
+  public void explainFinished(String indexName, Query q, String s) {
+    stop(s == null);
+  }
+
+  @Override
+  public void tagValsStarted(String indexName, String field) {
+    startCommand("ft.tagvals", indexName);
+  }
+
+  @Override
+  public void tagValsFinished(String indexName, String field, Set<String> result) {
+    stop(result == null);
+  }
+
+  // index management
+
+  @Override
+  public void createIndexStarted(String indexName, FTCreateParams params, List<SchemaField> fields, Schema schema,
+      IndexOptions options) {
+    startCommand("ft.create", indexName);
+  }
+
+  @Override
+  public void createIndexFinished(String indexName, FTCreateParams params, List<SchemaField> fields, Schema schema,
+      IndexOptions options, String result) {
+    stop(result == null);
+  }
+
+  @Override
+  public void infoStarted(String indexName) {
+    startCommand("ft.info", indexName);
+  }
+
+  @Override
+  public void infoFinished(String indexName, Map<String, Object> stringObjectMap) {
+    stop(stringObjectMap == null);
+  }
+
+  @Override
+  public void dropIndexStarted(String indexName) {
+    startCommand("ft.dropindex", indexName);
+  }
+
+  @Override
+  public void dropIndexFinished(String indexName, String result) {
+    stop(result == null);
+  }
+
+  @Override
+  public void dropIndexAndDocumentsStarted(String indexName) {
+    startCommand("ft.dropindex", indexName);
+  }
+
+  @Override
+  public void dropIndexAndDocumentsFinished(String indexName, String result) {
+    stop(result == null);
+  }
+
+  @Override
+  public void alterIndexStarted(String indexName, SchemaField[] fields) {
+    startCommand("ft.alter", indexName);
+  }
+
+  @Override
+  public void alterIndexFinished(String indexName, SchemaField[] fields, String result) {
+    stop(result == null);
+  }
+
+  @Override
+  public void setConfigStarted(String indexName, String option, String value) {
+    startCommand("ft.config.set", indexName);
+  }
+
+  @Override
+  public void setConfigFinished(String indexName, String option, String value, String result) {
+    stop(result == null);
+  }
+
+  @Override
+  public void getConfigStarted(String indexName, String option) {
+    startCommand("ft.config.get", indexName);
+  }
+
+  @Override
+  public void getConfigFinished(String indexName, String option, Map<String, Object> result) {
+    stop(result == null);
+  }
+
+  @Override
+  public void getIndexConfigStarted(String indexName, String option) {
+    startCommand("ft.config.get", indexName);
+  }
+
+  @Override
+  public void getIndexConfigFinished(String indexName, String option, Map<String, Object> result) {
+    stop(result == null);
+  }
+
+  @Override
+  public void addAliasStarted(String indexName, String name) {
+    startCommand("ft.aliasadd", indexName);
+  }
+
+  @Override
+  public void addAliasFinished(String indexName, String name, String result) {
+    stop(result == null);
+  }
+
+  @Override
+  public void updateAliasStarted(String indexName, String name) {
+    startCommand("ft.aliasupdate", indexName);
+  }
+
+  @Override
+  public void updateAliasFinished(String indexName, String name, String result) {
+    stop(result == null);
+  }
+
+  @Override
+  public void deleteAliasStarted(String indexName, String name) {
+    startCommand("ft.aliasdel", indexName);
+  }
+
+  @Override
+  public void deleteAliasFinished(String indexName, String name, String result) {
+    stop(result == null);
+  }
+
+  @Override
+  public void updateSynonymStarted(String indexName, String synonymGroupId, String[] terms) {
+    startCommand("ft.synupdate", indexName);
+  }
+
+  @Override
+  public void updateSynonymFinished(String indexName, String synonymGroupId, String[] terms, String result) {
+    stop(result == null);
+  }
+
+  @Override
+  public void dumpSynonymStarted(String indexName) {
+    startCommand("ft.syndump", indexName);
+  }
+
+  @Override
+  public void dumpSynonymFinished(String indexName, Map<String, List<String>> result) {
+    stop(result == null);
+  }
+
+  // suggestions
+
+  @Override
+  public void addSuggestionStarted(String indexName, String key, String suggestion, double score) {
+    startCommand("ft.sugadd", indexName);
+  }
+
+  @Override
+  public void addSuggestionFinished(String indexName, String key, String suggestion, double score, long result) {
+    stop(false);
+  }
+
+  @Override
+  public void getSuggestionStarted(String indexName, String key, String prefix, AutoCompleteOptions options) {
+    startCommand("ft.sugget", indexName);
+  }
+
+  @Override
+  public void getSuggestionFinished(String indexName, String key, String prefix, AutoCompleteOptions options,
+      List<Suggestion> list) {
+    stop(list == null);
+  }
+
+  @Override
+  public void deleteSuggestionStarted(String indexName, String key, String entry) {
+    startCommand("ft.sugdel", indexName);
+  }
+
+  @Override
+  public void deleteSuggestionFinished(String indexName, String key, String entry, boolean result) {
+    stop(false);
+  }
+
+  @Override
+  public void getSuggestionLengthStarted(String indexName, String key) {
+    startCommand("ft.suglen", indexName);
+  }
+
+  @Override
+  public void getSuggestionLengthFinished(String indexName, String key, long result) {
+    stop(false);
+  }
+
+  // JSON, hash and probabilistic commands
+
+  @Override
+  public void commandStarted(String command, String key) {
+    Observation observation = Observation.createNotStarted(COMMAND_OBSERVATION, observationRegistry) //
+        .contextualName(command) //
+        .lowCardinalityKeyValue("operation", command.toLowerCase(Locale.ROOT)) //
+        .lowCardinalityKeyValue("index", NONE);
+    if (key != null) {
+      observation.highCardinalityKeyValue("db.redis.key", key);
+    }
+    start(observation);
+  }
+
+  @Override
+  public void commandFinished(String command, String key, Throwable error) {
+    stop(error);
+  }
+
+  // pipelines
+
+  @Override
+  public void pipelineStarted(String operation, Class<?> entityClass, int size) {
+    String entity = entityClass != null ? entityClass.getSimpleName() : NONE;
+    DistributionSummary.builder(PIPELINE_SIZE).baseUnit("entities").tag("operation", operation).tag("entity", entity)
+        .register(meterRegistry).record(size);
+    start(Observation.createNotStarted(PIPELINE_OBSERVATION, observationRegistry) //
+        .contextualName("pipeline " + operation) //
+        .lowCardinalityKeyValue("operation", operation) //
+        .lowCardinalityKeyValue("entity", entity));
+  }
+
+  @Override
+  public void pipelineFinished(String operation, Class<?> entityClass, int size) {
+    stop(false);
+  }
+
+  // decoding
+
+  @Override
+  public void documentsDecoded(Class<?> entityClass, int count, long decodeNanos) {
+    String entity = entityClass != null ? entityClass.getSimpleName() : NONE;
+    Timer.builder(DECODE_TIMER).description("Client-side time spent turning Redis replies into entities").tag(
+        "entity", entity).register(meterRegistry).record(decodeNanos, TimeUnit.NANOSECONDS);
+    Counter.builder(DOCUMENTS_DECODED).baseUnit("documents").tag("entity", entity).register(meterRegistry).increment(
+        count);
+  }
+
+  @Override
+  public void decodeFailed(Class<?> entityClass, Throwable error) {
+    Counter.builder(DECODE_ERRORS).tag("entity", entityClass != null ? entityClass.getSimpleName() : NONE).tag(
+        "exception", error.getClass().getSimpleName()).register(meterRegistry).increment();
+  }
+
+  @Override
+  public void embeddingCacheLookup(String model, int localHits, int redisHits, int misses) {
+    countEmbeddingCacheLookups(model, "local", localHits);
+    countEmbeddingCacheLookups(model, "redis", redisHits);
+    countEmbeddingCacheLookups(model, "miss", misses);
+  }
+
+  private void countEmbeddingCacheLookups(String model, String result, int count) {
+    if (count > 0) {
+      Counter.builder(EMBEDDING_CACHE).description("Embedding cache lookups").tag("model", model).tag("result", result)
+          .register(meterRegistry).increment(count);
+    }
+  }
+
+  // repositories
+
+  @Override
+  public void repositoryQueryStarted(String repository, String method) {
+    start(Observation.createNotStarted(REPOSITORY_OBSERVATION, observationRegistry) //
+        .contextualName(repository + "." + method) //
+        .lowCardinalityKeyValue("repository", repository) //
+        .lowCardinalityKeyValue("method", method));
+  }
+
+  @Override
+  public void repositoryQueryFinished(String repository, String method, Throwable error) {
+    stop(error);
+  }
+
+  private void startCommand(String operation, String indexName) {
+    start(Observation.createNotStarted(COMMAND_OBSERVATION, observationRegistry) //
+        .contextualName(operation) //
+        .lowCardinalityKeyValue("operation", operation) //
+        .lowCardinalityKeyValue("index", indexName != null ? indexName : NONE));
+  }
+
+  private void start(Observation observation) {
+    inFlight.get().push(observation.start().openScope());
+  }
+
+  private void stop(boolean failed) {
+    stop(null, failed);
+  }
+
+  private void stop(Throwable error) {
+    stop(error, error != null);
+  }
+
+  private void stop(Throwable error, boolean failed) {
+    Deque<Observation.Scope> scopes = inFlight.get();
+    Observation.Scope scope = scopes.poll();
+    if (scopes.isEmpty()) {
+      inFlight.remove();
+    }
+    if (scope == null) {
+      return;
+    }
+    Observation observation = scope.getCurrentObservation();
+    scope.close();
+    observation.lowCardinalityKeyValue("outcome", failed ? "failure" : "success");
+    if (error != null) {
+      observation.error(error);
+    }
+    observation.stop();
+  }
+}
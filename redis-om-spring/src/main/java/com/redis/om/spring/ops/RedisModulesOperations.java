@@ -1,14 +1,23 @@
 package com.redis.om.spring.ops;
 
+import java.util.Collection;
+
 import org.springframework.data.redis.core.StringRedisTemplate;
 
 import com.google.gson.GsonBuilder;
+import com.redis.om.spring.cache.KeyInvalidations;
+import com.redis.om.spring.cache.SearchResultCache;
 import com.redis.om.spring.client.RedisModulesClient;
 import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.ops.json.JSONOperationsImpl;
 import com.redis.om.spring.ops.pds.*;
+import com.redis.om.spring.ops.search.CachingSearchOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.ops.search.SearchOperationsImpl;
+import com.redis.om.spring.ops.search.SlowQueryLog;
+
+import redis.clients.jedis.search.Query;
+import redis.clients.jedis.search.SearchResult;
 
 /**
  * A record that provides centralized access to Redis module operations.
@@ -22,11 +31,14 @@ import com.redis.om.spring.ops.search.SearchOperationsImpl;
  * and provides typed access to module-specific operations through the {@code opsFor*} methods.
  * </p>
  *
- * @param <K>             the type of keys used in Redis operations
- * @param client          the Redis modules client for executing commands
- * @param template        the Spring Data Redis template for additional Redis operations
- * @param gsonBuilder     the Gson builder for JSON serialization/deserialization configuration
- * @param commandListener A command listener for monitoring Redis commands
+ * @param <K>               the type of keys used in Redis operations
+ * @param client            the Redis modules client for executing commands
+ * @param template          the Spring Data Redis template for additional Redis operations
+ * @param gsonBuilder       the Gson builder for JSON serialization/deserialization configuration
+ * @param commandListener   A command listener for monitoring Redis commands
+ * @param searchResultCache the optional cache for search and aggregation results, may be {@code null}
+ * @param slowQueryLog      the optional log of slow searches, may be {@code null}
+ * @param keyInvalidations  the listeners dropping the state held for written keys
  *
  * @author Redis OM Spring Team
  * @see JSONOperations
@@ -38,7 +50,51 @@ import com.redis.om.spring.ops.search.SearchOperationsImpl;
  * @see TDigestOperations
  */
 public record RedisModulesOperations<K>(RedisModulesClient client, StringRedisTemplate template,
-                                        GsonBuilder gsonBuilder, CommandListener commandListener) {
+                                        GsonBuilder gsonBuilder, CommandListener commandListener,
+                                        SearchResultCache searchResultCache, SlowQueryLog slowQueryLog,
+                                        KeyInvalidations keyInvalidations) {
+
+  /**
+   * Creates a new instance without a search result cache or slow-query log.
+   *
+   * @param client          the Redis modules client for executing commands
+   * @param template        the Spring Data Redis template for additional Redis operations
+   * @param gsonBuilder     the Gson builder for JSON serialization/deserialization configuration
+   * @param commandListener A command listener for monitoring Redis commands
+   */
+  public RedisModulesOperations(RedisModulesClient client, StringRedisTemplate template, GsonBuilder gsonBuilder,
+      CommandListener commandListener) {
+    this(client, template, gsonBuilder, commandListener, null, null);
+  }
+
+  /**
+   * Creates a new instance without a slow-query log.
+   *
+   * @param client            the Redis modules client for executing commands
+   * @param template          the Spring Data Redis template for additional Redis operations
+   * @param gsonBuilder       the Gson builder for JSON serialization/deserialization configuration
+   * @param commandListener   A command listener for monitoring Redis commands
+   * @param searchResultCache the cache for search and aggregation results, may be {@code null}
+   */
+  public RedisModulesOperations(RedisModulesClient client, StringRedisTemplate template, GsonBuilder gsonBuilder,
+      CommandListener commandListener, SearchResultCache searchResultCache) {
+    this(client, template, gsonBuilder, commandListener, searchResultCache, null);
+  }
+
+  /**
+   * Creates a new instance without key invalidation listeners.
+   *
+   * @param client            the Redis modules client for executing commands
+   * @param template          the Spring Data Redis template for additional Redis operations
+   * @param gsonBuilder       the Gson builder for JSON serialization/deserialization configuration
+   * @param commandListener   A command listener for monitoring Redis commands
+   * @param searchResultCache the cache for search and aggregation results, may be {@code null}
+   * @param slowQueryLog      the log of slow searches, may be {@code null}
+   */
+  public RedisModulesOperations(RedisModulesClient client, StringRedisTemplate template, GsonBuilder gsonBuilder,
+      CommandListener commandListener, SearchResultCache searchResultCache, SlowQueryLog slowQueryLog) {
+    this(client, template, gsonBuilder, commandListener, searchResultCache, slowQueryLog, new KeyInvalidations());
+  }
 
   /**
    * Creates and returns operations for interacting with RedisJSON module.
@@ -52,7 +108,7 @@ public record RedisModulesOperations<K>(RedisModulesClient client, StringRedisTe
    */
   public JSONOperations<K> opsForJSON() {
     // Pass the template to enable transaction support
-    return new JSONOperationsImpl<>(client, gsonBuilder, template);
+    return new JSONOperationsImpl<>(client, gsonBuilder, template, commandListener);
   }
 
   /**
@@ -69,6 +125,69 @@ public record RedisModulesOperations<K>(RedisModulesClient client, StringRedisTe
     return new SearchOperationsImpl<>(index, client, template, commandListener);
   }
 
+  /**
+   * Creates and returns search operations whose query results may be served from the
+   * {@link SearchResultCache}.
+   * <p>
+   * Intended for read-only query paths (repository query methods, entity streams and
+   * aggregations). When no cache is configured, or caching is not enabled for the entity type,
+   * this is equivalent to {@link #opsForSearch(Object)}.
+   * </p>
+   *
+   * @param index       the name of the search index to operate on
+   * @param entityClass the entity type owning the index
+   * @return a {@link SearchOperations} instance for search and indexing operations
+   */
+  public SearchOperations<K> opsForCachedSearch(K index, Class<?> entityClass) {
+    SearchOperations<K> ops = opsForSearch(index);
+    if (searchResultCache != null && searchResultCache.isEnabledFor(entityClass)) {
+      return new CachingSearchOperations<>(ops, searchResultCache, entityClass, index);
+    }
+    return ops;
+  }
+
+  /**
+   * Invalidates the cached query results of the given entity type, if a search result cache is
+   * configured.
+   *
+   * @param entityClass the written entity type
+   */
+  public void invalidateSearchResults(Class<?> entityClass) {
+    if (searchResultCache != null) {
+      searchResultCache.invalidate(entityClass);
+    }
+  }
+
+  /**
+   * Drops the state held in this process for the given written keys, such as near-cache entries
+   * and document snapshots, and invalidates the cached query results of the entity type.
+   *
+   * @param entityClass the written entity type
+   * @param keys        the written Redis keys
+   * @since 2.0.5
+   */
+  public void invalidateKeys(Class<?> entityClass, Collection<String> keys) {
+    keys.forEach(keyInvalidations::invalidate);
+    invalidateSearchResults(entityClass);
+  }
+
+  /**
+   * Reports a completed search to the {@link SlowQueryLog}, if one is configured and enabled.
+   *
+   * @param source      what issued the query, e.g. the repository method
+   * @param index       the queried index
+   * @param query       the executed query
+   * @param result      the search result
+   * @param searchNanos the time spent executing the search
+   * @param decodeNanos the client-side time spent turning the result into entities
+   */
+  public void recordQuery(String source, K index, Query query, SearchResult result, long searchNanos,
+      long decodeNanos) {
+    if (slowQueryLog != null && slowQueryLog.isEnabled()) {
+      slowQueryLog.record(source, index.toString(), query, result, searchNanos, decodeNanos);
+    }
+  }
+
   /**
    * Creates and returns operations for interacting with Redis Bloom filters.
    * <p>
@@ -79,7 +198,8 @@ public record RedisModulesOperations<K>(RedisModulesClient client, StringRedisTe
    * @return a {@link BloomOperations} instance for Bloom filter operations
    */
   public BloomOperations<K> opsForBloom() {
-    return new BloomOperationsImpl<>(client);
+    BloomOperations<K> ops = new BloomOperationsImpl<>(client);
+    return InstrumentedOperations.instrument(BloomOperations.class, ops, "bf", commandListener);
   }
 
   /**
@@ -92,7 +212,8 @@ public record RedisModulesOperations<K>(RedisModulesClient client, StringRedisTe
    * @return a {@link CountMinSketchOperations} instance for Count-Min sketch operations
    */
   public CountMinSketchOperations<K> opsForCountMinSketch() {
-    return new CountMinSketchOperationsImpl<>(client);
+    CountMinSketchOperations<K> ops = new CountMinSketchOperationsImpl<>(client);
+    return InstrumentedOperations.instrument(CountMinSketchOperations.class, ops, "cms", commandListener);
   }
 
   /**
@@ -105,7 +226,8 @@ public record RedisModulesOperations<K>(RedisModulesClient client, StringRedisTe
    * @return a {@link CuckooFilterOperations} instance for Cuckoo filter operations
    */
   public CuckooFilterOperations<K> opsForCuckoFilter() {
-    return new CuckooFilterOperationsImpl<>(client);
+    CuckooFilterOperations<K> ops = new CuckooFilterOperationsImpl<>(client);
+    return InstrumentedOperations.instrument(CuckooFilterOperations.class, ops, "cf", commandListener);
   }
 
   /**
@@ -118,7 +240,8 @@ public record RedisModulesOperations<K>(RedisModulesClient client, StringRedisTe
    * @return a {@link TopKOperations} instance for TopK operations
    */
   public TopKOperations<K> opsForTopK() {
-    return new TopKOperationsImpl<>(client);
+    TopKOperations<K> ops = new TopKOperationsImpl<>(client);
+    return InstrumentedOperations.instrument(TopKOperations.class, ops, "topk", commandListener);
   }
 
   /**
@@ -131,6 +254,7 @@ public record RedisModulesOperations<K>(RedisModulesClient client, StringRedisTe
    * @return a {@link TDigestOperations} instance for T-Digest operations
    */
   public TDigestOperations<K> opsForTDigest() {
-    return new TDigestOperationsImpl<>(client);
+    TDigestOperations<K> ops = new TDigestOperationsImpl<>(client);
+    return InstrumentedOperations.instrument(TDigestOperations.class, ops, "tdigest", commandListener);
   }
 }
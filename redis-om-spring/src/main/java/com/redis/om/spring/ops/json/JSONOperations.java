@@ -61,7 +61,8 @@ public interface JSONOperations<K> {
    * Gets multiple JSON documents as strings in a single operation.
    *
    * @param keys the keys of the JSON documents to retrieve
-   * @return a list of JSON documents as strings
+   * @return the JSON documents as strings, in the order of the keys, with {@code null} for every
+   *         missing document
    */
   @SuppressWarnings(
     "unchecked"
@@ -141,6 +142,22 @@ public interface JSONOperations<K> {
    */
   void setEscaped(K key, Object object, JsonSetParams params, Path2 path);
 
+  /**
+   * Merges a value into the JSON document at the specified JSONPath with {@code JSON.MERGE}.
+   * <p>
+   * Members of the value are merged recursively into existing objects and members whose value is
+   * {@code null} are deleted. A {@link com.google.gson.JsonElement} is written as-is, keeping its
+   * {@code null} members; any other object is serialized with Gson.
+   * </p>
+   *
+   * @param key    the key of the JSON document
+   * @param object the merge patch to apply
+   * @param path   the JSONPath where to merge the value
+   * @since 2.0.5
+   * @see JsonMergePatch
+   */
+  void merge(K key, Object object, Path2 path);
+
   /**
    * Gets the types of values in the JSON document at the root path.
    *
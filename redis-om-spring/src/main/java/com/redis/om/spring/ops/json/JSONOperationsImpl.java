@@ -3,6 +3,7 @@ package com.redis.om.spring.ops.json;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.json.JSONArray;
 import org.springframework.data.redis.connection.RedisConnection;
@@ -13,8 +14,12 @@ import org.springframework.lang.Nullable;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
 import com.google.gson.internal.LinkedTreeMap;
 import com.redis.om.spring.client.RedisModulesClient;
+import com.redis.om.spring.ops.CommandListener;
+import com.redis.om.spring.ops.NoOpCommandListener;
+import com.redis.om.spring.serialization.gson.LazyReferenceScope;
 
 import redis.clients.jedis.json.JsonSetParams;
 import redis.clients.jedis.json.Path2;
@@ -32,6 +37,7 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
   private final RedisModulesClient client;
   private final StringRedisTemplate template;
   private final RedisConnectionFactory connectionFactory;
+  private final CommandListener commandListener;
   private Gson gson;
 
   /**
@@ -53,10 +59,24 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
    * @param template the Spring Redis template for transaction management (optional)
    */
   public JSONOperationsImpl(RedisModulesClient client, GsonBuilder builder, StringRedisTemplate template) {
+    this(client, builder, template, new NoOpCommandListener());
+  }
+
+  /**
+   * Constructs a new JSONOperationsImpl that reports every command and decode to the given listener.
+   *
+   * @param client          the Redis modules client for JSON operations
+   * @param builder         the Gson builder for JSON serialization/deserialization
+   * @param template        the Spring Redis template for transaction management (optional)
+   * @param commandListener the listener notified of commands and document decoding
+   */
+  public JSONOperationsImpl(RedisModulesClient client, GsonBuilder builder, StringRedisTemplate template,
+      CommandListener commandListener) {
     this.client = client;
     this.builder = builder;
     this.template = template;
     this.connectionFactory = template != null ? template.getConnectionFactory() : null;
+    this.commandListener = commandListener;
   }
 
   /**
@@ -68,7 +88,7 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
    */
   @Override
   public Long del(K key, Path2 path) {
-    return client.clientForJSON().jsonDel(key.toString(), path);
+    return execute("JSON.DEL", key, () -> client.clientForJSON().jsonDel(key.toString(), path));
   }
 
   /**
@@ -80,7 +100,7 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
   @Nullable
   @Override
   public String get(K key) {
-    var result = client.clientForJSON().jsonGet(key.toString(), Path2.ROOT_PATH);
+    var result = execute("JSON.GET", key, () -> client.clientForJSON().jsonGet(key.toString(), Path2.ROOT_PATH));
     if (result == null) {
       return null;
     } else if (result instanceof JSONArray jsonArray) {
@@ -116,17 +136,19 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
    */
   @Override
   public <T> T get(K key, Class<T> clazz, Path2 path) {
-    var result = client.clientForJSON().jsonGet(key.toString(), path);
-    String asString;
-    if (result instanceof JSONArray jsonArray) {
-      return extractValueAsClassFromJSONArray(jsonArray, clazz);
-    } else if (result instanceof LinkedTreeMap<?, ?> linkedTreeMap) {
-      asString = getGson().toJson(linkedTreeMap);
-    } else {
-      asString = result != null ? result.toString() : null;
+    var result = execute("JSON.GET", key, () -> client.clientForJSON().jsonGet(key.toString(), path));
+    if (result == null) {
+      return null;
     }
-
-    return result != null ? getGson().fromJson(asString, clazz) : null;
+    return decode(clazz, 1, () -> {
+      if (result instanceof JSONArray jsonArray) {
+        return extractValueAsClassFromJSONArray(jsonArray, clazz);
+      } else if (result instanceof LinkedTreeMap<?, ?> linkedTreeMap) {
+        return getGson().fromJson(getGson().toJson(linkedTreeMap), clazz);
+      } else {
+        return getGson().fromJson(result.toString(), clazz);
+      }
+    });
   }
 
   /**
@@ -138,9 +160,10 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
   @SafeVarargs
   @Override
   public final List<String> mget(K... keys) {
+    // keep a null in place of every missing document so that replies line up with the keys
     return (keys.length > 0) ?
-        client.clientForJSON().jsonMGet(getKeysAsString(keys)).stream().filter(Objects::nonNull).map(jsonArr -> jsonArr
-            .get(0)).map(Object::toString).toList() :
+        execute("JSON.MGET", keys[0], () -> client.clientForJSON().jsonMGet(getKeysAsString(keys))).stream().map(
+            jsonArr -> jsonArr != null && !jsonArr.isEmpty() ? jsonArr.get(0).toString() : null).toList() :
         List.of();
   }
 
@@ -155,11 +178,14 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
   @SafeVarargs
   @Override
   public final <T> List<T> mget(Class<T> clazz, K... keys) {
+    if (keys.length == 0) {
+      return List.of();
+    }
     Gson g = getGson();
-    return (keys.length > 0) ?
-        client.clientForJSON().jsonMGet(getKeysAsString(keys)).stream().filter(Objects::nonNull).map(jsonArr -> jsonArr
-            .get(0)).map(Object::toString).map(str -> g.fromJson(str, clazz)).toList() :
-        List.of();
+    List<JSONArray> results = execute("JSON.MGET", keys[0], () -> client.clientForJSON().jsonMGet(getKeysAsString(
+        keys)));
+    return decode(clazz, results.size(), () -> results.stream().filter(Objects::nonNull).map(jsonArr -> jsonArr.get(0))
+        .map(Object::toString).map(str -> g.fromJson(str, clazz)).toList());
   }
 
   /**
@@ -174,11 +200,14 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
   @SafeVarargs
   @Override
   public final <T> List<T> mget(Path2 path, Class<T> clazz, K... keys) {
+    if (keys.length == 0) {
+      return List.of();
+    }
     Gson g = getGson();
-    return (keys.length > 0) ?
-        client.clientForJSON().jsonMGet(path, getKeysAsString(keys)).stream().map(Object::toString).map(str -> g
-            .fromJson(str, clazz)).toList() :
-        List.of();
+    List<JSONArray> results = execute("JSON.MGET", keys[0], () -> client.clientForJSON().jsonMGet(path,
+        getKeysAsString(keys)));
+    return decode(clazz, results.size(), () -> results.stream().map(Object::toString).map(str -> g.fromJson(str,
+        clazz)).toList());
   }
 
   /**
@@ -206,7 +235,8 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
     }
 
     // Not in a transaction or no template available - execute normally
-    client.clientForJSON().jsonSet(key.toString(), Path2.ROOT_PATH, getGson().toJson(object));
+    String json = getGson().toJson(object);
+    execute("JSON.SET", key, () -> client.clientForJSON().jsonSet(key.toString(), Path2.ROOT_PATH, json));
   }
 
   /**
@@ -235,7 +265,8 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
     }
 
     // Not in a transaction or no template available - execute normally
-    client.clientForJSON().jsonSet(key.toString(), path, getGson().toJson(object));
+    String json = getGson().toJson(object);
+    execute("JSON.SET", key, () -> client.clientForJSON().jsonSet(key.toString(), path, json));
   }
 
   /**
@@ -247,7 +278,7 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
    */
   @Override
   public void set(K key, Object object, JsonSetParams params) {
-    client.clientForJSON().jsonSet(key.toString(), object, params);
+    execute("JSON.SET", key, () -> client.clientForJSON().jsonSet(key.toString(), object, params));
   }
 
   /**
@@ -260,7 +291,7 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
    */
   @Override
   public void set(K key, Object object, JsonSetParams params, Path2 path) {
-    client.clientForJSON().jsonSet(key.toString(), path, object, params);
+    execute("JSON.SET", key, () -> client.clientForJSON().jsonSet(key.toString(), path, object, params));
   }
 
   /**
@@ -273,7 +304,20 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
    */
   @Override
   public void setEscaped(K key, Object object, JsonSetParams params, Path2 path) {
-    client.clientForJSON().jsonSetWithEscape(key.toString(), path, object, params);
+    execute("JSON.SET", key, () -> client.clientForJSON().jsonSetWithEscape(key.toString(), path, object, params));
+  }
+
+  /**
+   * Merges a value into the JSON document at the specified path for the given key.
+   *
+   * @param key    the key identifying the JSON document
+   * @param object the merge patch to apply
+   * @param path   the JSON path to merge the value at
+   */
+  @Override
+  public void merge(K key, Object object, Path2 path) {
+    String json = object instanceof JsonElement element ? element.toString() : getGson().toJson(object);
+    execute("JSON.MERGE", key, () -> client.clientForJSON().jsonMerge(key.toString(), path, json));
   }
 
   @Override
@@ -283,49 +327,52 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
 
   @Override
   public List<Class<?>> type(K key, Path2 path) {
-    return client.clientForJSON().jsonType(key.toString(), path);
+    return execute("JSON.TYPE", key, () -> client.clientForJSON().jsonType(key.toString(), path));
   }
 
   @Override
   public List<Long> strAppend(K key, Path2 path, Object object) {
-    return client.clientForJSON().jsonStrAppend(key.toString(), path, object);
+    return execute("JSON.STRAPPEND", key, () -> client.clientForJSON().jsonStrAppend(key.toString(), path, object));
   }
 
   @Override
   public List<Long> strLen(K key, Path2 path) {
-    return client.clientForJSON().jsonStrLen(key.toString(), path);
+    return execute("JSON.STRLEN", key, () -> client.clientForJSON().jsonStrLen(key.toString(), path));
   }
 
   @Override
   public List<Long> arrAppend(K key, Path2 path, Object... objects) {
-    return client.clientForJSON().jsonArrAppendWithEscape(key.toString(), path, objects);
+    return execute("JSON.ARRAPPEND", key, () -> client.clientForJSON().jsonArrAppendWithEscape(key.toString(), path,
+        objects));
   }
 
   @Override
   public List<Long> arrIndex(K key, Path2 path, Object scalar) {
-    return client.clientForJSON().jsonArrIndexWithEscape(key.toString(), path, scalar);
+    return execute("JSON.ARRINDEX", key, () -> client.clientForJSON().jsonArrIndexWithEscape(key.toString(), path,
+        scalar));
   }
 
   @Override
   public List<Long> arrInsert(K key, Path2 path, Integer index, Object... objects) {
-    return client.clientForJSON().jsonArrInsertWithEscape(key.toString(), path, index, objects);
+    return execute("JSON.ARRINSERT", key, () -> client.clientForJSON().jsonArrInsertWithEscape(key.toString(), path,
+        index, objects));
   }
 
   @Override
   public List<Long> arrLen(K key, Path2 path) {
-    return client.clientForJSON().jsonArrLen(key.toString(), path);
+    return execute("JSON.ARRLEN", key, () -> client.clientForJSON().jsonArrLen(key.toString(), path));
   }
 
   @Override
   public <T> List<T> arrPop(K key, Class<T> clazz, Path2 path, Integer index) {
-    return client.clientForJSON().jsonArrPop(key.toString(), path, index).stream().map(Object::toString).map(
-        str -> getGson().fromJson(str, clazz)).toList();
+    return execute("JSON.ARRPOP", key, () -> client.clientForJSON().jsonArrPop(key.toString(), path, index)).stream()
+        .map(Object::toString).map(str -> getGson().fromJson(str, clazz)).toList();
   }
 
   @Override
   public <T> List<T> arrPop(K key, Class<T> clazz, Path2 path) {
-    return client.clientForJSON().jsonArrPop(key.toString(), path).stream().map(Object::toString).map(str -> getGson()
-        .fromJson(str, clazz)).toList();
+    return execute("JSON.ARRPOP", key, () -> client.clientForJSON().jsonArrPop(key.toString(), path)).stream().map(
+        Object::toString).map(str -> getGson().fromJson(str, clazz)).toList();
   }
 
   @Override
@@ -335,20 +382,65 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
 
   @Override
   public List<Long> arrTrim(K key, Path2 path, Integer start, Integer stop) {
-    return client.clientForJSON().jsonArrTrim(key.toString(), path, start, stop);
+    return execute("JSON.ARRTRIM", key, () -> client.clientForJSON().jsonArrTrim(key.toString(), path, start, stop));
   }
 
   @Override
   public void toggle(K key, Path2 path) {
-    client.clientForJSON().jsonToggle(key.toString(), path);
+    execute("JSON.TOGGLE", key, () -> client.clientForJSON().jsonToggle(key.toString(), path));
   }
 
   @Override
   public List<Double> numIncrBy(K key, Path2 path, Long value) {
-    JSONArray result = (JSONArray) client.clientForJSON().jsonNumIncrBy(key.toString(), path, value);
+    JSONArray result = (JSONArray) execute("JSON.NUMINCRBY", key, () -> client.clientForJSON().jsonNumIncrBy(key
+        .toString(), path, value));
     return result.toList().stream().map(e -> Double.valueOf(e.toString())).toList();
   }
 
+  /**
+   * Runs a RedisJSON command, reporting it to the command listener.
+   *
+   * @param <T>     the reply type
+   * @param command the command name
+   * @param key     the (first) key the command operates on
+   * @param call    the command invocation
+   * @return the command reply
+   */
+  private <T> T execute(String command, K key, Supplier<T> call) {
+    String keyAsString = key != null ? key.toString() : null;
+    commandListener.commandStarted(command, keyAsString);
+    Throwable error = null;
+    try {
+      return call.get();
+    } catch (RuntimeException e) {
+      error = e;
+      throw e;
+    } finally {
+      commandListener.commandFinished(command, keyAsString, error);
+    }
+  }
+
+  /**
+   * Turns raw replies into objects, reporting the client-side decode time to the command listener.
+   *
+   * @param <T>     the decoded type
+   * @param clazz   the target class
+   * @param count   the number of decoded documents
+   * @param decoder the decoding step
+   * @return the decoded value
+   */
+  private <T> T decode(Class<?> clazz, int count, Supplier<T> decoder) {
+    long start = System.nanoTime();
+    try {
+      T decoded = LazyReferenceScope.with(decoder);
+      commandListener.documentsDecoded(clazz, count, System.nanoTime() - start);
+      return decoded;
+    } catch (RuntimeException e) {
+      commandListener.decodeFailed(clazz, e);
+      throw e;
+    }
+  }
+
   /**
    * Converts an array of keys to an array of strings.
    *
@@ -0,0 +1,97 @@
+package com.redis.om.spring.ops.json;
+
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
+/**
+ * Computes <a href="https://www.rfc-editor.org/rfc/rfc7386">JSON merge patches</a> to be applied with
+ * {@code JSON.MERGE}.
+ * <p>
+ * The patch between two documents contains the members that were added or changed, nested objects
+ * are diffed recursively, arrays and other values are replaced as a whole, and members that no
+ * longer exist are set to {@code null}, which {@code JSON.MERGE} treats as a deletion. Updating a
+ * large document where only a few members changed then transfers the changed subtrees instead of
+ * the whole document.
+ * </p>
+ * <p>Example:</p>
+ * <pre>{@code
+ * source: {"name":"Keyboard","price":49.99,"specs":{"layout":"US","keys":104},"tags":["usb"]}
+ * target: {"name":"Keyboard","price":39.99,"specs":{"layout":"US"},"tags":["usb","rgb"]}
+ * patch:  {"price":39.99,"specs":{"keys":null},"tags":["usb","rgb"]}
+ * }</pre>
+ *
+ * @since 2.0.5
+ * @see JSONOperations#merge(Object, Object, redis.clients.jedis.json.Path2)
+ */
+public final class JsonMergePatch {
+  private JsonMergePatch() {
+  }
+
+  /**
+   * Computes the merge patch that turns {@code source} into {@code target}.
+   * <p>
+   * A merge patch cannot express setting a member to {@code null} (it would delete the member
+   * instead) nor replace a root that is not an object, so {@code null} is returned when the target
+   * contains {@code null} values or either document is not an object; the target must then be
+   * written in full.
+   * </p>
+   *
+   * @param source the document currently stored
+   * @param target the document to store
+   * @return the patch, empty if the documents are equal, or {@code null} if the change cannot be
+   *         expressed as a merge patch
+   */
+  @Nullable
+  public static JsonObject diff(JsonElement source, JsonElement target) {
+    if (!source.isJsonObject() || !target.isJsonObject() || containsNull(target)) {
+      return null;
+    }
+    return diffObjects(source.getAsJsonObject(), target.getAsJsonObject());
+  }
+
+  private static JsonObject diffObjects(JsonObject source, JsonObject target) {
+    JsonObject patch = new JsonObject();
+    for (Map.Entry<String, JsonElement> member : target.entrySet()) {
+      JsonElement current = source.get(member.getKey());
+      JsonElement value = member.getValue();
+      if (current == null || !current.equals(value)) {
+        if (current != null && current.isJsonObject() && value.isJsonObject()) {
+          patch.add(member.getKey(), diffObjects(current.getAsJsonObject(), value.getAsJsonObject()));
+        } else {
+          patch.add(member.getKey(), value);
+        }
+      }
+    }
+    for (String name : source.keySet()) {
+      if (!target.has(name)) {
+        patch.add(name, JsonNull.INSTANCE);
+      }
+    }
+    return patch;
+  }
+
+  private static boolean containsNull(JsonElement element) {
+    if (element.isJsonNull()) {
+      return true;
+    } else if (element.isJsonObject()) {
+      for (Map.Entry<String, JsonElement> member : element.getAsJsonObject().entrySet()) {
+        if (containsNull(member.getValue())) {
+          return true;
+        }
+      }
+    } else if (element.isJsonArray()) {
+      for (JsonElement item : (JsonArray) element) {
+        if (containsNull(item)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
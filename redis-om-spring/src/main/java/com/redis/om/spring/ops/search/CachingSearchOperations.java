@@ -0,0 +1,254 @@
+package com.redis.om.spring.ops.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.redis.om.spring.autocomplete.Suggestion;
+import com.redis.om.spring.cache.SearchResultCache;
+import com.redis.om.spring.repository.query.autocomplete.AutoCompleteOptions;
+
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.args.Rawable;
+import redis.clients.jedis.params.IParams;
+import redis.clients.jedis.search.*;
+import redis.clients.jedis.search.aggr.AggregationBuilder;
+import redis.clients.jedis.search.aggr.AggregationResult;
+import redis.clients.jedis.search.hybrid.FTHybridParams;
+import redis.clients.jedis.search.hybrid.HybridResult;
+import redis.clients.jedis.search.schemafields.SchemaField;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * A {@link SearchOperations} decorator that serves repeated searches and aggregations from a
+ * {@link SearchResultCache}.
+ * <p>
+ * Only read queries are cached: {@code FT.SEARCH} and non-cursor {@code FT.AGGREGATE}. The cache
+ * key is the index name followed by the exact arguments Jedis would send for the query, so the
+ * query string, parameters, limit, sort, return fields and dialect all participate. Every other
+ * operation is delegated unchanged.
+ * </p>
+ * <p>
+ * Cached {@link SearchResult}s and {@link AggregationResult}s are shared between callers and must
+ * be treated as read-only.
+ * </p>
+ *
+ * @param <K> the type of the search index key
+ * @see com.redis.om.spring.ops.RedisModulesOperations#opsForCachedSearch(Object, Class)
+ * @since 2.0.5
+ */
+public class CachingSearchOperations<K> implements SearchOperations<K> {
+  private static final char SEPARATOR = '\u0000';
+
+  private final SearchOperations<K> delegate;
+  private final SearchResultCache cache;
+  private final Class<?> entityClass;
+  private final String indexName;
+
+  /**
+   * Creates a new caching decorator.
+   *
+   * @param delegate    the operations executing the commands against Redis
+   * @param cache       the result cache
+   * @param entityClass the entity type owning the index, used for invalidation
+   * @param index       the search index identifier
+   */
+  public CachingSearchOperations(SearchOperations<K> delegate, SearchResultCache cache, Class<?> entityClass,
+      K index) {
+    this.delegate = delegate;
+    this.cache = cache;
+    this.entityClass = entityClass;
+    this.indexName = index.toString();
+  }
+
+  @Override
+  public String createIndex(Schema schema, IndexOptions options) {
+    return delegate.createIndex(schema, options);
+  }
+
+  @Override
+  public String createIndex(FTCreateParams params, List<SchemaField> fields) {
+    return delegate.createIndex(params, fields);
+  }
+
+  @Override
+  public SearchResult search(Query q) {
+    return cache.get(entityClass, indexName, "SEARCH" + SEPARATOR + normalize(q), () -> delegate.search(q));
+  }
+
+  @Override
+  @Deprecated
+  public SearchResult search(Query q, FTSearchParams params) {
+    return cache.get(entityClass, indexName, "SEARCH" + SEPARATOR + q.toString() + SEPARATOR + normalize(params),
+        () -> delegate.search(q, params));
+  }
+
+  @Override
+  public SearchResult search(String query, FTSearchParams params) {
+    return cache.get(entityClass, indexName, "SEARCH" + SEPARATOR + query + SEPARATOR + normalize(params),
+        () -> delegate.search(query, params));
+  }
+
+  @Override
+  public AggregationResult aggregate(AggregationBuilder q) {
+    if (q.isWithCursor()) {
+      // cursors are server-side state and cannot be shared
+      return delegate.aggregate(q);
+    }
+    return cache.get(entityClass, indexName, "AGGREGATE" + SEPARATOR + normalize(q.getArgs()), () -> delegate
+        .aggregate(q));
+  }
+
+  @Override
+  public String cursorDelete(long cursorId) {
+    return delegate.cursorDelete(cursorId);
+  }
+
+  @Override
+  public AggregationResult cursorRead(long cursorId, int count) {
+    return delegate.cursorRead(cursorId, count);
+  }
+
+  @Override
+  public String explain(Query q) {
+    return delegate.explain(q);
+  }
+
+  @Override
+  public Map<String, Object> getInfo() {
+    return delegate.getInfo();
+  }
+
+  @Override
+  public String dropIndex() {
+    cache.invalidate(entityClass);
+    return delegate.dropIndex();
+  }
+
+  @Override
+  public String dropIndexAndDocuments() {
+    cache.invalidate(entityClass);
+    return delegate.dropIndexAndDocuments();
+  }
+
+  @Override
+  public Long addSuggestion(String key, String suggestion) {
+    return delegate.addSuggestion(key, suggestion);
+  }
+
+  @Override
+  public Long addSuggestion(String key, String suggestion, double score) {
+    return delegate.addSuggestion(key, suggestion, score);
+  }
+
+  @Override
+  public List<Suggestion> getSuggestion(String key, String prefix) {
+    return delegate.getSuggestion(key, prefix);
+  }
+
+  @Override
+  public List<Suggestion> getSuggestion(String key, String prefix, AutoCompleteOptions options) {
+    return delegate.getSuggestion(key, prefix, options);
+  }
+
+  @Override
+  public Boolean deleteSuggestion(String key, String entry) {
+    return delegate.deleteSuggestion(key, entry);
+  }
+
+  @Override
+  public Long getSuggestionLength(String key) {
+    return delegate.getSuggestionLength(key);
+  }
+
+  @Override
+  public String alterIndex(SchemaField... fields) {
+    cache.invalidate(entityClass);
+    return delegate.alterIndex(fields);
+  }
+
+  @Override
+  public String setConfig(String option, String value) {
+    return delegate.setConfig(option, value);
+  }
+
+  @Override
+  public Map<String, Object> getConfig(String option) {
+    return delegate.getConfig(option);
+  }
+
+  @Override
+  public Map<String, Object> getIndexConfig(String option) {
+    return delegate.getIndexConfig(option);
+  }
+
+  @Override
+  public String addAlias(String name) {
+    return delegate.addAlias(name);
+  }
+
+  @Override
+  public String updateAlias(String name) {
+    return delegate.updateAlias(name);
+  }
+
+  @Override
+  public String deleteAlias(String name) {
+    return delegate.deleteAlias(name);
+  }
+
+  @Override
+  public String updateSynonym(String synonymGroupId, String... terms) {
+    cache.invalidate(entityClass);
+    return delegate.updateSynonym(synonymGroupId, terms);
+  }
+
+  @Override
+  public Map<String, List<String>> dumpSynonym() {
+    return delegate.dumpSynonym();
+  }
+
+  @Override
+  public Set<String> tagVals(String value) {
+    return delegate.tagVals(value);
+  }
+
+  @Override
+  public HybridResult ftHybrid(FTHybridParams params) {
+    return delegate.ftHybrid(params);
+  }
+
+  private static String normalize(IParams params) {
+    if (params == null) {
+      return "";
+    }
+    CommandArguments args = new CommandArguments(SearchProtocol.SearchCommand.SEARCH);
+    params.addParams(args);
+    StringBuilder key = new StringBuilder();
+    boolean first = true;
+    for (Rawable arg : args) {
+      if (first) {
+        // skip the command name itself
+        first = false;
+        continue;
+      }
+      key.append(SafeEncoder.encode(arg.getRaw())).append(SEPARATOR);
+    }
+    return key.toString();
+  }
+
+  private static String normalize(List<Object> args) {
+    StringBuilder key = new StringBuilder();
+    for (Object arg : args) {
+      if (arg instanceof byte[] bytes) {
+        key.append(SafeEncoder.encode(bytes));
+      } else if (arg instanceof Rawable rawable) {
+        key.append(SafeEncoder.encode(rawable.getRaw()));
+      } else {
+        key.append(arg);
+      }
+      key.append(SEPARATOR);
+    }
+    return key.toString();
+  }
+}
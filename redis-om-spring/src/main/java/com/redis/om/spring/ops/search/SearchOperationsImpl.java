@@ -1,5 +1,7 @@
 package com.redis.om.spring.ops.search;
 
+import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -37,6 +39,8 @@ import redis.clients.jedis.util.SafeEncoder;
  * @param <K> the type of the search index key
  */
 public class SearchOperationsImpl<K> implements SearchOperations<K> {
+  private static final Type PAYLOAD_TYPE = new TypeToken<Map<String, Object>>() {
+  }.getType();
 
   private final RediSearchCommands search;
   private final RedisModulesClient modulesClient;
@@ -108,8 +112,12 @@ public class SearchOperationsImpl<K> implements SearchOperations<K> {
   @Deprecated
   public SearchResult search(Query q, FTSearchParams params) {
     commandListener.searchStarted(index.toString(), q, params);
-    final SearchResult result = search.ftSearch(index.toString(), q.toString(), params);
-    commandListener.searchFinished(index.toString(), q, params, result);
+    SearchResult result = null;
+    try {
+      result = search.ftSearch(index.toString(), q.toString(), params);
+    } finally {
+      commandListener.searchFinished(index.toString(), q, params, result);
+    }
     return result;
   }
 
@@ -252,57 +260,58 @@ public class SearchOperationsImpl<K> implements SearchOperations<K> {
   @Override
   public List<Suggestion> getSuggestion(String key, String prefix, AutoCompleteOptions options) {
     commandListener.getSuggestionStarted(index.toString(), key, prefix, options);
-    Gson gson = modulesClient.gsonBuilder().create();
-
-    if (options.isWithScore()) {
-      List<Tuple> suggestions = search.ftSugGetWithScores(key, prefix, options.isFuzzy(), options.getLimit());
-      List<Suggestion> list = List.of();
-      try {
-        list = suggestions.stream().map(suggestion -> {
-          if (options.isWithPayload()) {
-            String[] keyParts = key.split(":");
-            String payLoadKey = String.format("sugg:payload:%s:%s", keyParts[keyParts.length - 2],
-                keyParts[keyParts.length - 1]);
-            Object payload = template.opsForHash().get(payLoadKey, suggestion.getElement());
-            String json = payload != null ? payload.toString() : "{}";
-            Map<String, Object> payloadMap = gson.fromJson(json, new TypeToken<Map<String, Object>>() {
-            }.getType());
-            return new Suggestion(suggestion.getElement(), suggestion.getScore(), payloadMap);
-          } else {
-            return new Suggestion(suggestion.getElement(), suggestion.getScore());
-          }
-        }).toList();
-      } catch (Exception e) {
-        throw e;
-      } finally {
-        commandListener.getSuggestionFinished(index.toString(), key, prefix, options, list);
-      }
-      return list;
-    } else {
-      List<String> suggestions = search.ftSugGet(key, prefix, options.isFuzzy(), options.getLimit());
-      List<Suggestion> list = List.of();
-      try {
-        list = suggestions.stream().map(suggestion -> {
-          if (options.isWithPayload()) {
-            String[] keyParts = key.split(":");
-            String payLoadKey = String.format("sugg:payload:%s:%s", keyParts[keyParts.length - 2],
-                keyParts[keyParts.length - 1]);
-            Object payload = template.opsForHash().get(payLoadKey, suggestion);
-            String json = payload != null ? payload.toString() : "{}";
-            Map<String, Object> payloadMap = gson.fromJson(json, new TypeToken<Map<String, Object>>() {
-            }.getType());
-            return new Suggestion(suggestion, payloadMap);
-          } else {
-            return new Suggestion(suggestion);
-          }
-        }).toList();
-      } catch (Exception e) {
-        throw e;
-      } finally {
-        commandListener.getSuggestionFinished(index.toString(), key, prefix, options, list);
+    List<Suggestion> list = List.of();
+    try {
+      if (options.isWithScore()) {
+        List<Tuple> suggestions = search.ftSugGetWithScores(key, prefix, options.isFuzzy(), options.getLimit());
+        List<Map<String, Object>> payloads = options.isWithPayload() ?
+            getSuggestionPayloads(key, suggestions.stream().map(Tuple::getElement).toList()) :
+            null;
+        List<Suggestion> result = new ArrayList<>(suggestions.size());
+        for (int i = 0; i < suggestions.size(); i++) {
+          Tuple suggestion = suggestions.get(i);
+          result.add(payloads != null ?
+              new Suggestion(suggestion.getElement(), suggestion.getScore(), payloads.get(i)) :
+              new Suggestion(suggestion.getElement(), suggestion.getScore()));
+        }
+        list = result;
+      } else {
+        List<String> suggestions = search.ftSugGet(key, prefix, options.isFuzzy(), options.getLimit());
+        List<Map<String, Object>> payloads = options.isWithPayload() ? getSuggestionPayloads(key, suggestions) : null;
+        List<Suggestion> result = new ArrayList<>(suggestions.size());
+        for (int i = 0; i < suggestions.size(); i++) {
+          String suggestion = suggestions.get(i);
+          result.add(payloads != null ? new Suggestion(suggestion, payloads.get(i)) : new Suggestion(suggestion));
+        }
+        list = result;
       }
-      return list;
+    } catch (Exception e) {
+      throw e;
+    } finally {
+      commandListener.getSuggestionFinished(index.toString(), key, prefix, options, list);
+    }
+    return list;
+  }
+
+  /**
+   * Fetches the payloads of the given suggestions with a single {@code HMGET} on the payload hash
+   * of the suggestion dictionary. Suggestions without a stored payload get an empty payload.
+   */
+  private List<Map<String, Object>> getSuggestionPayloads(String key, List<String> suggestions) {
+    if (suggestions.isEmpty()) {
+      return List.of();
     }
+    String[] keyParts = key.split(":");
+    String payLoadKey = String.format("sugg:payload:%s:%s", keyParts[keyParts.length - 2],
+        keyParts[keyParts.length - 1]);
+    List<Object> payloads = template.opsForHash().multiGet(payLoadKey, new ArrayList<>(suggestions));
+    Gson gson = modulesClient.gson();
+    List<Map<String, Object>> result = new ArrayList<>(suggestions.size());
+    for (int i = 0; i < suggestions.size(); i++) {
+      Object payload = payloads != null && i < payloads.size() ? payloads.get(i) : null;
+      result.add(gson.fromJson(payload != null ? payload.toString() : "{}", PAYLOAD_TYPE));
+    }
+    return result;
   }
 
   @Override
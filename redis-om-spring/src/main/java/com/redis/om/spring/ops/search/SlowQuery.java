@@ -0,0 +1,34 @@
+package com.redis.om.spring.ops.search;
+
+import java.time.Instant;
+
+/**
+ * A search that exceeded the slow-query threshold, as kept by the {@link SlowQueryLog}.
+ *
+ * @param timestamp      when the query completed
+ * @param source         what issued the query, e.g. {@code PersonRepository.findByName} or
+ *                       {@code SearchStream<Person>}
+ * @param index          the queried index
+ * @param query          the query string
+ * @param arguments      the remaining FT.SEARCH arguments (return fields, limit, sort, params, dialect)
+ * @param resultCount    the number of documents returned
+ * @param totalResults   the total number of matching documents reported by Redis
+ * @param searchMillis   the time spent waiting on FT.SEARCH, in milliseconds
+ * @param decodeMillis   the client-side time spent turning the reply into results, in milliseconds
+ * @param profile        the FT.PROFILE iterator tree and timings, or {@code null} if the query was
+ *                       not sampled for profiling
+ * @since 2.0.5
+ */
+public record SlowQuery(Instant timestamp, String source, String index, String query, String arguments,
+                        int resultCount, long totalResults, double searchMillis, double decodeMillis,
+                        Object profile) {
+
+  /**
+   * Returns the total time of the query, search plus decode.
+   *
+   * @return the total time in milliseconds
+   */
+  public double totalMillis() {
+    return searchMillis + decodeMillis;
+  }
+}
@@ -0,0 +1,191 @@
+package com.redis.om.spring.ops.search;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.redis.om.spring.RedisOMProperties;
+import com.redis.om.spring.client.RedisModulesClient;
+
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.args.Rawable;
+import redis.clients.jedis.search.FTProfileParams;
+import redis.clients.jedis.search.ProfilingInfo;
+import redis.clients.jedis.search.Query;
+import redis.clients.jedis.search.SearchProtocol;
+import redis.clients.jedis.search.SearchResult;
+
+/**
+ * Records searches issued by repository query methods and entity streams whose search plus
+ * client-side decode time exceeds {@code redis.om.spring.slow-query-log.threshold}.
+ * <p>
+ * Every slow query is logged at {@code WARN} with its source, index, query string, remaining
+ * arguments, result count and the split between search and decode time, and is kept in a bounded
+ * ring buffer of the most recent {@code redis.om.spring.slow-query-log.buffer-size} slow queries.
+ * A {@code redis.om.spring.slow-query-log.profile-sample-rate} fraction of them is re-run under
+ * {@code FT.PROFILE} on the calling thread, and the resulting iterator tree is stored alongside;
+ * it shows which derived queries fall back to wildcard or unindexed scans.
+ * </p>
+ * <p>
+ * The log is disabled by default. When Spring Boot actuator is present the buffer is exposed
+ * through the {@code redisomqueries} endpoint.
+ * </p>
+ *
+ * @since 2.0.5
+ */
+public class SlowQueryLog {
+  private static final Log logger = LogFactory.getLog(SlowQueryLog.class);
+  private static final int MAX_RENDERED_ARGUMENT_LENGTH = 256;
+
+  private final RedisOMProperties.SlowQueryLog config;
+  private final RedisModulesClient client;
+  private final ArrayDeque<SlowQuery> buffer = new ArrayDeque<>();
+
+  /**
+   * Creates a new slow-query log.
+   *
+   * @param properties the Redis OM configuration properties
+   * @param client     the client used to re-run sampled queries under FT.PROFILE
+   */
+  public SlowQueryLog(RedisOMProperties properties, RedisModulesClient client) {
+    this.config = properties.getSlowQueryLog();
+    this.client = client;
+  }
+
+  /**
+   * Returns whether queries should be timed and recorded.
+   *
+   * @return {@code true} if the slow-query log is enabled
+   */
+  public boolean isEnabled() {
+    return config.isEnabled();
+  }
+
+  /**
+   * Records a completed search, keeping it if it exceeded the threshold.
+   *
+   * @param source       what issued the query, e.g. the repository method
+   * @param indexName    the queried index
+   * @param query        the executed query
+   * @param result       the search result
+   * @param searchNanos  the time spent executing the search
+   * @param decodeNanos  the client-side time spent turning the result into entities
+   */
+  public void record(String source, String indexName, Query query, SearchResult result, long searchNanos,
+      long decodeNanos) {
+    if (!isEnabled() || searchNanos + decodeNanos < thresholdNanos()) {
+      return;
+    }
+
+    Object profile = shouldProfile() ? profile(indexName, query) : null;
+    // the first argument is the query string, the rest are its options
+    List<String> arguments = renderArguments(query);
+    String queryString = arguments.isEmpty() ? "" : arguments.get(0);
+    String options = arguments.size() > 1 ? String.join(" ", arguments.subList(1, arguments.size())) : "";
+    int resultCount = result != null ? result.getDocuments().size() : 0;
+    long totalResults = result != null ? result.getTotalResults() : 0;
+
+    SlowQuery slowQuery = new SlowQuery(Instant.now(), source, indexName, queryString, options, resultCount,
+        totalResults, toMillis(searchNanos), toMillis(decodeNanos), profile);
+
+    if (logger.isWarnEnabled()) {
+      logger.warn(String.format(
+          "Slow query from %s on index '%s' took %.1f ms (search %.1f ms, decode %.1f ms), %d of %d results: %s %s",
+          source, indexName, slowQuery.totalMillis(), slowQuery.searchMillis(), slowQuery.decodeMillis(), slowQuery
+              .resultCount(), slowQuery.totalResults(), slowQuery.query(), slowQuery.arguments()));
+    }
+
+    synchronized (buffer) {
+      buffer.addLast(slowQuery);
+      while (buffer.size() > Math.max(1, config.getBufferSize())) {
+        buffer.removeFirst();
+      }
+    }
+  }
+
+  /**
+   * Returns the buffered slow queries, most recent first.
+   *
+   * @return a snapshot of the buffered slow queries
+   */
+  public List<SlowQuery> getSlowQueries() {
+    synchronized (buffer) {
+      List<SlowQuery> snapshot = new ArrayList<>(buffer.size());
+      Iterator<SlowQuery> it = buffer.descendingIterator();
+      it.forEachRemaining(snapshot::add);
+      return snapshot;
+    }
+  }
+
+  /**
+   * Removes all buffered slow queries.
+   */
+  public void clear() {
+    synchronized (buffer) {
+      buffer.clear();
+    }
+  }
+
+  private boolean shouldProfile() {
+    double rate = config.getProfileSampleRate();
+    return rate > 0.0 && (rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate);
+  }
+
+  private Object profile(String indexName, Query query) {
+    try {
+      Map.Entry<SearchResult, ProfilingInfo> profiled = client.clientForSearch().ftProfileSearch(indexName,
+          FTProfileParams.profileParams(), query);
+      return profiled.getValue() != null ? profiled.getValue().getProfilingInfo() : null;
+    } catch (RuntimeException e) {
+      logger.debug(String.format("Could not profile slow query on index '%s'", indexName), e);
+      return null;
+    }
+  }
+
+  private long thresholdNanos() {
+    Duration threshold = config.getThreshold();
+    return threshold != null ? threshold.toNanos() : 0L;
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  private static List<String> renderArguments(Query query) {
+    CommandArguments args = new CommandArguments(SearchProtocol.SearchCommand.SEARCH);
+    query.addParams(args);
+    List<String> rendered = new ArrayList<>();
+    Iterator<Rawable> it = args.iterator();
+    if (it.hasNext()) {
+      // skip the command name itself
+      it.next();
+    }
+    it.forEachRemaining(arg -> rendered.add(render(arg.getRaw())));
+    return rendered;
+  }
+
+  private static String render(byte[] raw) {
+    try {
+      String text = StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPORT)
+          .onUnmappableCharacter(CodingErrorAction.REPORT).decode(ByteBuffer.wrap(raw)).toString();
+      return text.length() > MAX_RENDERED_ARGUMENT_LENGTH ?
+          text.substring(0, MAX_RENDERED_ARGUMENT_LENGTH) + "..." :
+          text;
+    } catch (CharacterCodingException e) {
+      // binary parameters such as vector blobs
+      return "<" + raw.length + " bytes>";
+    }
+  }
+}
@@ -8,6 +8,7 @@ import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.Map.Entry;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -29,6 +30,7 @@ import org.springframework.data.repository.query.*;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.data.util.Pair;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
@@ -41,6 +43,7 @@ import com.google.gson.JsonObject;
 import com.redis.om.spring.RedisOMProperties;
 import com.redis.om.spring.annotations.*;
 import com.redis.om.spring.indexing.RediSearchIndexer;
+import com.redis.om.spring.ops.CommandListener;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.repository.query.autocomplete.AutoCompleteQueryExecutor;
@@ -49,9 +52,11 @@ import com.redis.om.spring.repository.query.clause.QueryClause;
 import com.redis.om.spring.repository.query.countmin.CountMinQueryExecutor;
 import com.redis.om.spring.repository.query.cuckoo.CuckooQueryExecutor;
 import com.redis.om.spring.repository.query.lexicographic.LexicographicQueryExecutor;
+import com.redis.om.spring.repository.query.lexicographic.LexicographicScan;
 import com.redis.om.spring.search.stream.EntityStream;
 import com.redis.om.spring.search.stream.EntityStreamImpl;
 import com.redis.om.spring.search.stream.SearchStream;
+import com.redis.om.spring.serialization.gson.LazyReferenceScope;
 import com.redis.om.spring.util.ObjectUtils;
 
 import redis.clients.jedis.search.FieldName;
@@ -161,6 +166,7 @@ public class RediSearchQuery implements RepositoryQuery {
   // for non @Param annotated dynamic names
   private final List<String> paramNames = new ArrayList<>();
   private final Class<?> domainType;
+  private final String repositoryName;
   private final RedisModulesOperations<String> modulesOperations;
   private final boolean isANDQuery;
   private final BloomQueryExecutor bloomQueryExecutor;
@@ -238,6 +244,7 @@ public class RediSearchQuery implements RepositoryQuery {
     this.indexer = indexer;
     this.queryMethod = queryMethod;
     this.domainType = this.queryMethod.getEntityInformation().getJavaType();
+    this.repositoryName = metadata.getRepositoryInterface().getSimpleName();
     this.gsonBuilder = gsonBuilder;
     this.redisOMProperties = redisOMProperties;
     this.entityStream = new EntityStreamImpl(modulesOperations, gsonBuilder, indexer);
@@ -246,7 +253,8 @@ public class RediSearchQuery implements RepositoryQuery {
     cuckooQueryExecutor = new CuckooQueryExecutor(this, modulesOperations);
     countMinQueryExecutor = new CountMinQueryExecutor(this, modulesOperations);
     autoCompleteQueryExecutor = new AutoCompleteQueryExecutor(this, modulesOperations);
-    lexicographicQueryExecutor = new LexicographicQueryExecutor(this, modulesOperations, indexer);
+    lexicographicQueryExecutor = new LexicographicQueryExecutor(this, modulesOperations, indexer, redisOMProperties
+        .getRepository().getQuery().getLexicographicPageSize());
 
     Class<?> repoClass = metadata.getRepositoryInterface();
     @SuppressWarnings(
@@ -761,6 +769,20 @@ public class RediSearchQuery implements RepositoryQuery {
 
   @Override
   public Object execute(Object[] parameters) {
+    CommandListener listener = modulesOperations.commandListener();
+    listener.repositoryQueryStarted(repositoryName, queryMethod.getName());
+    Throwable error = null;
+    try {
+      return executeInternal(parameters);
+    } catch (RuntimeException e) {
+      error = e;
+      throw e;
+    } finally {
+      listener.repositoryQueryFinished(repositoryName, queryMethod.getName(), error);
+    }
+  }
+
+  private Object executeInternal(Object[] parameters) {
     Optional<String> maybeBloomFilter = bloomQueryExecutor.getBloomFilter();
     Optional<String> maybeCuckooFilter = cuckooQueryExecutor.getCuckooFilter();
     Optional<String> maybeCountMinFilter = countMinQueryExecutor.getCountMinSketch();
@@ -798,9 +820,15 @@ public class RediSearchQuery implements RepositoryQuery {
     ResultProcessor processor = queryMethod.getResultProcessor().withDynamicProjection(accessor);
 
     String indexName = indexer.getIndexName(this.domainType);
-    SearchOperations<String> ops = modulesOperations.opsForSearch(indexName);
+    SearchOperations<String> ops = modulesOperations.opsForCachedSearch(indexName, domainType);
     boolean excludeNullParams = !isNullParamQuery;
 
+    Optional<LexicographicScan> maybeScan = planLexicographicScan(parameters, processor, indexName,
+        excludeNullParams);
+    if (maybeScan.isPresent()) {
+      return executeLexicographicScan(maybeScan.get(), parameters, processor);
+    }
+
     // Check if all query parts are lexicographic
     boolean allLexicographic = true;
     for (List<Pair<String, QueryClause>> orPartParts : queryOrParts) {
@@ -903,7 +931,9 @@ public class RediSearchQuery implements RepositoryQuery {
     // Set query dialect
     query.dialect(dialect.getValue());
 
+    long searchStart = System.nanoTime();
     SearchResult searchResult = ops.search(query);
+    long searchNanos = System.nanoTime() - searchStart;
 
     // what to return
     Object result = null;
@@ -937,7 +967,7 @@ public class RediSearchQuery implements RepositoryQuery {
     } else if (queryMethod.getReturnedObjectType() == SearchResult.class) {
       result = searchResult;
     } else if (queryMethod.isPageQuery()) {
-      List<Object> content = searchResult.getDocuments().stream().map(this::parseDocumentResult).toList();
+      List<Object> content = parseDocumentResults(searchResult.getDocuments());
 
       if (maybePageable.isPresent()) {
         Pageable pageable = maybePageable.get();
@@ -948,15 +978,98 @@ public class RediSearchQuery implements RepositoryQuery {
       // handle the case where we have a single entity result and we the query results are empty
       if (!searchResult.getDocuments().isEmpty()) {
         redis.clients.jedis.search.Document doc = searchResult.getDocuments().get(0);
-        result = parseDocumentResult(doc);
+        result = parseDocumentResults(List.of(doc)).get(0);
       }
     } else if ((queryMethod.isCollectionQuery()) || this.type == RediSearchQueryType.DELETE) {
-      result = searchResult.getDocuments().stream().map(this::parseDocumentResult).toList();
+      result = parseDocumentResults(searchResult.getDocuments());
     }
 
+    Object processed = processor.processResult(result);
+    modulesOperations.recordQuery(repositoryName + "." + queryMethod.getName(), indexName, query, searchResult,
+        searchNanos, System.nanoTime() - searchStart - searchNanos);
+    return processed;
+  }
+
+  /**
+   * Plans a paged walk of a lexicographic sorted set when the query is a single AND group with a
+   * lexicographic range clause, ordered by nothing but a field of such a clause.
+   */
+  private Optional<LexicographicScan> planLexicographicScan(Object[] parameters, ResultProcessor processor,
+      String indexName, boolean excludeNullParams) {
+    Class<?> returnedType = ClassUtils.resolvePrimitiveIfNecessary(processor.getReturnedType().getReturnedType());
+    if (queryOrParts.size() != 1 || hasLanguageParameter || Number.class.isAssignableFrom(returnedType) ||
+        queryMethod.getReturnedObjectType() == SearchResult.class || SearchStream.class.isAssignableFrom(queryMethod
+            .getReturnedObjectType()) || queryOrParts.get(0).stream().noneMatch(p -> isLexicographicClause(p
+                .getSecond()))) {
+      return Optional.empty();
+    }
+
+    List<Order> orders = new ArrayList<>();
+    Optional<Pageable> maybePageable = Arrays.stream(parameters).filter(Pageable.class::isInstance).map(
+        Pageable.class::cast).findFirst();
+    maybePageable.filter(Pageable::isPaged).ifPresent(pageable -> pageable.getSort().forEach(orders::add));
+    if (orders.isEmpty() && sortBy != null && !sortBy.isBlank()) {
+      orders.add(Boolean.FALSE.equals(sortAscending) ? Order.desc(sortBy) : Order.asc(sortBy));
+    }
+
+    String filterQuery = prepareQuery(parameters, excludeNullParams, true).trim();
+    return lexicographicQueryExecutor.planScan(queryOrParts, parameters, domainType, orders, filterQuery.isEmpty() ||
+        filterQuery.equals("*") ? null : filterQuery, indexName);
+  }
+
+  private Object executeLexicographicScan(LexicographicScan scan, Object[] parameters, ResultProcessor processor) {
+    Function<List<String>, List<Object>> loader = keys -> {
+      @SuppressWarnings(
+        "unchecked"
+      ) List<Object> entities = (List<Object>) modulesOperations.opsForJSON().mget(domainType, keys.toArray(
+          String[]::new));
+      return entities;
+    };
+
+    Optional<Pageable> maybePageable = Arrays.stream(parameters).filter(Pageable.class::isInstance).map(
+        Pageable.class::cast).filter(Pageable::isPaged).findFirst();
+    long skip;
+    int max;
+    if (maybePageable.isPresent()) {
+      skip = maybePageable.get().getOffset();
+      max = maybePageable.get().getPageSize();
+    } else {
+      skip = offset != null && offset != Integer.MIN_VALUE ? offset : 0;
+      max = limit != null && limit != Integer.MIN_VALUE ? limit : redisOMProperties.getRepository().getQuery()
+          .getLimit();
+    }
+
+    Object result;
+    Class<?> returnedType = processor.getReturnedType().getReturnedType();
+    if (returnedType == boolean.class || returnedType == Boolean.class) {
+      result = scan.stream(0, loader).findAny().isPresent();
+    } else if (queryMethod.isStreamQuery()) {
+      result = scan.stream(skip, loader).limit(max);
+    } else if (queryMethod.isPageQuery()) {
+      List<Object> content = scan.stream(skip, loader).limit(max).toList();
+      result = PageableExecutionUtils.getPage(content, maybePageable.orElse(Pageable.unpaged()), () -> scan.count(
+          loader));
+    } else if (!queryMethod.isCollectionQuery()) {
+      result = scan.stream(skip, loader).findFirst().orElse(null);
+    } else {
+      result = scan.stream(skip, loader).limit(max).toList();
+    }
     return processor.processResult(result);
   }
 
+  private List<Object> parseDocumentResults(List<redis.clients.jedis.search.Document> docs) {
+    CommandListener listener = modulesOperations.commandListener();
+    long start = System.nanoTime();
+    try {
+      List<Object> entities = LazyReferenceScope.with(() -> docs.stream().map(this::parseDocumentResult).toList());
+      listener.documentsDecoded(domainType, entities.size(), System.nanoTime() - start);
+      return entities;
+    } catch (RuntimeException e) {
+      listener.decodeFailed(domainType, e);
+      throw e;
+    }
+  }
+
   private Object parseDocumentResult(redis.clients.jedis.search.Document doc) {
     if (doc == null) {
       return null;
@@ -1090,7 +1203,9 @@ public class RediSearchQuery implements RepositoryQuery {
       if (keys.isEmpty()) {
         return 0;
       } else {
-        return modulesOperations.template().delete(keys);
+        Long deleted = modulesOperations.template().delete(keys);
+        modulesOperations.invalidateSearchResults(domainType);
+        return deleted;
       }
     } else {
       if (keys.isEmpty()) {
@@ -1099,6 +1214,7 @@ public class RediSearchQuery implements RepositoryQuery {
         // return the deleted entities
         var entities = modulesOperations.opsForJSON().mget(this.domainType, keys.toArray(new String[0]));
         modulesOperations.template().delete(keys);
+        modulesOperations.invalidateSearchResults(domainType);
         return entities;
       }
     }
@@ -1106,7 +1222,7 @@ public class RediSearchQuery implements RepositoryQuery {
 
   private Object executeAggregation(Object[] parameters) {
     String indexName = indexer.getIndexName(this.domainType);
-    SearchOperations<String> ops = modulesOperations.opsForSearch(indexName);
+    SearchOperations<String> ops = modulesOperations.opsForCachedSearch(indexName, domainType);
 
     // Handle parameters in the base query
     String preparedQuery = prepareQuery(parameters, true);
@@ -1231,6 +1347,10 @@ public class RediSearchQuery implements RepositoryQuery {
   }
 
   private String prepareQuery(final Object[] parameters, boolean excludeNullParams) {
+    return prepareQuery(parameters, excludeNullParams, false);
+  }
+
+  private String prepareQuery(final Object[] parameters, boolean excludeNullParams, boolean excludeLexicographic) {
     logger.debug(String.format("parameters: %s", Arrays.toString(parameters)));
     logger.info(String.format("Preparing query for method: %s, isMapContainsQuery: %s", queryMethod.getName(),
         isMapContainsQuery));
@@ -1255,6 +1375,9 @@ public class RediSearchQuery implements RepositoryQuery {
           Object[] ps = params.subList(0, paramsCnt).toArray();
           params.subList(0, paramsCnt).clear();
 
+          if (excludeLexicographic && isLexicographicClause(queryClause)) {
+            return "";
+          }
           return queryClause.prepareQuery(fieldName, ps);
         }).collect(Collectors.joining(" "));
         orPart = orPart + (multipleOrParts ? ")" : "");
@@ -40,6 +40,7 @@ import com.redis.om.spring.RedisOMProperties;
 import com.redis.om.spring.annotations.*;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.indexing.RediSearchIndexer;
+import com.redis.om.spring.ops.CommandListener;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.repository.query.autocomplete.AutoCompleteQueryExecutor;
@@ -117,6 +118,7 @@ public class RedisEnhancedQuery implements RepositoryQuery {
   // for non @Param annotated dynamic names
   private final List<String> paramNames = new ArrayList<>();
   private final Class<?> domainType;
+  private final String repositoryName;
   private final RedisModulesOperations<String> modulesOperations;
   private final MappingRedisOMConverter mappingConverter;
   private final RediSearchIndexer indexer;
@@ -193,6 +195,7 @@ public class RedisEnhancedQuery implements RepositoryQuery {
     this.modulesOperations = (RedisModulesOperations<String>) rmo;
     this.queryMethod = queryMethod;
     this.domainType = this.queryMethod.getEntityInformation().getJavaType();
+    this.repositoryName = metadata.getRepositoryInterface().getSimpleName();
     this.redisOMProperties = redisOMProperties;
     this.redisOperations = redisOperations;
     this.mappingConverter = new MappingRedisOMConverter(null, new ReferenceResolverImpl(redisOperations));
@@ -477,6 +480,20 @@ public class RedisEnhancedQuery implements RepositoryQuery {
 
   @Override
   public Object execute(Object[] parameters) {
+    CommandListener listener = modulesOperations.commandListener();
+    listener.repositoryQueryStarted(repositoryName, queryMethod.getName());
+    Throwable error = null;
+    try {
+      return executeInternal(parameters);
+    } catch (RuntimeException e) {
+      error = e;
+      throw e;
+    } finally {
+      listener.repositoryQueryFinished(repositoryName, queryMethod.getName(), error);
+    }
+  }
+
+  private Object executeInternal(Object[] parameters) {
     Optional<String> maybeBloomFilter = bloomQueryExecutor.getBloomFilter();
     Optional<String> maybeCuckooFilter = cuckooQueryExecutor.getCuckooFilter();
     Optional<String> maybeCountMinSketch = countMinQueryExecutor.getCountMinSketch();
@@ -514,7 +531,7 @@ public class RedisEnhancedQuery implements RepositoryQuery {
     ResultProcessor processor = queryMethod.getResultProcessor().withDynamicProjection(accessor);
 
     String indexName = indexer.getIndexName(this.domainType);
-    SearchOperations<String> ops = modulesOperations.opsForSearch(indexName);
+    SearchOperations<String> ops = modulesOperations.opsForCachedSearch(indexName, domainType);
     boolean excludeNullParams = !isNullParamQuery;
     String preparedQuery = prepareQuery(parameters, excludeNullParams);
     Query query = new Query(preparedQuery);
@@ -591,7 +608,9 @@ public class RedisEnhancedQuery implements RepositoryQuery {
     // Set query dialect
     query.dialect(dialect.getValue());
 
+    long searchStart = System.nanoTime();
     SearchResult searchResult = ops.search(query);
+    long searchNanos = System.nanoTime() - searchStart;
 
     // what to return
     Object result;
@@ -625,10 +644,7 @@ public class RedisEnhancedQuery implements RepositoryQuery {
     } else if (queryMethod.getReturnedObjectType() == SearchResult.class) {
       result = searchResult;
     } else if (queryMethod.isPageQuery()) {
-      List<Object> content = searchResult.getDocuments().stream().map(d -> {
-        Object entity = ObjectUtils.documentToObject(d, queryMethod.getReturnedObjectType(), mappingConverter);
-        return ObjectUtils.populateRedisKey(entity, d.getId());
-      }).collect(Collectors.toList());
+      List<Object> content = documentsToEntities(searchResult.getDocuments());
 
       if (maybePageable.isPresent()) {
         Pageable pageable = maybePageable.get();
@@ -639,21 +655,36 @@ public class RedisEnhancedQuery implements RepositoryQuery {
     } else if (!queryMethod.isCollectionQuery()) {
       if (searchResult.getTotalResults() > 0 && !searchResult.getDocuments().isEmpty()) {
         redis.clients.jedis.search.Document doc = searchResult.getDocuments().get(0);
-        Object entity = ObjectUtils.documentToObject(doc, queryMethod.getReturnedObjectType(), mappingConverter);
-        result = ObjectUtils.populateRedisKey(entity, doc.getId());
+        result = documentsToEntities(List.of(doc)).get(0);
       } else {
         result = null;
       }
     } else if (queryMethod.isCollectionQuery()) {
-      result = searchResult.getDocuments().stream().map(d -> {
-        Object entity = ObjectUtils.documentToObject(d, queryMethod.getReturnedObjectType(), mappingConverter);
-        return ObjectUtils.populateRedisKey(entity, d.getId());
-      }).collect(Collectors.toList());
+      result = documentsToEntities(searchResult.getDocuments());
     } else {
       result = null;
     }
 
-    return processor.processResult(result);
+    Object processed = processor.processResult(result);
+    modulesOperations.recordQuery(repositoryName + "." + queryMethod.getName(), indexName, query, searchResult,
+        searchNanos, System.nanoTime() - searchStart - searchNanos);
+    return processed;
+  }
+
+  private List<Object> documentsToEntities(List<redis.clients.jedis.search.Document> documents) {
+    CommandListener listener = modulesOperations.commandListener();
+    long start = System.nanoTime();
+    try {
+      List<Object> entities = documents.stream().map(d -> {
+        Object entity = ObjectUtils.documentToObject(d, queryMethod.getReturnedObjectType(), mappingConverter);
+        return ObjectUtils.populateRedisKey(entity, d.getId());
+      }).collect(Collectors.toList());
+      listener.documentsDecoded(domainType, entities.size(), System.nanoTime() - start);
+      return entities;
+    } catch (RuntimeException e) {
+      listener.decodeFailed(domainType, e);
+      throw e;
+    }
   }
 
   private Object executeDeleteQuery(Object[] parameters) {
@@ -707,7 +738,9 @@ public class RedisEnhancedQuery implements RepositoryQuery {
       if (keys.isEmpty()) {
         return 0;
       } else {
-        return modulesOperations.template().delete(keys);
+        Long deleted = modulesOperations.template().delete(keys);
+        modulesOperations.invalidateSearchResults(domainType);
+        return deleted;
       }
     } else {
       if (keys.isEmpty()) {
@@ -733,6 +766,7 @@ public class RedisEnhancedQuery implements RepositoryQuery {
           return null;
         });
         modulesOperations.template().delete(keys);
+        modulesOperations.invalidateSearchResults(domainType);
 
         return entities;
       }
@@ -741,7 +775,7 @@ public class RedisEnhancedQuery implements RepositoryQuery {
 
   private Object executeAggregation(Object[] parameters) {
     String indexName = indexer.getIndexName(this.domainType);
-    SearchOperations<String> ops = modulesOperations.opsForSearch(indexName);
+    SearchOperations<String> ops = modulesOperations.opsForCachedSearch(indexName, domainType);
 
     // Handle parameters in the base query
     String preparedQuery = prepareQuery(parameters, true);
@@ -12,6 +12,7 @@ import org.springframework.util.ReflectionUtils;
 
 import com.redis.om.spring.annotations.AutoComplete;
 import com.redis.om.spring.autocomplete.Suggestion;
+import com.redis.om.spring.cache.SearchResultCache;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.util.ObjectUtils;
@@ -97,7 +98,8 @@ public class AutoCompleteQueryExecutor {
 
   /**
    * Executes the autocomplete query with the given parameters.
-   * This method handles both simple prefix queries and queries with options.
+   * This method handles both simple prefix queries and queries with options. When a suggestion
+   * time-to-live is configured, repeated prefixes are served from the {@link SearchResultCache}.
    * 
    * @param parameters      the query parameters (prefix and optional AutoCompleteOptions)
    * @param autoCompleteKey the Redis key for the autocomplete dictionary
@@ -107,11 +109,16 @@ public class AutoCompleteQueryExecutor {
     logger.debug(String.format("Autocomplete Query: key:%s, params:%s", autoCompleteKey, Arrays.toString(parameters)));
     SearchOperations<String> ops = modulesOperations.opsForSearch(autoCompleteKey);
 
-    if ((parameters.length > 1) && (parameters[1].getClass() == AutoCompleteOptions.class)) {
-      AutoCompleteOptions options = (AutoCompleteOptions) parameters[1];
-      return ops.getSuggestion(autoCompleteKey, parameters[0].toString(), options);
-    } else {
-      return ops.getSuggestion(autoCompleteKey, parameters[0].toString());
+    String prefix = parameters[0].toString();
+    AutoCompleteOptions options = (parameters.length > 1) && (parameters[1]
+        .getClass() == AutoCompleteOptions.class) ? (AutoCompleteOptions) parameters[1] : AutoCompleteOptions.get();
+
+    Class<?> entityClass = query.getQueryMethod().getEntityInformation().getJavaType();
+    SearchResultCache cache = modulesOperations.searchResultCache();
+    if (cache != null && cache.isSuggestionCachingEnabledFor(entityClass)) {
+      return cache.getSuggestions(entityClass, autoCompleteKey, prefix, options, () -> ops.getSuggestion(
+          autoCompleteKey, prefix, options));
     }
+    return ops.getSuggestion(autoCompleteKey, prefix, options);
   }
 }
@@ -6,7 +6,7 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.redis.connection.Limit;
 import org.springframework.data.util.Pair;
 import org.springframework.util.ReflectionUtils;
@@ -34,9 +34,12 @@ public class LexicographicQueryExecutor {
       QueryClause.TEXT_BETWEEN, QueryClause.TAG_GREATER_THAN, QueryClause.TAG_LESS_THAN,
       QueryClause.TAG_GREATER_THAN_EQUAL, QueryClause.TAG_LESS_THAN_EQUAL, QueryClause.TAG_BETWEEN);
 
+  private static final int DEFAULT_PAGE_SIZE = 1000;
+
   private final RediSearchQuery rediSearchQuery;
   private final RedisModulesOperations<String> modulesOperations;
   private final RediSearchIndexer indexer;
+  private final int pageSize;
 
   /**
    * Creates a new LexicographicQueryExecutor with the specified dependencies.
@@ -47,9 +50,24 @@ public class LexicographicQueryExecutor {
    */
   public LexicographicQueryExecutor(RediSearchQuery rediSearchQuery, RedisModulesOperations<String> modulesOperations,
       RediSearchIndexer indexer) {
+    this(rediSearchQuery, modulesOperations, indexer, DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Creates a new LexicographicQueryExecutor that reads sorted sets in pages of the given size.
+   *
+   * @param rediSearchQuery   the RediSearch query being executed
+   * @param modulesOperations the Redis modules operations for executing commands
+   * @param indexer           the RediSearch indexer for accessing field metadata
+   * @param pageSize          the number of sorted set members read per request
+   * @since 2.0.5
+   */
+  public LexicographicQueryExecutor(RediSearchQuery rediSearchQuery, RedisModulesOperations<String> modulesOperations,
+      RediSearchIndexer indexer, int pageSize) {
     this.rediSearchQuery = rediSearchQuery;
     this.modulesOperations = modulesOperations;
     this.indexer = indexer;
+    this.pageSize = Math.max(1, pageSize);
   }
 
   /**
@@ -127,6 +145,76 @@ public class LexicographicQueryExecutor {
     return null;
   }
 
+  /**
+   * Plans a paged scan of a lexicographic sorted set for a query with a single AND group.
+   * <p>
+   * The scan walks the sorted set of the lexicographic field the query is sorted by, or of its
+   * first lexicographic field when unsorted, in the requested direction. The ranges of other
+   * lexicographic fields are checked on the loaded entities and the remaining criteria, given as
+   * {@code filterQuery}, are searched for page by page.
+   * </p>
+   *
+   * @param queryOrParts the query parts to process
+   * @param parameters   the method parameters
+   * @param domainType   the entity type
+   * @param orders       the requested sort orders
+   * @param filterQuery  the search query for the non-lexicographic criteria, or {@code null}
+   * @param indexName    the search index of the entity type
+   * @return the scan, or empty if the query has several OR groups, no lexicographic clause, or is
+   *         sorted by anything but a single lexicographic field of the query
+   * @since 2.0.5
+   */
+  public Optional<LexicographicScan> planScan(List<List<Pair<String, QueryClause>>> queryOrParts,
+      Object[] parameters, Class<?> domainType, List<Order> orders, String filterQuery, String indexName) {
+    String entityPrefix = indexer.getKeyspaceForEntityClass(domainType);
+    if (queryOrParts.size() != 1 || orders.size() > 1 || entityPrefix == null) {
+      return Optional.empty();
+    }
+
+    Map<String, LexicographicRange> ranges = new LinkedHashMap<>();
+    int paramIndex = 0;
+    for (Pair<String, QueryClause> pair : queryOrParts.get(0)) {
+      QueryClause queryClause = pair.getSecond();
+      int numParams = queryClause.getClauseTemplate().getNumberOfArguments();
+      if (isLexicographicQuery(queryClause)) {
+        String actualFieldName = getActualFieldName(domainType, pair.getFirst());
+        if (actualFieldName == null || !isFieldLexicographic(domainType, actualFieldName) || ranges.containsKey(
+            actualFieldName)) {
+          return Optional.empty();
+        }
+        ranges.put(actualFieldName, LexicographicRange.of(queryClause, Arrays.copyOfRange(parameters, paramIndex,
+            paramIndex + numParams)));
+      }
+      paramIndex += numParams;
+    }
+    if (ranges.isEmpty()) {
+      return Optional.empty();
+    }
+
+    String drivingField = ranges.keySet().iterator().next();
+    boolean descending = false;
+    if (!orders.isEmpty()) {
+      Order order = orders.get(0);
+      if (!ranges.containsKey(order.getProperty())) {
+        return Optional.empty();
+      }
+      drivingField = order.getProperty();
+      descending = order.isDescending();
+    }
+
+    List<LexicographicScan.RangeFilter> filters = new ArrayList<>();
+    for (Map.Entry<String, LexicographicRange> entry : ranges.entrySet()) {
+      if (!entry.getKey().equals(drivingField)) {
+        Field field = ReflectionUtils.findField(domainType, entry.getKey());
+        ReflectionUtils.makeAccessible(Objects.requireNonNull(field));
+        filters.add(new LexicographicScan.RangeFilter(field, entry.getValue()));
+      }
+    }
+
+    return Optional.of(new LexicographicScan(modulesOperations, entityPrefix + drivingField + ":lex", ranges.get(
+        drivingField), descending, filters, filterQuery, indexName, entityPrefix, pageSize));
+  }
+
   private boolean isLexicographicQuery(QueryClause queryClause) {
     return LEXICOGRAPHIC_QUERY_CLAUSES.contains(queryClause);
   }
@@ -179,53 +267,33 @@ public class LexicographicQueryExecutor {
     logger.debug(String.format("Executing range query on %s with clause %s and param: %s", sortedSetKey, queryClause,
         params[0]));
 
-    switch (queryClause) {
-      case TEXT_GREATER_THAN:
-      case TAG_GREATER_THAN:
-        // When doing greater than, we need to exclude exact matches with the same prefix
-        // Since our format is "value#id", we append a high character to ensure we skip all entries with this prefix
-        String gtParam = params[0].toString() + "\uffff"; // Unicode max character
-        Set<String> results = modulesOperations.template().opsForZSet().rangeByLex(sortedSetKey, Range.rightUnbounded(
-            Range.Bound.exclusive(gtParam)), Limit.unlimited());
-        logger.debug(String.format("ZRANGEBYLEX %s (%s +inf returned: %s", sortedSetKey, gtParam, results));
-        return results;
-
-      case TEXT_LESS_THAN:
-      case TAG_LESS_THAN:
-        // For less than, we need to ensure we don't include the value itself
-        // Since format is "value#id", we need to get everything before "value#" (excluded)
-        String ltParam = params[0].toString() + "#"; // Exclude exact matches with this prefix
-        return modulesOperations.template().opsForZSet().rangeByLex(sortedSetKey, Range.leftUnbounded(Range.Bound
-            .exclusive(ltParam)), Limit.unlimited());
-
-      case TEXT_GREATER_THAN_EQUAL:
-      case TAG_GREATER_THAN_EQUAL:
-        // For greater than or equal, we include the value itself
-        // Since format is "value#id", we start from exactly "value#"
-        String gteParam = params[0].toString() + "#"; // Include exact matches with this prefix
-        return modulesOperations.template().opsForZSet().rangeByLex(sortedSetKey, Range.rightUnbounded(Range.Bound
-            .inclusive(gteParam)), Limit.unlimited());
-
-      case TEXT_LESS_THAN_EQUAL:
-      case TAG_LESS_THAN_EQUAL:
-        // For less than or equal, we include all values with this prefix
-        // Since format is "value#id", we use high unicode char to include all IDs with this value
-        String lteParam = params[0].toString() + "\uffff"; // Include all exact matches with this prefix
-        return modulesOperations.template().opsForZSet().rangeByLex(sortedSetKey, Range.leftUnbounded(Range.Bound
-            .inclusive(lteParam)), Limit.unlimited());
-
-      case TEXT_BETWEEN:
-      case TAG_BETWEEN:
-        // For between queries, we include both bounds
-        // Start from exactly "minValue#" (inclusive) to "maxValue\uffff" (inclusive of all with maxValue)
-        String minParam = params[0].toString() + "#";
-        String maxParam = params[1].toString() + "\uffff";
-        return modulesOperations.template().opsForZSet().rangeByLex(sortedSetKey, Range.closed(minParam, maxParam),
-            Limit.unlimited());
-
-      default:
-        return Collections.emptySet();
+    LexicographicRange range = LexicographicRange.of(queryClause, params);
+    if (range == null) {
+      return Collections.emptySet();
+    }
+
+    // read the range a page at a time instead of in a single unbounded reply, resuming each read
+    // after the last member returned so that no page rescans the members before it
+    Set<String> results = new LinkedHashSet<>();
+    Limit limit = Limit.limit().count(pageSize);
+    for (LexicographicRange remaining = range;;) {
+      Set<String> page = modulesOperations.template().opsForZSet().rangeByLex(sortedSetKey, remaining.toRange(),
+          limit);
+      if (page == null || page.isEmpty()) {
+        break;
+      }
+      String last = null;
+      for (String member : page) {
+        results.add(member);
+        last = member;
+      }
+      if (page.size() < pageSize) {
+        break;
+      }
+      remaining = remaining.after(last);
     }
+    logger.debug(String.format("ZRANGEBYLEX %s returned %d members", sortedSetKey, results.size()));
+    return results;
   }
 
   private String getActualFieldName(Class<?> domainType, String fieldAlias) {
@@ -0,0 +1,129 @@
+package com.redis.om.spring.repository.query.lexicographic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.springframework.data.domain.Range;
+import org.springframework.lang.Nullable;
+
+import com.redis.om.spring.repository.query.clause.QueryClause;
+
+/**
+ * The range of {@code value#id} members of a lexicographic sorted set matched by a lexicographic
+ * query clause.
+ * <p>
+ * Members sharing a value only differ in the id suffix, so a bound of {@code value#} sorts before
+ * every member with that value and a bound of {@code value} followed by {@code U+FFFF} after all
+ * of them. Redis compares members byte by byte, which {@link #contains(String)} replicates so that
+ * a range can also be evaluated against loaded entities.
+ * </p>
+ *
+ * @since 2.0.5
+ */
+final class LexicographicRange {
+  private static final String VALUE_START = "#";
+  private static final String VALUE_END = "\uffff";
+
+  private final String lower;
+  private final boolean lowerInclusive;
+  private final String upper;
+  private final boolean upperInclusive;
+
+  private LexicographicRange(@Nullable String lower, boolean lowerInclusive, @Nullable String upper,
+      boolean upperInclusive) {
+    this.lower = lower;
+    this.lowerInclusive = lowerInclusive;
+    this.upper = upper;
+    this.upperInclusive = upperInclusive;
+  }
+
+  /**
+   * Creates the range matched by the given clause.
+   *
+   * @param queryClause the lexicographic query clause
+   * @param params      the clause arguments
+   * @return the range, or {@code null} if the clause is not lexicographic
+   */
+  @Nullable
+  static LexicographicRange of(QueryClause queryClause, Object[] params) {
+    switch (queryClause) {
+      case TEXT_GREATER_THAN:
+      case TAG_GREATER_THAN:
+        // skip every member with the value itself
+        return new LexicographicRange(params[0] + VALUE_END, false, null, false);
+      case TEXT_LESS_THAN:
+      case TAG_LESS_THAN:
+        return new LexicographicRange(null, false, params[0] + VALUE_START, false);
+      case TEXT_GREATER_THAN_EQUAL:
+      case TAG_GREATER_THAN_EQUAL:
+        return new LexicographicRange(params[0] + VALUE_START, true, null, false);
+      case TEXT_LESS_THAN_EQUAL:
+      case TAG_LESS_THAN_EQUAL:
+        return new LexicographicRange(null, false, params[0] + VALUE_END, true);
+      case TEXT_BETWEEN:
+      case TAG_BETWEEN:
+        return new LexicographicRange(params[0] + VALUE_START, true, params[1] + VALUE_END, true);
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Returns the range to pass to {@code ZRANGEBYLEX}.
+   *
+   * @return the range
+   */
+  Range<String> toRange() {
+    return Range.of(bound(lower, lowerInclusive), bound(upper, upperInclusive));
+  }
+
+  /**
+   * Narrows the range to the members sorting after the given one, to resume an ascending read
+   * after the last member returned.
+   *
+   * @param member the last {@code value#id} member read
+   * @return the rest of the range
+   */
+  LexicographicRange after(String member) {
+    return new LexicographicRange(member, false, upper, upperInclusive);
+  }
+
+  /**
+   * Narrows the range to the members sorting before the given one, to resume a descending read
+   * after the last member returned.
+   *
+   * @param member the last {@code value#id} member read
+   * @return the rest of the range
+   */
+  LexicographicRange before(String member) {
+    return new LexicographicRange(lower, lowerInclusive, member, false);
+  }
+
+  /**
+   * Checks if the given sorted set member falls within the range.
+   *
+   * @param member the {@code value#id} member
+   * @return {@code true} if {@code ZRANGEBYLEX} would return the member
+   */
+  boolean contains(String member) {
+    byte[] bytes = member.getBytes(StandardCharsets.UTF_8);
+    if (lower != null) {
+      int cmp = Arrays.compareUnsigned(bytes, lower.getBytes(StandardCharsets.UTF_8));
+      if (cmp < 0 || (cmp == 0 && !lowerInclusive)) {
+        return false;
+      }
+    }
+    if (upper != null) {
+      int cmp = Arrays.compareUnsigned(bytes, upper.getBytes(StandardCharsets.UTF_8));
+      return cmp < 0 || (cmp == 0 && upperInclusive);
+    }
+    return true;
+  }
+
+  private static Range.Bound<String> bound(String value, boolean inclusive) {
+    if (value == null) {
+      return Range.Bound.unbounded();
+    }
+    return inclusive ? Range.Bound.inclusive(value) : Range.Bound.exclusive(value);
+  }
+}
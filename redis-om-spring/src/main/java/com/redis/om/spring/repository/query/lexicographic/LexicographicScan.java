@@ -0,0 +1,209 @@
+package com.redis.om.spring.repository.query.lexicographic;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.repository.query.QueryUtils;
+import com.redis.om.spring.util.ObjectUtils;
+
+import redis.clients.jedis.search.Document;
+import redis.clients.jedis.search.Query;
+
+/**
+ * A lazy, paged walk over the lexicographic sorted set of one field, yielding the matching
+ * entities in the order of that field.
+ * <p>
+ * Members are read with {@code ZRANGEBYLEX ... LIMIT 0 count}, or {@code ZREVRANGEBYLEX} for a
+ * descending order, one page at a time, each page resuming after the last member of the previous
+ * one, and the entities of each page are loaded by key. Reading a page thus costs the same however
+ * deep the scan is, and members added or removed behind it neither shift nor repeat later pages.
+ * When the query has no further criteria, the offset is pushed into the first range read and the
+ * total is taken from {@code ZLEXCOUNT}. Otherwise each page is narrowed down before it is loaded by
+ * searching for its ids together with the remaining search criteria, and the ranges of other
+ * lexicographic fields are checked on the loaded entities, so no request ever carries more than a
+ * page of ids.
+ * </p>
+ *
+ * @since 2.0.5
+ * @see LexicographicQueryExecutor#planScan(List, Object[], Class, List, String, String)
+ */
+public class LexicographicScan {
+  private final RedisModulesOperations<String> modulesOperations;
+  private final String sortedSetKey;
+  private final LexicographicRange range;
+  private final boolean descending;
+  private final List<RangeFilter> filters;
+  private final String filterQuery;
+  private final String indexName;
+  private final String keyPrefix;
+  private final int pageSize;
+
+  LexicographicScan(RedisModulesOperations<String> modulesOperations, String sortedSetKey, LexicographicRange range,
+      boolean descending, List<RangeFilter> filters, @Nullable String filterQuery, String indexName, String keyPrefix,
+      int pageSize) {
+    this.modulesOperations = modulesOperations;
+    this.sortedSetKey = sortedSetKey;
+    this.range = range;
+    this.descending = descending;
+    this.filters = filters;
+    this.filterQuery = filterQuery;
+    this.indexName = indexName;
+    this.keyPrefix = keyPrefix;
+    this.pageSize = Math.max(1, pageSize);
+  }
+
+  /**
+   * Streams the matching entities.
+   * <p>
+   * Pages are only read as the stream is consumed, so limiting the stream bounds the number of
+   * pages read.
+   * </p>
+   *
+   * @param <T>    the entity type
+   * @param offset the number of matching entities to skip
+   * @param loader loads the entities stored at the given keys, omitting missing ones
+   * @return the matching entities
+   */
+  public <T> Stream<T> stream(long offset, Function<List<String>, List<T>> loader) {
+    return StreamSupport.stream(new Pages<>(offset, loader), false);
+  }
+
+  /**
+   * Counts the matching entities.
+   *
+   * @param <T>    the entity type
+   * @param loader loads the entities stored at the given keys, omitting missing ones
+   * @return the number of matching entities
+   */
+  public <T> long count(Function<List<String>, List<T>> loader) {
+    if (isFiltered()) {
+      return stream(0, loader).count();
+    }
+    Long count = modulesOperations.template().opsForZSet().lexCount(sortedSetKey, range.toRange());
+    return count != null ? count : 0;
+  }
+
+  private boolean isFiltered() {
+    return !filters.isEmpty() || filterQuery != null;
+  }
+
+  private Set<String> readPage(LexicographicRange remaining, long start) {
+    Limit limit = Limit.limit().offset(Math.toIntExact(start)).count(pageSize);
+    Set<String> members = descending ?
+        modulesOperations.template().opsForZSet().reverseRangeByLex(sortedSetKey, remaining.toRange(), limit) :
+        modulesOperations.template().opsForZSet().rangeByLex(sortedSetKey, remaining.toRange(), limit);
+    return members != null ? members : Set.of();
+  }
+
+  private List<String> searchPage(List<String> ids) {
+    String query = ids.stream().map(QueryUtils::escape).collect(Collectors.joining("|", "@id:{", "}")) + " (" +
+        filterQuery + ")";
+    Set<String> matches = modulesOperations.opsForSearch(indexName) //
+        .search(new Query(query).setNoContent().limit(0, ids.size()).dialect(2)) //
+        .getDocuments().stream() //
+        .map(Document::getId) //
+        .map(key -> key.substring(keyPrefix.length())) //
+        .collect(Collectors.toSet());
+    return ids.stream().filter(matches::contains).toList();
+  }
+
+  private boolean matchesFilters(Object entity) {
+    if (filters.isEmpty()) {
+      return true;
+    }
+    Object id = ObjectUtils.getIdFieldForEntity(entity);
+    for (RangeFilter filter : filters) {
+      Object value = ReflectionUtils.getField(filter.field(), entity);
+      if (value == null || !filter.range().contains(value + "#" + id)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * The range of another lexicographic field the matching entities must fall within.
+   *
+   * @param field the entity field, made accessible
+   * @param range the range of its sorted set members
+   */
+  record RangeFilter(Field field, LexicographicRange range) {
+  }
+
+  private final class Pages<T> extends Spliterators.AbstractSpliterator<T> {
+    private final Function<List<String>, List<T>> loader;
+    private final Deque<T> buffer = new ArrayDeque<>();
+    private LexicographicRange remaining = range;
+    private long start;
+    private long skip;
+    private boolean exhausted;
+
+    Pages(long offset, Function<List<String>, List<T>> loader) {
+      super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+      this.loader = loader;
+      // without further criteria every member is a match, so the first range read can skip them
+      if (isFiltered()) {
+        this.skip = offset;
+      } else {
+        this.start = offset;
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      while (buffer.isEmpty() && !exhausted) {
+        fetch();
+      }
+      if (buffer.isEmpty()) {
+        return false;
+      }
+      action.accept(buffer.poll());
+      return true;
+    }
+
+    private void fetch() {
+      Set<String> members = readPage(remaining, start);
+      start = 0;
+      exhausted = members.size() < pageSize;
+
+      List<String> ids = new ArrayList<>(members.size());
+      String last = null;
+      for (String member : members) {
+        int hashIndex = member.lastIndexOf('#');
+        if (hashIndex >= 0) {
+          ids.add(member.substring(hashIndex + 1));
+        }
+        last = member;
+      }
+      if (last != null) {
+        remaining = descending ? remaining.before(last) : remaining.after(last);
+      }
+      if (filterQuery != null && !ids.isEmpty()) {
+        ids = searchPage(ids);
+      }
+      if (ids.isEmpty()) {
+        return;
+      }
+
+      for (T entity : loader.apply(ids.stream().map(id -> keyPrefix + id).toList())) {
+        if (entity != null && matchesFilters(entity)) {
+          if (skip > 0) {
+            skip--;
+          } else {
+            buffer.add(entity);
+          }
+        }
+      }
+    }
+  }
+}
@@ -11,10 +11,12 @@ import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
+import org.json.JSONArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeanWrapper;
@@ -38,11 +40,9 @@ import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
 import org.springframework.data.redis.core.convert.RedisData;
 import org.springframework.data.redis.core.convert.ReferenceResolverImpl;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
-import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
-import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
-import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
@@ -51,20 +51,31 @@ import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
+import com.redis.om.spring.CustomRedisKeyValueTemplate;
+import com.redis.om.spring.RedisJSONKeyValueAdapter;
 import com.redis.om.spring.RedisOMProperties;
 import com.redis.om.spring.annotations.Dialect;
 import com.redis.om.spring.audit.EntityAuditor;
+import com.redis.om.spring.cache.DocumentSnapshots;
+import com.redis.om.spring.cache.EntityNearCache;
+import com.redis.om.spring.cache.NearCacheManager;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.id.IdentifierFilter;
 import com.redis.om.spring.id.ULIDIdentifierGenerator;
 import com.redis.om.spring.indexing.LexicographicIndexer;
 import com.redis.om.spring.indexing.RediSearchIndexer;
+import com.redis.om.spring.mapping.CompositeIdCodec;
+import com.redis.om.spring.mapping.RedisEnhancedMappingContext;
 import com.redis.om.spring.mapping.RedisEnhancedPersistentEntity;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.MetamodelUtils;
+import com.redis.om.spring.ops.CommandListener;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.json.JSONOperations;
+import com.redis.om.spring.ops.json.JsonMergePatch;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.repository.RedisDocumentRepository;
 import com.redis.om.spring.search.stream.EntityStream;
@@ -72,10 +83,11 @@ import com.redis.om.spring.search.stream.EntityStreamImpl;
 import com.redis.om.spring.search.stream.RedisFluentQueryByExample;
 import com.redis.om.spring.search.stream.SearchStream;
 import com.redis.om.spring.serialization.gson.GsonListOfType;
+import com.redis.om.spring.serialization.gson.LazyReferenceProxy;
+import com.redis.om.spring.serialization.gson.LazyReferenceScope;
 import com.redis.om.spring.util.ObjectUtils;
 import com.redis.om.spring.vectorize.Embedder;
 
-import jakarta.persistence.IdClass;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.exceptions.JedisDataException;
@@ -137,6 +149,11 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
   private final EntityStream entityStream;
   private final LexicographicIndexer lexicographicIndexer;
   private final String repositoryIndexName;
+  @Nullable
+  private final NearCacheManager nearCacheManager;
+  @Nullable
+  private final DocumentSnapshots documentSnapshots;
+  private Gson gson;
 
   /**
    * Constructs a new {@code SimpleRedisDocumentRepository} with the required dependencies.
@@ -208,6 +225,10 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     this.entityStream = new EntityStreamImpl(modulesOperations, modulesOperations.gsonBuilder(), indexer);
     this.lexicographicIndexer = new LexicographicIndexer(modulesOperations.template(), indexer);
     this.repositoryIndexName = indexer.resolveRepositoryIndexName(repositoryInterface);
+    this.nearCacheManager = operations instanceof CustomRedisKeyValueTemplate template && template
+        .getAdapter() instanceof RedisJSONKeyValueAdapter adapter ? adapter.getNearCacheManager() : null;
+    this.documentSnapshots = operations instanceof CustomRedisKeyValueTemplate template && template
+        .getAdapter() instanceof RedisJSONKeyValueAdapter adapter ? adapter.getDocumentSnapshots() : null;
   }
 
   @Override
@@ -237,13 +258,16 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
 
   @Override
   public void deleteById(ID id, Path2 path) {
-    modulesOperations.opsForJSON().del(getKey(id), path);
+    String key = getKey(id);
+    modulesOperations.opsForJSON().del(key, path);
+    invalidateCaches(key);
   }
 
   @Override
   public void updateField(T entity, MetamodelField<T, ?> field, Object value) {
-    modulesOperations.opsForJSON().set(getKey(Objects.requireNonNull(metadata.getId(entity))), value, Path2.of(field
-        .getJSONPath()));
+    String key = getKey(Objects.requireNonNull(metadata.getId(entity)));
+    modulesOperations.opsForJSON().set(key, value, Path2.of(field.getJSONPath()));
+    invalidateCaches(key);
   }
 
   @SuppressWarnings(
@@ -289,8 +313,12 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     Assert.notNull(entities, "The given Iterable of entities must not be null!");
     List<S> saved = new ArrayList<>();
     List<Object> entityIds = new ArrayList<>();
+    List<byte[]> savedKeys = new ArrayList<>();
 
     embedder.processEntities(entities);
+    Map<String, String> confirmedDocuments = properties.getRepository().isDiffJsonWrites() ?
+        confirmedDocuments(entities) :
+        Map.of();
 
     try (Jedis jedis = modulesOperations.client().getJedis().get()) {
       Pipeline pipeline = jedis.pipelined();
@@ -301,8 +329,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
         KeyValuePersistentEntity<?, ?> keyValueEntity = mappingConverter.getMappingContext()
             .getRequiredPersistentEntity(ClassUtils.getUserClass(entity));
         Object id = isNew ?
-            generator.generateIdentifierOfType(Objects.requireNonNull(keyValueEntity.getIdProperty())
-                .getTypeInformation()) :
+            generateIdentifier(keyValueEntity) :
             keyValueEntity.getPropertyAccessor(entity).getProperty(Objects.requireNonNull(keyValueEntity
                 .getIdProperty()));
         keyValueEntity.getPropertyAccessor(entity).setProperty(keyValueEntity.getIdProperty(), id);
@@ -313,6 +340,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
 
         String keyspace = keyValueEntity.getKeySpace();
         byte[] objectKey = createKey(keyspace, idAsString);
+        savedKeys.add(objectKey);
 
         // process entity pre-save mutation
         auditor.processEntity(entity, isNew);
@@ -323,11 +351,18 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
         mappingConverter.write(entity, rdo);
         rdo.setId(idAsString);
 
+        String json = gson.toJson(entity);
+        JsonObject patch = !isNew ? mergePatchFor(confirmedDocuments.get(SafeEncoder.encode(objectKey)), json) : null;
         List<byte[]> args = new ArrayList<>(4);
         args.add(objectKey);
         args.add(SafeEncoder.encode(Path2.ROOT_PATH.toString()));
-        args.add(SafeEncoder.encode(gson.toJson(entity)));
-        pipeline.sendCommand(JsonCommand.SET, args.toArray(new byte[args.size()][]));
+        if (patch != null) {
+          args.add(SafeEncoder.encode(patch.toString()));
+          pipeline.sendCommand(JsonCommand.MERGE, args.toArray(new byte[args.size()][]));
+        } else {
+          args.add(SafeEncoder.encode(json));
+          pipeline.sendCommand(JsonCommand.SET, args.toArray(new byte[args.size()][]));
+        }
 
         processReferenceAnnotations(objectKey, entity, pipeline);
 
@@ -343,7 +378,8 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
         saved.add(entity);
       }
 
-      List<Object> responses = pipeline.syncAndReturnAll();
+      List<Object> responses = syncPipeline("saveAll", saved.size(), pipeline::syncAndReturnAll);
+      savedKeys.forEach(key -> invalidateCaches(SafeEncoder.encode(key)));
 
       // Process responses using streams to avoid iterator issues
       if (responses != null && !responses.isEmpty()) {
@@ -429,13 +465,84 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     entities.forEach(this::delete);
   }
 
+  /**
+   * Deletes the entities with the given ids with pipelined {@code DEL}s, in batches of the
+   * configured delete batch size, without loading them first. Entities with lexicographic fields
+   * are loaded and deleted one by one, as their sorted set entries are derived from the stored
+   * values.
+   */
+  @Override
+  public void deleteAllById(Iterable<? extends ID> ids) {
+    Assert.notNull(ids, "The given Iterable of ids must not be null!");
+
+    Set<String> lexicographicFields = indexer.getLexicographicFields(metadata.getJavaType());
+    if (lexicographicFields != null && !lexicographicFields.isEmpty()) {
+      ids.forEach(this::deleteById);
+      return;
+    }
+
+    List<String> keys = StreamSupport.stream(ids.spliterator(), false).map(this::getKeyForId).toList();
+    int batchSize = Math.max(1, properties.getRepository().getDeleteBatchSize());
+    for (int start = 0; start < keys.size(); start += batchSize) {
+      List<String> batch = keys.subList(start, Math.min(start + batchSize, keys.size()));
+      try (Jedis jedis = modulesOperations.client().getJedis().get()) {
+        Pipeline pipeline = jedis.pipelined();
+        batch.forEach(pipeline::del);
+        syncPipeline("deleteAllById", batch.size(), () -> {
+          pipeline.sync();
+          return null;
+        });
+      }
+    }
+
+    modulesOperations.invalidateKeys(metadata.getJavaType(), keys);
+  }
+
   @Override
   public List<T> findAllById(Iterable<ID> ids) {
     String[] keys = StreamSupport.stream(ids.spliterator(), false).map(this::getKey).toArray(String[]::new);
 
+    Optional<EntityNearCache> maybeNearCache = nearCacheManager != null ?
+        nearCacheManager.getCacheFor(metadata.getJavaType()) :
+        Optional.empty();
+    if (maybeNearCache.isPresent()) {
+      return findAllByIdNearCached(maybeNearCache.get(), keys);
+    }
+
     return modulesOperations.opsForJSON().mget(metadata.getJavaType(), keys).stream().toList();
   }
 
+  /**
+   * Resolves the given keys against the near-cache and fetches only the misses with a single
+   * {@code JSON.MGET}, preserving the order of the requested keys and skipping missing documents.
+   */
+  private List<T> findAllByIdNearCached(EntityNearCache nearCache, String[] keys) {
+    String[] documents = new String[keys.length];
+    List<Integer> misses = new ArrayList<>();
+    for (int i = 0; i < keys.length; i++) {
+      documents[i] = nearCache.get(keys[i], String.class);
+      if (documents[i] == null) {
+        misses.add(i);
+      }
+    }
+
+    if (!misses.isEmpty()) {
+      long epoch = nearCache.epoch();
+      String[] missingKeys = misses.stream().map(i -> keys[i]).toArray(String[]::new);
+      List<String> results = modulesOperations.opsForJSON().mget(missingKeys);
+      for (int j = 0; j < misses.size(); j++) {
+        String json = results.get(j);
+        if (json != null) {
+          documents[misses.get(j)] = json;
+          nearCache.putIfCurrent(missingKeys[j], json, epoch);
+        }
+      }
+    }
+
+    return LazyReferenceScope.with(() -> Arrays.stream(documents).filter(Objects::nonNull).map(json -> getGson()
+        .fromJson(json, metadata.getJavaType())).toList());
+  }
+
   @Override
   public String getKeyspace() {
     return indexer.getKeyspaceForEntityClass(metadata.getJavaType());
@@ -500,7 +607,17 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
         var referencedValue = accessor.getPropertyValue(f.getName());
         if (referencedValue != null) {
           Gson gson = gsonBuilder.create();
-          if (referencedValue instanceof Collection<?> referenceValues) {
+          if (referencedValue instanceof LazyReferenceProxy lazy && !lazy.lazyReferenceResolved()) {
+            // keep the keys of references that were never loaded
+            Object referenceKeys = referencedValue instanceof Collection<?> ?
+                lazy.lazyReferenceKeys() :
+                lazy.lazyReferenceKeys().get(0);
+            List<byte[]> args = new ArrayList<>(4);
+            args.add(objectKey);
+            args.add(SafeEncoder.encode(Path2.of("$." + f.getName()).toString()));
+            args.add(SafeEncoder.encode(gson.toJson(referenceKeys)));
+            pipeline.sendCommand(JsonCommand.SET, args.toArray(new byte[args.size()][]));
+          } else if (referencedValue instanceof Collection<?> referenceValues) {
             List<String> referenceKeys = new ArrayList<>();
             referenceValues.forEach(r -> {
               Object id = ObjectUtils.getIdFieldForEntity(r);
@@ -713,10 +830,10 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
       Gson gson = gsonBuilder.create();
 
       if (searchResult.getTotalResults() > 0) {
-        List<T> content = searchResult.getDocuments().stream().map(d -> {
+        List<T> content = LazyReferenceScope.with(() -> searchResult.getDocuments().stream().map(d -> {
           T entity = gson.fromJson(SafeEncoder.encode((byte[]) d.get("$")), metadata.getJavaType());
           return ObjectUtils.populateRedisKey(entity, d.getId());
-        }).toList();
+        }).toList());
 
         return new PageImpl<>(content, pageable, searchResult.getTotalResults());
       } else {
@@ -778,14 +895,25 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     Assert.notNull(id, "The given id must not be null");
 
     // Use direct Jedis EXISTS command for optimal performance
-    // Construct key properly for composite IDs
+    // Construct key properly for composite IDs. The near-cache is not consulted: callers decide
+    // between inserts and updates on the answer, which an entry outliving a delete would get wrong
     String fullKey = getKeyForId(id);
 
     return Boolean.TRUE.equals(modulesOperations.template().execute((RedisCallback<Boolean>) connection -> connection
         .keyCommands().exists(fullKey.getBytes())));
   }
 
-  private String getKeyForId(Object id) {
+  /**
+   * Returns the Redis key that an entity with the given id is stored under.
+   * <p>
+   * Composite ids and configured identifier filters are applied the same way as when the entity is
+   * saved, so the key can be used to read or delete the entity without loading it first.
+   *
+   * @param id the identifier of the entity
+   * @return the complete Redis key string
+   * @since 2.0.5
+   */
+  public String getKeyForId(ID id) {
     // Get the mapping context's entity info
     RedisEnhancedPersistentEntity<?> persistentEntity = (RedisEnhancedPersistentEntity<?>) mappingContext
         .getRequiredPersistentEntity(metadata.getJavaType());
@@ -794,15 +922,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
 
     // Handle composite IDs
     if (persistentEntity.isIdClassComposite()) {
-      BeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(id);
-      List<String> idParts = new ArrayList<>();
-      for (RedisPersistentProperty idProperty : persistentEntity.getIdProperties()) {
-        Object propertyValue = wrapper.getPropertyValue(idProperty.getName());
-        if (propertyValue != null) {
-          idParts.add(propertyValue.toString());
-        }
-      }
-      stringId = String.join(":", idParts);
+      stringId = persistentEntity.getCompositeIdCodec().keyForId(id);
     } else {
       stringId = mappingConverter.getConversionService().convert(id, String.class);
     }
@@ -963,17 +1083,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
 
     // Handle composite IDs
     if (persistentEntity.isIdClassComposite()) {
-      BeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(entity);
-      List<String> idParts = new ArrayList<>();
-
-      for (RedisPersistentProperty idProperty : persistentEntity.getIdProperties()) {
-        Object propertyValue = wrapper.getPropertyValue(idProperty.getName());
-        if (propertyValue != null) {
-          idParts.add(propertyValue.toString());
-        }
-      }
-
-      stringId = String.join(":", idParts);
+      stringId = persistentEntity.getCompositeKey(entity);
     } else {
       Object id = getIdFieldForEntity(entity);
       stringId = mappingConverter.getConversionService().convert(id, String.class);
@@ -1026,8 +1136,92 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
         pipeline.sendCommand(JsonCommand.SET, args.toArray(new byte[0][]));
       }
 
-      pipeline.sync();
+      syncPipeline("update", updateOperations.size(), () -> {
+        pipeline.sync();
+        return null;
+      });
+    }
+    updateOperations.stream().map(op -> op.key).distinct().forEach(this::invalidateCaches);
+  }
+
+  private <R> R syncPipeline(String operation, int size, Supplier<R> sync) {
+    CommandListener listener = modulesOperations.commandListener();
+    listener.pipelineStarted(operation, metadata.getJavaType(), size);
+    try {
+      return sync.get();
+    } finally {
+      listener.pipelineFinished(operation, metadata.getJavaType(), size);
+    }
+  }
+
+  /**
+   * Returns the documents known to be stored for the given existing entities, keyed by Redis key.
+   * A document is known if a snapshot was recorded for the {@code @Version} the entity is saved
+   * with, and the stored versions, read with one {@code JSON.MGET}, confirm it is still current.
+   * The near-cache is not used: its entries are invalidated asynchronously, and a patch computed
+   * against a stale one would be merged into a document another writer has changed since.
+   */
+  private <S extends T> Map<String, String> confirmedDocuments(Iterable<S> entities) {
+    List<Field> versionFields = ObjectUtils.getFieldsWithAnnotation(metadata.getJavaType(), Version.class);
+    if (documentSnapshots == null || versionFields.size() != 1) {
+      return Map.of();
+    }
+    Field versionField = versionFields.get(0);
+    Map<String, Number> versions = new LinkedHashMap<>();
+    Map<String, String> snapshots = new HashMap<>();
+    for (S entity : entities) {
+      if (metadata.isNew(entity)) {
+        continue;
+      }
+      Object version = new BeanWrapperImpl(entity).getPropertyValue(versionField.getName());
+      if (!(version instanceof Number number)) {
+        continue;
+      }
+      KeyValuePersistentEntity<?, ?> keyValueEntity = mappingConverter.getMappingContext()
+          .getRequiredPersistentEntity(ClassUtils.getUserClass(entity));
+      Object id = keyValueEntity.getPropertyAccessor(entity).getProperty(Objects.requireNonNull(keyValueEntity
+          .getIdProperty()));
+      String key = SafeEncoder.encode(createKey(keyValueEntity.getKeySpace(), validateKeyForWriting(id, entity)));
+      String snapshot = documentSnapshots.get(key, number);
+      if (snapshot != null) {
+        versions.put(key, number);
+        snapshots.put(key, snapshot);
+      }
+    }
+    if (versions.isEmpty()) {
+      return Map.of();
+    }
+
+    String[] keys = versions.keySet().toArray(String[]::new);
+    List<JSONArray> stored = modulesOperations.client().clientForJSON().jsonMGet(Path2.of("$." + ObjectUtils
+        .getJsonFieldName(versionField)), keys);
+    Map<String, String> confirmed = new HashMap<>();
+    for (int i = 0; i < keys.length; i++) {
+      JSONArray result = stored != null && i < stored.size() ? stored.get(i) : null;
+      if (result != null && !result.isEmpty() && result.get(0) instanceof Number storedVersion && storedVersion
+          .longValue() == versions.get(keys[i]).longValue()) {
+        confirmed.put(keys[i], snapshots.get(keys[i]));
+      }
+    }
+    return confirmed;
+  }
+
+  /**
+   * Returns the {@code JSON.MERGE} patch that turns the given confirmed document into the given
+   * one, if the patch is smaller than the document; {@code null} if the document has to be written
+   * in full. An unchanged document yields an empty patch, which the merge applies as a no-op.
+   */
+  @Nullable
+  private JsonObject mergePatchFor(@Nullable String current, String json) {
+    if (current == null) {
+      return null;
     }
+    JsonObject patch = JsonMergePatch.diff(JsonParser.parseString(current), JsonParser.parseString(json));
+    return patch != null && patch.toString().length() < json.length() ? patch : null;
+  }
+
+  private void invalidateCaches(String key) {
+    modulesOperations.invalidateKeys(metadata.getJavaType(), List.of(key));
   }
 
   /**
@@ -1048,6 +1242,16 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     return modulesOperations.opsForSearch(searchIndex);
   }
 
+  /**
+   * Generates the id of a new entity through the template, which honors
+   * {@link com.redis.om.spring.id.IdSequence} and the configured ULID generation.
+   */
+  private Object generateIdentifier(KeyValuePersistentEntity<?, ?> keyValueEntity) {
+    return operations instanceof CustomRedisKeyValueTemplate template ?
+        template.generateIdentifierFor(keyValueEntity) :
+        generator.generateIdentifierOfType(keyValueEntity.getRequiredIdProperty().getTypeInformation());
+  }
+
   /**
    * Validates and formats an entity ID for use as a Redis key during write operations.
    * <p>
@@ -1070,17 +1274,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
 
     // Handle composite IDs
     if (entity.isIdClassComposite()) {
-      BeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(item);
-      List<String> idParts = new ArrayList<>();
-
-      for (RedisPersistentProperty idProperty : entity.getIdProperties()) {
-        Object propertyValue = wrapper.getPropertyValue(idProperty.getName());
-        if (propertyValue != null) {
-          idParts.add(propertyValue.toString());
-        }
-      }
-
-      return String.join(":", idParts);
+      return entity.getCompositeKey(item);
     } else {
       // Regular single ID handling
       return mappingConverter.getConversionService().convert(id, String.class);
@@ -1091,9 +1285,9 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
    * Converts an ID value to its string representation, handling composite IDs.
    * <p>
    * This method provides special handling for composite IDs used with {@code @IdClass}.
-   * It introspects the mapping context to find entities that use the given value's
-   * class as their ID class, then extracts and combines the individual ID property
-   * values into a colon-separated string.
+   * It looks up the codec of the entity that uses the given value's class as its ID
+   * class, which combines the individual ID property values into a colon-separated
+   * string.
    * <p>
    * For simple IDs, it delegates to the conversion service for standard conversion.
    *
@@ -1102,30 +1296,26 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
    */
   private String asStringValue(Object value) {
     // For composite IDs used in @IdClass
-    if (value != null) {
-      // Get all persistent entities
-      for (RedisPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
-        // Find the entity that uses this ID class
-        IdClass idClassAnn = entity.getType().getAnnotation(IdClass.class);
-        if (idClassAnn != null && idClassAnn.value().equals(value.getClass())) {
-          // Found the entity that uses this ID class
-          BeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(value);
-          RedisEnhancedPersistentEntity<?> enhancedEntity = (RedisEnhancedPersistentEntity<?>) entity;
-
-          // Build composite key from ID properties in order
-          List<String> idParts = new ArrayList<>();
-          for (RedisPersistentProperty idProperty : enhancedEntity.getIdProperties()) {
-            Object propertyValue = wrapper.getPropertyValue(idProperty.getName());
-            if (propertyValue != null) {
-              idParts.add(propertyValue.toString());
-            }
-          }
-          return String.join(":", idParts);
-        }
+    if (value != null && mappingContext instanceof RedisEnhancedMappingContext enhancedContext) {
+      CompositeIdCodec codec = enhancedContext.getCompositeIdCodec(value.getClass());
+      if (codec != null) {
+        return codec.keyForId(value);
       }
     }
 
     return mappingConverter.getConversionService().convert(value, String.class);
   }
 
+  /**
+   * Gets the Gson instance, creating it lazily if needed.
+   *
+   * @return the Gson instance for JSON serialization/deserialization
+   */
+  private Gson getGson() {
+    if (gson == null) {
+      gson = gsonBuilder.create();
+    }
+    return gson;
+  }
+
 }
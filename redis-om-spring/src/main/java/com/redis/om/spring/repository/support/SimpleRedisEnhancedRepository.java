@@ -6,13 +6,12 @@ import java.lang.reflect.Field;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.domain.*;
@@ -26,25 +25,31 @@ import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.convert.RedisData;
 import org.springframework.data.redis.core.convert.ReferenceResolverImpl;
-import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
-import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import com.redis.om.spring.CustomRedisKeyValueTemplate;
 import com.redis.om.spring.RedisEnhancedKeyValueAdapter;
 import com.redis.om.spring.RedisOMProperties;
 import com.redis.om.spring.audit.EntityAuditor;
+import com.redis.om.spring.cache.NearCacheManager;
+import com.redis.om.spring.convert.HashDelta;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
+import com.redis.om.spring.convert.RedisOMCustomConversions;
 import com.redis.om.spring.id.IdentifierFilter;
 import com.redis.om.spring.id.ULIDIdentifierGenerator;
 import com.redis.om.spring.indexing.LexicographicIndexer;
 import com.redis.om.spring.indexing.RediSearchIndexer;
+import com.redis.om.spring.mapping.CompositeIdCodec;
+import com.redis.om.spring.mapping.RedisEnhancedMappingContext;
 import com.redis.om.spring.mapping.RedisEnhancedPersistentEntity;
 import com.redis.om.spring.metamodel.MetamodelField;
+import com.redis.om.spring.ops.CommandListener;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.repository.RedisEnhancedRepository;
@@ -57,6 +62,7 @@ import com.redis.om.spring.vectorize.Embedder;
 
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.search.Query;
 import redis.clients.jedis.search.SearchResult;
@@ -105,6 +111,8 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
 
   private final EntityStream entityStream;
   private final String repositoryIndexName;
+  @Nullable
+  private final NearCacheManager nearCacheManager;
 
   /**
    * Constructs a new {@code SimpleRedisEnhancedRepository} with the specified dependencies.
@@ -158,7 +166,11 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     this.operations = operations;
     this.indexer = indexer;
     this.mappingConverter = new MappingRedisOMConverter(null, new ReferenceResolverImpl(modulesOperations.template()));
-    this.enhancedKeyValueAdapter = new RedisEnhancedKeyValueAdapter(rmo.template(), rmo, indexer, embedder, properties);
+    this.nearCacheManager = operations instanceof CustomRedisKeyValueTemplate template && template
+        .getAdapter() instanceof RedisEnhancedKeyValueAdapter adapter ? adapter.getNearCacheManager() : null;
+    this.enhancedKeyValueAdapter = new RedisEnhancedKeyValueAdapter(rmo.template(), rmo,
+        new RedisEnhancedMappingContext(), new RedisOMCustomConversions(), indexer, embedder, properties,
+        nearCacheManager);
     this.generator = ULIDIdentifierGenerator.INSTANCE;
     this.auditor = new EntityAuditor(modulesOperations.template());
     this.embedder = embedder;
@@ -364,6 +376,7 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
       try (Jedis jedis = modulesOperations.client().getJedis().get()) {
         jedis.hmset(SafeEncoder.encode(key), updates);
       }
+      invalidateCaches(List.of(SafeEncoder.encode(key)));
     }
 
     return (S) findById(id).orElseThrow(() -> new RuntimeException("Failed to fetch updated entity"));
@@ -375,6 +388,7 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
       return; // No examples to process
     }
 
+    List<byte[]> updatedKeys = new ArrayList<>();
     try (Jedis jedis = modulesOperations.client().getJedis().get()) {
       Pipeline pipeline = jedis.pipelined();
 
@@ -411,11 +425,16 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
 
         if (!updates.isEmpty()) {
           pipeline.hmset(SafeEncoder.encode(key), updates);
+          updatedKeys.add(SafeEncoder.encode(key));
         }
       }
 
-      pipeline.sync();
+      syncPipeline("updateAll", updatedKeys.size(), () -> {
+        pipeline.sync();
+        return null;
+      });
     }
+    invalidateCaches(updatedKeys);
   }
 
   @Override
@@ -428,17 +447,7 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
 
     // Handle composite IDs
     if (persistentEntity.isIdClassComposite()) {
-      BeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(entity);
-      List<String> idParts = new ArrayList<>();
-
-      for (RedisPersistentProperty idProperty : persistentEntity.getIdProperties()) {
-        Object propertyValue = wrapper.getPropertyValue(idProperty.getName());
-        if (propertyValue != null) {
-          idParts.add(propertyValue.toString());
-        }
-      }
-
-      stringId = String.join(":", idParts);
+      stringId = persistentEntity.getCompositeKey(entity);
     } else {
       Object id = getIdFieldForEntity(entity);
       stringId = mappingConverter.getConversionService().convert(id, String.class);
@@ -466,6 +475,9 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     Assert.notNull(entities, "The given Iterable of entities must not be null!");
     List<S> saved = new ArrayList<>();
     List<String> entityIds = new ArrayList<>();
+    List<byte[]> savedKeys = new ArrayList<>();
+    List<RedisData> savedData = new ArrayList<>();
+    List<Boolean> savedIsNew = new ArrayList<>();
 
     embedder.processEntities(entities);
 
@@ -478,7 +490,7 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
         KeyValuePersistentEntity<?, ?> keyValueEntity = mappingConverter.getMappingContext()
             .getRequiredPersistentEntity(ClassUtils.getUserClass(entity));
         Object id = isNew ?
-            generator.generateIdentifierOfType(keyValueEntity.getIdProperty().getTypeInformation()) :
+            generateIdentifier(keyValueEntity) :
             keyValueEntity.getPropertyAccessor(entity).getProperty(keyValueEntity.getIdProperty());
         keyValueEntity.getPropertyAccessor(entity).setProperty(keyValueEntity.getIdProperty(), id);
 
@@ -487,6 +499,7 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
 
         String keyspace = keyValueEntity.getKeySpace();
         byte[] objectKey = createKey(keyspace, idAsString);
+        savedKeys.add(objectKey);
 
         // process entity pre-save mutation
         auditor.processEntity(entity, isNew);
@@ -497,34 +510,73 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
 
         RedisData rdo = new RedisData();
         mappingConverter.write(entity, rdo);
+        savedData.add(rdo);
+        savedIsNew.add(isNew);
+
+        saved.add(entity);
+      }
 
-        pipeline.hmset(objectKey, rdo.getBucket().rawMap());
+      List<HashDelta> deltas = properties.getRepository().isDiffHashWrites() ?
+          computeDeltas(pipeline, savedKeys, savedData, savedIsNew) :
+          Collections.nCopies(saved.size(), null);
+
+      // index of the first command sent for each entity, to attribute failed responses
+      int[] firstCommand = new int[saved.size() + 1];
+      int commandCount = 0;
+      for (int i = 0; i < saved.size(); i++) {
+        firstCommand[i] = commandCount;
+        byte[] objectKey = savedKeys.get(i);
+        RedisData rdo = savedData.get(i);
+        HashDelta delta = deltas.get(i);
+
+        if (delta == null) {
+          pipeline.hmset(objectKey, rdo.getBucket().rawMap());
+          commandCount++;
+        } else {
+          if (!delta.getChangedFields().isEmpty()) {
+            pipeline.hset(objectKey, delta.getChangedFields());
+            commandCount++;
+          }
+          if (!delta.getRemovedFields().isEmpty()) {
+            pipeline.hdel(objectKey, delta.getRemovedFieldsArray());
+            commandCount++;
+          }
+        }
 
         if (expires(rdo)) {
           pipeline.expire(objectKey, rdo.getTimeToLive());
+          commandCount++;
+        } else if (delta != null) {
+          pipeline.persist(objectKey);
+          commandCount++;
         }
-
-        saved.add(entity);
       }
+      firstCommand[saved.size()] = commandCount;
 
-      List<Object> responses = pipeline.syncAndReturnAll();
+      List<Object> responses = syncPipeline("saveAll", saved.size(), pipeline::syncAndReturnAll);
+      invalidateCaches(savedKeys);
 
       // Process responses to check for errors
       if (responses != null && !responses.isEmpty()) {
         List<String> failedIds = new ArrayList<>();
-        long failedCount = IntStream.range(0, Math.min(responses.size(), entityIds.size())).filter(i -> responses.get(
-            i) instanceof JedisDataException).peek(i -> {
+        long failedCount = 0;
+        for (int i = 0; i < entityIds.size(); i++) {
+          for (int j = firstCommand[i]; j < Math.min(firstCommand[i + 1], responses.size()); j++) {
+            if (responses.get(j) instanceof JedisDataException e) {
               failedIds.add(entityIds.get(i));
-              logger.warn("Failed HMSET command for entity with id: {} Error: {}", entityIds.get(i),
-                  ((JedisDataException) responses.get(i)).getMessage());
-            }).count();
+              failedCount++;
+              logger.warn("Failed hash write for entity with id: {} Error: {}", entityIds.get(i), e.getMessage());
+              break;
+            }
+          }
+        }
 
         if (failedCount > 0) {
           String errorMsg = String.format("Failed to save %d entities with IDs: %s", failedCount, failedIds);
           if (properties.getRepository().isThrowOnSaveAllFailure()) {
             throw new RuntimeException(errorMsg);
           } else {
-            logger.warn("Total failed HMSET commands: {}", failedCount);
+            logger.warn("Total failed hash writes: {}", failedCount);
           }
         }
       }
@@ -596,6 +648,56 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     return this.mappingConverter.toBytes(keyspace.endsWith(":") ? keyspace + id : keyspace + ":" + id);
   }
 
+  private <R> R syncPipeline(String operation, int size, Supplier<R> sync) {
+    CommandListener listener = modulesOperations.commandListener();
+    listener.pipelineStarted(operation, metadata.getJavaType(), size);
+    try {
+      return sync.get();
+    } finally {
+      listener.pipelineFinished(operation, metadata.getJavaType(), size);
+    }
+  }
+
+  /**
+   * Reads the stored hashes of the entities that are not new through the pipeline and computes the
+   * field delta for each, {@code null} for entities that have to be written in full.
+   */
+  private List<HashDelta> computeDeltas(Pipeline pipeline, List<byte[]> keys, List<RedisData> data,
+      List<Boolean> isNew) {
+    List<Response<Map<byte[], byte[]>>> current = new ArrayList<>(keys.size());
+    int reads = 0;
+    for (int i = 0; i < keys.size(); i++) {
+      if (isNew.get(i)) {
+        current.add(null);
+      } else {
+        current.add(pipeline.hgetAll(keys.get(i)));
+        reads++;
+      }
+    }
+    if (reads > 0) {
+      syncPipeline("saveAll.read", reads, () -> {
+        pipeline.sync();
+        return null;
+      });
+    }
+
+    List<HashDelta> deltas = new ArrayList<>(keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      Map<byte[], byte[]> stored = current.get(i) != null ? current.get(i).get() : null;
+      deltas.add(stored == null || stored.isEmpty() ?
+          null :
+          HashDelta.between(stored, data.get(i).getBucket().rawMap()));
+    }
+    return deltas;
+  }
+
+  private void invalidateCaches(List<byte[]> keys) {
+    if (nearCacheManager != null) {
+      keys.forEach(key -> nearCacheManager.invalidate(SafeEncoder.encode(key)));
+    }
+    modulesOperations.invalidateSearchResults(metadata.getJavaType());
+  }
+
   private boolean expires(RedisData data) {
     return data.getTimeToLive() != null && data.getTimeToLive() > 0L;
   }
@@ -651,7 +753,8 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     Assert.notNull(id, "The given id must not be null");
 
     // Use direct Jedis EXISTS command for optimal performance
-    // Construct key properly for composite IDs
+    // Construct key properly for composite IDs. The near-cache is not consulted: callers decide
+    // between inserts and updates on the answer, which an entry outliving a delete would get wrong
     String fullKey = getKeyForId(id);
 
     return Boolean.TRUE.equals(modulesOperations.template().execute((RedisCallback<Boolean>) connection -> connection
@@ -667,15 +770,7 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
 
     // Handle composite IDs
     if (persistentEntity.isIdClassComposite()) {
-      BeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(id);
-      List<String> idParts = new ArrayList<>();
-      for (RedisPersistentProperty idProperty : persistentEntity.getIdProperties()) {
-        Object propertyValue = wrapper.getPropertyValue(idProperty.getName());
-        if (propertyValue != null) {
-          idParts.add(propertyValue.toString());
-        }
-      }
-      stringId = String.join(":", idParts);
+      stringId = persistentEntity.getCompositeIdCodec().keyForId(id);
     } else {
       stringId = mappingConverter.getConversionService().convert(id, String.class);
     }
@@ -718,6 +813,16 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     return modulesOperations.opsForSearch(searchIndex);
   }
 
+  /**
+   * Generates the id of a new entity through the template, which honors
+   * {@link com.redis.om.spring.id.IdSequence} and the configured ULID generation.
+   */
+  private Object generateIdentifier(KeyValuePersistentEntity<?, ?> keyValueEntity) {
+    return operations instanceof CustomRedisKeyValueTemplate template ?
+        template.generateIdentifierFor(keyValueEntity) :
+        generator.generateIdentifierOfType(keyValueEntity.getRequiredIdProperty().getTypeInformation());
+  }
+
   private String validateKeyForWriting(Object id, Object item) {
     // Get the mapping context's entity info
     RedisEnhancedPersistentEntity<?> entity = (RedisEnhancedPersistentEntity<?>) mappingConverter.getMappingContext()
@@ -725,17 +830,7 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
 
     // Handle composite IDs
     if (entity.isIdClassComposite()) {
-      BeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(item);
-      List<String> idParts = new ArrayList<>();
-
-      for (RedisPersistentProperty idProperty : entity.getIdProperties()) {
-        Object propertyValue = wrapper.getPropertyValue(idProperty.getName());
-        if (propertyValue != null) {
-          idParts.add(propertyValue.toString());
-        }
-      }
-
-      return String.join(":", idParts);
+      return entity.getCompositeKey(item);
     } else {
       // Regular single ID handling
       return mappingConverter.getConversionService().convert(id, String.class);
@@ -80,7 +80,7 @@ public class AggregationStreamImpl<E, T> implements AggregationStream<T> {
   public AggregationStreamImpl(String searchIndex, RedisModulesOperations<String> modulesOperations, Gson gson,
       Class<E> entityClass, String query, MetamodelField<E, ?>... fields) {
     this.entityClass = entityClass;
-    search = modulesOperations.opsForSearch(searchIndex);
+    search = modulesOperations.opsForCachedSearch(searchIndex, entityClass);
     aggregation = new AggregationBuilder(query);
     aggregation.dialect(Dialect.TWO.getValue());
     isDocument = entityClass.isAnnotationPresent(Document.class);
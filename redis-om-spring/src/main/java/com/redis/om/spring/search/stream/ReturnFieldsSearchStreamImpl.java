@@ -19,6 +19,7 @@ import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.indexed.NumericField;
 import com.redis.om.spring.ops.search.SearchOperations;
+import com.redis.om.spring.search.stream.actions.BulkUpdateAction;
 import com.redis.om.spring.search.stream.predicates.SearchFieldPredicate;
 import com.redis.om.spring.tuple.Pair;
 import com.redis.om.spring.tuple.Tuple;
@@ -296,6 +297,12 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
     resolveStream().forEachOrdered(action);
   }
 
+  @SafeVarargs
+  @Override
+  public final long update(BulkUpdateAction<? super T>... actions) {
+    throw new UnsupportedOperationException("update is not supported on a ReturnFieldSearchStream");
+  }
+
   @Override
   public Object[] toArray() {
     return resolveStream().toArray();
@@ -380,15 +387,15 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
       Query query = entitySearchStream.prepareQuery();
       if (useNoContent) {
         query.setNoContent();
-        SearchResult searchResult = entitySearchStream.getOps().search(query);
-        if (!searchResult.getDocuments().isEmpty()) {
+        resolvedStream = entitySearchStream.executeQuery(query, searchResult -> {
+          if (searchResult.getDocuments().isEmpty()) {
+            return Stream.empty();
+          }
           String keySample = searchResult.getDocuments().get(0).getId();
           int idBegin = keySample.indexOf(":") + 1;
-          resolvedStream = (Stream<T>) searchResult.getDocuments().stream().map(Document::getId).map(key -> key
-              .substring(idBegin));
-        } else {
-          resolvedStream = Stream.empty();
-        }
+          return (Stream<T>) searchResult.getDocuments().stream().map(Document::getId).map(key -> key.substring(
+              idBegin));
+        });
       } else {
         boolean returningFullEntity = (returning.stream().anyMatch(foi -> foi.getSearchAlias().equalsIgnoreCase(
             "__this")));
@@ -403,9 +410,7 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
         boolean resultSetHasNonIndexedFields = returning.stream().anyMatch(foi -> !foi.isIndexed());
 
         if (resultSetHasNonIndexedFields) {
-          SearchResult searchResult = entitySearchStream.getOps().search(query);
-
-          List<E> entities = searchResult.getDocuments() //
+          List<E> entities = entitySearchStream.executeQuery(query, searchResult -> searchResult.getDocuments() //
               .stream() //
               .map(d -> { //
                 if (isDocument) {
@@ -413,13 +418,13 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
                 } else {
                   return (E) ObjectUtils.documentToObject(d, entitySearchStream.getEntityClass(), mappingConverter);
                 }
-              }).toList();
+              }).toList());
 
           results = toResultTuple(entities, returnFields);
 
         } else {
           query.returnFields(returnFields);
-          results = toResultTuple(entitySearchStream.getOps().search(query), returnFields);
+          results = entitySearchStream.executeQuery(query, searchResult -> toResultTuple(searchResult, returnFields));
         }
         resolvedStream = results.stream();
       }
@@ -524,6 +529,36 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
     throw new UnsupportedOperationException("max is not supported on a ReturnFieldSearchStream");
   }
 
+  @Override
+  public IntStream mapToInt(NumericField<T, ?> field) {
+    throw new UnsupportedOperationException("mapToInt is not supported on a ReturnFieldSearchStream");
+  }
+
+  @Override
+  public LongStream mapToLong(NumericField<T, ?> field) {
+    throw new UnsupportedOperationException("mapToLong is not supported on a ReturnFieldSearchStream");
+  }
+
+  @Override
+  public DoubleStream mapToDouble(NumericField<T, ?> field) {
+    throw new UnsupportedOperationException("mapToDouble is not supported on a ReturnFieldSearchStream");
+  }
+
+  @Override
+  public double sum(NumericField<T, ?> field) {
+    throw new UnsupportedOperationException("sum is not supported on a ReturnFieldSearchStream");
+  }
+
+  @Override
+  public OptionalDouble average(NumericField<T, ?> field) {
+    throw new UnsupportedOperationException("average is not supported on a ReturnFieldSearchStream");
+  }
+
+  @Override
+  public DoubleSummaryStatistics summaryStatistics(NumericField<T, ?> field) {
+    throw new UnsupportedOperationException("summaryStatistics is not supported on a ReturnFieldSearchStream");
+  }
+
   @Override
   public SearchStream<T> dialect(int dialect) {
     throw new UnsupportedOperationException("dialect is not supported on a ReturnFieldSearchStream");
@@ -605,4 +640,10 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
     throw new UnsupportedOperationException("toListWithScores is not supported on a ReturnFieldSearchStream");
   }
 
+  @SafeVarargs
+  @Override
+  public final SearchStream<T> fetch(MetamodelField<? super T, ?>... fields) {
+    throw new UnsupportedOperationException("fetch is not supported on a ReturnFieldSearchStream");
+  }
+
 }
@@ -2,9 +2,11 @@ package com.redis.om.spring.search.stream;
 
 import java.time.Duration;
 import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -16,6 +18,7 @@ import org.springframework.data.domain.Sort;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.indexed.NumericField;
 import com.redis.om.spring.ops.search.SearchOperations;
+import com.redis.om.spring.search.stream.actions.BulkUpdateAction;
 import com.redis.om.spring.search.stream.predicates.SearchFieldPredicate;
 import com.redis.om.spring.tuple.Pair;
 
@@ -211,6 +214,85 @@ public interface SearchStream<E> extends BaseStream<E, SearchStream<E>> {
    */
   DoubleStream mapToDouble(ToDoubleFunction<? super E> mapper);
 
+  /**
+   * Returns the values of a numeric field as an IntStream.
+   * <p>
+   * Only the field is returned by the search ({@code RETURN}), so matching documents are neither
+   * transferred nor deserialized in full. Documents without a value for the field are skipped.
+   * </p>
+   *
+   * @param field the numeric field to read
+   * @return an IntStream of the field values
+   * @since 2.0.5
+   */
+  IntStream mapToInt(NumericField<E, ?> field);
+
+  /**
+   * Returns the values of a numeric field as a LongStream.
+   * <p>
+   * Only the field is returned by the search ({@code RETURN}), so matching documents are neither
+   * transferred nor deserialized in full. Documents without a value for the field are skipped.
+   * </p>
+   *
+   * @param field the numeric field to read
+   * @return a LongStream of the field values
+   * @since 2.0.5
+   */
+  LongStream mapToLong(NumericField<E, ?> field);
+
+  /**
+   * Returns the values of a numeric field as a DoubleStream.
+   * <p>
+   * Only the field is returned by the search ({@code RETURN}), so matching documents are neither
+   * transferred nor deserialized in full. Documents without a value for the field are skipped.
+   * </p>
+   *
+   * @param field the numeric field to read
+   * @return a DoubleStream of the field values
+   * @since 2.0.5
+   */
+  DoubleStream mapToDouble(NumericField<E, ?> field);
+
+  /**
+   * Returns the sum of a numeric field over all matching documents.
+   * <p>
+   * The sum is computed by Redis with an {@code FT.AGGREGATE} {@code SUM} reducer, unless the
+   * stream is limited, skips elements or is a vector search, in which case the values of the
+   * matching page are summed as returned by {@link #mapToDouble(NumericField)}.
+   * </p>
+   *
+   * @param field the numeric field to sum
+   * @return the sum of the field values, {@code 0} if no document has a value
+   * @since 2.0.5
+   */
+  double sum(NumericField<E, ?> field);
+
+  /**
+   * Returns the average of a numeric field over all matching documents.
+   * <p>
+   * The average is computed by Redis with an {@code FT.AGGREGATE} {@code AVG} reducer, with the
+   * same exceptions as {@link #sum(NumericField)}.
+   * </p>
+   *
+   * @param field the numeric field to average
+   * @return the average of the field values, or empty if no document has a value
+   * @since 2.0.5
+   */
+  OptionalDouble average(NumericField<E, ?> field);
+
+  /**
+   * Returns the count, sum, minimum and maximum of a numeric field over all matching documents.
+   * <p>
+   * The statistics are computed by Redis with {@code FT.AGGREGATE} reducers in a single request,
+   * with the same exceptions as {@link #sum(NumericField)}.
+   * </p>
+   *
+   * @param field the numeric field to summarize
+   * @return the statistics of the field values
+   * @since 2.0.5
+   */
+  DoubleSummaryStatistics summaryStatistics(NumericField<E, ?> field);
+
   /**
    * Maps each element to a stream and flattens the result into a single stream.
    * 
@@ -307,6 +389,40 @@ public interface SearchStream<E> extends BaseStream<E, SearchStream<E>> {
    */
   void forEachOrdered(Consumer<? super E> action);
 
+  /**
+   * Applies the given Redis JSON mutations to every document matching this stream, without loading
+   * the documents.
+   * <p>
+   * Only the keys of the matching documents are fetched (honoring {@link #skip(long)},
+   * {@link #limit(long)} and the sort order); the commands are then sent in pipelined batches, so
+   * the cost no longer grows with a round trip per entity as it does with
+   * {@link #forEach(Consumer)}. Cached search results, near-cache entries and document snapshots
+   * of the updated documents are invalidated afterward.
+   * </p>
+   * <p>
+   * As with {@code save}, the {@code @Version} property of each updated document is incremented
+   * and its {@code @LastModifiedDate} properties are set to the time of the update. The stored
+   * version is not compared first, so concurrent saves of entities loaded before the update fail
+   * their optimistic locking check instead of overwriting it.
+   * </p>
+   * <p>Example usage:</p>
+   * <pre>{@code
+   * long updated = entityStream.of(Company.class)
+   *     .filter(Company$.NAME.startsWith("Red"))
+   *     .update(Company$.YEAR_FOUNDED.incrBy(1L), Company$.PUBLICLY_LISTED.toggle());
+   * }</pre>
+   *
+   * @param actions the mutations to apply to each matching document, such as
+   *                {@code NumericField.incrBy} or {@code TagField.add}
+   * @return the number of documents for which all mutations succeeded
+   * @throws UnsupportedOperationException if the entity is not a {@code @Document}
+   * @since 2.0.5
+   */
+  @SuppressWarnings(
+    "unchecked"
+  )
+  long update(BulkUpdateAction<? super E>... actions);
+
   /**
    * Returns an array containing all elements in the stream.
    * 
@@ -659,6 +775,31 @@ public interface SearchStream<E> extends BaseStream<E, SearchStream<E>> {
    */
   List<Pair<E, Double>> toListWithScores();
 
+  /**
+   * Loads the given {@code @Reference} fields of all results in bulk.
+   * <p>
+   * Once a page of results has been read, the keys referenced by the given fields are collected
+   * across the page and loaded with one {@code JSON.MGET} per referenced type, and the results are
+   * then populated from the loaded documents. Reading the page therefore costs a constant number
+   * of round trips instead of one per referenced entity. References of the fetched entities
+   * themselves are still loaded as usual.
+   * </p>
+   *
+   * <pre>{@code
+   * entityStream.of(Order.class).filter(Order$.STATUS.eq("OPEN")).fetch(Order$.CUSTOMER, Order$.ITEMS).toList();
+   * }</pre>
+   *
+   * @param fields the reference fields to load in bulk
+   * @return this SearchStream instance
+   * @throws IllegalArgumentException      if a field is not annotated with {@code @Reference}
+   * @throws UnsupportedOperationException if the stream does not operate on JSON documents
+   * @since 2.0.5
+   */
+  @SuppressWarnings(
+    "unchecked"
+  )
+  SearchStream<E> fetch(MetamodelField<? super E, ?>... fields);
+
   /**
    * Returns whether this stream operates on JSON documents or hash structures.
    *
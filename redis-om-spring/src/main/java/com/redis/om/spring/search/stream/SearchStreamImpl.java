@@ -1,7 +1,6 @@
 package com.redis.om.spring.search.stream;
 
 import static com.redis.om.spring.metamodel.MetamodelUtils.getMetamodelForIdField;
-import static com.redis.om.spring.util.ObjectUtils.floatArrayToByteArray;
 import static java.util.stream.Collectors.toCollection;
 
 import java.lang.reflect.Field;
@@ -16,26 +15,37 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.*;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Reference;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.redis.core.convert.ReferenceResolverImpl;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.redis.om.spring.annotations.Dialect;
+import com.redis.om.spring.audit.EntityAuditor;
 import com.redis.om.spring.annotations.Document;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.indexing.RediSearchIndexer;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 import com.redis.om.spring.metamodel.indexed.NumericField;
+import com.redis.om.spring.ops.CommandListener;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
+import com.redis.om.spring.search.stream.actions.BulkUpdateAction;
 import com.redis.om.spring.search.stream.actions.TakesJSONOperations;
 import com.redis.om.spring.search.stream.predicates.BaseAbstractPredicate;
 import com.redis.om.spring.search.stream.predicates.SearchFieldPredicate;
 import com.redis.om.spring.search.stream.predicates.lexicographic.*;
 import com.redis.om.spring.search.stream.predicates.vector.KNNPredicate;
+import com.redis.om.spring.serialization.gson.LazyReferenceScope;
+import com.redis.om.spring.serialization.gson.PrefetchedReferences;
 import com.redis.om.spring.tuple.AbstractTupleMapper;
 import com.redis.om.spring.tuple.Pair;
 import com.redis.om.spring.tuple.TupleMapper;
@@ -45,11 +55,22 @@ import com.redis.om.spring.util.SearchResultRawResponseToObjectConverter;
 import com.redis.vl.query.AggregateHybridQuery;
 import com.redis.vl.query.HybridQuery;
 
+import redis.clients.jedis.ClusterPipeline;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.commands.ProtocolCommand;
 import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.json.JsonProtocol.JsonCommand;
 import redis.clients.jedis.search.Query;
 import redis.clients.jedis.search.Query.HighlightTags;
 import redis.clients.jedis.search.SearchResult;
+import redis.clients.jedis.search.aggr.AggregationBuilder;
 import redis.clients.jedis.search.aggr.AggregationResult;
+import redis.clients.jedis.search.aggr.Group;
+import redis.clients.jedis.search.aggr.Reducer;
+import redis.clients.jedis.search.aggr.Reducers;
 import redis.clients.jedis.search.aggr.SortedField;
 import redis.clients.jedis.search.aggr.SortedField.SortOrder;
 import redis.clients.jedis.search.hybrid.FTHybridParams;
@@ -85,12 +106,14 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   private static final Log logger = LogFactory.getLog(SearchStreamImpl.class);
 
   private static final Integer MAX_LIMIT = 10000;
+  private static final int UPDATE_BATCH_SIZE = 1000;
 
   @SuppressWarnings(
     "unused"
   )
   private final RedisModulesOperations<String> modulesOperations;
   private final SearchOperations<String> search;
+  private final SearchOperations<String> cachedSearch;
   private final JSONOperations<String> json;
   private final String searchIndex;
   private final Class<E> entityClass;
@@ -101,6 +124,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   private final List<MetamodelField<E, ?>> projections = new ArrayList<>();
   private final List<MetamodelField<E, ?>> summaryFields = new ArrayList<>();
   private final List<MetamodelField<E, ?>> highlightFields = new ArrayList<>();
+  private final List<Field> fetchFields = new ArrayList<>();
   private final ExampleToNodeConverter<E> exampleToNodeConverter;
   private final RediSearchIndexer indexer;
   private Node rootNode = QueryBuilders.union();
@@ -147,6 +171,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
     this.entityClass = entityClass;
     this.searchIndex = this.indexer.getIndexName(entityClass);
     this.search = modulesOperations.opsForSearch(searchIndex);
+    this.cachedSearch = modulesOperations.opsForCachedSearch(searchIndex, entityClass);
     this.json = modulesOperations.opsForJSON();
     this.gsonBuilder = gsonBuilder;
     Optional<Field> maybeIdField = ObjectUtils.getIdFieldForEntityClass(entityClass);
@@ -182,6 +207,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
     this.entityClass = entityClass;
     this.searchIndex = searchIndex;
     this.search = modulesOperations.opsForSearch(searchIndex);
+    this.cachedSearch = modulesOperations.opsForCachedSearch(searchIndex, entityClass);
     this.json = modulesOperations.opsForJSON();
     this.gsonBuilder = gsonBuilder;
     this.idField = idField;
@@ -438,6 +464,132 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
     return resolveStream().mapToDouble(mapper);
   }
 
+  @Override
+  public IntStream mapToInt(NumericField<E, ?> field) {
+    return numericValues(field).stream().mapToInt(value -> (int) parseLong(value));
+  }
+
+  @Override
+  public LongStream mapToLong(NumericField<E, ?> field) {
+    return numericValues(field).stream().mapToLong(SearchStreamImpl::parseLong);
+  }
+
+  @Override
+  public DoubleStream mapToDouble(NumericField<E, ?> field) {
+    return numericValues(field).stream().mapToDouble(Double::parseDouble);
+  }
+
+  @Override
+  public double sum(NumericField<E, ?> field) {
+    if (!isAggregatable()) {
+      return mapToDouble(field).sum();
+    }
+    Map<String, Object> row = aggregate(field, Reducers.sum(field.getSearchAlias()).as("sum"));
+    return row != null && row.get("sum") != null ? Double.parseDouble(row.get("sum").toString()) : 0.0;
+  }
+
+  @Override
+  public OptionalDouble average(NumericField<E, ?> field) {
+    if (!isAggregatable()) {
+      return mapToDouble(field).average();
+    }
+    Map<String, Object> row = aggregate(field, Reducers.count().as("count"), Reducers.avg(field.getSearchAlias()).as(
+        "avg"));
+    if (row == null || row.get("count") == null || parseLong(row.get("count").toString()) == 0) {
+      return OptionalDouble.empty();
+    }
+    return OptionalDouble.of(Double.parseDouble(row.get("avg").toString()));
+  }
+
+  @Override
+  public DoubleSummaryStatistics summaryStatistics(NumericField<E, ?> field) {
+    if (!isAggregatable()) {
+      return mapToDouble(field).summaryStatistics();
+    }
+    String alias = field.getSearchAlias();
+    Map<String, Object> row = aggregate(field, Reducers.count().as("count"), Reducers.sum(alias).as("sum"), Reducers
+        .min(alias).as("min"), Reducers.max(alias).as("max"));
+    long count = row != null && row.get("count") != null ? parseLong(row.get("count").toString()) : 0;
+    if (count == 0) {
+      return new DoubleSummaryStatistics();
+    }
+    return new DoubleSummaryStatistics(count, Double.parseDouble(row.get("min").toString()), Double.parseDouble(row
+        .get("max").toString()), Double.parseDouble(row.get("sum").toString()));
+  }
+
+  /**
+   * Reads the values of a numeric field of all matching documents, returning only that field
+   * from the search.
+   */
+  private List<String> numericValues(NumericField<E, ?> field) {
+    if (hybridText != null) {
+      throw new UnsupportedOperationException(
+          "Numeric field projections are not supported after hybridSearch(). Collect full entities instead.");
+    }
+    String alias = field.getSearchAlias();
+    Query query = prepareQuery();
+    query.returnFields(alias);
+    resolvedStream = Stream.empty();
+    return executeQuery(query, searchResult -> searchResult.getDocuments().stream() //
+        .map(d -> numericValueOf(d.get(alias))) //
+        .filter(Objects::nonNull) //
+        .toList());
+  }
+
+  private static String numericValueOf(Object raw) {
+    if (raw == null) {
+      return null;
+    }
+    String value = ((raw instanceof byte[] bytes) ? SafeEncoder.encode(bytes) : raw.toString()).trim();
+    if (value.startsWith("[")) {
+      // dialect 3 returns JSON fields as arrays of their matches
+      JsonElement element = JsonParser.parseString(value);
+      if (!element.isJsonArray() || element.getAsJsonArray().isEmpty() || !element.getAsJsonArray().get(0)
+          .isJsonPrimitive()) {
+        return null;
+      }
+      value = element.getAsJsonArray().get(0).getAsString();
+    }
+    return value.isEmpty() ? null : value;
+  }
+
+  private static long parseLong(String value) {
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      return (long) Double.parseDouble(value);
+    }
+  }
+
+  /**
+   * Whether reductions can be computed over the whole result set by {@code FT.AGGREGATE}, rather
+   * than over the page a limited, offset, vector or hybrid search returns.
+   */
+  private boolean isAggregatable() {
+    return limit == null && skip == null && knnPredicate == null && hybridText == null;
+  }
+
+  /**
+   * Reduces the documents matching the query that have a value for {@code field} to a single
+   * row, or returns {@code null} if none match.
+   */
+  private Map<String, Object> aggregate(NumericField<E, ?> field, Reducer... reducers) {
+    resolvedStream = Stream.empty();
+    String alias = "@" + field.getSearchAlias();
+    String query = (rootNode.toString().isBlank()) ? "*" : rootNode.toString();
+    Group group = new Group();
+    for (Reducer reducer : reducers) {
+      group.reduce(reducer);
+    }
+    AggregationBuilder aggregation = new AggregationBuilder(query) //
+        .load(alias) //
+        .filter("exists(" + alias + ")") //
+        .groupBy(group) //
+        .dialect(dialect);
+    List<Map<String, Object>> rows = cachedSearch.aggregate(aggregation).getResults();
+    return rows.isEmpty() ? null : rows.get(0);
+  }
+
   @Override
   public <R> SearchStream<R> flatMap(Function<? super E, ? extends Stream<? extends R>> mapper) {
     return new WrapperSearchStream<>(resolveStream().flatMap(mapper));
@@ -528,6 +680,153 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
     resolveStream().forEachOrdered(action);
   }
 
+  @SafeVarargs
+  @Override
+  public final long update(BulkUpdateAction<? super E>... actions) {
+    if (!isDocument) {
+      throw new UnsupportedOperationException("update is only supported on @Document entities");
+    }
+    List<String> keys = matchingKeys();
+    if (keys.isEmpty() || actions.length == 0) {
+      return 0;
+    }
+
+    List<UpdateCommand> commands = updateCommands(actions, getGson());
+    long updated = 0;
+    try {
+      Optional<Jedis> maybeJedis = modulesOperations.client().getJedis();
+      if (maybeJedis.isPresent()) {
+        try (Jedis jedis = maybeJedis.get()) {
+          for (int from = 0; from < keys.size(); from += UPDATE_BATCH_SIZE) {
+            Pipeline pipeline = jedis.pipelined();
+            List<String> batch = keys.subList(from, Math.min(from + UPDATE_BATCH_SIZE, keys.size()));
+            updated += pipelineUpdates(batch, commands, (key, command, arguments) -> pipeline.sendCommand(command,
+                arguments), pipeline::sync);
+          }
+        }
+      } else {
+        JedisCluster cluster = modulesOperations.client().getJedisCluster().orElseThrow(
+            () -> new UnsupportedOperationException("update requires a standalone or cluster connection"));
+        for (int from = 0; from < keys.size(); from += UPDATE_BATCH_SIZE) {
+          // the cluster pipeline groups the commands by node, one round trip per node and batch
+          try (ClusterPipeline pipeline = cluster.pipelined()) {
+            List<String> batch = keys.subList(from, Math.min(from + UPDATE_BATCH_SIZE, keys.size()));
+            updated += pipelineUpdates(batch, commands, pipeline::sendCommand, pipeline::sync);
+          }
+        }
+      }
+    } finally {
+      // rewritten documents must not be served or diffed from their state before the update
+      modulesOperations.invalidateKeys(entityClass, keys);
+    }
+    return updated;
+  }
+
+  /**
+   * A command sent to every document of a bulk update, given the arguments for a document key.
+   */
+  private record UpdateCommand(ProtocolCommand command, Function<String, byte[][]> arguments) {
+  }
+
+  /**
+   * Queues a command for a key on a standalone or cluster pipeline.
+   */
+  @FunctionalInterface
+  private interface PipelinedCommand {
+    Response<Object> send(byte[] key, ProtocolCommand command, byte[]... arguments);
+  }
+
+  /**
+   * Returns the commands applied to each document of a bulk update: the actions themselves,
+   * followed by the bookkeeping a {@code save} performs, i.e. incrementing the {@code @Version}
+   * property and setting the {@code @LastModifiedDate} properties to the time of the update.
+   */
+  private List<UpdateCommand> updateCommands(BulkUpdateAction<? super E>[] actions, Gson gson) {
+    List<UpdateCommand> commands = new ArrayList<>();
+    for (BulkUpdateAction<? super E> action : actions) {
+      commands.add(new UpdateCommand(action.getCommand(), key -> action.getArguments(key, gson)));
+    }
+    for (Field field : ObjectUtils.getFieldsWithAnnotation(entityClass, Version.class)) {
+      String path = "$." + ObjectUtils.getJsonFieldName(field);
+      commands.add(new UpdateCommand(JsonCommand.NUMINCRBY, key -> SafeEncoder.encodeMany(key, path, "1")));
+    }
+    for (Field field : ObjectUtils.getFieldsWithAnnotation(entityClass, LastModifiedDate.class)) {
+      Object now = EntityAuditor.currentTimestamp(field.getType());
+      if (now != null) {
+        String path = "$." + ObjectUtils.getJsonFieldName(field);
+        String value = gson.toJson(now);
+        commands.add(new UpdateCommand(JsonCommand.SET, key -> SafeEncoder.encodeMany(key, path, value)));
+      }
+    }
+    return commands;
+  }
+
+  /**
+   * Sends every command for each key of the batch through one pipeline and returns the number of
+   * keys for which all commands succeeded.
+   */
+  private long pipelineUpdates(List<String> keys, List<UpdateCommand> commands, PipelinedCommand pipeline,
+      Runnable sync) {
+    List<Response<Object>> responses = new ArrayList<>(keys.size() * commands.size());
+    for (String key : keys) {
+      byte[] keyBytes = SafeEncoder.encode(key);
+      for (UpdateCommand command : commands) {
+        responses.add(pipeline.send(keyBytes, command.command(), command.arguments().apply(key)));
+      }
+    }
+
+    int size = responses.size();
+    CommandListener listener = modulesOperations.commandListener();
+    listener.pipelineStarted("update", entityClass, size);
+    try {
+      sync.run();
+    } finally {
+      listener.pipelineFinished("update", entityClass, size);
+    }
+
+    long updated = 0;
+    for (int i = 0; i < keys.size(); i++) {
+      boolean applied = true;
+      for (int j = 0; j < commands.size(); j++) {
+        try {
+          responses.get(i * commands.size() + j).get();
+        } catch (JedisDataException e) {
+          logger.warn(String.format("Bulk update of %s failed: %s", keys.get(i), e.getMessage()));
+          applied = false;
+        }
+      }
+      if (applied) {
+        updated++;
+      }
+    }
+    return updated;
+  }
+
+  /**
+   * Collects the keys of all documents matching the stream, honoring skip, limit and sort order,
+   * without loading the documents. The uncached search is used so that keys are never taken from a
+   * stale cached result.
+   */
+  private List<String> matchingKeys() {
+    long offset = skip != null ? skip : 0;
+    long remaining = limit != null ? limit : Long.MAX_VALUE;
+    List<String> keys = new ArrayList<>();
+    while (remaining > 0) {
+      int pageSize = (int) Math.min(remaining, MAX_LIMIT);
+      Query query = prepareQuery();
+      query.setNoContent();
+      query.limit((int) offset, pageSize);
+      List<redis.clients.jedis.search.Document> documents = search.search(query).getDocuments();
+      documents.forEach(document -> keys.add(document.getId()));
+      if (documents.size() < pageSize) {
+        break;
+      }
+      offset += pageSize;
+      remaining -= pageSize;
+    }
+    return keys;
+  }
+
   @Override
   public Object[] toArray() {
     return resolveStream().toArray();
@@ -581,7 +880,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
       Query query = new Query(queryString);
       query.limit(0, 0);
       query.dialect(dialect); // Use the configured dialect value
-      SearchResult searchResult = search.search(query);
+      SearchResult searchResult = cachedSearch.search(query);
       resolvedStream = Stream.empty();
 
       return searchResult.getTotalResults();
@@ -630,7 +929,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   @Override
   public SearchStream<E> findFirstOrElse(Supplier<? extends E> supplier) {
     if (resolvedStream == null) {
-      resolvedStream = toEntityList(executeQuery()).stream();
+      resolvedStream = executeQuery(this::toEntityList).stream();
     }
 
     if (resolvedStream.findFirst().isEmpty()) {
@@ -688,19 +987,13 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
     }
   }
 
-  SearchOperations<String> getOps() {
-    return search;
-  }
-
   Query prepareQuery() {
     Query query;
 
     if (knnPredicate != null) {
       query = new Query(knnPredicate.apply(rootNode).toString());
       query.dialect(Dialect.TWO.getValue());
-      query.addParam(knnPredicate.getBlobAttributeName(), knnPredicate.getBlobAttribute() != null ?
-          knnPredicate.getBlobAttribute() :
-          floatArrayToByteArray(knnPredicate.getDoublesAttribute()));
+      query.addParam(knnPredicate.getBlobAttributeName(), knnPredicate.getEncodedBlobAttribute());
       query.addParam("K", knnPredicate.getK());
     } else {
       query = (rootNode.toString().isBlank()) ? new Query() : new Query(rootNode.toString());
@@ -770,9 +1063,30 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   }
 
   private SearchResult executeQuery() {
+    return executeQuery(Function.identity());
+  }
+
+  /**
+   * Executes the query and turns its result into {@code R}.
+   */
+  private <R> R executeQuery(Function<SearchResult, R> decoder) {
+    return executeQuery(prepareQuery(), decoder);
+  }
+
+  /**
+   * Executes a query prepared by {@link #prepareQuery()}, possibly adjusted by a derived stream,
+   * and turns its result into {@code R}, reporting the search and decode times to the slow-query
+   * log.
+   */
+  <R> R executeQuery(Query query, Function<SearchResult, R> decoder) {
     try {
-      Query query = prepareQuery();
-      return search.search(query);
+      long start = System.nanoTime();
+      SearchResult searchResult = cachedSearch.search(query);
+      long searchNanos = System.nanoTime() - start;
+      R decoded = decoder.apply(searchResult);
+      modulesOperations.recordQuery("SearchStream<" + entityClass.getSimpleName() + ">", searchIndex, query,
+          searchResult, searchNanos, System.nanoTime() - start - searchNanos);
+      return decoded;
     } catch (JedisDataException jde) {
       if (isQBE && jde.getMessage().contains("not loaded nor in schema")) {
         throw new UnsupportedOperationException("The example object properties are not part of the search schema", jde);
@@ -891,8 +1205,10 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
 
     // Convert aggregation results to entities
     if (isDocument) {
-      return aggResult.getResults().stream().map(d -> getGson().fromJson(d.get("$").toString(), entityClass)).collect(
-          Collectors.toList());
+      List<Map<String, Object>> results = aggResult.getResults();
+      List<JsonElement> parsed = parseForFetch(results, d -> d.get("$"));
+      return decodePage(fetchReferences(parsed), () -> IntStream.range(0, results.size()).mapToObj(i -> jsonToEntity(
+          results.get(i).get("$"), parsedAt(parsed, i))).collect(Collectors.toList()));
     } else {
       return aggResult.getResults().stream().map(h -> (E) ObjectUtils.mapToObject(h, entityClass, mappingConverter))
           .collect(Collectors.toList());
@@ -901,28 +1217,50 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
 
   /**
    * Converts a single {@link redis.clients.jedis.search.Document} to an entity instance,
-   * handling both JSON document and Hash structures.
+   * handling both JSON document and Hash structures. JSON documents already parsed to fetch
+   * their references are decoded from the parsed tree.
    */
   @SuppressWarnings(
     "unchecked"
   )
-  private E documentToEntity(redis.clients.jedis.search.Document d) {
+  private E documentToEntity(redis.clients.jedis.search.Document d, JsonElement parsed) {
     E entity;
     if (isDocument) {
-      Object rawJson = d.get("$");
-      String json = (rawJson instanceof byte[]) ? SafeEncoder.encode((byte[]) rawJson) : rawJson.toString();
-      entity = getGson().fromJson(json, entityClass);
+      entity = jsonToEntity(d.get("$"), parsed);
     } else {
       entity = (E) ObjectUtils.documentToObject(d, entityClass, mappingConverter);
     }
     return ObjectUtils.populateRedisKey(entity, d.getId());
   }
 
+  private E jsonToEntity(Object rawJson, JsonElement parsed) {
+    if (parsed != null) {
+      return getGson().fromJson(parsed, entityClass);
+    }
+    return getGson().fromJson(jsonString(rawJson), entityClass);
+  }
+
+  private static String jsonString(Object rawJson) {
+    return (rawJson instanceof byte[]) ? SafeEncoder.encode((byte[]) rawJson) : rawJson.toString();
+  }
+
   @SuppressWarnings(
     "unchecked"
   )
   private List<E> documentsToEntities(List<redis.clients.jedis.search.Document> documents) {
-    return documents.stream().map(this::documentToEntity).toList();
+    List<JsonElement> parsed = parseForFetch(documents, d -> d.get("$"));
+    Map<String, String> fetched = fetchReferences(parsed);
+    CommandListener listener = modulesOperations.commandListener();
+    long start = System.nanoTime();
+    try {
+      List<E> entities = decodePage(fetched, () -> IntStream.range(0, documents.size()).mapToObj(i -> documentToEntity(
+          documents.get(i), parsedAt(parsed, i))).toList());
+      listener.documentsDecoded(entityClass, entities.size(), System.nanoTime() - start);
+      return entities;
+    } catch (RuntimeException e) {
+      listener.decodeFailed(entityClass, e);
+      throw e;
+    }
   }
 
   /**
@@ -930,7 +1268,88 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
    * to a list of entity-score pairs.
    */
   private List<Pair<E, Double>> documentsToEntityScorePairs(List<redis.clients.jedis.search.Document> documents) {
-    return documents.stream().map(d -> Tuples.of(documentToEntity(d), d.getScore())).toList();
+    List<JsonElement> parsed = parseForFetch(documents, d -> d.get("$"));
+    return decodePage(fetchReferences(parsed), () -> IntStream.range(0, documents.size()).mapToObj(i -> {
+      redis.clients.jedis.search.Document d = documents.get(i);
+      return Tuples.of(documentToEntity(d, parsedAt(parsed, i)), d.getScore());
+    }).toList());
+  }
+
+  /**
+   * Decodes one result page within a {@link LazyReferenceScope}, resolving references from the
+   * documents fetched for the page, if any.
+   */
+  private static <R> R decodePage(Map<String, String> fetched, Supplier<R> decode) {
+    Supplier<R> page = fetched != null ? () -> PrefetchedReferences.with(fetched, decode) : decode;
+    return LazyReferenceScope.with(page);
+  }
+
+  /**
+   * Parses the JSON of the given documents once if references are fetched, so that reference keys
+   * are collected from, and entities decoded from, the same trees. Returns {@code null} if no
+   * fields are fetched.
+   */
+  private <T> List<JsonElement> parseForFetch(List<T> documents, Function<T, Object> rawJson) {
+    if (fetchFields.isEmpty() || !isDocument || documents.isEmpty()) {
+      return null;
+    }
+    List<JsonElement> parsed = new ArrayList<>(documents.size());
+    for (T document : documents) {
+      Object json = rawJson.apply(document);
+      parsed.add(json != null ? JsonParser.parseString(jsonString(json)) : null);
+    }
+    return parsed;
+  }
+
+  private static JsonElement parsedAt(List<JsonElement> parsed, int index) {
+    return parsed != null ? parsed.get(index) : null;
+  }
+
+  /**
+   * Loads the documents referenced by the fetched fields of all given parsed documents, with one
+   * {@code JSON.MGET} per referenced type, or returns {@code null} if nothing was parsed to fetch.
+   */
+  private Map<String, String> fetchReferences(List<JsonElement> documents) {
+    if (documents == null) {
+      return null;
+    }
+    Map<Class<?>, Set<String>> keysByType = new LinkedHashMap<>();
+    for (JsonElement document : documents) {
+      if (document == null || !document.isJsonObject()) {
+        continue;
+      }
+      for (Field field : fetchFields) {
+        Set<String> keys = keysByType.computeIfAbsent(ObjectUtils.isCollection(field) ?
+            ObjectUtils.getCollectionElementClass(field).orElse(Object.class) :
+            field.getType(), type -> new LinkedHashSet<>());
+        collectReferenceKeys(document.getAsJsonObject().get(field.getName()), keys);
+      }
+    }
+
+    Map<String, String> fetched = new HashMap<>();
+    keysByType.values().stream().filter(keys -> !keys.isEmpty()).forEach(keys -> {
+      String[] keyArray = keys.toArray(String[]::new);
+      List<String> values = json.mget(keyArray);
+      for (int i = 0; i < keyArray.length; i++) {
+        fetched.put(keyArray[i], values != null && i < values.size() ? values.get(i) : null);
+      }
+    });
+    return fetched;
+  }
+
+  private static void collectReferenceKeys(JsonElement reference, Set<String> keys) {
+    if (reference == null || reference.isJsonNull()) {
+      return;
+    }
+    if (reference.isJsonPrimitive()) {
+      keys.add(reference.getAsString());
+    } else if (reference.isJsonArray()) {
+      reference.getAsJsonArray().forEach(element -> {
+        if (element.isJsonPrimitive()) {
+          keys.add(element.getAsString());
+        }
+      });
+    }
   }
 
   /**
@@ -943,13 +1362,11 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   )
   private List<E> hybridDocumentsToEntities(List<redis.clients.jedis.search.Document> documents) {
     if (isDocument) {
-      Gson g = getGson();
-      return documents.stream().map(d -> {
-        Object rawJson = d.get("$");
-        String json = (rawJson instanceof byte[]) ? SafeEncoder.encode((byte[]) rawJson) : rawJson.toString();
-        E entity = g.fromJson(json, entityClass);
-        return ObjectUtils.populateRedisKey(entity, d.getId());
-      }).toList();
+      List<JsonElement> parsed = parseForFetch(documents, d -> d.get("$"));
+      return decodePage(fetchReferences(parsed), () -> IntStream.range(0, documents.size()).mapToObj(i -> {
+        redis.clients.jedis.search.Document d = documents.get(i);
+        return ObjectUtils.populateRedisKey(jsonToEntity(d.get("$"), parsedAt(parsed, i)), d.getId());
+      }).toList());
     } else {
       return (List<E>) documents.stream().map(d -> {
         Map<String, Object> props = new HashMap<>();
@@ -1004,7 +1421,7 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
       if (hybridText != null) {
         resolvedStream = executeHybridQueryToEntityList().stream();
       } else {
-        resolvedStream = toEntityList(executeQuery()).stream();
+        resolvedStream = executeQuery(this::toEntityList).stream();
       }
     }
     return resolvedStream;
@@ -1296,8 +1713,26 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
           "toListWithScores() is not supported after project(). " + "Projections return partial documents that cannot be deserialized into full entities. " + "Remove the project() call or use collect() instead.");
     }
     withScores = true;
-    SearchResult searchResult = executeQuery();
-    return documentsToEntityScorePairs(searchResult.getDocuments());
+    return executeQuery(searchResult -> documentsToEntityScorePairs(searchResult.getDocuments()));
+  }
+
+  @SafeVarargs
+  @Override
+  public final SearchStream<E> fetch(MetamodelField<? super E, ?>... fields) {
+    if (!isDocument) {
+      throw new UnsupportedOperationException("fetch is only supported for @Document entities");
+    }
+    for (MetamodelField<? super E, ?> field : fields) {
+      Field referenceField = field.getSearchFieldAccessor() != null ? field.getSearchFieldAccessor().getField() : null;
+      if (referenceField == null || !referenceField.isAnnotationPresent(Reference.class)) {
+        throw new IllegalArgumentException(String.format("%s is not a @Reference field of %s", field.getSearchAlias(),
+            entityClass.getSimpleName()));
+      }
+      if (!fetchFields.contains(referenceField)) {
+        fetchFields.add(referenceField);
+      }
+    }
+    return this;
   }
 
   @Override
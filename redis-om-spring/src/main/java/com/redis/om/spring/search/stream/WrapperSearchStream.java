@@ -13,6 +13,7 @@ import org.springframework.data.domain.Sort;
 import com.redis.om.spring.metamodel.MetamodelField;
 import com.redis.om.spring.metamodel.indexed.NumericField;
 import com.redis.om.spring.ops.search.SearchOperations;
+import com.redis.om.spring.search.stream.actions.BulkUpdateAction;
 import com.redis.om.spring.search.stream.predicates.SearchFieldPredicate;
 import com.redis.om.spring.tuple.Pair;
 
@@ -237,6 +238,12 @@ public class WrapperSearchStream<E> implements SearchStream<E> {
     backingStream.forEachOrdered(action);
   }
 
+  @SafeVarargs
+  @Override
+  public final long update(BulkUpdateAction<? super E>... actions) {
+    throw new UnsupportedOperationException("update is not supported on a WrappedSearchStream");
+  }
+
   @Override
   public Object[] toArray() {
     return backingStream.toArray();
@@ -354,6 +361,36 @@ public class WrapperSearchStream<E> implements SearchStream<E> {
     throw new UnsupportedOperationException("max is not supported on a WrappedSearchStream");
   }
 
+  @Override
+  public IntStream mapToInt(NumericField<E, ?> field) {
+    throw new UnsupportedOperationException("mapToInt is not supported on a WrappedSearchStream");
+  }
+
+  @Override
+  public LongStream mapToLong(NumericField<E, ?> field) {
+    throw new UnsupportedOperationException("mapToLong is not supported on a WrappedSearchStream");
+  }
+
+  @Override
+  public DoubleStream mapToDouble(NumericField<E, ?> field) {
+    throw new UnsupportedOperationException("mapToDouble is not supported on a WrappedSearchStream");
+  }
+
+  @Override
+  public double sum(NumericField<E, ?> field) {
+    throw new UnsupportedOperationException("sum is not supported on a WrappedSearchStream");
+  }
+
+  @Override
+  public OptionalDouble average(NumericField<E, ?> field) {
+    throw new UnsupportedOperationException("average is not supported on a WrappedSearchStream");
+  }
+
+  @Override
+  public DoubleSummaryStatistics summaryStatistics(NumericField<E, ?> field) {
+    throw new UnsupportedOperationException("summaryStatistics is not supported on a WrappedSearchStream");
+  }
+
   @Override
   public SearchStream<E> dialect(int dialect) {
     throw new UnsupportedOperationException("dialect is not supported on a WrappedSearchStream");
@@ -430,6 +467,12 @@ public class WrapperSearchStream<E> implements SearchStream<E> {
     throw new UnsupportedOperationException("toListWithScores is not supported on a WrappedSearchStream");
   }
 
+  @SafeVarargs
+  @Override
+  public final SearchStream<E> fetch(MetamodelField<? super E, ?>... fields) {
+    throw new UnsupportedOperationException("fetch is not supported on a WrappedSearchStream");
+  }
+
   @Override
   public boolean isDocument() {
     return false;
@@ -2,9 +2,11 @@ package com.redis.om.spring.search.stream.actions;
 
 import java.util.function.Consumer;
 
+import com.google.gson.Gson;
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 
-import redis.clients.jedis.json.Path2;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.json.JsonProtocol.JsonCommand;
 
 /**
  * Action class that appends a value to the end of a JSON array field within a Redis JSON document.
@@ -30,7 +32,7 @@ import redis.clients.jedis.json.Path2;
  * @see Consumer
  * @see SearchFieldAccessor
  */
-public class ArrayAppendAction<E> extends BaseAbstractAction implements Consumer<E> {
+public class ArrayAppendAction<E> extends BaseAbstractAction implements BulkUpdateAction<E> {
 
   private final Object value;
 
@@ -55,7 +57,17 @@ public class ArrayAppendAction<E> extends BaseAbstractAction implements Consumer
 
   @Override
   public void accept(E entity) {
-    json.arrAppend(getKey(entity), Path2.of("." + field.getSearchAlias()), value);
+    json.arrAppend(getKey(entity), getPath(), value);
+  }
+
+  @Override
+  public ProtocolCommand getCommand() {
+    return JsonCommand.ARRAPPEND;
+  }
+
+  @Override
+  public byte[][] getArguments(String key, Gson gson) {
+    return commandArguments(key, gson.toJson(value));
   }
 
 }
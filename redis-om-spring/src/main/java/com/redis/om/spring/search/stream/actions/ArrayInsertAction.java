@@ -2,9 +2,11 @@ package com.redis.om.spring.search.stream.actions;
 
 import java.util.function.Consumer;
 
+import com.google.gson.Gson;
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 
-import redis.clients.jedis.json.Path2;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.json.JsonProtocol.JsonCommand;
 
 /**
  * Action class that inserts a value at a specific index within a JSON array field in a Redis JSON document.
@@ -28,7 +30,7 @@ import redis.clients.jedis.json.Path2;
  * @see Consumer
  * @see SearchFieldAccessor
  */
-public class ArrayInsertAction<E> extends BaseAbstractAction implements Consumer<E> {
+public class ArrayInsertAction<E> extends BaseAbstractAction implements BulkUpdateAction<E> {
 
   private final Object value;
   private final Integer index;
@@ -56,7 +58,17 @@ public class ArrayInsertAction<E> extends BaseAbstractAction implements Consumer
 
   @Override
   public void accept(E entity) {
-    json.arrInsert(getKey(entity), Path2.of("." + field.getSearchAlias()), index, value);
+    json.arrInsert(getKey(entity), getPath(), index, value);
+  }
+
+  @Override
+  public ProtocolCommand getCommand() {
+    return JsonCommand.ARRINSERT;
+  }
+
+  @Override
+  public byte[][] getArguments(String key, Gson gson) {
+    return commandArguments(key, index.toString(), gson.toJson(value));
   }
 
 }
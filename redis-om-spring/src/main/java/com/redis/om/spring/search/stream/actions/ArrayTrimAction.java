@@ -2,9 +2,11 @@ package com.redis.om.spring.search.stream.actions;
 
 import java.util.function.Consumer;
 
+import com.google.gson.Gson;
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 
-import redis.clients.jedis.json.Path2;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.json.JsonProtocol.JsonCommand;
 
 /**
  * Action class that trims a JSON array field to retain only elements within a specified range of indices.
@@ -28,7 +30,7 @@ import redis.clients.jedis.json.Path2;
  * @see Consumer
  * @see SearchFieldAccessor
  */
-public class ArrayTrimAction<E> extends BaseAbstractAction implements Consumer<E> {
+public class ArrayTrimAction<E> extends BaseAbstractAction implements BulkUpdateAction<E> {
 
   private final Integer begin;
   private final Integer end;
@@ -56,6 +58,17 @@ public class ArrayTrimAction<E> extends BaseAbstractAction implements Consumer<E
 
   @Override
   public void accept(E entity) {
-    json.arrTrim(getKey(entity), Path2.of("." + field.getSearchAlias()), begin, end);
+    json.arrTrim(getKey(entity), getPath(), begin, end);
   }
+
+  @Override
+  public ProtocolCommand getCommand() {
+    return JsonCommand.ARRTRIM;
+  }
+
+  @Override
+  public byte[][] getArguments(String key, Gson gson) {
+    return commandArguments(key, begin.toString(), end.toString());
+  }
+
 }
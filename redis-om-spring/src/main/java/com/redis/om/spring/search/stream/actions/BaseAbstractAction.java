@@ -7,6 +7,9 @@ import com.redis.om.spring.metamodel.SearchFieldAccessor;
 import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.util.ObjectUtils;
 
+import redis.clients.jedis.json.Path2;
+import redis.clients.jedis.util.SafeEncoder;
+
 /**
  * Abstract base class for all Redis JSON action implementations.
  * This class provides common functionality for actions that operate on JSON documents
@@ -70,4 +73,31 @@ public abstract class BaseAbstractAction implements TakesJSONOperations {
     String id = ObjectUtils.getIdFieldForEntity(idField, entity).toString();
     return field.getDeclaringClass().getName() + ":" + id;
   }
+
+  /**
+   * Returns the JSON path of the target field.
+   *
+   * @return the JSON path
+   */
+  protected Path2 getPath() {
+    return Path2.of("." + field.getSearchAlias());
+  }
+
+  /**
+   * Encodes the key and JSON path of the target field, followed by the given arguments, as the
+   * arguments of a Redis JSON command.
+   *
+   * @param key       the key of the document
+   * @param arguments the remaining command arguments
+   * @return the encoded command arguments
+   */
+  protected byte[][] commandArguments(String key, String... arguments) {
+    byte[][] args = new byte[arguments.length + 2][];
+    args[0] = SafeEncoder.encode(key);
+    args[1] = SafeEncoder.encode(getPath().toString());
+    for (int i = 0; i < arguments.length; i++) {
+      args[i + 2] = SafeEncoder.encode(arguments[i]);
+    }
+    return args;
+  }
 }
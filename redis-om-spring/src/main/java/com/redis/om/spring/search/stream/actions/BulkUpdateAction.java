@@ -0,0 +1,49 @@
+package com.redis.om.spring.search.stream.actions;
+
+import java.util.function.Consumer;
+
+import com.google.gson.Gson;
+
+import redis.clients.jedis.commands.ProtocolCommand;
+
+/**
+ * A Redis JSON mutation that can be applied to documents by key alone, without loading them first.
+ * <p>
+ * Besides being usable as a {@link Consumer} in
+ * {@link com.redis.om.spring.search.stream.SearchStream#forEach(Consumer)}, which loads each
+ * matching entity and issues one command per entity, a bulk update action can be passed to
+ * {@link com.redis.om.spring.search.stream.SearchStream#update(BulkUpdateAction[])}, which only
+ * fetches the keys of the matching documents and pipelines the commands.
+ * </p>
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * long updated = entityStream.of(Company.class)
+ *     .filter(Company$.NAME.startsWith("Red"))
+ *     .update(Company$.YEAR_FOUNDED.incrBy(1L));
+ * }</pre>
+ *
+ * @param <E> the entity type that this action operates on
+ * @since 2.0.5
+ * @see NumIncrByAction
+ * @see ArrayAppendAction
+ * @see StringAppendAction
+ * @see ToggleAction
+ */
+public interface BulkUpdateAction<E> extends Consumer<E> {
+  /**
+   * Returns the Redis JSON command this action issues.
+   *
+   * @return the command
+   */
+  ProtocolCommand getCommand();
+
+  /**
+   * Returns the arguments of this action's command for the document stored at the given key,
+   * starting with the key itself.
+   *
+   * @param key  the key of the document to update
+   * @param gson the Gson instance used to encode JSON values
+   * @return the encoded command arguments
+   */
+  byte[][] getArguments(String key, Gson gson);
+}
@@ -1,10 +1,10 @@
 package com.redis.om.spring.search.stream.actions;
 
-import java.util.function.Consumer;
-
+import com.google.gson.Gson;
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 
-import redis.clients.jedis.json.Path2;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.json.JsonProtocol.JsonCommand;
 
 /**
  * Action that increments a numeric field in a Redis JSON document by a specified value.
@@ -26,7 +26,7 @@ import redis.clients.jedis.json.Path2;
  * @see BaseAbstractAction
  * @see redis.clients.jedis.json.JsonProtocol.JsonCommand#NUMINCRBY
  */
-public class NumIncrByAction<E> extends BaseAbstractAction implements Consumer<E> {
+public class NumIncrByAction<E> extends BaseAbstractAction implements BulkUpdateAction<E> {
   /** The value to increment the numeric field by */
   private final Long value;
 
@@ -50,7 +50,17 @@ public class NumIncrByAction<E> extends BaseAbstractAction implements Consumer<E
    */
   @Override
   public void accept(E entity) {
-    json.numIncrBy(getKey(entity), Path2.of("." + field.getSearchAlias()), value);
+    json.numIncrBy(getKey(entity), getPath(), value);
+  }
+
+  @Override
+  public ProtocolCommand getCommand() {
+    return JsonCommand.NUMINCRBY;
+  }
+
+  @Override
+  public byte[][] getArguments(String key, Gson gson) {
+    return commandArguments(key, value.toString());
   }
 
 }
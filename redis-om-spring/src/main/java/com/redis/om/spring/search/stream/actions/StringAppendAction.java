@@ -1,10 +1,10 @@
 package com.redis.om.spring.search.stream.actions;
 
-import java.util.function.Consumer;
-
+import com.google.gson.Gson;
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 
-import redis.clients.jedis.json.Path2;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.json.JsonProtocol.JsonCommand;
 
 /**
  * Action that appends a string value to a string field in a Redis JSON document.
@@ -26,7 +26,7 @@ import redis.clients.jedis.json.Path2;
  * @see BaseAbstractAction
  * @see redis.clients.jedis.json.JsonProtocol.JsonCommand#STRAPPEND
  */
-public class StringAppendAction<E> extends BaseAbstractAction implements Consumer<E> {
+public class StringAppendAction<E> extends BaseAbstractAction implements BulkUpdateAction<E> {
 
   /** The string value to append to the target field */
   private final String value;
@@ -51,7 +51,17 @@ public class StringAppendAction<E> extends BaseAbstractAction implements Consume
    */
   @Override
   public void accept(E entity) {
-    json.strAppend(getKey(entity), Path2.of("." + field.getSearchAlias()), value);
+    json.strAppend(getKey(entity), getPath(), value);
+  }
+
+  @Override
+  public ProtocolCommand getCommand() {
+    return JsonCommand.STRAPPEND;
+  }
+
+  @Override
+  public byte[][] getArguments(String key, Gson gson) {
+    return commandArguments(key, gson.toJson(value));
   }
 
 }
@@ -1,10 +1,10 @@
 package com.redis.om.spring.search.stream.actions;
 
-import java.util.function.Consumer;
-
+import com.google.gson.Gson;
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 
-import redis.clients.jedis.json.Path2;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.json.JsonProtocol.JsonCommand;
 
 /**
  * Action that toggles a boolean field in a Redis JSON document.
@@ -26,7 +26,7 @@ import redis.clients.jedis.json.Path2;
  * @see BaseAbstractAction
  * @see redis.clients.jedis.json.JsonProtocol.JsonCommand#TOGGLE
  */
-public class ToggleAction<E> extends BaseAbstractAction implements Consumer<E> {
+public class ToggleAction<E> extends BaseAbstractAction implements BulkUpdateAction<E> {
 
   /**
    * Constructs a new ToggleAction that will toggle the specified boolean field.
@@ -46,6 +46,17 @@ public class ToggleAction<E> extends BaseAbstractAction implements Consumer<E> {
    */
   @Override
   public void accept(E entity) {
-    json.toggle(getKey(entity), Path2.of("." + field.getSearchAlias()));
+    json.toggle(getKey(entity), getPath());
+  }
+
+  @Override
+  public ProtocolCommand getCommand() {
+    return JsonCommand.TOGGLE;
   }
+
+  @Override
+  public byte[][] getArguments(String key, Gson gson) {
+    return commandArguments(key);
+  }
+
 }
@@ -1,7 +1,9 @@
 package com.redis.om.spring.search.stream.predicates.vector;
 
+import com.redis.om.spring.indexing.VectorType;
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 import com.redis.om.spring.search.stream.predicates.BaseAbstractPredicate;
+import com.redis.om.spring.util.ObjectUtils;
 
 import redis.clients.jedis.search.querybuilder.Node;
 
@@ -11,7 +13,9 @@ import redis.clients.jedis.search.querybuilder.Node;
  * 
  * <p>This predicate is designed for use with fields annotated with {@code @VectorIndexed}
  * and enables vector similarity search using machine learning embeddings. It supports
- * both byte arrays and float arrays as vector representations.</p>
+ * both byte arrays and float arrays as vector representations. Byte arrays are sent as given and
+ * must already be encoded in the field's {@link VectorType}, while float arrays are encoded to it
+ * when the query is built.</p>
  * 
  * <p>The predicate generates Redis KNN queries in the format:</p>
  * <pre>{@code (base_query)=>[KNN $K @field $blob_param]}</pre>
@@ -109,6 +113,26 @@ public class KNNPredicate<E, T> extends BaseAbstractPredicate<E, T> {
     return floats;
   }
 
+  /**
+   * Returns the vector type of the target field, which float query vectors are encoded to.
+   *
+   * @return the vector type declared by the field's vector index annotation
+   * @since 2.0.5
+   */
+  public VectorType getVectorType() {
+    return ObjectUtils.getVectorType(getField());
+  }
+
+  /**
+   * Returns the query vector as a byte array encoded in the target field's vector type.
+   *
+   * @return the byte array vector, or the float array vector encoded to the field's vector type
+   * @since 2.0.5
+   */
+  public byte[] getEncodedBlobAttribute() {
+    return blob != null ? blob : ObjectUtils.floatArrayToByteArray(floats, getVectorType());
+  }
+
   /**
    * Returns the parameter name for the blob attribute in the KNN query.
    * 
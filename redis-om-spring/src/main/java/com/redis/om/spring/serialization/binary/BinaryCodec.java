@@ -0,0 +1,307 @@
+package com.redis.om.spring.serialization.binary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.redis.om.spring.annotations.BinaryFormat;
+import com.redis.om.spring.annotations.GeoIndexed;
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.NumericIndexed;
+import com.redis.om.spring.annotations.Searchable;
+import com.redis.om.spring.annotations.SerializationHint;
+import com.redis.om.spring.annotations.TagIndexed;
+import com.redis.om.spring.annotations.TextIndexed;
+import com.redis.om.spring.annotations.VectorIndexed;
+import com.redis.om.spring.serialization.gson.BinaryFormatTypeAdapterFactory;
+import com.redis.om.spring.serialization.gson.GsonTypeAdapters;
+
+/**
+ * Encodes JSON trees in the binary formats selectable with {@link BinaryFormat}.
+ * <p>
+ * Values are first mapped to their Gson JSON tree, so that binary fields are mapped exactly like
+ * plain JSON fields, and the tree is then streamed through the Jackson generator of the format.
+ * Both formats are written with their self-describing header, which lets {@link #decode(byte[])}
+ * detect the format of stored bytes and tell them apart from plain values written before a field
+ * was switched to a binary format.
+ * </p>
+ * <p>
+ * The Jackson data format modules are optional dependencies and only need to be present when the
+ * corresponding format is used.
+ * </p>
+ *
+ * @since 2.0.5
+ */
+public final class BinaryCodec {
+  private static final Log logger = LogFactory.getLog(BinaryCodec.class);
+
+  private static final List<Class<? extends Annotation>> INDEX_ANNOTATIONS = List.of(Indexed.class,
+      Searchable.class, TagIndexed.class, TextIndexed.class, NumericIndexed.class, GeoIndexed.class,
+      VectorIndexed.class);
+
+  private static final Set<Field> warnedIndexedFields = ConcurrentHashMap.newKeySet();
+
+  private static volatile Gson defaultGson;
+
+  private BinaryCodec() {
+  }
+
+  /**
+   * Returns the binary format of a field, or {@code null} if the field is stored as plain JSON.
+   * Fields carrying an index annotation are always stored as plain JSON.
+   *
+   * @param field the field
+   * @return the binary format of the field, or {@code null}
+   */
+  public static SerializationHint formatOf(Field field) {
+    BinaryFormat binaryFormat = field.getAnnotation(BinaryFormat.class);
+    if (binaryFormat == null && field.getType() != BinaryValue.class) {
+      return null;
+    }
+    if (INDEX_ANNOTATIONS.stream().anyMatch(field::isAnnotationPresent)) {
+      if (warnedIndexedFields.add(field)) {
+        logger.warn(String.format("Storing indexed field %s.%s as plain JSON, binary formats can not be indexed",
+            field.getDeclaringClass().getSimpleName(), field.getName()));
+      }
+      return null;
+    }
+    SerializationHint format = binaryFormat != null ? binaryFormat.value() : SerializationHint.SMILE;
+    if (format != SerializationHint.SMILE && format != SerializationHint.CBOR) {
+      throw new IllegalArgumentException(String.format("%s is not a binary format, used on %s.%s", format, field
+          .getDeclaringClass().getSimpleName(), field.getName()));
+    }
+    return format;
+  }
+
+  /**
+   * Returns the type of the value stored in a field, unwrapping {@link BinaryValue}.
+   *
+   * @param field the field
+   * @return the value type
+   */
+  public static Type valueTypeOf(Field field) {
+    if (field.getType() == BinaryValue.class) {
+      return field.getGenericType() instanceof ParameterizedType parameterized ?
+          parameterized.getActualTypeArguments()[0] :
+          Object.class;
+    }
+    return field.getGenericType();
+  }
+
+  /**
+   * Encodes a JSON tree.
+   *
+   * @param tree   the JSON tree
+   * @param format the binary format
+   * @return the encoded bytes
+   */
+  public static byte[] encode(JsonElement tree, SerializationHint format) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (JsonGenerator generator = factoryFor(format).createGenerator(out)) {
+      write(tree, generator);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Decodes bytes written by {@link #encode(JsonElement, SerializationHint)}.
+   *
+   * @param bytes the encoded bytes
+   * @return the JSON tree
+   */
+  public static JsonElement decode(byte[] bytes) {
+    SerializationHint format = detectFormat(bytes);
+    if (format == null) {
+      throw new IllegalArgumentException("Not a Smile or CBOR encoded value");
+    }
+    try (JsonParser parser = factoryFor(format).createParser(bytes)) {
+      JsonToken token = parser.nextToken();
+      return token != null ? read(parser, token) : JsonNull.INSTANCE;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Returns whether bytes carry the header of one of the binary formats.
+   *
+   * @param bytes the bytes
+   * @return {@code true} if the bytes can be passed to {@link #decode(byte[])}
+   */
+  public static boolean isEncoded(byte[] bytes) {
+    return detectFormat(bytes) != null;
+  }
+
+  /**
+   * Returns the Gson instance used to map binary fields of entities that are not mapped by the
+   * application's Gson, such as {@code @RedisHash} entities.
+   *
+   * @return the Gson instance
+   */
+  public static Gson gson() {
+    Gson gson = defaultGson;
+    if (gson == null) {
+      GsonBuilder builder = GsonTypeAdapters.registerDefaults(new GsonBuilder());
+      builder.registerTypeAdapterFactory(BinaryFormatTypeAdapterFactory.getInstance());
+      gson = builder.create();
+      defaultGson = gson;
+    }
+    return gson;
+  }
+
+  private static SerializationHint detectFormat(byte[] bytes) {
+    if (bytes == null || bytes.length < 3) {
+      return null;
+    }
+    if (bytes[0] == ':' && bytes[1] == ')' && bytes[2] == '\n') {
+      return SerializationHint.SMILE;
+    }
+    // CBOR self-describe tag 55799
+    if ((bytes[0] & 0xFF) == 0xD9 && (bytes[1] & 0xFF) == 0xD9 && (bytes[2] & 0xFF) == 0xF7) {
+      return SerializationHint.CBOR;
+    }
+    return null;
+  }
+
+  private static JsonFactory factoryFor(SerializationHint format) {
+    try {
+      return switch (format) {
+        case SMILE -> SmileHolder.FACTORY;
+        case CBOR -> CborHolder.FACTORY;
+        default -> throw new IllegalArgumentException(format + " is not a binary format");
+      };
+    } catch (LinkageError e) {
+      throw new IllegalStateException(String.format(
+          "%s serialization requires com.fasterxml.jackson.dataformat:jackson-dataformat-%s on the classpath", format,
+          format.name().toLowerCase()), e);
+    }
+  }
+
+  private static void write(JsonElement element, JsonGenerator generator) throws IOException {
+    if (element == null || element.isJsonNull()) {
+      generator.writeNull();
+    } else if (element.isJsonObject()) {
+      generator.writeStartObject();
+      for (Map.Entry<String, JsonElement> member : element.getAsJsonObject().entrySet()) {
+        generator.writeFieldName(member.getKey());
+        write(member.getValue(), generator);
+      }
+      generator.writeEndObject();
+    } else if (element.isJsonArray()) {
+      generator.writeStartArray();
+      for (JsonElement item : element.getAsJsonArray()) {
+        write(item, generator);
+      }
+      generator.writeEndArray();
+    } else {
+      JsonPrimitive primitive = element.getAsJsonPrimitive();
+      if (primitive.isBoolean()) {
+        generator.writeBoolean(primitive.getAsBoolean());
+      } else if (primitive.isNumber()) {
+        writeNumber(primitive.getAsNumber(), generator);
+      } else {
+        generator.writeString(primitive.getAsString());
+      }
+    }
+  }
+
+  private static void writeNumber(Number number, JsonGenerator generator) throws IOException {
+    if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+      generator.writeNumber(number.longValue());
+    } else if (number instanceof Double || number instanceof Float) {
+      generator.writeNumber(number.doubleValue());
+    } else if (number instanceof BigInteger bigInteger) {
+      generator.writeNumber(bigInteger);
+    } else if (number instanceof BigDecimal bigDecimal) {
+      generator.writeNumber(bigDecimal);
+    } else {
+      // lazily parsed numbers keep their textual form
+      String text = number.toString();
+      if (text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0) {
+        BigInteger value = new BigInteger(text);
+        if (value.bitLength() < 64) {
+          generator.writeNumber(value.longValue());
+        } else {
+          generator.writeNumber(value);
+        }
+      } else {
+        generator.writeNumber(new BigDecimal(text));
+      }
+    }
+  }
+
+  private static JsonElement read(JsonParser parser, JsonToken token) throws IOException {
+    switch (token) {
+      case START_OBJECT -> {
+        JsonObject object = new JsonObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String name = parser.currentName();
+          object.add(name, read(parser, parser.nextToken()));
+        }
+        return object;
+      }
+      case START_ARRAY -> {
+        JsonArray array = new JsonArray();
+        JsonToken next;
+        while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+          array.add(read(parser, next));
+        }
+        return array;
+      }
+      case VALUE_STRING -> {
+        return new JsonPrimitive(parser.getText());
+      }
+      case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+        return new JsonPrimitive(parser.getNumberValue());
+      }
+      case VALUE_TRUE -> {
+        return new JsonPrimitive(true);
+      }
+      case VALUE_FALSE -> {
+        return new JsonPrimitive(false);
+      }
+      case VALUE_NULL -> {
+        return JsonNull.INSTANCE;
+      }
+      default -> throw new IOException("Unexpected token " + token);
+    }
+  }
+
+  private static final class SmileHolder {
+    private static final JsonFactory FACTORY = new SmileFactory();
+  }
+
+  private static final class CborHolder {
+    private static final JsonFactory FACTORY = CBORFactory.builder().enable(CBORGenerator.Feature.WRITE_TYPE_HEADER)
+        .build();
+  }
+}
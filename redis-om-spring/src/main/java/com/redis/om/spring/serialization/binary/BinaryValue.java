@@ -0,0 +1,116 @@
+package com.redis.om.spring.serialization.binary;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A field value stored in a binary format that is decoded on first access.
+ * <p>
+ * Entity fields declared as {@code BinaryValue<T>} are stored like fields annotated with
+ * {@link com.redis.om.spring.annotations.BinaryFormat}, using the format given by that annotation or
+ * {@link com.redis.om.spring.annotations.SerializationHint#SMILE} when it is absent. When an entity
+ * is read, the stored bytes are kept as they are and only decoded the first time {@link #get()} is
+ * called, so entities whose large payloads are never looked at do not pay for decoding them. A
+ * value that was never decoded is written back with its original bytes.
+ * </p>
+ *
+ * @param <T> the type of the value
+ * @since 2.0.5
+ */
+public final class BinaryValue<T> {
+  private final Function<byte[], T> decoder;
+  private byte[] encoded;
+  private T value;
+  private volatile boolean decoded;
+
+  private BinaryValue(T value, byte[] encoded, Function<byte[], T> decoder) {
+    this.value = value;
+    this.encoded = encoded;
+    this.decoder = decoder;
+    this.decoded = encoded == null;
+  }
+
+  /**
+   * Creates a value to be stored in binary form.
+   *
+   * @param value the value, may be {@code null}
+   * @param <T>   the type of the value
+   * @return the binary value
+   */
+  public static <T> BinaryValue<T> of(T value) {
+    return new BinaryValue<>(value, null, null);
+  }
+
+  /**
+   * Creates a value from its stored bytes, decoding them on first access.
+   *
+   * @param encoded the stored bytes
+   * @param decoder decodes the stored bytes
+   * @param <T>     the type of the value
+   * @return the binary value
+   */
+  public static <T> BinaryValue<T> encoded(byte[] encoded, Function<byte[], T> decoder) {
+    return new BinaryValue<>(null, Objects.requireNonNull(encoded), Objects.requireNonNull(decoder));
+  }
+
+  /**
+   * Returns the value, decoding it on the first call.
+   *
+   * @return the value
+   */
+  public T get() {
+    if (!decoded) {
+      synchronized (this) {
+        if (!decoded) {
+          value = decoder.apply(encoded);
+          encoded = null;
+          decoded = true;
+        }
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Returns whether the value has been decoded, or was created from a plain value.
+   *
+   * @return {@code true} if the value is available without decoding
+   */
+  public boolean isDecoded() {
+    return decoded;
+  }
+
+  /**
+   * Returns the stored bytes of a value that has not been decoded yet. Once decoded, the value may
+   * have been modified and has to be encoded again.
+   *
+   * @return the stored bytes, or {@code null} if the value has been decoded
+   */
+  public byte[] getEncoded() {
+    if (decoded) {
+      return null;
+    }
+    synchronized (this) {
+      return encoded;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    return o instanceof BinaryValue<?> other && Objects.equals(get(), other.get());
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(get());
+  }
+
+  @Override
+  public String toString() {
+    byte[] bytes = getEncoded();
+    return bytes == null ? "BinaryValue[" + get() + "]" : "BinaryValue[" + bytes.length + " bytes, not decoded]";
+  }
+}
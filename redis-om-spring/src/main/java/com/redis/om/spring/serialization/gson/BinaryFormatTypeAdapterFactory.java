@@ -0,0 +1,224 @@
+package com.redis.om.spring.serialization.gson;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.*;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.redis.om.spring.annotations.SerializationHint;
+import com.redis.om.spring.serialization.binary.BinaryCodec;
+import com.redis.om.spring.serialization.binary.BinaryValue;
+
+/**
+ * TypeAdapterFactory that stores {@link com.redis.om.spring.annotations.BinaryFormat} and
+ * {@link BinaryValue} fields as base64 encoded binary leaves of the JSON document.
+ * <p>
+ * For types declaring such fields, the object is mapped to its JSON tree as usual and the members
+ * of the binary fields are then replaced by the base64 string of their binary encoding. Reading
+ * reverses this before the tree is mapped back to the object, except for {@link BinaryValue}
+ * fields, whose bytes are only decoded when the value is first accessed. Members that are not
+ * binary encoded, for example ones written before a field was switched to a binary format, are
+ * read as plain JSON. Types without binary fields are not affected.
+ * </p>
+ *
+ * @since 2.0.5
+ */
+public class BinaryFormatTypeAdapterFactory implements TypeAdapterFactory {
+
+  private static final BinaryFormatTypeAdapterFactory INSTANCE = new BinaryFormatTypeAdapterFactory();
+
+  /**
+   * The binary fields of each type, found once per type rather than for every new Gson instance.
+   */
+  private static final Map<Class<?>, List<ScannedField>> scannedFields = new ConcurrentHashMap<>();
+
+  private BinaryFormatTypeAdapterFactory() {
+    // Private constructor for singleton
+  }
+
+  /**
+   * Returns the singleton instance of BinaryFormatTypeAdapterFactory.
+   *
+   * @return the singleton BinaryFormatTypeAdapterFactory instance
+   */
+  public static BinaryFormatTypeAdapterFactory getInstance() {
+    return INSTANCE;
+  }
+
+  @Override
+  @SuppressWarnings(
+    { "rawtypes", "unchecked" }
+  )
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    Class<? super T> rawType = type.getRawType();
+    if (rawType == BinaryValue.class) {
+      Type valueType = type.getType() instanceof ParameterizedType parameterized ?
+          parameterized.getActualTypeArguments()[0] :
+          Object.class;
+      return (TypeAdapter<T>) new BinaryValueAdapter(gson.getAdapter(JsonElement.class), gson.getAdapter(TypeToken
+          .get(valueType)));
+    }
+    if (rawType.isPrimitive() || rawType.isInterface() || rawType.isArray() || rawType.getName().startsWith("java.")) {
+      return null;
+    }
+
+    List<BinaryField> binaryFields = binaryFieldsOf(gson, rawType);
+    if (binaryFields.isEmpty()) {
+      return null;
+    }
+    return new BinaryFieldsAdapter<>(gson.getDelegateAdapter(this, type), gson.getAdapter(JsonElement.class),
+        binaryFields);
+  }
+
+  private static List<BinaryField> binaryFieldsOf(Gson gson, Class<?> type) {
+    List<ScannedField> fields = scannedFields.computeIfAbsent(type, BinaryFormatTypeAdapterFactory::scan);
+    if (fields.isEmpty()) {
+      return List.of();
+    }
+    List<BinaryField> binaryFields = new ArrayList<>(fields.size());
+    for (ScannedField scanned : fields) {
+      Field field = scanned.field();
+      SerializedName serializedName = field.getAnnotation(SerializedName.class);
+      String name = serializedName != null ?
+          serializedName.value() :
+          gson.fieldNamingStrategy().translateName(field);
+      binaryFields.add(new BinaryField(name, scanned.format(), field.getType() == BinaryValue.class));
+    }
+    return binaryFields;
+  }
+
+  private static List<ScannedField> scan(Class<?> type) {
+    List<ScannedField> fields = new ArrayList<>();
+    for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+      for (Field field : current.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+          continue;
+        }
+        SerializationHint format = BinaryCodec.formatOf(field);
+        if (format != null) {
+          fields.add(new ScannedField(field, format));
+        }
+      }
+    }
+    return fields.isEmpty() ? List.of() : List.copyOf(fields);
+  }
+
+  private static byte[] encodedBytesOf(JsonElement member) {
+    if (member == null || !member.isJsonPrimitive() || !member.getAsJsonPrimitive().isString()) {
+      return null;
+    }
+    try {
+      byte[] bytes = Base64.getDecoder().decode(member.getAsString());
+      return BinaryCodec.isEncoded(bytes) ? bytes : null;
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private record ScannedField(Field field, SerializationHint format) {
+  }
+
+  private record BinaryField(String name, SerializationHint format, boolean lazy) {
+  }
+
+  private static class BinaryFieldsAdapter<T> extends TypeAdapter<T> {
+    private final TypeAdapter<T> delegate;
+    private final TypeAdapter<JsonElement> elementAdapter;
+    private final List<BinaryField> binaryFields;
+
+    BinaryFieldsAdapter(TypeAdapter<T> delegate, TypeAdapter<JsonElement> elementAdapter,
+        List<BinaryField> binaryFields) {
+      this.delegate = delegate;
+      this.elementAdapter = elementAdapter;
+      this.binaryFields = binaryFields;
+    }
+
+    @Override
+    public void write(JsonWriter out, T value) throws IOException {
+      JsonElement tree = delegate.toJsonTree(value);
+      if (tree.isJsonObject()) {
+        JsonObject object = tree.getAsJsonObject();
+        for (BinaryField binaryField : binaryFields) {
+          JsonElement member = object.get(binaryField.name());
+          if (member == null || member.isJsonNull()) {
+            continue;
+          }
+          // BinaryValues that were never decoded are already written as their stored bytes
+          if (binaryField.lazy() && encodedBytesOf(member) != null) {
+            continue;
+          }
+          object.addProperty(binaryField.name(), Base64.getEncoder().encodeToString(BinaryCodec.encode(member,
+              binaryField.format())));
+        }
+      }
+      elementAdapter.write(out, tree);
+    }
+
+    @Override
+    public T read(JsonReader in) throws IOException {
+      JsonElement tree = elementAdapter.read(in);
+      if (tree != null && tree.isJsonObject()) {
+        JsonObject object = tree.getAsJsonObject();
+        for (BinaryField binaryField : binaryFields) {
+          // BinaryValues decode their own bytes on first access
+          if (binaryField.lazy()) {
+            continue;
+          }
+          byte[] bytes = encodedBytesOf(object.get(binaryField.name()));
+          if (bytes != null) {
+            object.add(binaryField.name(), BinaryCodec.decode(bytes));
+          }
+        }
+      }
+      return delegate.fromJsonTree(tree);
+    }
+  }
+
+  private static class BinaryValueAdapter<V> extends TypeAdapter<BinaryValue<V>> {
+    private final TypeAdapter<JsonElement> elementAdapter;
+    private final TypeAdapter<V> valueAdapter;
+
+    BinaryValueAdapter(TypeAdapter<JsonElement> elementAdapter, TypeAdapter<V> valueAdapter) {
+      this.elementAdapter = elementAdapter;
+      this.valueAdapter = valueAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter out, BinaryValue<V> value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      byte[] encoded = value.getEncoded();
+      if (encoded != null) {
+        out.value(Base64.getEncoder().encodeToString(encoded));
+      } else {
+        valueAdapter.write(out, value.get());
+      }
+    }
+
+    @Override
+    public BinaryValue<V> read(JsonReader in) throws IOException {
+      JsonElement element = elementAdapter.read(in);
+      if (element == null || element.isJsonNull()) {
+        return null;
+      }
+      byte[] bytes = encodedBytesOf(element);
+      if (bytes != null) {
+        return BinaryValue.encoded(bytes, b -> valueAdapter.fromJsonTree(BinaryCodec.decode(b)));
+      }
+      return BinaryValue.of(valueAdapter.fromJsonTree(element));
+    }
+  }
+}
@@ -18,6 +18,7 @@ import org.springframework.stereotype.Component;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 import com.redis.om.spring.RedisOMProperties;
+import com.redis.om.spring.annotations.LazyReference;
 import com.redis.om.spring.ops.json.JSONOperations;
 
 /**
@@ -32,6 +33,7 @@ public class GsonReferenceSerializerRegistrar {
   private final GsonBuilder builder;
   private final ApplicationContext ac;
   private JSONOperations<?> ops;
+  private boolean lazyReferencesRegistered;
 
   /**
    * Constructs a new GsonReferenceSerializerRegistrar.
@@ -100,6 +102,11 @@ public class GsonReferenceSerializerRegistrar {
 
     builder.registerTypeAdapter(typeToken.getType(), new ReferenceDeserializer(field, ops, ac.getBean(
         RedisOMProperties.class), ac.getBean("redisOMCacheManager", CacheManager.class)));
+    if (field.isAnnotationPresent(LazyReference.class) && !lazyReferencesRegistered) {
+      builder.registerTypeAdapterFactory(new LazyReferenceTypeAdapterFactory(ops, ac.getBean(RedisOMProperties.class),
+          ac.getBean("redisOMCacheManager", CacheManager.class)));
+      lazyReferencesRegistered = true;
+    }
     processEntity(field.getType());
   }
 
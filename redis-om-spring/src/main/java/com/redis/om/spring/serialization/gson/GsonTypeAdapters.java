@@ -0,0 +1,38 @@
+package com.redis.om.spring.serialization.gson;
+
+import java.time.*;
+import java.util.Date;
+
+import org.springframework.data.geo.Point;
+
+import com.github.f4b6a3.ulid.Ulid;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Registers the type adapters Redis OM Spring relies on to map entities to JSON.
+ *
+ * @since 2.0.5
+ */
+public final class GsonTypeAdapters {
+
+  private GsonTypeAdapters() {
+  }
+
+  /**
+   * Registers the type adapters for geo points, dates, times and ULIDs.
+   *
+   * @param builder the builder to register the adapters with
+   * @return the builder
+   */
+  public static GsonBuilder registerDefaults(GsonBuilder builder) {
+    builder.registerTypeAdapter(Point.class, PointTypeAdapter.getInstance());
+    builder.registerTypeAdapter(Date.class, DateTypeAdapter.getInstance());
+    builder.registerTypeAdapter(LocalDate.class, LocalDateTypeAdapter.getInstance());
+    builder.registerTypeAdapter(LocalDateTime.class, LocalDateTimeTypeAdapter.getInstance());
+    builder.registerTypeAdapter(Ulid.class, UlidTypeAdapter.getInstance());
+    builder.registerTypeAdapter(Instant.class, InstantTypeAdapter.getInstance());
+    builder.registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeTypeAdapter());
+    builder.registerTypeAdapter(YearMonth.class, new YearMonthTypeAdapter());
+    return builder;
+  }
+}
@@ -0,0 +1,28 @@
+package com.redis.om.spring.serialization.gson;
+
+import java.util.List;
+
+/**
+ * Implemented by the proxies set on {@link com.redis.om.spring.annotations.LazyReference} fields.
+ * <p>
+ * The methods deliberately do not follow bean naming conventions, so that serializers
+ * introspecting the proxies, such as Jackson, see the properties of the referenced entities only.
+ * </p>
+ *
+ * @since 2.0.5
+ */
+public interface LazyReferenceProxy {
+  /**
+   * Returns the Redis keys of the referenced entities, without loading them.
+   *
+   * @return the referenced keys, a single key for a single reference
+   */
+  List<String> lazyReferenceKeys();
+
+  /**
+   * Returns whether the referenced entities have been loaded.
+   *
+   * @return {@code true} if the reference has been resolved
+   */
+  boolean lazyReferenceResolved();
+}
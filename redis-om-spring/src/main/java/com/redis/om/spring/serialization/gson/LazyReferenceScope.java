@@ -0,0 +1,62 @@
+package com.redis.om.spring.serialization.gson;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The extent within which {@link LazyReferenceTypeAdapterFactory} batches lazy references.
+ * <p>
+ * Lazy references read within the same scope on the calling thread are loaded together, with one
+ * {@code JSON.MGET} per batch, when the first of them is used. Repositories and search streams
+ * deserialize each result page within {@link #with(Supplier)}, so the references of a page cost
+ * one round trip; any other deserialization call is a scope of its own. References read in
+ * different scopes, on other threads or by other requests, are never loaded together.
+ * </p>
+ *
+ * @since 2.0.5
+ */
+public final class LazyReferenceScope {
+  private static final ThreadLocal<LazyReferenceScope> current = new ThreadLocal<>();
+
+  private final Map<Object, ReferenceBatch> batches = new HashMap<>();
+
+  private LazyReferenceScope() {
+  }
+
+  /**
+   * Runs {@code action} in a new scope, or in the current one if a scope is already open on the
+   * calling thread.
+   *
+   * @param action the deserialization to run
+   * @param <R>    the result type
+   * @return the result of {@code action}
+   */
+  public static <R> R with(Supplier<R> action) {
+    if (current.get() != null) {
+      return action.get();
+    }
+    current.set(new LazyReferenceScope());
+    try {
+      return action.get();
+    } finally {
+      current.remove();
+    }
+  }
+
+  /**
+   * Adds {@code key} to the open batch of {@code owner} in the current scope, starting a new batch
+   * if there is none or the open one does not take further keys.
+   */
+  static ReferenceBatch register(Object owner, String key, Supplier<ReferenceBatch> newBatch) {
+    LazyReferenceScope scope = current.get();
+    Map<Object, ReferenceBatch> batches = scope != null ? scope.batches : new HashMap<>();
+    ReferenceBatch batch = batches.get(owner);
+    if (batch == null || !batch.add(key)) {
+      batch = newBatch.get();
+      batch.add(key);
+      batches.put(owner, batch);
+    }
+    return batch;
+  }
+}
@@ -0,0 +1,303 @@
+package com.redis.om.spring.serialization.gson;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.target.AbstractLazyCreationTargetSource;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.annotation.Reference;
+import org.springframework.util.ReflectionUtils;
+
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.redis.om.spring.RedisOMProperties;
+import com.redis.om.spring.annotations.LazyReference;
+import com.redis.om.spring.ops.json.JSONOperations;
+import com.redis.om.spring.util.ObjectUtils;
+
+/**
+ * TypeAdapterFactory that sets {@link LazyReference} fields to proxies resolving the referenced
+ * entities on first access.
+ * <p>
+ * For types declaring lazy references, the stored reference keys are taken out of the document
+ * before the rest of it is deserialized, and each lazy field is then set to a
+ * {@link LazyReferenceProxy} of its type. Every proxied key is registered with the open batch of
+ * the current {@link LazyReferenceScope}; the first proxy to be used loads all keys of its batch
+ * with a single {@code JSON.MGET}, so the references of all entities of a result page cost one
+ * round trip. A new batch is started once a batch has been loaded or holds
+ * {@code redis.om.spring.references.lazy-load-batch-size} keys.
+ * </p>
+ * <p>
+ * Reference classes configured for caching are read from and written to the reference cache like
+ * eagerly resolved references, and references fetched ahead by a search stream are resolved from
+ * {@link PrefetchedReferences}. Types without lazy references are not affected.
+ * </p>
+ *
+ * @see ReferenceDeserializer
+ * @since 2.0.5
+ */
+public class LazyReferenceTypeAdapterFactory implements TypeAdapterFactory {
+  private static final Log logger = LogFactory.getLog(LazyReferenceTypeAdapterFactory.class);
+
+  private final JSONOperations<String> ops;
+  private final RedisOMProperties.References config;
+  private final Cache referenceCache;
+  private final Map<Class<?>, List<LazyField>> lazyFields = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new factory.
+   *
+   * @param ops          the JSON operations used to load referenced entities
+   * @param properties   Redis OM configuration properties, including reference caching settings
+   * @param cacheManager Spring cache manager for reference caching
+   */
+  @SuppressWarnings(
+    "unchecked"
+  )
+  public LazyReferenceTypeAdapterFactory(JSONOperations<?> ops, RedisOMProperties properties,
+      CacheManager cacheManager) {
+    this.ops = (JSONOperations<String>) ops;
+    this.config = properties.getReferences();
+    this.referenceCache = cacheManager.getCache(config.getCacheName());
+  }
+
+  @Override
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    Class<? super T> rawType = type.getRawType();
+    if (rawType.isPrimitive() || rawType.isInterface() || rawType.isArray() || rawType.getName().startsWith("java.")) {
+      return null;
+    }
+    List<LazyField> fields = lazyFields.computeIfAbsent(rawType, LazyReferenceTypeAdapterFactory::findLazyFields);
+    if (fields.isEmpty()) {
+      return null;
+    }
+    return new LazyReferencesAdapter<>(gson, gson.getDelegateAdapter(this, type), gson.getAdapter(JsonElement.class),
+        fields);
+  }
+
+  private static List<LazyField> findLazyFields(Class<?> type) {
+    List<LazyField> fields = new ArrayList<>();
+    for (Field field : ObjectUtils.getDeclaredFieldsTransitively(type)) {
+      if (!field.isAnnotationPresent(Reference.class) || !field.isAnnotationPresent(LazyReference.class)) {
+        continue;
+      }
+      if (ObjectUtils.isCollection(field)) {
+        Optional<Class<?>> elementType = ObjectUtils.getCollectionElementClass(field);
+        if (elementType.isPresent()) {
+          fields.add(new LazyField(field, elementType.get(), true));
+          continue;
+        }
+      } else if (!Modifier.isFinal(field.getType().getModifiers())) {
+        fields.add(new LazyField(field, field.getType(), false));
+        continue;
+      }
+      logger.warn(String.format("Loading reference %s.%s eagerly, its type can not be proxied", type.getSimpleName(),
+          field.getName()));
+    }
+    fields.forEach(lazyField -> ReflectionUtils.makeAccessible(lazyField.field()));
+    return List.copyOf(fields);
+  }
+
+  private ReferenceBatch register(String key) {
+    return LazyReferenceScope.register(this, key, () -> new ReferenceBatch(ops, config.getLazyLoadBatchSize()));
+  }
+
+  private String loadReference(ReferenceBatch batch, String key, Class<?> referenceType) {
+    boolean cached = referenceCache != null && config.getCachedReferenceClasses().contains(referenceType.getName());
+    String json = cached ? referenceCache.get(key, String.class) : null;
+    if (json == null) {
+      json = batch.get(key);
+      if (json != null && cached) {
+        referenceCache.put(key, json);
+      }
+    }
+    return json;
+  }
+
+  private Object createProxy(Class<?> proxiedType, List<String> keys, Supplier<Object> loader) {
+    LazyTargetSource targetSource = new LazyTargetSource(proxiedType, loader);
+    ProxyFactory proxyFactory = new ProxyFactory();
+    proxyFactory.setTargetSource(targetSource);
+    if (proxiedType.isInterface()) {
+      proxyFactory.addInterface(proxiedType);
+    } else {
+      proxyFactory.setProxyTargetClass(true);
+    }
+    proxyFactory.addInterface(LazyReferenceProxy.class);
+    // keep the Advised configuration methods off the proxy, where serializers would pick them up
+    proxyFactory.setOpaque(true);
+    proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+      Method method = invocation.getMethod();
+      if (method.getDeclaringClass() == LazyReferenceProxy.class) {
+        return method.getName().equals("lazyReferenceKeys") ? keys : targetSource.isInitialized();
+      }
+      return invocation.proceed();
+    });
+    return proxyFactory.getProxy(proxiedType.getClassLoader());
+  }
+
+  private static Collection<Object> instantiateCollection(Class<?> collectionType) {
+    if (collectionType.isInterface()) {
+      if (Set.class.isAssignableFrom(collectionType)) {
+        return new LinkedHashSet<>();
+      } else if (Queue.class.isAssignableFrom(collectionType)) {
+        return new LinkedList<>();
+      }
+      return new ArrayList<>();
+    }
+    try {
+      @SuppressWarnings(
+        "unchecked"
+      ) Collection<Object> collection = (Collection<Object>) collectionType.getDeclaredConstructor().newInstance();
+      return collection;
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException("Type not instantiatable: " + collectionType, e);
+    }
+  }
+
+  private record LazyField(Field field, Class<?> referenceType, boolean collection) {
+  }
+
+  private class LazyReferencesAdapter<T> extends TypeAdapter<T> {
+    private final Gson gson;
+    private final TypeAdapter<T> delegate;
+    private final TypeAdapter<JsonElement> elementAdapter;
+    private final List<LazyField> fields;
+
+    LazyReferencesAdapter(Gson gson, TypeAdapter<T> delegate, TypeAdapter<JsonElement> elementAdapter,
+        List<LazyField> fields) {
+      this.gson = gson;
+      this.delegate = delegate;
+      this.elementAdapter = elementAdapter;
+      this.fields = fields;
+    }
+
+    @Override
+    public void write(JsonWriter out, T value) throws IOException {
+      delegate.write(out, value);
+    }
+
+    @Override
+    public T read(JsonReader in) throws IOException {
+      JsonElement tree = elementAdapter.read(in);
+      if (tree == null || !tree.isJsonObject()) {
+        return delegate.fromJsonTree(tree);
+      }
+      return LazyReferenceScope.with(() -> readObject(tree.getAsJsonObject()));
+    }
+
+    private T readObject(JsonObject object) {
+      JsonElement[] references = new JsonElement[fields.size()];
+      for (int i = 0; i < fields.size(); i++) {
+        references[i] = object.remove(fields.get(i).field().getName());
+      }
+
+      T result = delegate.fromJsonTree(object);
+      if (result != null) {
+        for (int i = 0; i < fields.size(); i++) {
+          if (references[i] != null && !references[i].isJsonNull()) {
+            ReflectionUtils.setField(fields.get(i).field(), result, referenceFor(fields.get(i), references[i]));
+          }
+        }
+      }
+      return result;
+    }
+
+    private Object referenceFor(LazyField lazyField, JsonElement reference) {
+      List<String> keys = keysOf(reference);
+      if (keys == null) {
+        // embedded rather than referenced entities are read as before
+        return gson.fromJson(reference, lazyField.field().getGenericType());
+      }
+
+      IntFunction<String> source;
+      if (PrefetchedReferences.containsAll(keys)) {
+        // fetched along with a search stream page, no need to load them again
+        String[] documents = keys.stream().map(PrefetchedReferences::get).toArray(String[]::new);
+        source = i -> documents[i];
+      } else {
+        ReferenceBatch[] batches = new ReferenceBatch[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+          batches[i] = register(keys.get(i));
+        }
+        source = i -> loadReference(batches[i], keys.get(i), lazyField.referenceType());
+      }
+
+      if (!lazyField.collection()) {
+        String key = keys.get(0);
+        return createProxy(lazyField.referenceType(), keys, () -> {
+          String json = source.apply(0);
+          if (json == null) {
+            throw new IllegalStateException(String.format("Referenced entity with key '%s' not found for type %s",
+                key, lazyField.referenceType().getName()));
+          }
+          return gson.fromJson(json, lazyField.referenceType());
+        });
+      }
+
+      return createProxy(lazyField.field().getType(), keys, () -> {
+        Collection<Object> collection = instantiateCollection(lazyField.field().getType());
+        for (int i = 0; i < keys.size(); i++) {
+          String json = source.apply(i);
+          if (json != null) {
+            collection.add(gson.fromJson(json, lazyField.referenceType()));
+          } else {
+            logger.warn(String.format("Referenced entity with key '%s' not found for type %s", keys.get(i),
+                lazyField.referenceType().getName()));
+          }
+        }
+        return collection;
+      });
+    }
+
+    private List<String> keysOf(JsonElement reference) {
+      if (reference.isJsonPrimitive()) {
+        return List.of(reference.getAsString());
+      }
+      if (reference.isJsonArray()) {
+        List<String> keys = new ArrayList<>();
+        for (JsonElement element : reference.getAsJsonArray()) {
+          if (!element.isJsonPrimitive()) {
+            return null;
+          }
+          keys.add(element.getAsString());
+        }
+        return keys;
+      }
+      return null;
+    }
+  }
+
+  private static class LazyTargetSource extends AbstractLazyCreationTargetSource {
+    private final Class<?> targetClass;
+    private final Supplier<Object> loader;
+
+    LazyTargetSource(Class<?> targetClass, Supplier<Object> loader) {
+      this.targetClass = targetClass;
+      this.loader = loader;
+    }
+
+    @Override
+    public synchronized Class<?> getTargetClass() {
+      return targetClass;
+    }
+
+    @Override
+    protected Object createObject() {
+      return loader.get();
+    }
+  }
+}
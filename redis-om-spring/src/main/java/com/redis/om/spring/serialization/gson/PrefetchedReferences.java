@@ -0,0 +1,87 @@
+package com.redis.om.spring.serialization.gson;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Referenced documents loaded ahead of deserialization, keyed by their Redis keys.
+ * <p>
+ * A search stream asked to fetch references collects the reference keys of a whole result page,
+ * loads them with one {@code JSON.MGET} per referenced type and then deserializes the page within
+ * {@link #with(Map, Supplier)}. While doing so, {@link ReferenceDeserializer} and
+ * {@link LazyReferenceTypeAdapterFactory} resolve references from the fetched documents instead of
+ * reading each of them from Redis. Keys that were fetched but do not exist are mapped to
+ * {@code null}.
+ * </p>
+ *
+ * @since 2.0.5
+ */
+public final class PrefetchedReferences {
+  private static final ThreadLocal<Map<String, String>> current = new ThreadLocal<>();
+
+  private PrefetchedReferences() {
+  }
+
+  /**
+   * Runs {@code action} with the given documents available to reference resolution on the
+   * calling thread.
+   *
+   * @param documents the fetched documents by key, {@code null} for keys that do not exist
+   * @param action    the deserialization to run
+   * @param <R>       the result type
+   * @return the result of {@code action}
+   */
+  public static <R> R with(Map<String, String> documents, Supplier<R> action) {
+    Map<String, String> previous = current.get();
+    if (previous != null) {
+      Map<String, String> merged = new HashMap<>(previous);
+      merged.putAll(documents);
+      documents = merged;
+    }
+    current.set(documents);
+    try {
+      return action.get();
+    } finally {
+      if (previous != null) {
+        current.set(previous);
+      } else {
+        current.remove();
+      }
+    }
+  }
+
+  /**
+   * Returns whether the document stored under {@code key} has been fetched.
+   *
+   * @param key the Redis key of a referenced document
+   * @return {@code true} if the key was fetched, even if no document exists for it
+   */
+  public static boolean contains(String key) {
+    Map<String, String> documents = current.get();
+    return documents != null && documents.containsKey(key);
+  }
+
+  /**
+   * Returns whether the documents stored under all of {@code keys} have been fetched.
+   *
+   * @param keys the Redis keys of referenced documents
+   * @return {@code true} if all keys were fetched
+   */
+  public static boolean containsAll(Collection<String> keys) {
+    Map<String, String> documents = current.get();
+    return documents != null && documents.keySet().containsAll(keys);
+  }
+
+  /**
+   * Returns the fetched document stored under {@code key}.
+   *
+   * @param key the Redis key of a referenced document
+   * @return the document JSON, or {@code null} if it was not fetched or does not exist
+   */
+  public static String get(String key) {
+    Map<String, String> documents = current.get();
+    return documents != null ? documents.get(key) : null;
+  }
+}
@@ -0,0 +1,61 @@
+package com.redis.om.spring.serialization.gson;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.redis.om.spring.ops.json.JSONOperations;
+
+/**
+ * The keys of lazy references registered within a {@link LazyReferenceScope}, fetched together on
+ * first use. Each loaded document is released once every proxy registered for it has taken it, so
+ * the batch does not keep documents alive for proxies that have already been resolved.
+ */
+final class ReferenceBatch {
+  private final JSONOperations<String> ops;
+  private final int maxSize;
+  private final Map<String, Integer> pending = new LinkedHashMap<>();
+  private Map<String, String> loaded;
+
+  ReferenceBatch(JSONOperations<String> ops, int maxSize) {
+    this.ops = ops;
+    this.maxSize = Math.max(1, maxSize);
+  }
+
+  synchronized boolean add(String key) {
+    if (loaded != null || (pending.size() >= maxSize && !pending.containsKey(key))) {
+      return false;
+    }
+    pending.merge(key, 1, Integer::sum);
+    return true;
+  }
+
+  synchronized String get(String key) {
+    if (loaded == null) {
+      loaded = load(pending.keySet().toArray(String[]::new));
+    }
+    Integer remaining = pending.get(key);
+    if (remaining == null) {
+      // taken before, by a proxy whose resolution failed and is retried
+      return ops.get(key);
+    }
+    String json = loaded.get(key);
+    if (remaining > 1) {
+      pending.put(key, remaining - 1);
+    } else {
+      pending.remove(key);
+      loaded.remove(key);
+    }
+    return json;
+  }
+
+  private Map<String, String> load(String[] keys) {
+    List<String> values = ops.mget(keys);
+    Map<String, String> result = new HashMap<>(keys.length * 2);
+    for (int i = 0; i < keys.length; i++) {
+      result.put(keys[i], values != null && i < values.size() ? values.get(i) : null);
+    }
+    return result;
+  }
+}
@@ -37,6 +37,7 @@ import com.redis.om.spring.util.ObjectUtils;
  * <p>
  * Caching is configurable per entity type through {@link RedisOMProperties.References}
  * configuration, allowing selective caching of frequently accessed reference types.
+ * References fetched ahead by a search stream are taken from {@link PrefetchedReferences}.
  * 
  * @see JsonDeserializer
  * @see RedisOMProperties.References
@@ -101,10 +102,13 @@ public class ReferenceDeserializer implements JsonDeserializer<Object> {
     if (json.isJsonPrimitive()) {
       String referenceKey = ObjectUtils.unQuote(json.toString());
       String referenceJSON = null;
-      if (shouldCache(type)) {
+      boolean prefetched = PrefetchedReferences.contains(referenceKey);
+      if (prefetched) {
+        referenceJSON = PrefetchedReferences.get(referenceKey);
+      } else if (shouldCache(type)) {
         referenceJSON = referenceCache.get(referenceKey, String.class);
       }
-      if (referenceJSON == null) {
+      if (referenceJSON == null && !prefetched) {
         referenceJSON = ops.get(referenceKey);
         if (referenceJSON != null && referenceCache != null && shouldCache(type)) {
           referenceCache.put(referenceKey, referenceJSON);
@@ -132,7 +136,9 @@ public class ReferenceDeserializer implements JsonDeserializer<Object> {
 
       List<String> values;
       if (keys.length > 0) {
-        if (shouldCache(type)) {
+        if (PrefetchedReferences.containsAll(Arrays.asList(keys))) {
+          values = Arrays.stream(keys).map(PrefetchedReferences::get).collect(Collectors.toList());
+        } else if (shouldCache(type)) {
           values = Arrays.stream(keys).map(key -> referenceCache.get(key, String.class)).filter(Objects::nonNull)
               .collect(Collectors.toList());
           if (values.size() < keys.length) {
@@ -140,7 +146,9 @@ public class ReferenceDeserializer implements JsonDeserializer<Object> {
                 .toArray(String[]::new);
             List<String> fetchedValues = ops.mget(missingKeys);
             for (int i = 0; i < missingKeys.length; i++) {
-              referenceCache.put(missingKeys[i], fetchedValues.get(i));
+              if (fetchedValues.get(i) != null) {
+                referenceCache.put(missingKeys[i], fetchedValues.get(i));
+              }
             }
             values.addAll(fetchedValues);
           }
@@ -41,10 +41,15 @@ import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.ReflectionUtils;
 
+import com.google.gson.annotations.SerializedName;
 import com.redis.om.spring.annotations.EnableRedisDocumentRepositories;
 import com.redis.om.spring.annotations.EnableRedisEnhancedRepositories;
+import com.redis.om.spring.annotations.Indexed;
 import com.redis.om.spring.annotations.IndexingOptions;
+import com.redis.om.spring.annotations.SchemaFieldType;
+import com.redis.om.spring.annotations.VectorIndexed;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
+import com.redis.om.spring.indexing.VectorType;
 import com.redis.om.spring.tuple.Tuples;
 
 import redis.clients.jedis.args.GeoUnit;
@@ -801,6 +806,19 @@ public class ObjectUtils {
     return field;
   }
 
+  /**
+   * Returns the name under which {@code field} is stored in JSON documents, which is the value of
+   * its {@link SerializedName} annotation if present and the field name otherwise.
+   *
+   * @param field the field of a document entity
+   * @return the JSON property name of the field
+   * @since 2.0.5
+   */
+  public static String getJsonFieldName(Field field) {
+    SerializedName serializedName = field.getAnnotation(SerializedName.class);
+    return serializedName != null ? serializedName.value() : field.getName();
+  }
+
   /**
    * Converts a float array to a byte array using little-endian byte order.
    * Used for vector embedding storage in Redis.
@@ -809,9 +827,7 @@ public class ObjectUtils {
    * @return the byte array representation
    */
   public static byte[] floatArrayToByteArray(float[] input) {
-    byte[] bytes = new byte[Float.BYTES * input.length];
-    ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().put(input);
-    return bytes;
+    return floatArrayToByteArray(input, VectorType.FLOAT32);
   }
 
   /**
@@ -856,6 +872,206 @@ public class ObjectUtils {
     return floatArray;
   }
 
+  /**
+   * Converts a float array to the little-endian byte representation of the given vector type, as
+   * expected by a vector field of that type.
+   * <p>
+   * FLOAT16 and BFLOAT16 round each element to the nearest representable value, ties to even.
+   * INT8 and UINT8 round each element to the nearest whole number and clamp it to the type's range,
+   * so vectors should already be scaled to that range.
+   * </p>
+   *
+   * @param input the float array to convert
+   * @param type  the vector type to encode to
+   * @return the byte array representation
+   * @since 2.0.5
+   */
+  public static byte[] floatArrayToByteArray(float[] input, VectorType type) {
+    byte[] bytes = new byte[type.getBytesPerElement() * input.length];
+    switch (type) {
+      case FLOAT32 -> {
+        for (int i = 0, j = 0; i < input.length; i++, j += 4) {
+          int bits = Float.floatToRawIntBits(input[i]);
+          bytes[j] = (byte) bits;
+          bytes[j + 1] = (byte) (bits >>> 8);
+          bytes[j + 2] = (byte) (bits >>> 16);
+          bytes[j + 3] = (byte) (bits >>> 24);
+        }
+      }
+      case FLOAT64 -> {
+        for (int i = 0, j = 0; i < input.length; i++, j += 8) {
+          long bits = Double.doubleToRawLongBits(input[i]);
+          for (int b = 0; b < 8; b++) {
+            bytes[j + b] = (byte) (bits >>> (b * 8));
+          }
+        }
+      }
+      case FLOAT16 -> {
+        for (int i = 0, j = 0; i < input.length; i++, j += 2) {
+          int bits = floatToFloat16Bits(input[i]);
+          bytes[j] = (byte) bits;
+          bytes[j + 1] = (byte) (bits >>> 8);
+        }
+      }
+      case BFLOAT16 -> {
+        for (int i = 0, j = 0; i < input.length; i++, j += 2) {
+          int bits = floatToBFloat16Bits(input[i]);
+          bytes[j] = (byte) bits;
+          bytes[j + 1] = (byte) (bits >>> 8);
+        }
+      }
+      case INT8 -> {
+        for (int i = 0; i < input.length; i++) {
+          bytes[i] = (byte) Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, Math.round(input[i])));
+        }
+      }
+      case UINT8 -> {
+        for (int i = 0; i < input.length; i++) {
+          bytes[i] = (byte) Math.max(0, Math.min(255, Math.round(input[i])));
+        }
+      }
+    }
+    return bytes;
+  }
+
+  /**
+   * Converts the little-endian byte representation of a vector of the given type to a float array.
+   * FLOAT64 elements are narrowed to the nearest float.
+   *
+   * @param bytes the byte array to convert
+   * @param type  the vector type the bytes are encoded in
+   * @return the float array representation
+   * @since 2.0.5
+   */
+  public static float[] byteArrayToFloatArray(byte[] bytes, VectorType type) {
+    float[] floats = new float[bytes.length / type.getBytesPerElement()];
+    switch (type) {
+      case FLOAT32 -> {
+        for (int i = 0, j = 0; i < floats.length; i++, j += 4) {
+          floats[i] = Float.intBitsToFloat((bytes[j] & 0xff) | (bytes[j + 1] & 0xff) << 8 | (bytes[j + 2] &
+              0xff) << 16 | (bytes[j + 3] & 0xff) << 24);
+        }
+      }
+      case FLOAT64 -> {
+        for (int i = 0, j = 0; i < floats.length; i++, j += 8) {
+          long bits = 0;
+          for (int b = 7; b >= 0; b--) {
+            bits = bits << 8 | (bytes[j + b] & 0xff);
+          }
+          floats[i] = (float) Double.longBitsToDouble(bits);
+        }
+      }
+      case FLOAT16 -> {
+        for (int i = 0, j = 0; i < floats.length; i++, j += 2) {
+          floats[i] = float16BitsToFloat((bytes[j] & 0xff) | (bytes[j + 1] & 0xff) << 8);
+        }
+      }
+      case BFLOAT16 -> {
+        for (int i = 0, j = 0; i < floats.length; i++, j += 2) {
+          floats[i] = Float.intBitsToFloat(((bytes[j] & 0xff) | (bytes[j + 1] & 0xff) << 8) << 16);
+        }
+      }
+      case INT8 -> {
+        for (int i = 0; i < floats.length; i++) {
+          floats[i] = bytes[i];
+        }
+      }
+      case UINT8 -> {
+        for (int i = 0; i < floats.length; i++) {
+          floats[i] = bytes[i] & 0xff;
+        }
+      }
+    }
+    return floats;
+  }
+
+  /**
+   * Returns the vector type a field is indexed with, from its {@link VectorIndexed} annotation or
+   * an {@link Indexed} annotation with a {@link SchemaFieldType#VECTOR} schema field type.
+   *
+   * @param field the vector field, may be {@code null}
+   * @return the field's vector type, or {@link VectorType#FLOAT32} if it declares none
+   * @since 2.0.5
+   */
+  public static VectorType getVectorType(Field field) {
+    if (field != null) {
+      VectorIndexed vectorIndexed = field.getAnnotation(VectorIndexed.class);
+      if (vectorIndexed != null) {
+        return vectorIndexed.type();
+      }
+      Indexed indexed = field.getAnnotation(Indexed.class);
+      if (indexed != null && indexed.schemaFieldType() == SchemaFieldType.VECTOR) {
+        return indexed.type();
+      }
+    }
+    return VectorType.FLOAT32;
+  }
+
+  /**
+   * Converts a float to the bits of the nearest IEEE 754 half precision value, ties to even.
+   */
+  private static int floatToFloat16Bits(float value) {
+    int bits = Float.floatToRawIntBits(value);
+    int sign = (bits >>> 16) & 0x8000;
+    if (Float.isNaN(value)) {
+      return sign | 0x7e00;
+    }
+    float abs = Math.abs(value);
+    if (abs >= 65520.0f) {
+      // rounds past the largest half precision value (65504)
+      return sign | 0x7c00;
+    }
+    if (abs <= 0x1.0p-25f) {
+      return sign;
+    }
+    int exponent = Math.getExponent(value);
+    int shift = 13;
+    int significand = bits & 0x007fffff;
+    if (exponent < -14) {
+      // subnormal: make the implicit leading bit explicit and shift it into place
+      shift += -14 - exponent;
+      exponent = -15;
+      significand |= 0x00800000;
+    }
+    int half = significand >>> shift;
+    int lsb = significand & (1 << shift);
+    int round = significand & (1 << (shift - 1));
+    int sticky = significand & ((1 << (shift - 1)) - 1);
+    if (round != 0 && (lsb | sticky) != 0) {
+      half++;
+    }
+    // a carry out of the significand correctly increments the exponent
+    return sign | (((exponent + 15) << 10) + half);
+  }
+
+  /**
+   * Converts the bits of an IEEE 754 half precision value to a float.
+   */
+  private static float float16BitsToFloat(int bits) {
+    int sign = (bits & 0x8000) << 16;
+    int exponent = (bits >>> 10) & 0x1f;
+    int significand = bits & 0x03ff;
+    if (exponent == 0) {
+      float subnormal = 0x1.0p-24f * significand;
+      return sign != 0 ? -subnormal : subnormal;
+    }
+    if (exponent == 0x1f) {
+      return Float.intBitsToFloat(sign | 0x7f800000 | significand << 13);
+    }
+    return Float.intBitsToFloat(sign | (exponent + 112) << 23 | significand << 13);
+  }
+
+  /**
+   * Converts a float to the bits of the nearest bfloat16 value, ties to even.
+   */
+  private static int floatToBFloat16Bits(float value) {
+    int bits = Float.floatToRawIntBits(value);
+    if (Float.isNaN(value)) {
+      return (bits >>> 16) | 0x0040;
+    }
+    return (bits + 0x7fff + ((bits >>> 16) & 1)) >>> 16;
+  }
+
   /**
    * Determines if a class is a primitive type that corresponds to a specific wrapper class.
    * Uses Spring's ClassUtils to resolve primitive types to their wrapper equivalents.
@@ -12,12 +12,15 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.core.RedisTemplate;
 import redis.clients.jedis.search.Schema;
 
 import java.lang.reflect.Field;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -165,6 +168,52 @@ class LexicographicIndexTest extends AbstractBaseDocumentTest {
       .containsExactlyInAnyOrder("product002", "product003", "product004");
   }
 
+  @Test
+  void testRepositoryMethodLimitsAndSortsByTheLexicographicField() {
+    List<LexicographicDoc> results = repository.findFirst2BySkuGreaterThanOrderBySkuDesc("product001");
+
+    assertThat(results.stream().map(LexicographicDoc::getSku)).containsExactly("product005", "product004");
+  }
+
+  @Test
+  void testRepositoryMethodPagesThroughTheSortedSet() {
+    Page<LexicographicDoc> first = repository.findBySkuGreaterThanEqual("product002", PageRequest.of(0, 2));
+    Page<LexicographicDoc> second = repository.findBySkuGreaterThanEqual("product002", PageRequest.of(1, 2));
+
+    assertThat(first.getContent().stream().map(LexicographicDoc::getSku)).containsExactly("product002", "product003");
+    assertThat(second.getContent().stream().map(LexicographicDoc::getSku)).containsExactly("product004", "product005");
+    assertThat(second.getTotalElements()).isEqualTo(4);
+    assertThat(second.getTotalPages()).isEqualTo(2);
+  }
+
+  @Test
+  void testRepositoryMethodCombinesLexicographicAndTagCriteria() {
+    List<LexicographicDoc> results = repository.findBySkuGreaterThanAndStatus("product001", "Active");
+
+    assertThat(results.stream().map(LexicographicDoc::getId)).containsExactly("2", "4");
+  }
+
+  @Test
+  void testRepositoryMethodCombinesLexicographicRanges() {
+    List<LexicographicDoc> results = repository.findBySkuBetweenAndCategoryLessThan("product001", "product004",
+        "Clothing");
+
+    assertThat(results.stream().map(LexicographicDoc::getSku)).containsExactly("product002");
+  }
+
+  @Test
+  void testRepositoryMethodStreamsInLexicographicOrder() {
+    try (Stream<LexicographicDoc> results = repository.streamBySkuLessThan("product004")) {
+      assertThat(results.map(LexicographicDoc::getSku)).containsExactly("product001", "product002", "product003");
+    }
+  }
+
+  @Test
+  void testRepositoryMethodExistsByLexicographicRange() {
+    assertThat(repository.existsBySkuGreaterThan("product004")).isTrue();
+    assertThat(repository.existsBySkuGreaterThan("product005")).isFalse();
+  }
+
   @Test
   void testEntityStreamGtMethodOnTextTagField() {
     var stream = entityStream.of(LexicographicDoc.class);
@@ -0,0 +1,85 @@
+package com.redis.om.spring.annotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.fixtures.document.model.LexicographicDoc;
+import com.redis.om.spring.fixtures.document.repository.LexicographicDocRepository;
+import com.redis.om.spring.indexing.RediSearchIndexer;
+
+/**
+ * Lexicographic range queries spanning several sorted set pages.
+ */
+@TestPropertySource(
+    properties = { "redis.om.spring.repository.query.lexicographic-page-size=2" }
+)
+class LexicographicPagingTest extends AbstractBaseDocumentTest {
+  @Autowired
+  LexicographicDocRepository repository;
+
+  @Autowired
+  RediSearchIndexer indexer;
+
+  @BeforeEach
+  void setup() {
+    repository.deleteAll();
+    indexer.dropAndRecreateIndexFor(LexicographicDoc.class);
+
+    List<LexicographicDoc> docs = new ArrayList<>();
+    for (int i = 1; i <= 7; i++) {
+      LexicographicDoc doc = LexicographicDoc.of("product00" + i, "Product " + i, "Electronics", "Active");
+      doc.setId(String.valueOf(i));
+      docs.add(doc);
+    }
+    // members sharing a value are ordered by id
+    LexicographicDoc twin = LexicographicDoc.of("product004", "Product 4b", "Books", "Active");
+    twin.setId("8");
+    docs.add(twin);
+    repository.saveAll(docs);
+  }
+
+  @AfterEach
+  void cleanUp() {
+    repository.deleteAll();
+  }
+
+  @Test
+  void testAscendingScanReadsEveryPageOnce() {
+    List<LexicographicDoc> results = repository.findBySkuGreaterThan("product001");
+
+    assertThat(results.stream().map(LexicographicDoc::getId)).containsExactly("2", "3", "4", "8", "5", "6", "7");
+  }
+
+  @Test
+  void testDescendingScanReadsEveryPageOnce() {
+    List<LexicographicDoc> results = repository.findBySkuGreaterThanOrderBySkuDesc("product001");
+
+    assertThat(results.stream().map(LexicographicDoc::getId)).containsExactly("7", "6", "5", "8", "4", "3", "2");
+  }
+
+  @Test
+  void testScanStartsAtTheRequestedOffset() {
+    Page<LexicographicDoc> page = repository.findBySkuGreaterThanEqual("product002", PageRequest.of(1, 3));
+
+    assertThat(page.getContent().stream().map(LexicographicDoc::getId)).containsExactly("8", "5", "6");
+    assertThat(page.getTotalElements()).isEqualTo(7);
+  }
+
+  @Test
+  void testOrGroupsReadEveryPageOnce() {
+    List<LexicographicDoc> results = repository.findBySkuGreaterThanOrCategoryLessThan("product003", "Books");
+
+    assertThat(results.stream().map(LexicographicDoc::getId)).containsExactlyInAnyOrder("4", "8", "5", "6", "7");
+  }
+}
@@ -4,8 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Properties;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,10 +15,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisCallback;
 
 import com.redis.om.spring.AbstractBaseDocumentTest;
 import com.redis.om.spring.fixtures.document.model.Airport;
+import com.redis.om.spring.fixtures.document.model.RenamedAirport;
 import com.redis.om.spring.fixtures.document.repository.AirportsRepository;
+import com.redis.om.spring.fixtures.document.repository.RenamedAirportRepository;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
 
@@ -28,6 +33,9 @@ class AutoCompleteDeletionTest extends AbstractBaseDocumentTest {
   @Autowired
   AirportsRepository repository;
 
+  @Autowired
+  RenamedAirportRepository renamedAirportRepository;
+
   @Autowired
   RedisModulesOperations<String> modulesOperations;
 
@@ -109,6 +117,70 @@ class AutoCompleteDeletionTest extends AbstractBaseDocumentTest {
     assertEquals(sugCountAfter, sugCountBefore - 3);
   }
 
+  @Test
+  void deleteAllEntitiesByIdShouldDeletePayloadsAndDocumentsAndSkipMissingIds() {
+    String key = String.format("sugg:%s:%s", Airport.class.getSimpleName(), "name");
+    String payloadKey = String.format("sugg:payload:%s:%s", Airport.class.getSimpleName(), "name");
+    SearchOperations<String> ops = modulesOperations.opsForSearch(key);
+    long sugCountBefore = ops.getSuggestionLength(key);
+    long payloadCountBefore = template.opsForHash().size(payloadKey);
+    long countBefore = repository.count();
+
+    List<String> ids = new ArrayList<>(repository.getIds(PageRequest.of(0, 4)).getContent());
+    List<String> names = repository.findAllById(ids).stream().map(Airport::getName).toList();
+    ids.add("not-an-airport");
+    repository.deleteAllById(ids);
+
+    assertThat(ops.getSuggestionLength(key)).isEqualTo(sugCountBefore - 4);
+    assertThat(template.opsForHash().size(payloadKey)).isEqualTo(payloadCountBefore - 4);
+    assertThat(template.opsForHash().multiGet(payloadKey, new ArrayList<>(names))).containsOnlyNulls();
+    assertThat(repository.count()).isEqualTo(countBefore - 4);
+    assertThat(repository.findAllById(ids)).isEmpty();
+  }
+
+  @Test
+  void deleteAllEntitiesByIdReadsSuggestionsWithOneRoundTrip() {
+    String key = String.format("sugg:%s:%s", Airport.class.getSimpleName(), "name");
+    SearchOperations<String> ops = modulesOperations.opsForSearch(key);
+    long sugCountBefore = ops.getSuggestionLength(key);
+    List<String> ids = repository.getIds(PageRequest.of(0, 4)).getContent();
+    long getsBefore = commandCalls("json.get");
+    long mgetsBefore = commandCalls("json.mget");
+
+    repository.deleteAllById(ids);
+
+    // the names of all airports are read with a single JSON.MGET rather than one read per id
+    assertThat(commandCalls("json.get") - getsBefore).isZero();
+    assertThat(commandCalls("json.mget") - mgetsBefore).isEqualTo(1);
+    assertThat(ops.getSuggestionLength(key)).isEqualTo(sugCountBefore - 4);
+  }
+
+  @Test
+  void deleteAllEntitiesByIdShouldDeleteSuggestionsOfRenamedFields() {
+    renamedAirportRepository.deleteAll();
+    String key = String.format("sugg:%s:%s", RenamedAirport.class.getSimpleName(), "name");
+    SearchOperations<String> ops = modulesOperations.opsForSearch(key);
+    List<RenamedAirport> airports = renamedAirportRepository.saveAll(List.of( //
+        RenamedAirport.of("Mobile"), //
+        RenamedAirport.of("Montgomery") //
+    ));
+    long sugCountBefore = ops.getSuggestionLength(key);
+
+    renamedAirportRepository.deleteAllById(airports.stream().map(RenamedAirport::getId).toList());
+
+    assertThat(ops.getSuggestionLength(key)).isEqualTo(sugCountBefore - 2);
+  }
+
+  private long commandCalls(String command) {
+    Properties stats = template.execute((RedisCallback<Properties>) connection -> connection.serverCommands().info(
+        "commandstats"));
+    String stat = stats != null ? stats.getProperty("cmdstat_" + command) : null;
+    if (stat == null) {
+      return 0;
+    }
+    return Long.parseLong(stat.replaceAll("^calls=(\\d+),.*$", "$1"));
+  }
+
   @Test
   void deleteAllEntitiesByCollectionShouldDeleteSuggestions() {
     String key = String.format("sugg:%s:%s", Airport.class.getSimpleName(), "name");
@@ -0,0 +1,138 @@
+package com.redis.om.spring.annotations.document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.fixtures.document.model.Country;
+import com.redis.om.spring.fixtures.document.model.LazyRegion;
+import com.redis.om.spring.fixtures.document.model.State;
+import com.redis.om.spring.fixtures.document.repository.CountryRepository;
+import com.redis.om.spring.fixtures.document.repository.LazyRegionRepository;
+import com.redis.om.spring.fixtures.document.repository.StateRepository;
+import com.redis.om.spring.serialization.gson.LazyReferenceProxy;
+
+class LazyReferenceTest extends AbstractBaseDocumentTest {
+  @Autowired
+  LazyRegionRepository lazyRegionRepository;
+
+  @Autowired
+  StateRepository stateRepository;
+
+  @Autowired
+  CountryRepository countryRepository;
+
+  @BeforeEach
+  void prepare() {
+    lazyRegionRepository.deleteAll();
+    stateRepository.deleteAll();
+    countryRepository.deleteAll();
+
+    var usa = countryRepository.save(Country.of("USA"));
+    var ca = stateRepository.save(State.of("CA", "California", usa));
+    var wa = stateRepository.save(State.of("WA", "Washington", usa));
+    var oh = stateRepository.save(State.of("OH", "Ohio", usa));
+
+    lazyRegionRepository.save(LazyRegion.of("West", ca, Set.of(ca, wa)));
+    lazyRegionRepository.save(LazyRegion.of("Midwest", oh, Set.of(oh)));
+  }
+
+  @Test
+  void testLazyReferencesAreResolvedOnFirstAccess() {
+    LazyRegion west = lazyRegionRepository.findById("West").orElseThrow();
+
+    assertThat(west.getCapital()).isInstanceOf(LazyReferenceProxy.class);
+    LazyReferenceProxy capital = (LazyReferenceProxy) west.getCapital();
+    assertThat(capital.lazyReferenceResolved()).isFalse();
+    assertThat(capital.lazyReferenceKeys()).hasSize(1);
+    assertThat(capital.lazyReferenceKeys().get(0)).endsWith("CA");
+
+    assertThat(west.getCapital().getName()).isEqualTo("California");
+    assertThat(west.getCapital().getCountry().getId()).isEqualTo("USA");
+    assertThat(capital.lazyReferenceResolved()).isTrue();
+  }
+
+  @Test
+  void testLazyCollectionReferencesAreResolvedOnFirstAccess() {
+    LazyRegion west = lazyRegionRepository.findById("West").orElseThrow();
+
+    assertThat(west.getStates()).isInstanceOf(LazyReferenceProxy.class);
+    LazyReferenceProxy states = (LazyReferenceProxy) west.getStates();
+    assertThat(states.lazyReferenceResolved()).isFalse();
+    assertThat(states.lazyReferenceKeys()).hasSize(2);
+
+    assertThat(west.getStates().stream().map(State::getName).collect(Collectors.toSet())) //
+        .containsExactlyInAnyOrder("California", "Washington");
+    assertThat(states.lazyReferenceResolved()).isTrue();
+  }
+
+  @Test
+  void testLazyReferencesOfAPageAreResolved() {
+    var regions = lazyRegionRepository.findAll();
+    long mgetsBefore = mgetCalls();
+
+    assertThat(regions).hasSize(2);
+    assertThat(regions).extracting(region -> region.getCapital().getName()) //
+        .containsExactlyInAnyOrder("California", "Ohio");
+    assertThat(regions).flatExtracting(region -> region.getStates().stream().map(State::getName).toList()) //
+        .containsExactlyInAnyOrder("California", "Washington", "Ohio");
+
+    // the capitals and states of all regions of the page are loaded together
+    assertThat(mgetCalls() - mgetsBefore).isEqualTo(1);
+  }
+
+  private long mgetCalls() {
+    Properties stats = template.execute((RedisCallback<Properties>) connection -> connection.serverCommands().info(
+        "commandstats"));
+    String stat = stats != null ? stats.getProperty("cmdstat_json.mget") : null;
+    if (stat == null) {
+      return 0;
+    }
+    return Long.parseLong(stat.replaceAll("^calls=(\\d+),.*$", "$1"));
+  }
+
+  @Test
+  void testSavingUnresolvedLazyReferencesKeepsReferences() {
+    LazyRegion west = lazyRegionRepository.findById("West").orElseThrow();
+    west.setId("Pacific");
+    lazyRegionRepository.save(west);
+
+    assertThat(((LazyReferenceProxy) west.getCapital()).lazyReferenceResolved()).isFalse();
+    assertThat(((LazyReferenceProxy) west.getStates()).lazyReferenceResolved()).isFalse();
+
+    LazyRegion pacific = lazyRegionRepository.findById("Pacific").orElseThrow();
+    assertThat(pacific.getCapital().getName()).isEqualTo("California");
+    assertThat(pacific.getStates()).hasSize(2);
+  }
+
+  @Test
+  void testUnresolvedLazyReferencesSerializeWithJackson() {
+    LazyRegion west = lazyRegionRepository.findById("West").orElseThrow();
+
+    JsonNode json = new ObjectMapper().valueToTree(west);
+
+    assertThat(json.path("capital").path("name").asText()).isEqualTo("California");
+    assertThat(json.path("capital").path("country").path("id").asText()).isEqualTo("USA");
+    assertThat(json.path("capital").fieldNames()).toIterable().containsExactlyInAnyOrder("id", "name", "country");
+    assertThat(json.path("states").findValuesAsText("name")).containsExactlyInAnyOrder("California", "Washington");
+  }
+
+  @Test
+  void testLazyReferenceToDeletedEntityThrowsOnAccess() {
+    LazyRegion midwest = lazyRegionRepository.findById("Midwest").orElseThrow();
+    stateRepository.deleteById("OH");
+
+    assertThatThrownBy(() -> midwest.getCapital().getName()).isInstanceOf(IllegalStateException.class);
+  }
+}
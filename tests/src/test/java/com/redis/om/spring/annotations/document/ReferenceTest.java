@@ -226,6 +226,59 @@ class ReferenceTest extends AbstractBaseDocumentTest {
     assertThat(eom.getStates()).contains(oh, ga);
   }
 
+  @Test
+  void testFetchReferencesWithEntityStreams() {
+    List<City> cities = entityStream //
+        .of(City.class) //
+        .fetch(City$.STATE) //
+        .collect(Collectors.toList());
+
+    assertThat(cities).hasSize(18);
+    assertThat(cities).allSatisfy(city -> {
+      assertThat(city.getState()).isNotNull();
+      assertThat(city.getState().getCountry().getId()).isEqualTo("USA");
+    });
+    assertThat(cities.stream().filter(city -> city.getId().equals("Scottsdale")).findFirst()).hasValueSatisfying(
+        scottsdale -> assertThat(scottsdale.getState().getName()).isEqualTo("Arizona"));
+  }
+
+  @Test
+  void testFetchReferenceCollectionsWithEntityStreams() {
+    var oh = stateRepository.findById("OH").orElseThrow();
+    var ga = stateRepository.findById("GA").orElseThrow();
+
+    List<States> states = entityStream //
+        .of(States.class) //
+        .fetch(States$.STATES) //
+        .collect(Collectors.toList());
+
+    assertThat(states).hasSize(2);
+    States eom = states.stream().filter(s -> s.getId().equals("East Of Mississippi")).findFirst().orElseThrow();
+    assertThat(eom.getStates()).containsExactlyInAnyOrder(oh, ga);
+    States wom = states.stream().filter(s -> s.getId().equals("West Of Mississippi")).findFirst().orElseThrow();
+    assertThat(wom.getStates()).extracting(State::getId).containsExactlyInAnyOrder("CA", "AZ", "TX", "WA");
+  }
+
+  @Test
+  void testFetchReferencesOfMissingEntities() {
+    stateRepository.deleteById("GA");
+
+    List<City> cities = entityStream //
+        .of(City.class) //
+        .filter(City$.ID.eq("Atlanta")) //
+        .fetch(City$.STATE) //
+        .collect(Collectors.toList());
+
+    assertThat(cities).hasSize(1);
+    assertThat(cities.get(0).getState()).isNull();
+  }
+
+  @Test
+  void testFetchRequiresReferenceFields() {
+    assertThatThrownBy(() -> entityStream.of(City.class).fetch(City$.ID)) //
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   void testFindEntitiesByReferenceEq() {
     var maybeOh = stateRepository.findById("OH");
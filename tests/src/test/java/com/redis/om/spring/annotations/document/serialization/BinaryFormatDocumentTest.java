@@ -0,0 +1,77 @@
+package com.redis.om.spring.annotations.document.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.google.gson.JsonObject;
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.fixtures.document.model.Address;
+import com.redis.om.spring.fixtures.document.model.BinaryPayloadDoc;
+import com.redis.om.spring.fixtures.document.repository.BinaryPayloadDocRepository;
+import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.serialization.binary.BinaryCodec;
+import com.redis.om.spring.serialization.binary.BinaryValue;
+
+class BinaryFormatDocumentTest extends AbstractBaseDocumentTest {
+  @Autowired
+  BinaryPayloadDocRepository repository;
+
+  @Autowired
+  RedisModulesOperations<String> modulesOperations;
+
+  private BinaryPayloadDoc doc;
+
+  @BeforeEach
+  void loadTestData() {
+    repository.deleteAll();
+    doc = repository.save(BinaryPayloadDoc.of("order-1", List.of(Address.of("Lisbon", "Rua Augusta"), Address.of(
+        "Porto", "Rua das Flores")), BinaryValue.of(Map.of("apples", 3, "pears", 5))));
+  }
+
+  @Test
+  void testBinaryFieldsAreStoredAsEncodedLeaves() {
+    JsonObject raw = modulesOperations.opsForJSON().get(BinaryPayloadDoc.class.getName() + ":" + doc.getId(),
+        JsonObject.class);
+
+    assertThat(raw.get("name").getAsString()).isEqualTo("order-1");
+    byte[] addresses = Base64.getDecoder().decode(raw.get("addresses").getAsString());
+    byte[] counts = Base64.getDecoder().decode(raw.get("counts").getAsString());
+    assertThat(addresses).startsWith(':', ')', '\n');
+    assertThat(counts).startsWith((byte) 0xD9, (byte) 0xD9, (byte) 0xF7);
+    assertThat(BinaryCodec.decode(counts).getAsJsonObject().get("pears").getAsInt()).isEqualTo(5);
+  }
+
+  @Test
+  void testBinaryFieldsRoundTrip() {
+    BinaryPayloadDoc found = repository.findById(doc.getId()).orElseThrow();
+
+    assertThat(found.getAddresses()).extracting(Address::getCity).containsExactly("Lisbon", "Porto");
+    assertThat(found.getCounts().isDecoded()).isFalse();
+    assertThat(found.getCounts().get()).containsEntry("apples", 3).containsEntry("pears", 5);
+    assertThat(found.getCounts().isDecoded()).isTrue();
+  }
+
+  @Test
+  void testIndexedFieldsStayQueryable() {
+    assertThat(repository.findByName("order-1")).hasSize(1).first().satisfies(found -> assertThat(found
+        .getAddresses()).hasSize(2));
+  }
+
+  @Test
+  void testUndecodedValuesAreWrittenBackUnchanged() {
+    BinaryPayloadDoc found = repository.findById(doc.getId()).orElseThrow();
+    found.setName("order-2");
+    repository.save(found);
+
+    BinaryPayloadDoc updated = repository.findById(doc.getId()).orElseThrow();
+    assertThat(updated.getName()).isEqualTo("order-2");
+    assertThat(updated.getCounts().get()).containsEntry("apples", 3);
+  }
+}
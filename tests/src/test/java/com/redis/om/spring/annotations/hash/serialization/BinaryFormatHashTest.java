@@ -0,0 +1,67 @@
+package com.redis.om.spring.annotations.hash.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.redis.om.spring.AbstractBaseEnhancedRedisTest;
+import com.redis.om.spring.fixtures.hash.model.BinaryPayloadHash;
+import com.redis.om.spring.fixtures.hash.repository.BinaryPayloadHashRepository;
+import com.redis.om.spring.serialization.binary.BinaryCodec;
+import com.redis.om.spring.serialization.binary.BinaryValue;
+
+class BinaryFormatHashTest extends AbstractBaseEnhancedRedisTest {
+  @Autowired
+  BinaryPayloadHashRepository repository;
+
+  private BinaryPayloadHash hash;
+
+  @BeforeEach
+  void loadTestData() {
+    repository.deleteAll();
+    hash = repository.save(BinaryPayloadHash.of("order-1", List.of("fragile", "express"), BinaryValue.of(Map.of(
+        "apples", 3))));
+  }
+
+  @Test
+  void testBinaryFieldsAreStoredAsRawBytes() {
+    byte[] key = (BinaryPayloadHash.class.getName() + ":" + hash.getId()).getBytes(StandardCharsets.UTF_8);
+    byte[] tags = template.execute(connection -> connection.hashCommands().hGet(key, "tags".getBytes(
+        StandardCharsets.UTF_8)));
+    byte[] counts = template.execute(connection -> connection.hashCommands().hGet(key, "counts".getBytes(
+        StandardCharsets.UTF_8)));
+
+    assertThat(tags).startsWith((byte) 0xD9, (byte) 0xD9, (byte) 0xF7);
+    assertThat(counts).startsWith(':', ')', '\n');
+    assertThat(BinaryCodec.decode(tags).getAsJsonArray()).hasSize(2);
+  }
+
+  @Test
+  void testBinaryFieldsRoundTrip() {
+    BinaryPayloadHash found = repository.findById(hash.getId()).orElseThrow();
+
+    assertThat(found.getTags()).containsExactly("fragile", "express");
+    assertThat(found.getCounts().isDecoded()).isFalse();
+    assertThat(found.getCounts().get()).containsEntry("apples", 3);
+    assertThat(repository.findByName("order-1")).hasSize(1);
+  }
+
+  @Test
+  void testValuesStoredBeforeBinaryEncodingAreRead() {
+    String key = BinaryPayloadHash.class.getName() + ":legacy";
+    template.opsForHash().putAll(key, Map.of("id", "legacy", "name", "order-0", "tags.[0]", "fragile",
+        "counts.[apples]", "3"));
+
+    BinaryPayloadHash found = repository.findById("legacy").orElseThrow();
+
+    assertThat(found.getTags()).containsExactly("fragile");
+    assertThat(found.getCounts()).isNotNull();
+    assertThat(found.getCounts().get()).containsEntry("apples", 3);
+  }
+}
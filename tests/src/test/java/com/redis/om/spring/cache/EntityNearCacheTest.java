@@ -0,0 +1,52 @@
+package com.redis.om.spring.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class EntityNearCacheTest {
+
+  @Test
+  void testLeastRecentlyUsedEntryIsEvicted() {
+    EntityNearCache cache = new EntityNearCache(String.class, "s:", 2, 0);
+    cache.put("s:1", "one");
+    cache.put("s:2", "two");
+    cache.get("s:1", String.class);
+    cache.put("s:3", "three");
+
+    assertThat(cache.contains("s:1")).isTrue();
+    assertThat(cache.contains("s:2")).isFalse();
+    assertThat(cache.contains("s:3")).isTrue();
+    assertThat(cache.getStats().evictions()).isEqualTo(1);
+  }
+
+  @Test
+  void testExpiredEntriesAreMisses() throws InterruptedException {
+    EntityNearCache cache = new EntityNearCache(String.class, "s:", 10, 1);
+    cache.put("s:1", "one");
+    Thread.sleep(5);
+
+    assertThat(cache.get("s:1", String.class)).isNull();
+    assertThat(cache.getStats().misses()).isEqualTo(1);
+  }
+
+  @Test
+  void testStaleLoadIsDiscardedAfterInvalidation() {
+    EntityNearCache cache = new EntityNearCache(String.class, "s:", 10, 0);
+    long epoch = cache.epoch();
+    cache.invalidate("s:1");
+
+    assertThat(cache.putIfCurrent("s:1", "stale", epoch)).isFalse();
+    assertThat(cache.contains("s:1")).isFalse();
+    assertThat(cache.putIfCurrent("s:1", "fresh", cache.epoch())).isTrue();
+    assertThat(cache.get("s:1", String.class)).isEqualTo("fresh");
+  }
+
+  @Test
+  void testCoversOnlyItsKeyspace() {
+    EntityNearCache cache = new EntityNearCache(String.class, "s:", 10, 0);
+
+    assertThat(cache.covers("s:1")).isTrue();
+    assertThat(cache.covers("t:1")).isFalse();
+  }
+}
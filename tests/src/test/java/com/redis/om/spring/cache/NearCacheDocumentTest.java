@@ -0,0 +1,200 @@
+package com.redis.om.spring.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.testcontainers.shaded.org.awaitility.Awaitility.with;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.fixtures.document.model.NearCachedProduct;
+import com.redis.om.spring.fixtures.document.model.NearCachedProduct$;
+import com.redis.om.spring.fixtures.document.repository.NearCachedProductRepository;
+import com.redis.om.spring.search.stream.EntityStream;
+
+import redis.clients.jedis.json.Path2;
+
+@SuppressWarnings(
+  "SpellCheckingInspection"
+)
+class NearCacheDocumentTest extends AbstractBaseDocumentTest {
+  @Autowired
+  NearCachedProductRepository repository;
+
+  @Autowired
+  NearCacheManager nearCacheManager;
+
+  @Autowired
+  EntityStream entityStream;
+
+  String keyspace;
+
+  @BeforeEach
+  void setup() {
+    repository.deleteAll();
+    repository.saveAll(List.of( //
+        NearCachedProduct.of("Keyboard", 49.99), //
+        NearCachedProduct.of("Mouse", 19.99), //
+        NearCachedProduct.of("Monitor", 199.99) //
+    ));
+    keyspace = indexer.getKeyspaceForEntityClass(NearCachedProduct.class);
+    nearCacheManager.clear(NearCachedProduct.class);
+  }
+
+  @AfterEach
+  void cleanUp() {
+    repository.deleteAll();
+  }
+
+  private EntityNearCache cache() {
+    return nearCacheManager.getCacheFor(NearCachedProduct.class).orElseThrow();
+  }
+
+  @Test
+  void testAnnotatedEntityGetsANearCache() {
+    assertThat(nearCacheManager.getCacheFor(NearCachedProduct.class)).isPresent();
+    assertThat(cache().getKeyPrefix()).isEqualTo(keyspace);
+    assertThat(nearCacheManager.getCacheFor(String.class)).isEmpty();
+  }
+
+  @Test
+  void testFindByIdIsServedFromTheNearCache() {
+    String id = repository.findAll().get(0).getId();
+    long hitsBefore = cache().getStats().hits();
+
+    NearCachedProduct first = repository.findById(id).orElseThrow();
+    NearCachedProduct second = repository.findById(id).orElseThrow();
+
+    assertThat(second).isEqualTo(first);
+    assertThat(cache().getStats().hits()).isEqualTo(hitsBefore + 1);
+    assertThat(repository.existsById(id)).isTrue();
+  }
+
+  @Test
+  void testSaveInvalidatesTheNearCacheEntry() {
+    NearCachedProduct product = repository.findAll().get(0);
+    repository.findById(product.getId());
+
+    product.setPrice(9.99);
+    repository.save(product);
+
+    assertThat(repository.findById(product.getId())).hasValueSatisfying(p -> assertThat(p.getPrice()).isEqualTo(
+        9.99));
+  }
+
+  @Test
+  void testDeleteInvalidatesTheNearCacheEntry() {
+    String id = repository.findAll().get(0).getId();
+    repository.findById(id);
+
+    repository.deleteById(id);
+
+    assertThat(repository.findById(id)).isEmpty();
+    assertThat(repository.existsById(id)).isFalse();
+  }
+
+  @Test
+  void testExistsByIdAsksTheServerEvenForCachedEntries() {
+    String id = repository.findAll().get(0).getId();
+    String key = keyspace + id;
+    repository.findById(id);
+    String json = cache().get(key, String.class);
+
+    // an entry outliving a delete, as when the delete's invalidation has not arrived yet
+    template.delete(key);
+    cache().put(key, json);
+
+    assertThat(repository.existsById(id)).isFalse();
+  }
+
+  @Test
+  void testBulkUpdateInvalidatesTheNearCacheEntries() {
+    NearCachedProduct product = repository.findAll().stream().filter(p -> p.getName().equals("Mouse")).findFirst()
+        .orElseThrow();
+    repository.findById(product.getId());
+    assertThat(cache().contains(keyspace + product.getId())).isTrue();
+
+    long updated = entityStream.of(NearCachedProduct.class) //
+        .filter(NearCachedProduct$.NAME.eq("Mouse")) //
+        .update(NearCachedProduct$.PRICE.incrBy(10L));
+
+    assertThat(updated).isEqualTo(1);
+    assertThat(cache().contains(keyspace + product.getId())).isFalse();
+    assertThat(repository.findById(product.getId())).hasValueSatisfying(p -> assertThat(p.getPrice()).isCloseTo(
+        29.99, within(0.001)));
+  }
+
+  @Test
+  void testFindAllByIdOnlyFetchesMisses() {
+    List<String> ids = repository.findAll().stream().map(NearCachedProduct::getId).toList();
+    repository.findById(ids.get(0));
+    long hitsBefore = cache().getStats().hits();
+
+    List<NearCachedProduct> products = repository.findAllById(List.of(ids.get(0), ids.get(1), "missing"));
+
+    assertThat(products).extracting(NearCachedProduct::getId).containsExactly(ids.get(0), ids.get(1));
+    assertThat(cache().getStats().hits()).isEqualTo(hitsBefore + 1);
+  }
+
+  @Test
+  void testCapacityIsBounded() {
+    repository.findAll().forEach(p -> repository.findById(p.getId()));
+
+    NearCacheStats stats = cache().getStats();
+    assertThat(stats.size()).isEqualTo(2);
+    assertThat(stats.evictions()).isPositive();
+  }
+
+  @Test
+  void testExternalWriteIsInvalidatedThroughClientTracking() {
+    NearCachedProduct product = repository.findAll().get(0);
+    repository.findById(product.getId());
+    assertThat(cache().contains(keyspace + product.getId())).isTrue();
+
+    // write behind the repository's back, as another process would
+    modulesOperations.opsForJSON().set(keyspace + product.getId(), 1.0, Path2.of("$.price"));
+
+    if (nearCacheManager.isTrackingAvailable()) {
+      with().pollInterval(Duration.ofMillis(20)).await("near-cache entry invalidated").atMost(Duration.ofSeconds(5))
+          .until(() -> !cache().contains(keyspace + product.getId()));
+      assertThat(repository.findById(product.getId())).hasValueSatisfying(p -> assertThat(p.getPrice()).isEqualTo(
+          1.0));
+    }
+  }
+
+  @Test
+  void testListenerFailureClearsTheCachesAndResubscribes() {
+    if (!nearCacheManager.isTrackingAvailable()) {
+      return;
+    }
+    NearCachedProduct product = repository.findAll().get(0);
+    String key = keyspace + product.getId();
+    repository.findById(product.getId());
+    assertThat(cache().contains(key)).isTrue();
+
+    // drop the subscriber connection, as a network failure or a server restart would
+    template.execute((RedisCallback<Object>) connection -> connection.execute("CLIENT", "KILL".getBytes(), "TYPE"
+        .getBytes(), "pubsub".getBytes()));
+
+    with().pollInterval(Duration.ofMillis(20)).await("near-caches cleared").atMost(Duration.ofSeconds(5)).until(
+        () -> !cache().contains(key));
+    with().pollInterval(Duration.ofMillis(50)).await("listener resubscribed").atMost(Duration.ofSeconds(10)).until(
+        nearCacheManager::isTrackingAvailable);
+    with().pollInterval(Duration.ofMillis(50)).await("entry cached again").atMost(Duration.ofSeconds(5)).until(() -> {
+      repository.findById(product.getId());
+      return cache().contains(key);
+    });
+
+    modulesOperations.opsForJSON().set(key, 2.0, Path2.of("$.price"));
+
+    with().pollInterval(Duration.ofMillis(20)).await("near-cache entry invalidated").atMost(Duration.ofSeconds(5))
+        .until(() -> !cache().contains(key));
+  }
+}
@@ -0,0 +1,72 @@
+package com.redis.om.spring.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.redis.om.spring.AbstractBaseEnhancedRedisTest;
+import com.redis.om.spring.fixtures.hash.model.NearCachedHash;
+import com.redis.om.spring.fixtures.hash.model.NearCachedHash$;
+import com.redis.om.spring.fixtures.hash.repository.NearCachedHashRepository;
+
+@SuppressWarnings(
+  "SpellCheckingInspection"
+)
+class NearCacheHashTest extends AbstractBaseEnhancedRedisTest {
+  @Autowired
+  NearCachedHashRepository repository;
+
+  @Autowired
+  NearCacheManager nearCacheManager;
+
+  @AfterEach
+  void cleanUp() {
+    repository.deleteAll();
+  }
+
+  @Test
+  void testFindByIdIsServedFromTheNearCache() {
+    NearCachedHash saved = repository.save(NearCachedHash.of("first"));
+    EntityNearCache cache = nearCacheManager.getCacheFor(NearCachedHash.class).orElseThrow();
+    long hitsBefore = cache.getStats().hits();
+
+    assertThat(repository.findById(saved.getId())).hasValueSatisfying(h -> assertThat(h.getName()).isEqualTo(
+        "first"));
+    assertThat(repository.findById(saved.getId())).hasValueSatisfying(h -> assertThat(h.getName()).isEqualTo(
+        "first"));
+
+    assertThat(cache.getStats().hits()).isEqualTo(hitsBefore + 1);
+  }
+
+  @Test
+  void testSaveAndUpdateInvalidateTheNearCacheEntry() {
+    NearCachedHash saved = repository.save(NearCachedHash.of("first"));
+    repository.findById(saved.getId());
+
+    saved.setName("second");
+    repository.save(saved);
+    assertThat(repository.findById(saved.getId())).hasValueSatisfying(h -> assertThat(h.getName()).isEqualTo(
+        "second"));
+
+    repository.updateField(saved, NearCachedHash$.NAME, "third");
+    assertThat(repository.findById(saved.getId())).hasValueSatisfying(h -> assertThat(h.getName()).isEqualTo(
+        "third"));
+  }
+
+  @Test
+  void testExistsByIdAsksTheServerEvenForCachedEntries() {
+    NearCachedHash saved = repository.save(NearCachedHash.of("first"));
+    EntityNearCache cache = nearCacheManager.getCacheFor(NearCachedHash.class).orElseThrow();
+    String key = cache.getKeyPrefix() + saved.getId();
+    repository.findById(saved.getId());
+    Object hash = cache.get(key, Object.class);
+
+    // an entry outliving a delete, as when the delete's invalidation has not arrived yet
+    template.delete(key);
+    cache.put(key, hash);
+
+    assertThat(repository.existsById(saved.getId())).isFalse();
+  }
+}
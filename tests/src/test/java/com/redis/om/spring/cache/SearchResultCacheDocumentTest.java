@@ -0,0 +1,113 @@
+package com.redis.om.spring.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.fixtures.document.model.SearchCachedProduct;
+import com.redis.om.spring.fixtures.document.model.SearchCachedProduct$;
+import com.redis.om.spring.fixtures.document.repository.SearchCachedProductRepository;
+import com.redis.om.spring.search.stream.EntityStream;
+
+@TestPropertySource(
+    properties = { "redis.om.spring.search-cache.enabled=true", "redis.om.spring.search-cache.max-staleness=1m",
+        "redis.om.spring.search-cache.entity-classes=com.redis.om.spring.fixtures.document.model.SearchCachedProduct" }
+)
+class SearchResultCacheDocumentTest extends AbstractBaseDocumentTest {
+  @Autowired
+  SearchCachedProductRepository repository;
+
+  @Autowired
+  SearchResultCache searchResultCache;
+
+  @Autowired
+  EntityStream entityStream;
+
+  @BeforeEach
+  void setup() {
+    repository.deleteAll();
+    repository.saveAll(List.of( //
+        SearchCachedProduct.of("Keyboard", 49.99), //
+        SearchCachedProduct.of("Mouse", 19.99), //
+        SearchCachedProduct.of("Monitor", 199.99) //
+    ));
+    searchResultCache.clear();
+  }
+
+  @AfterEach
+  void cleanUp() {
+    repository.deleteAll();
+  }
+
+  @Test
+  void testRepeatedQueryMethodIsServedFromTheCache() {
+    long hitsBefore = searchResultCache.getHits();
+
+    List<SearchCachedProduct> first = repository.findByPriceBetween(10.0, 60.0);
+    List<SearchCachedProduct> second = repository.findByPriceBetween(10.0, 60.0);
+
+    assertThat(first).extracting("name").containsExactlyInAnyOrder("Keyboard", "Mouse");
+    assertThat(second).containsExactlyInAnyOrderElementsOf(first);
+    assertThat(searchResultCache.getHits()).isEqualTo(hitsBefore + 1);
+  }
+
+  @Test
+  void testDifferentParametersAreCachedSeparately() {
+    assertThat(repository.findByPriceBetween(10.0, 60.0)).hasSize(2);
+    assertThat(repository.findByPriceBetween(100.0, 300.0)).extracting("name").containsExactly("Monitor");
+  }
+
+  @Test
+  void testRepositoryWritesInvalidateCachedResults() {
+    assertThat(repository.findByName("Mouse")).hasSize(1);
+
+    SearchCachedProduct mouse = repository.findByName("Mouse").get(0);
+    mouse.setPrice(24.99);
+    repository.save(mouse);
+
+    assertThat(repository.findByName("Mouse")).extracting("price").containsExactly(24.99);
+
+    repository.delete(mouse);
+
+    assertThat(repository.findByName("Mouse")).isEmpty();
+  }
+
+  @Test
+  void testEntityStreamQueriesAreCachedAndInvalidated() {
+    long missesBefore = searchResultCache.getMisses();
+
+    List<String> cheap = entityStream.of(SearchCachedProduct.class) //
+        .filter(SearchCachedProduct$.PRICE.lt(50.0)) //
+        .map(SearchCachedProduct$.NAME) //
+        .collect(Collectors.toList());
+    List<String> cheapAgain = entityStream.of(SearchCachedProduct.class) //
+        .filter(SearchCachedProduct$.PRICE.lt(50.0)) //
+        .map(SearchCachedProduct$.NAME) //
+        .collect(Collectors.toList());
+
+    assertThat(cheap).containsExactlyInAnyOrder("Keyboard", "Mouse");
+    assertThat(cheapAgain).containsExactlyInAnyOrderElementsOf(cheap);
+    assertThat(searchResultCache.getMisses()).isEqualTo(missesBefore + 1);
+
+    repository.save(SearchCachedProduct.of("Webcam", 39.99));
+
+    assertThat(entityStream.of(SearchCachedProduct.class) //
+        .filter(SearchCachedProduct$.PRICE.lt(50.0)) //
+        .map(SearchCachedProduct$.NAME) //
+        .collect(Collectors.toList())).containsExactlyInAnyOrder("Keyboard", "Mouse", "Webcam");
+  }
+
+  @Test
+  void testOtherEntitiesAreNotCached() {
+    assertThat(searchResultCache.isEnabledFor(SearchCachedProduct.class)).isTrue();
+    assertThat(searchResultCache.isEnabledFor(String.class)).isFalse();
+  }
+}
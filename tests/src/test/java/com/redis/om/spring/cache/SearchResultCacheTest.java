@@ -0,0 +1,146 @@
+package com.redis.om.spring.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.redis.om.spring.RedisOMProperties;
+import com.redis.om.spring.autocomplete.Suggestion;
+import com.redis.om.spring.repository.query.autocomplete.AutoCompleteOptions;
+
+class SearchResultCacheTest {
+
+  private static SearchResultCache cache(int maxEntries, Duration maxStaleness, String... entityClasses) {
+    RedisOMProperties properties = new RedisOMProperties();
+    properties.getSearchCache().setEnabled(true);
+    properties.getSearchCache().setMaxEntries(maxEntries);
+    properties.getSearchCache().setMaxStaleness(maxStaleness);
+    properties.getSearchCache().setEntityClasses(List.of(entityClasses));
+    return new SearchResultCache(properties);
+  }
+
+  @Test
+  void testRepeatedQueryIsLoadedOnce() {
+    SearchResultCache cache = cache(10, Duration.ofMinutes(1));
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.get(String.class, "idx", "q", () -> "r" + loads.incrementAndGet());
+    String result = cache.get(String.class, "idx", "q", () -> "r" + loads.incrementAndGet());
+
+    assertThat(result).isEqualTo("r1");
+    assertThat(loads).hasValue(1);
+    assertThat(cache.getHits()).isEqualTo(1);
+    assertThat(cache.getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  void testInvalidationOnlyAffectsTheWrittenEntityType() {
+    SearchResultCache cache = cache(10, Duration.ofMinutes(1));
+    cache.get(String.class, "idx", "q", () -> "string");
+    cache.get(Integer.class, "idx2", "q", () -> "integer");
+
+    cache.invalidate(String.class);
+
+    assertThat(cache.get(String.class, "idx", "q", () -> "reloaded")).isEqualTo("reloaded");
+    assertThat(cache.get(Integer.class, "idx2", "q", () -> "reloaded")).isEqualTo("integer");
+  }
+
+  @Test
+  void testResultsOlderThanMaxStalenessAreReloaded() throws InterruptedException {
+    SearchResultCache cache = cache(10, Duration.ofMillis(1));
+    cache.get(String.class, "idx", "q", () -> "first");
+    Thread.sleep(5);
+
+    assertThat(cache.get(String.class, "idx", "q", () -> "second")).isEqualTo("second");
+  }
+
+  @Test
+  void testResultLoadedDuringAWriteIsNotCached() {
+    SearchResultCache cache = cache(10, Duration.ofMinutes(1));
+    cache.get(String.class, "idx", "q", () -> {
+      cache.invalidate(String.class);
+      return "stale";
+    });
+
+    assertThat(cache.size()).isZero();
+    assertThat(cache.get(String.class, "idx", "q", () -> "fresh")).isEqualTo("fresh");
+  }
+
+  @Test
+  void testLeastRecentlyUsedResultIsEvicted() {
+    SearchResultCache cache = cache(2, Duration.ofMinutes(1));
+    cache.get(String.class, "idx", "a", () -> "a");
+    cache.get(String.class, "idx", "b", () -> "b");
+    cache.get(String.class, "idx", "a", () -> "a2");
+    cache.get(String.class, "idx", "c", () -> "c");
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get(String.class, "idx", "a", () -> "a3")).isEqualTo("a");
+    assertThat(cache.get(String.class, "idx", "b", () -> "b2")).isEqualTo("b2");
+  }
+
+  @Test
+  void testEntityClassFilter() {
+    SearchResultCache cache = cache(10, Duration.ofMinutes(1), String.class.getName());
+
+    assertThat(cache.isEnabledFor(String.class)).isTrue();
+    assertThat(cache.isEnabledFor(Integer.class)).isFalse();
+    assertThat(new SearchResultCache(new RedisOMProperties()).isEnabledFor(String.class)).isFalse();
+  }
+
+  @Test
+  void testSuggestionsAreCachedPerPrefixAndOptionsForTheirTtl() throws InterruptedException {
+    RedisOMProperties properties = new RedisOMProperties();
+    properties.getSearchCache().setSuggestionTtl(Duration.ofMillis(200));
+    SearchResultCache cache = new SearchResultCache(properties);
+    AtomicInteger loads = new AtomicInteger();
+    Supplier<List<Suggestion>> loader = () -> List.of(new Suggestion("s" + loads.incrementAndGet()));
+
+    assertThat(cache.isSuggestionCachingEnabledFor(String.class)).isTrue();
+    cache.getSuggestions(String.class, "sugg:A:name", "ab", AutoCompleteOptions.get(), loader);
+    cache.getSuggestions(String.class, "sugg:A:name", "ab", AutoCompleteOptions.get(), loader);
+    assertThat(loads).hasValue(1);
+
+    cache.getSuggestions(String.class, "sugg:A:name", "abc", AutoCompleteOptions.get(), loader);
+    cache.getSuggestions(String.class, "sugg:A:name", "ab", AutoCompleteOptions.get().withPayload(), loader);
+    assertThat(loads).hasValue(3);
+
+    cache.invalidate(String.class);
+    cache.getSuggestions(String.class, "sugg:A:name", "ab", AutoCompleteOptions.get(), loader);
+    assertThat(loads).hasValue(4);
+
+    Thread.sleep(250);
+    cache.getSuggestions(String.class, "sugg:A:name", "ab", AutoCompleteOptions.get(), loader);
+    assertThat(loads).hasValue(5);
+  }
+
+  @Test
+  void testSuggestionsAreNotCachedWithoutTtl() {
+    SearchResultCache cache = cache(10, Duration.ofMinutes(1));
+
+    assertThat(cache.isSuggestionCachingEnabledFor(String.class)).isFalse();
+  }
+
+  @Test
+  void testCachedSuggestionsCannotBeModifiedByCallers() {
+    RedisOMProperties properties = new RedisOMProperties();
+    properties.getSearchCache().setSuggestionTtl(Duration.ofMinutes(1));
+    SearchResultCache cache = new SearchResultCache(properties);
+    Supplier<List<Suggestion>> loader = () -> new ArrayList<>(List.of(new Suggestion("abc")));
+
+    AutoCompleteOptions options = AutoCompleteOptions.get();
+    List<Suggestion> first = cache.getSuggestions(String.class, "sugg:A:name", "ab", options, loader);
+    assertThatThrownBy(() -> first.add(new Suggestion("abd"))).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(first::clear).isInstanceOf(UnsupportedOperationException.class);
+
+    List<Suggestion> second = cache.getSuggestions(String.class, "sugg:A:name", "ab", options, loader);
+    assertThat(second).extracting(Suggestion::getValue).containsExactly("abc");
+  }
+}
@@ -0,0 +1,63 @@
+package com.redis.om.spring.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class HashDeltaTest {
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static Map<byte[], byte[]> hash(String... fieldsAndValues) {
+    Map<byte[], byte[]> hash = new LinkedHashMap<>();
+    for (int i = 0; i < fieldsAndValues.length; i += 2) {
+      hash.put(bytes(fieldsAndValues[i]), bytes(fieldsAndValues[i + 1]));
+    }
+    return hash;
+  }
+
+  private static Map<String, String> asStrings(Map<byte[], byte[]> hash) {
+    Map<String, String> strings = new LinkedHashMap<>();
+    hash.forEach((field, value) -> strings.put(new String(field, StandardCharsets.UTF_8), new String(value,
+        StandardCharsets.UTF_8)));
+    return strings;
+  }
+
+  @Test
+  void testOnlyChangedAndNewFieldsAreWritten() {
+    HashDelta delta = HashDelta.between( //
+        hash("name", "Redis", "year", "2011", "email", "stack@redis.com"), //
+        hash("name", "Redis", "year", "2012", "city", "Mountain View", "email", "stack@redis.com"));
+
+    assertThat(asStrings(delta.getChangedFields())).containsExactly( //
+        Map.entry("year", "2012"), //
+        Map.entry("city", "Mountain View"));
+    assertThat(delta.getRemovedFields()).isEmpty();
+    assertThat(delta.isEmpty()).isFalse();
+  }
+
+  @Test
+  void testFieldsNoLongerMappedAreRemoved() {
+    HashDelta delta = HashDelta.between( //
+        hash("name", "Redis", "tags.[0]", "fast", "tags.[1]", "nosql"), //
+        hash("name", "Redis", "tags.[0]", "fast"));
+
+    assertThat(delta.getChangedFields()).isEmpty();
+    assertThat(delta.getRemovedFields()).extracting(f -> new String(f, StandardCharsets.UTF_8)).containsExactly(
+        "tags.[1]");
+    assertThat(delta.getRemovedFieldsArray()).hasSize(1);
+  }
+
+  @Test
+  void testIdenticalHashesHaveAnEmptyDelta() {
+    HashDelta delta = HashDelta.between(hash("name", "Redis", "year", "2011"), hash("year", "2011", "name", "Redis"));
+
+    assertThat(delta.isEmpty()).isTrue();
+  }
+}
@@ -0,0 +1,107 @@
+package com.redis.om.spring.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.convert.Bucket;
+import org.springframework.data.redis.core.convert.RedisData;
+
+import com.redis.om.spring.annotations.Indexed;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+class MappingRedisOMConverterReadTest {
+
+  private final MappingRedisOMConverter converter = new MappingRedisOMConverter();
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private <T> T roundTrip(T source, Class<T> type) {
+    RedisData sink = new RedisData();
+    converter.write(source, sink);
+    return converter.read(type, new RedisData(Bucket.newBucketFromRawMap(sink.getBucket().rawMap())));
+  }
+
+  @Test
+  void testRoundTripOfSimpleCollectionsDatesAndTags() {
+    Crate crate = new Crate("c1", List.of("red", "blue"), List.of(3L, 1L, 2L), new int[] { 7, 8 }, true, LocalDate.of(
+        2024, 2, 29), LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS), new Tag("fragile", List.of(5, 6)));
+
+    assertThat(roundTrip(crate, Crate.class)).usingRecursiveComparison().isEqualTo(crate);
+  }
+
+  @Test
+  void testIndexedElementsAreReadInIndexOrder() {
+    Bucket bucket = new Bucket();
+    bucket.put("id", bytes("c2"));
+    bucket.put("weights.[10]", bytes("11"));
+    bucket.put("weights.[2]", bytes("3"));
+    bucket.put("weights.[0]", bytes("1"));
+    bucket.put("weights.[1]", bytes("2"));
+
+    Crate crate = converter.read(Crate.class, new RedisData(bucket));
+
+    assertThat(crate.getWeights()).containsExactly(1L, 2L, 3L, 11L);
+  }
+
+  @Test
+  void testBooleansAndEpochNumbersAreDecodedFromBytes() {
+    BytesToBooleanConverter booleans = new BytesToBooleanConverter();
+    assertThat(booleans.convert(bytes("1"))).isTrue();
+    assertThat(booleans.convert(bytes("TrUe"))).isTrue();
+    assertThat(booleans.convert(bytes("0"))).isFalse();
+    assertThat(booleans.convert(bytes("truth"))).isFalse();
+
+    assertThat(AsciiNumbers.parseLong(bytes("1709164800"))).isEqualTo(1709164800L);
+    assertThat(AsciiNumbers.parseLong(bytes("-86400"))).isEqualTo(-86400L);
+    assertThat(AsciiNumbers.parseLong(bytes("+42"))).isEqualTo(42L);
+    assertThat(AsciiNumbers.parseLong(bytes(String.valueOf(Long.MAX_VALUE)))).isEqualTo(Long.MAX_VALUE);
+    assertThat(AsciiNumbers.parseLong(bytes(String.valueOf(Long.MIN_VALUE)))).isEqualTo(Long.MIN_VALUE);
+    assertThatThrownBy(() -> AsciiNumbers.parseLong(bytes("12a"))).isInstanceOf(NumberFormatException.class);
+    assertThatThrownBy(() -> AsciiNumbers.parseLong(new byte[0])).isInstanceOf(NumberFormatException.class);
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  static class Crate {
+    @Id
+    private String id;
+
+    @Indexed
+    private List<String> labels;
+
+    private List<Long> weights;
+
+    private int[] slots;
+
+    private Boolean sealed;
+
+    private LocalDate packedOn;
+
+    private LocalDateTime shippedAt;
+
+    private Tag tag;
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  static class Tag {
+    private String name;
+
+    private List<Integer> codes;
+  }
+}
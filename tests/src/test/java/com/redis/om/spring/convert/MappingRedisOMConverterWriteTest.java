@@ -0,0 +1,93 @@
+package com.redis.om.spring.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.convert.RedisData;
+
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.TagIndexed;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+class MappingRedisOMConverterWriteTest {
+
+  private final MappingRedisOMConverter converter = new MappingRedisOMConverter();
+
+  private Map<String, String> write(Object source) {
+    RedisData sink = new RedisData();
+    converter.write(source, sink);
+    Map<String, String> fields = new TreeMap<>();
+    sink.getBucket().asMap().forEach((field, value) -> fields.put(field, new String(value, StandardCharsets.UTF_8)));
+    return fields;
+  }
+
+  @Test
+  void testTopLevelTagCollectionsAreJoinedAndNestedOnesAreNot() {
+    Shelf shelf = new Shelf("s1", List.of("red", "blue"), List.of("a", "b"), List.of(3, 4), new Label("top", List
+        .of("x", "y")));
+
+    assertThat(write(shelf)).containsAllEntriesOf(Map.of( //
+        "id", "s1", //
+        "colors", "red|blue", //
+        "codes", "a;b", //
+        "sizes.[0]", "3", //
+        "sizes.[1]", "4", //
+        "label.name", "top", //
+        "label.aliases.[0]", "x", //
+        "label.aliases.[1]", "y"));
+  }
+
+  @Test
+  void testRepeatedWritesProduceTheSameHash() {
+    Shelf first = new Shelf("s1", List.of("red"), List.of("c"), List.of(1), new Label("top", List.of("x")));
+    Shelf second = new Shelf("s2", List.of("green", "blue"), null, List.of(), null);
+
+    Map<String, String> firstFields = write(first);
+    assertThat(write(second)).containsEntry("colors", "green|blue").doesNotContainKeys("codes", "label.name");
+    assertThat(write(first)).isEqualTo(firstFields);
+  }
+
+  @Test
+  void testCollectionsContainingNullsAreSkipped() {
+    Shelf shelf = new Shelf("s1", Arrays.asList("red", null), List.of("c"), List.of(1), null);
+
+    assertThat(write(shelf)).doesNotContainKey("colors").containsEntry("codes", "c");
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  static class Shelf {
+    @Id
+    private String id;
+
+    @Indexed
+    private List<String> colors;
+
+    @TagIndexed(
+        separator = ";"
+    )
+    private List<String> codes;
+
+    private List<Integer> sizes;
+
+    private Label label;
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  static class Label {
+    private String name;
+
+    @Indexed
+    private List<String> aliases;
+  }
+}
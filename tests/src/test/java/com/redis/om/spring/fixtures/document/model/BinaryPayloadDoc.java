@@ -0,0 +1,46 @@
+package com.redis.om.spring.fixtures.document.model;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+
+import com.redis.om.spring.annotations.BinaryFormat;
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.SerializationHint;
+import com.redis.om.spring.serialization.binary.BinaryValue;
+
+import lombok.*;
+
+@Data
+@RequiredArgsConstructor(
+    staticName = "of"
+)
+@AllArgsConstructor(
+    access = AccessLevel.PROTECTED
+)
+@NoArgsConstructor(
+    force = true
+)
+@Document
+public class BinaryPayloadDoc {
+  @Id
+  private String id;
+
+  @Indexed
+  @NonNull
+  private String name;
+
+  @BinaryFormat(
+    SerializationHint.SMILE
+  )
+  @NonNull
+  private List<Address> addresses;
+
+  @BinaryFormat(
+    SerializationHint.CBOR
+  )
+  @NonNull
+  private BinaryValue<Map<String, Integer>> counts;
+}
@@ -0,0 +1,36 @@
+package com.redis.om.spring.fixtures.document.model;
+
+import java.util.Set;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Reference;
+
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.LazyReference;
+
+import lombok.Data;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@RequiredArgsConstructor(
+    staticName = "of"
+)
+@Document(
+  "lazyregion"
+)
+public class LazyRegion {
+  @Id
+  @NonNull
+  private String id;
+
+  @Reference
+  @LazyReference
+  @NonNull
+  private State capital;
+
+  @Reference
+  @LazyReference
+  @NonNull
+  private Set<State> states;
+}
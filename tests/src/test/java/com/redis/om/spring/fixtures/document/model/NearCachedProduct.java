@@ -0,0 +1,33 @@
+package com.redis.om.spring.fixtures.document.model;
+
+import org.springframework.data.annotation.Id;
+
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.NearCache;
+
+import lombok.*;
+
+@Data
+@RequiredArgsConstructor(
+    staticName = "of"
+)
+@NoArgsConstructor(
+    force = true
+)
+@Document
+@NearCache(
+    maxEntries = 2, timeToLive = 300
+)
+public class NearCachedProduct {
+  @Id
+  private String id;
+
+  @NonNull
+  @Indexed
+  private String name;
+
+  @NonNull
+  @Indexed
+  private Double price;
+}
@@ -0,0 +1,28 @@
+package com.redis.om.spring.fixtures.document.model;
+
+import org.springframework.data.annotation.Id;
+
+import com.google.gson.annotations.SerializedName;
+import com.redis.om.spring.annotations.AutoComplete;
+import com.redis.om.spring.annotations.Document;
+
+import lombok.*;
+
+@Data
+@RequiredArgsConstructor(
+    staticName = "of"
+)
+@AllArgsConstructor(
+    access = AccessLevel.PROTECTED
+)
+@Document
+public class RenamedAirport {
+  @Id
+  private String id;
+  @AutoComplete
+  @NonNull
+  @SerializedName(
+    "airport_name"
+  )
+  private String name;
+}
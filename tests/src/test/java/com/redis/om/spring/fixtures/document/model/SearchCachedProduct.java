@@ -0,0 +1,30 @@
+package com.redis.om.spring.fixtures.document.model;
+
+import org.springframework.data.annotation.Id;
+
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.Searchable;
+
+import lombok.*;
+
+@Data
+@RequiredArgsConstructor(
+    staticName = "of"
+)
+@NoArgsConstructor(
+    force = true
+)
+@Document
+public class SearchCachedProduct {
+  @Id
+  private String id;
+
+  @NonNull
+  @Searchable
+  private String name;
+
+  @NonNull
+  @Indexed
+  private Double price;
+}
@@ -0,0 +1,42 @@
+package com.redis.om.spring.fixtures.document.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.Searchable;
+
+import lombok.*;
+
+@Data
+@RequiredArgsConstructor(
+    staticName = "of"
+)
+@NoArgsConstructor(
+    force = true
+)
+@Document
+public class VersionedProduct {
+  @Id
+  private String id;
+
+  @Version
+  private Long version;
+
+  @NonNull
+  @Searchable
+  private String name;
+
+  @NonNull
+  @Indexed
+  private Double price;
+
+  @Indexed
+  private List<String> tags = new ArrayList<>();
+
+  private String description;
+}
@@ -0,0 +1,10 @@
+package com.redis.om.spring.fixtures.document.repository;
+
+import java.util.List;
+
+import com.redis.om.spring.fixtures.document.model.BinaryPayloadDoc;
+import com.redis.om.spring.repository.RedisDocumentRepository;
+
+public interface BinaryPayloadDocRepository extends RedisDocumentRepository<BinaryPayloadDoc, String> {
+  List<BinaryPayloadDoc> findByName(String name);
+}
@@ -2,8 +2,11 @@ package com.redis.om.spring.fixtures.document.repository;
 
 import com.redis.om.spring.fixtures.document.model.LexicographicDoc;
 import com.redis.om.spring.repository.RedisDocumentRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface LexicographicDocRepository extends RedisDocumentRepository<LexicographicDoc, String> {
   
@@ -27,4 +30,14 @@ public interface LexicographicDocRepository extends RedisDocumentRepository<Lexi
   // Status field queries (TAG field with lexicographic=false)
   // These should work as normal TAG queries
   List<LexicographicDoc> findByStatus(String status);
-}
\ No newline at end of file
+
+  // Paged, sorted and mixed lexicographic queries
+  List<LexicographicDoc> findFirst2BySkuGreaterThanOrderBySkuDesc(String sku);
+  Page<LexicographicDoc> findBySkuGreaterThanEqual(String sku, Pageable pageable);
+  List<LexicographicDoc> findBySkuGreaterThanAndStatus(String sku, String status);
+  List<LexicographicDoc> findBySkuBetweenAndCategoryLessThan(String min, String max, String category);
+  Stream<LexicographicDoc> streamBySkuLessThan(String sku);
+  boolean existsBySkuGreaterThan(String sku);
+  List<LexicographicDoc> findBySkuGreaterThanOrderBySkuDesc(String sku);
+  List<LexicographicDoc> findBySkuGreaterThanOrCategoryLessThan(String sku, String category);
+}
@@ -0,0 +1,7 @@
+package com.redis.om.spring.fixtures.document.repository;
+
+import com.redis.om.spring.fixtures.document.model.NearCachedProduct;
+import com.redis.om.spring.repository.RedisDocumentRepository;
+
+public interface NearCachedProductRepository extends RedisDocumentRepository<NearCachedProduct, String> {
+}
@@ -0,0 +1,7 @@
+package com.redis.om.spring.fixtures.document.repository;
+
+import com.redis.om.spring.fixtures.document.model.RenamedAirport;
+import com.redis.om.spring.repository.RedisDocumentRepository;
+
+public interface RenamedAirportRepository extends RedisDocumentRepository<RenamedAirport, String> {
+}
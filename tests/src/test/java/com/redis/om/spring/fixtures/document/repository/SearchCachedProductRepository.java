@@ -0,0 +1,12 @@
+package com.redis.om.spring.fixtures.document.repository;
+
+import java.util.List;
+
+import com.redis.om.spring.fixtures.document.model.SearchCachedProduct;
+import com.redis.om.spring.repository.RedisDocumentRepository;
+
+public interface SearchCachedProductRepository extends RedisDocumentRepository<SearchCachedProduct, String> {
+  List<SearchCachedProduct> findByName(String name);
+
+  List<SearchCachedProduct> findByPriceBetween(double min, double max);
+}
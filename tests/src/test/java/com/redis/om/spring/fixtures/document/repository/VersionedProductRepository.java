@@ -0,0 +1,10 @@
+package com.redis.om.spring.fixtures.document.repository;
+
+import java.util.List;
+
+import com.redis.om.spring.fixtures.document.model.VersionedProduct;
+import com.redis.om.spring.repository.RedisDocumentRepository;
+
+public interface VersionedProductRepository extends RedisDocumentRepository<VersionedProduct, String> {
+  List<VersionedProduct> findByPriceBetween(double min, double max);
+}
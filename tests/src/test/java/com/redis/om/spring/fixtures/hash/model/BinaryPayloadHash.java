@@ -0,0 +1,43 @@
+package com.redis.om.spring.fixtures.hash.model;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+import com.redis.om.spring.annotations.BinaryFormat;
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.SerializationHint;
+import com.redis.om.spring.serialization.binary.BinaryValue;
+
+import lombok.*;
+
+@Data
+@RequiredArgsConstructor(
+    staticName = "of"
+)
+@AllArgsConstructor(
+    access = AccessLevel.PROTECTED
+)
+@NoArgsConstructor(
+    force = true
+)
+@RedisHash
+public class BinaryPayloadHash {
+  @Id
+  private String id;
+
+  @Indexed
+  @NonNull
+  private String name;
+
+  @BinaryFormat(
+    SerializationHint.CBOR
+  )
+  @NonNull
+  private List<String> tags;
+
+  @NonNull
+  private BinaryValue<Map<String, Integer>> counts;
+}
@@ -0,0 +1,46 @@
+package com.redis.om.spring.fixtures.hash.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+import com.redis.om.spring.annotations.VectorIndexed;
+import com.redis.om.spring.indexing.DistanceMetric;
+import com.redis.om.spring.indexing.VectorType;
+
+import lombok.*;
+import redis.clients.jedis.search.schemafields.VectorField.VectorAlgorithm;
+
+@Data
+@RequiredArgsConstructor(
+    staticName = "of"
+)
+@NoArgsConstructor(
+    force = true
+)
+@EqualsAndHashCode(
+    onlyExplicitlyIncluded = true
+)
+@RedisHash
+public class HashWithQuantizedVectors {
+  @Id
+  @NonNull
+  private String id;
+
+  @VectorIndexed(
+      algorithm = VectorAlgorithm.FLAT, type = VectorType.FLOAT16, dimension = 4, distanceMetric = DistanceMetric.L2
+  )
+  @NonNull
+  private byte[] half;
+
+  @VectorIndexed(
+      algorithm = VectorAlgorithm.HNSW, type = VectorType.BFLOAT16, dimension = 4, distanceMetric = DistanceMetric.L2
+  )
+  @NonNull
+  private byte[] brain;
+
+  @VectorIndexed(
+      algorithm = VectorAlgorithm.FLAT, type = VectorType.INT8, dimension = 4, distanceMetric = DistanceMetric.L2
+  )
+  @NonNull
+  private byte[] quantized;
+}
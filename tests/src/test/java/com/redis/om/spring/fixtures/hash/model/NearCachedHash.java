@@ -0,0 +1,27 @@
+package com.redis.om.spring.fixtures.hash.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.NearCache;
+
+import lombok.*;
+
+@Data
+@RequiredArgsConstructor(
+    staticName = "of"
+)
+@NoArgsConstructor(
+    force = true
+)
+@RedisHash
+@NearCache
+public class NearCachedHash {
+  @Id
+  private String id;
+
+  @NonNull
+  @Indexed
+  private String name;
+}
@@ -0,0 +1,26 @@
+package com.redis.om.spring.fixtures.hash.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+import com.redis.om.spring.id.IdSequence;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@RequiredArgsConstructor(
+    staticName = "of"
+)
+@RedisHash
+public class PrimitiveSequencedTicket {
+  @Id
+  @IdSequence
+  private long id;
+
+  @NonNull
+  private String subject;
+}
@@ -0,0 +1,30 @@
+package com.redis.om.spring.fixtures.hash.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.id.IdSequence;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@RequiredArgsConstructor(
+    staticName = "of"
+)
+@RedisHash
+public class SequencedTicket {
+  @Id
+  @IdSequence(
+      blockSize = 10
+  )
+  private Long id;
+
+  @Indexed
+  @NonNull
+  private String subject;
+}
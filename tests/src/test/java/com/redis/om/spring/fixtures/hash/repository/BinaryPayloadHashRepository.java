@@ -0,0 +1,10 @@
+package com.redis.om.spring.fixtures.hash.repository;
+
+import java.util.List;
+
+import com.redis.om.spring.fixtures.hash.model.BinaryPayloadHash;
+import com.redis.om.spring.repository.RedisEnhancedRepository;
+
+public interface BinaryPayloadHashRepository extends RedisEnhancedRepository<BinaryPayloadHash, String> {
+  List<BinaryPayloadHash> findByName(String name);
+}
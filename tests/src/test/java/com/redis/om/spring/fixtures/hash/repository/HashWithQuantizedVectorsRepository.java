@@ -0,0 +1,7 @@
+package com.redis.om.spring.fixtures.hash.repository;
+
+import com.redis.om.spring.fixtures.hash.model.HashWithQuantizedVectors;
+import com.redis.om.spring.repository.RedisEnhancedRepository;
+
+public interface HashWithQuantizedVectorsRepository extends RedisEnhancedRepository<HashWithQuantizedVectors, String> {
+}
@@ -0,0 +1,7 @@
+package com.redis.om.spring.fixtures.hash.repository;
+
+import com.redis.om.spring.fixtures.hash.model.SequencedTicket;
+import com.redis.om.spring.repository.RedisEnhancedRepository;
+
+public interface SequencedTicketRepository extends RedisEnhancedRepository<SequencedTicket, Long> {
+}
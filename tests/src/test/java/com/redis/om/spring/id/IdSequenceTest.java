@@ -0,0 +1,108 @@
+package com.redis.om.spring.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.core.TypeInformation;
+
+import com.github.f4b6a3.ulid.Ulid;
+import com.redis.om.spring.AbstractBaseEnhancedRedisTest;
+import com.redis.om.spring.fixtures.hash.model.PrimitiveSequencedTicket;
+import com.redis.om.spring.fixtures.hash.model.SequencedTicket;
+import com.redis.om.spring.fixtures.hash.repository.SequencedTicketRepository;
+
+class IdSequenceTest extends AbstractBaseEnhancedRedisTest {
+  private static final String SEQUENCE_KEY = "sequence:" + SequencedTicket.class.getName();
+
+  @Autowired
+  SequencedTicketRepository repository;
+
+  @AfterEach
+  void cleanUp() {
+    repository.deleteAll();
+  }
+
+  @Test
+  void testSaveAssignsConsecutiveIdsFromLeasedBlocks() {
+    long first = repository.save(SequencedTicket.of("first")).getId();
+    List<SequencedTicket> saved = repository.saveAll(IntStream.range(0, 24).mapToObj(i -> SequencedTicket.of(
+        "ticket " + i)).toList());
+
+    assertThat(saved).extracting(SequencedTicket::getId).containsExactlyElementsOf(LongStream.rangeClosed(first + 1,
+        first + 24).boxed().toList());
+    assertThat(repository.findById(first + 24)).map(SequencedTicket::getSubject).contains("ticket 23");
+
+    // the counter only moves once per block of 10
+    long counter = Long.parseLong(Objects.requireNonNull(template.opsForValue().get(SEQUENCE_KEY)));
+    assertThat(counter % 10).isZero();
+    assertThat(counter).isBetween(first + 24, first + 24 + 9);
+  }
+
+  @Test
+  void testInsertTreatsZeroPrimitiveIdAsUnassigned() {
+    PrimitiveSequencedTicket ticket = kvTemplate.insert(PrimitiveSequencedTicket.of("primitive"));
+    try {
+      assertThat(ticket.getId()).isPositive();
+      assertThat(template.hasKey(PrimitiveSequencedTicket.class.getName() + ":0")).isFalse();
+      assertThat(template.hasKey(PrimitiveSequencedTicket.class.getName() + ":" + ticket.getId())).isTrue();
+    } finally {
+      kvTemplate.delete(ticket);
+    }
+  }
+
+  @Test
+  void testConcurrentCallersShareBlocksWithoutDuplicates() throws Exception {
+    String name = "sequence:IdSequenceTest:concurrent";
+    template.delete(name);
+    IdSequenceGenerator generator = new IdSequenceGenerator(template);
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<List<Long>>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        futures.add(executor.submit(() -> LongStream.range(0, 1000).map(i -> generator.next(name, 100)).boxed()
+            .toList()));
+      }
+      Set<Long> ids = new HashSet<>();
+      for (Future<List<Long>> future : futures) {
+        ids.addAll(future.get(30, TimeUnit.SECONDS));
+      }
+
+      assertThat(ids).hasSize(8000);
+      assertThat(Collections.min(ids)).isEqualTo(1L);
+      assertThat(Collections.max(ids)).isEqualTo(8000L);
+      assertThat(template.opsForValue().get(name)).isEqualTo("8000");
+    } finally {
+      executor.shutdownNow();
+      template.delete(name);
+    }
+  }
+
+  @Test
+  void testPerThreadUlidsIncreasePerThreadAndAreUnique() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<List<Ulid>>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        futures.add(executor.submit(() -> IntStream.range(0, 1000).mapToObj(i -> ULIDIdentifierGenerator.PER_THREAD
+            .generateIdentifierOfType(TypeInformation.of(Ulid.class))).toList()));
+      }
+      Set<Ulid> all = new HashSet<>();
+      for (Future<List<Ulid>> future : futures) {
+        List<Ulid> ulids = future.get(30, TimeUnit.SECONDS);
+        assertThat(ulids).isSorted();
+        all.addAll(ulids);
+      }
+      assertThat(all).hasSize(4000);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -363,4 +363,32 @@ public class RediSearchIndexerSpelEvaluationTest {
         // Then: Should handle nested calls
         assertThat(result).isEqualTo("service_value_config_value");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testEvaluateExpression_ReflectsChangingValuesAndMemoizesPerValue() throws Exception {
+        // Given: A tenant-scoped expression whose value changes between calls
+        when(environment.getProperty("app.tenant")).thenReturn("acme", "globex", "acme");
+
+        String expression = "tenant_#{@environment.getProperty('app.tenant')}_idx";
+
+        // When: Evaluating the expression for alternating tenants
+        String first = (String) evaluateExpressionMethod.invoke(indexer, expression, "fallback");
+        String second = (String) evaluateExpressionMethod.invoke(indexer, expression, "fallback");
+        String third = (String) evaluateExpressionMethod.invoke(indexer, expression, "fallback");
+
+        // Then: Each evaluation reflects the current tenant, and repeated tenants reuse the rendered name
+        assertThat(first).isEqualTo("tenant_acme_idx");
+        assertThat(second).isEqualTo("tenant_globex_idx");
+        assertThat(third).isSameAs(first);
+    }
+
+    @Test
+    void testEvaluateExpression_FailingPartStillFallsBackOnEveryCall() throws Exception {
+        // Given: An expression with one valid and one unparseable part
+        String expression = "#{'ok'}_#{(}";
+
+        // When/Then: The cached template keeps falling back to the default value
+        assertThat((String) evaluateExpressionMethod.invoke(indexer, expression, "fallback")).isEqualTo("fallback");
+        assertThat((String) evaluateExpressionMethod.invoke(indexer, expression, "fallback")).isEqualTo("fallback");
+    }
+}
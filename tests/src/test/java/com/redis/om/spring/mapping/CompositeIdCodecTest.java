@@ -0,0 +1,55 @@
+package com.redis.om.spring.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.redis.om.spring.fixtures.hash.model.Account;
+import com.redis.om.spring.fixtures.hash.model.AccountId;
+
+class CompositeIdCodecTest {
+
+  private RedisEnhancedMappingContext mappingContext;
+
+  @BeforeEach
+  void setUp() {
+    mappingContext = new RedisEnhancedMappingContext();
+  }
+
+  @Test
+  void testCodecIsRegisteredForTheIdClass() {
+    mappingContext.getRequiredPersistentEntity(Account.class);
+
+    CompositeIdCodec codec = mappingContext.getCompositeIdCodec(AccountId.class);
+
+    assertThat(codec).isNotNull();
+    assertThat(codec.getIdClass()).isEqualTo(AccountId.class);
+    assertThat(codec.keyForId(new AccountId("123", "checking"))).isEqualTo("123:checking");
+  }
+
+  @Test
+  void testKeyFromEntityMatchesKeyFromId() {
+    RedisEnhancedPersistentEntity<?> entity = (RedisEnhancedPersistentEntity<?>) mappingContext
+        .getRequiredPersistentEntity(Account.class);
+
+    assertThat(entity.getCompositeKey(new Account("123", "checking", 10.0))).isEqualTo("123:checking");
+    assertThat(entity.getCompositeIdCodec().keyForId(new AccountId("123", "checking"))).isEqualTo("123:checking");
+  }
+
+  @Test
+  void testNullIdPartsAreSkipped() {
+    RedisEnhancedPersistentEntity<?> entity = (RedisEnhancedPersistentEntity<?>) mappingContext
+        .getRequiredPersistentEntity(Account.class);
+
+    assertThat(entity.getCompositeKey(new Account("123", null, 10.0))).isEqualTo("123");
+  }
+
+  @Test
+  void testNoCodecForSimpleIdTypes() {
+    mappingContext.getRequiredPersistentEntity(Account.class);
+
+    assertThat(mappingContext.getCompositeIdCodec(String.class)).isNull();
+    assertThat(mappingContext.getCompositeIdCodec(Long.class)).isNull();
+  }
+}
@@ -0,0 +1,122 @@
+package com.redis.om.spring.ops;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import redis.clients.jedis.search.Document;
+import redis.clients.jedis.search.Query;
+import redis.clients.jedis.search.SearchResult;
+
+class MicrometerCommandListenerTest {
+  private SimpleMeterRegistry registry;
+  private MicrometerCommandListener listener;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    listener = new MicrometerCommandListener(registry);
+  }
+
+  @Test
+  void testSearchIsTimedPerIndexAndRecordsResultCount() {
+    Query query = new Query("*");
+    listener.searchStarted("PersonIdx", query, null);
+    SearchResult result = mock(SearchResult.class);
+    when(result.getDocuments()).thenReturn(List.of(new Document("person:1"), new Document("person:2")));
+    listener.searchFinished("PersonIdx", query, null, result);
+
+    Timer timer = registry.find(MicrometerCommandListener.COMMAND_OBSERVATION) //
+        .tag("operation", "ft.search") //
+        .tag("index", "PersonIdx") //
+        .tag("outcome", "success") //
+        .timer();
+    assertThat(timer).isNotNull();
+    assertThat(timer.count()).isEqualTo(1);
+
+    DistributionSummary results = registry.find(MicrometerCommandListener.SEARCH_RESULTS).tag("index", "PersonIdx")
+        .summary();
+    assertThat(results).isNotNull();
+    assertThat(results.totalAmount()).isEqualTo(2.0);
+  }
+
+  @Test
+  void testFailedCommandIsTaggedAsFailure() {
+    listener.commandStarted("JSON.GET", "person:1");
+    listener.commandFinished("JSON.GET", "person:1", new IllegalStateException("boom"));
+
+    assertThat(registry.find(MicrometerCommandListener.COMMAND_OBSERVATION) //
+        .tag("operation", "json.get") //
+        .tag("outcome", "failure") //
+        .timer()).isNotNull();
+    assertThat(registry.find(MicrometerCommandListener.COMMAND_OBSERVATION).tag("outcome", "success").timer())
+        .isNull();
+  }
+
+  @Test
+  void testNestedObservationsAreStoppedInOrder() {
+    listener.repositoryQueryStarted("PersonRepository", "findByName");
+    listener.searchStarted("PersonIdx", new Query("@name:{Ann}"), null);
+    listener.searchFinished("PersonIdx", null, null, null);
+    listener.repositoryQueryFinished("PersonRepository", "findByName", null);
+
+    assertThat(registry.find(MicrometerCommandListener.COMMAND_OBSERVATION) //
+        .tag("operation", "ft.search") //
+        .tag("outcome", "failure") //
+        .timer()).isNotNull();
+    Timer repositoryTimer = registry.find(MicrometerCommandListener.REPOSITORY_OBSERVATION) //
+        .tag("repository", "PersonRepository") //
+        .tag("method", "findByName") //
+        .tag("outcome", "success") //
+        .timer();
+    assertThat(repositoryTimer).isNotNull();
+    assertThat(repositoryTimer.count()).isEqualTo(1);
+  }
+
+  @Test
+  void testPipelineSizeIsRecorded() {
+    listener.pipelineStarted("saveAll", String.class, 250);
+    listener.pipelineFinished("saveAll", String.class, 250);
+
+    DistributionSummary size = registry.find(MicrometerCommandListener.PIPELINE_SIZE) //
+        .tag("operation", "saveAll") //
+        .tag("entity", "String") //
+        .summary();
+    assertThat(size).isNotNull();
+    assertThat(size.max()).isEqualTo(250.0);
+    assertThat(registry.find(MicrometerCommandListener.PIPELINE_OBSERVATION).tag("operation", "saveAll").timer())
+        .isNotNull();
+  }
+
+  @Test
+  void testDecodeTimeIsSeparateFromCommandTime() {
+    listener.documentsDecoded(String.class, 10, 5_000_000L);
+    listener.decodeFailed(String.class, new IllegalArgumentException("bad json"));
+
+    Timer decode = registry.find(MicrometerCommandListener.DECODE_TIMER).tag("entity", "String").timer();
+    assertThat(decode).isNotNull();
+    assertThat(decode.count()).isEqualTo(1);
+    Counter decoded = registry.find(MicrometerCommandListener.DOCUMENTS_DECODED).tag("entity", "String").counter();
+    assertThat(decoded).isNotNull();
+    assertThat(decoded.count()).isEqualTo(10.0);
+    assertThat(registry.find(MicrometerCommandListener.DECODE_ERRORS).tag("exception", "IllegalArgumentException")
+        .counter()).isNotNull();
+    assertThat(registry.find(MicrometerCommandListener.COMMAND_OBSERVATION).timer()).isNull();
+  }
+
+  @Test
+  void testUnbalancedFinishIsIgnored() {
+    listener.commandFinished("JSON.DEL", "person:1", null);
+
+    assertThat(registry.getMeters()).isEmpty();
+  }
+}
@@ -0,0 +1,48 @@
+package com.redis.om.spring.ops.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+class JsonMergePatchTest {
+
+  private static JsonElement json(String json) {
+    return JsonParser.parseString(json);
+  }
+
+  @Test
+  void testPatchContainsChangedSubtreesAndDeletions() {
+    JsonObject patch = JsonMergePatch.diff( //
+        json("{\"name\":\"Keyboard\",\"price\":49.99,\"specs\":{\"layout\":\"US\",\"keys\":104},\"tags\":[\"usb\"]}"),
+        json("{\"name\":\"Keyboard\",\"price\":39.99,\"specs\":{\"layout\":\"US\"},\"tags\":[\"usb\",\"rgb\"]}"));
+
+    assertThat(patch).isEqualTo(json("{\"price\":39.99,\"specs\":{\"keys\":null},\"tags\":[\"usb\",\"rgb\"]}"));
+  }
+
+  @Test
+  void testNewMembersAreAdded() {
+    JsonObject patch = JsonMergePatch.diff(json("{\"name\":\"Mouse\"}"), json(
+        "{\"name\":\"Mouse\",\"specs\":{\"dpi\":1600}}"));
+
+    assertThat(patch).isEqualTo(json("{\"specs\":{\"dpi\":1600}}"));
+  }
+
+  @Test
+  void testEqualDocumentsHaveAnEmptyPatch() {
+    JsonObject patch = JsonMergePatch.diff(json("{\"price\":2.0,\"tags\":[\"a\"]}"), json(
+        "{\"tags\":[\"a\"],\"price\":2}"));
+
+    assertThat(patch).isNotNull();
+    assertThat(patch.size()).isZero();
+  }
+
+  @Test
+  void testNullValuesCannotBeExpressedAsAMergePatch() {
+    assertThat(JsonMergePatch.diff(json("{\"name\":\"Mouse\"}"), json("{\"name\":null}"))).isNull();
+    assertThat(JsonMergePatch.diff(json("[1]"), json("[2]"))).isNull();
+  }
+}
@@ -0,0 +1,89 @@
+package com.redis.om.spring.ops.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.actuate.SlowQueriesEndpoint;
+import com.redis.om.spring.fixtures.document.model.SearchCachedProduct;
+import com.redis.om.spring.fixtures.document.model.SearchCachedProduct$;
+import com.redis.om.spring.fixtures.document.repository.SearchCachedProductRepository;
+import com.redis.om.spring.search.stream.EntityStream;
+
+@TestPropertySource(
+    properties = { "redis.om.spring.slow-query-log.enabled=true", "redis.om.spring.slow-query-log.threshold=0ms",
+        "redis.om.spring.slow-query-log.profile-sample-rate=1.0" }
+)
+class SlowQueryLogDocumentTest extends AbstractBaseDocumentTest {
+  @Autowired
+  SearchCachedProductRepository repository;
+
+  @Autowired
+  SlowQueryLog slowQueryLog;
+
+  @Autowired
+  SlowQueriesEndpoint endpoint;
+
+  @Autowired
+  EntityStream entityStream;
+
+  @BeforeEach
+  void setup() {
+    repository.saveAll(List.of( //
+        SearchCachedProduct.of("Keyboard", 49.99), //
+        SearchCachedProduct.of("Mouse", 19.99) //
+    ));
+    slowQueryLog.clear();
+  }
+
+  @AfterEach
+  void cleanUp() {
+    repository.deleteAll();
+  }
+
+  @Test
+  void testRepositoryQueryMethodsAreRecordedAndProfiled() {
+    assertThat(repository.findByPriceBetween(10.0, 30.0)).extracting("name").containsExactly("Mouse");
+
+    assertThat(slowQueryLog.getSlowQueries()).singleElement().satisfies(slowQuery -> {
+      assertThat(slowQuery.source()).isEqualTo("SearchCachedProductRepository.findByPriceBetween");
+      assertThat(slowQuery.index()).isEqualTo(indexer.getIndexName(SearchCachedProduct.class));
+      assertThat(slowQuery.query()).contains("@price");
+      assertThat(slowQuery.resultCount()).isEqualTo(1);
+      assertThat(slowQuery.decodeMillis()).isGreaterThanOrEqualTo(0.0);
+      assertThat(slowQuery.profile()).isNotNull();
+    });
+  }
+
+  @Test
+  void testEntityStreamQueriesAreRecorded() {
+    List<String> names = entityStream.of(SearchCachedProduct.class) //
+        .filter(SearchCachedProduct$.PRICE.gt(30.0)) //
+        .map(SearchCachedProduct$.NAME) //
+        .collect(Collectors.toList());
+
+    assertThat(names).containsExactly("Keyboard");
+    assertThat(slowQueryLog.getSlowQueries()).extracting(SlowQuery::source).containsExactly(
+        "SearchStream<SearchCachedProduct>");
+  }
+
+  @Test
+  void testEndpointExposesTheBuffer() {
+    repository.findByName("Keyboard");
+    repository.findByName("Mouse");
+
+    assertThat(endpoint.slowQueries()).hasSize(2).extracting(SlowQuery::resultCount).containsExactly(1, 1);
+
+    endpoint.clear();
+
+    assertThat(endpoint.slowQueries()).isEmpty();
+  }
+}
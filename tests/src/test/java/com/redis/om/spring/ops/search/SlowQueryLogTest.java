@@ -0,0 +1,93 @@
+package com.redis.om.spring.ops.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.redis.om.spring.RedisOMProperties;
+
+import redis.clients.jedis.search.Query;
+
+class SlowQueryLogTest {
+
+  private static SlowQueryLog slowQueryLog(Duration threshold, int bufferSize) {
+    RedisOMProperties properties = new RedisOMProperties();
+    properties.getSlowQueryLog().setEnabled(true);
+    properties.getSlowQueryLog().setThreshold(threshold);
+    properties.getSlowQueryLog().setBufferSize(bufferSize);
+    return new SlowQueryLog(properties, null);
+  }
+
+  private static long millis(long millis) {
+    return TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  @Test
+  void testQueriesUnderTheThresholdAreNotRecorded() {
+    SlowQueryLog log = slowQueryLog(Duration.ofMillis(100), 10);
+
+    log.record("PersonRepository.findByName", "PersonIdx", new Query("@name:{Ann}"), null, millis(40), millis(20));
+
+    assertThat(log.getSlowQueries()).isEmpty();
+  }
+
+  @Test
+  void testDecodeTimeCountsTowardsTheThreshold() {
+    SlowQueryLog log = slowQueryLog(Duration.ofMillis(100), 10);
+
+    log.record("PersonRepository.findByName", "PersonIdx", new Query("@name:{Ann}").limit(0, 10).dialect(2), null,
+        millis(60), millis(50));
+
+    assertThat(log.getSlowQueries()).singleElement().satisfies(slowQuery -> {
+      assertThat(slowQuery.source()).isEqualTo("PersonRepository.findByName");
+      assertThat(slowQuery.index()).isEqualTo("PersonIdx");
+      assertThat(slowQuery.query()).isEqualTo("@name:{Ann}");
+      assertThat(slowQuery.arguments()).contains("LIMIT 0 10").contains("DIALECT 2");
+      assertThat(slowQuery.searchMillis()).isEqualTo(60.0);
+      assertThat(slowQuery.decodeMillis()).isEqualTo(50.0);
+      assertThat(slowQuery.totalMillis()).isEqualTo(110.0);
+      assertThat(slowQuery.profile()).isNull();
+    });
+  }
+
+  @Test
+  void testBufferKeepsTheMostRecentQueriesFirst() {
+    SlowQueryLog log = slowQueryLog(Duration.ZERO, 2);
+
+    log.record("first", "idx", new Query("one"), null, 1, 0);
+    log.record("second", "idx", new Query("two"), null, 1, 0);
+    log.record("third", "idx", new Query("three"), null, 1, 0);
+
+    assertThat(log.getSlowQueries()).extracting(SlowQuery::source).containsExactly("third", "second");
+
+    log.clear();
+
+    assertThat(log.getSlowQueries()).isEmpty();
+  }
+
+  @Test
+  void testBinaryParametersAreNotRendered() {
+    SlowQueryLog log = slowQueryLog(Duration.ZERO, 10);
+
+    Query query = new Query("*=>[KNN 3 @embedding $vector]").addParam("vector", new byte[] { (byte) 0xC3, 0x28, 0x00,
+        (byte) 0xFF }).dialect(2);
+    log.record("SearchStream<Product>", "ProductIdx", query, null, 1, 0);
+
+    assertThat(log.getSlowQueries().get(0).arguments()).contains("PARAMS 2 vector <4 bytes>");
+  }
+
+  @Test
+  void testDisabledLogRecordsNothing() {
+    RedisOMProperties properties = new RedisOMProperties();
+    properties.getSlowQueryLog().setThreshold(Duration.ZERO);
+    SlowQueryLog log = new SlowQueryLog(properties, null);
+
+    log.record("first", "idx", new Query("one"), null, millis(500), 0);
+
+    assertThat(log.isEnabled()).isFalse();
+    assertThat(log.getSlowQueries()).isEmpty();
+  }
+}
@@ -0,0 +1,108 @@
+package com.redis.om.spring.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.geo.Point;
+import org.springframework.test.context.TestPropertySource;
+
+import com.redis.om.spring.AbstractBaseEnhancedRedisTest;
+import com.redis.om.spring.fixtures.hash.model.Company;
+import com.redis.om.spring.fixtures.hash.repository.CompanyRepository;
+
+@TestPropertySource(
+    properties = { "redis.om.spring.repository.diff-hash-writes=true" }
+)
+class DiffHashWritesTest extends AbstractBaseEnhancedRedisTest {
+  @Autowired
+  CompanyRepository repository;
+
+  @AfterEach
+  void cleanUp() {
+    repository.deleteAll();
+  }
+
+  private static Company company(String name, int yearFounded, String email) {
+    return Company.of(name, yearFounded, LocalDate.of(2021, 5, 1), new Point(-122.066540, 37.377690), email);
+  }
+
+  private Map<Object, Object> storedHash(Company company) {
+    return template.opsForHash().entries(Company.class.getName() + ":" + company.getId());
+  }
+
+  @Test
+  void testSaveOfExistingEntityUpdatesChangedFieldsAndRemovesDroppedOnes() {
+    Company redis = company("RedisInc", 2011, "stack@redis.com");
+    redis.setTags(Set.of("fast", "scalable", "reliable"));
+    redis = repository.save(redis);
+
+    redis.setYearFounded(2012);
+    redis.setTags(Set.of("fast"));
+    repository.save(redis);
+
+    assertThat(repository.findById(redis.getId())).hasValueSatisfying(c -> {
+      assertThat(c.getYearFounded()).isEqualTo(2012);
+      assertThat(c.getName()).isEqualTo("RedisInc");
+      assertThat(c.getTags()).containsExactly("fast");
+    });
+
+    Company twin = company("RedisInc", 2012, "twin@redis.com");
+    twin.setTags(Set.of("fast"));
+    twin = repository.save(twin);
+    assertThat(storedHash(redis).keySet()).isEqualTo(storedHash(twin).keySet());
+
+    assertThat(repository.findByYearFoundedOrderByNameAsc(2012)).extracting(Company::getId).contains(redis.getId());
+    assertThat(repository.findByYearFoundedOrderByNameAsc(2011)).isEmpty();
+  }
+
+  @Test
+  void testSaveAllMixesNewAndExistingEntities() {
+    Company redis = repository.save(company("RedisInc", 2011, "stack@redis.com"));
+    redis.setName("Redis");
+
+    Company microsoft = company("Microsoft", 1975, "research@microsoft.com");
+    repository.saveAll(List.of(redis, microsoft));
+
+    assertThat(repository.count()).isEqualTo(2);
+    assertThat(repository.findById(redis.getId())).hasValueSatisfying(c -> assertThat(c.getName()).isEqualTo(
+        "Redis"));
+    assertThat(repository.findFirstByName("Microsoft")).hasValueSatisfying(c -> assertThat(c.getYearFounded())
+        .isEqualTo(1975));
+  }
+
+  @Test
+  void testSaveOfUnchangedEntityKeepsTheStoredHash() {
+    Company redis = repository.save(company("RedisInc", 2011, "stack@redis.com"));
+    Map<Object, Object> before = storedHash(redis);
+
+    repository.save(redis);
+
+    Map<Object, Object> after = storedHash(redis);
+    after.remove("lastModifiedDate");
+    before.remove("lastModifiedDate");
+    assertThat(after).isEqualTo(before);
+  }
+
+  @Test
+  void testAuditingTellsNewFromExistingEntitiesFromTheStoredHash() {
+    Company redis = repository.save(company("RedisInc", 2011, "stack@redis.com"));
+    assertThat(redis.getCreatedDate()).isNotNull();
+    assertThat(redis.getLastModifiedDate()).isNull();
+
+    redis.setYearFounded(2012);
+    redis = repository.save(redis);
+    assertThat(redis.getLastModifiedDate()).isNotNull();
+
+    assertThat(repository.findById(redis.getId())).hasValueSatisfying(c -> {
+      assertThat(c.getCreatedDate()).isNotNull();
+      assertThat(c.getLastModifiedDate()).isNotNull();
+    });
+  }
+}
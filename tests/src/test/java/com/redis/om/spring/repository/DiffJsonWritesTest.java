@@ -0,0 +1,154 @@
+package com.redis.om.spring.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.fixtures.document.model.VersionedProduct;
+import com.redis.om.spring.fixtures.document.model.VersionedProduct$;
+import com.redis.om.spring.fixtures.document.repository.VersionedProductRepository;
+import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.search.stream.EntityStream;
+
+import redis.clients.jedis.json.Path2;
+
+@TestPropertySource(
+    properties = { "redis.om.spring.repository.diff-json-writes=true" }
+)
+class DiffJsonWritesTest extends AbstractBaseDocumentTest {
+  @Autowired
+  VersionedProductRepository repository;
+
+  @Autowired
+  RedisModulesOperations<String> modulesOperations;
+
+  @Autowired
+  EntityStream entityStream;
+
+  @AfterEach
+  void cleanUp() {
+    repository.deleteAll();
+  }
+
+  private static VersionedProduct keyboard() {
+    VersionedProduct keyboard = VersionedProduct.of("Keyboard", 49.99);
+    keyboard.setTags(List.of("usb", "mechanical", "rgb"));
+    keyboard.setDescription("A full size mechanical keyboard with per-key lighting");
+    return keyboard;
+  }
+
+  private String keyOf(VersionedProduct product) {
+    return VersionedProduct.class.getName() + ":" + product.getId();
+  }
+
+  @Test
+  void testSaveOfLoadedDocumentOnlySendsTheChanges() {
+    VersionedProduct saved = repository.save(keyboard());
+    VersionedProduct loaded = repository.findById(saved.getId()).orElseThrow();
+
+    // a member the entity does not map survives a merge but not a full rewrite
+    modulesOperations.opsForJSON().set(keyOf(saved), "kept", Path2.of("$.external"));
+
+    loaded.setPrice(39.99);
+    loaded.setTags(List.of("usb", "rgb"));
+    loaded.setDescription(null);
+    repository.save(loaded);
+
+    VersionedProduct reloaded = repository.findById(saved.getId()).orElseThrow();
+    assertThat(reloaded.getPrice()).isEqualTo(39.99);
+    assertThat(reloaded.getTags()).containsExactly("usb", "rgb");
+    assertThat(reloaded.getDescription()).isNull();
+    assertThat(reloaded.getVersion()).isEqualTo(loaded.getVersion());
+    assertThat(modulesOperations.opsForJSON().get(keyOf(saved))).contains("\"external\"");
+    assertThat(repository.findByPriceBetween(30.0, 40.0)).extracting(VersionedProduct::getId).containsExactly(saved
+        .getId());
+  }
+
+  @Test
+  void testStaleVersionIsStillRejected() {
+    VersionedProduct saved = repository.save(keyboard());
+    VersionedProduct first = repository.findById(saved.getId()).orElseThrow();
+    VersionedProduct second = repository.findById(saved.getId()).orElseThrow();
+
+    first.setPrice(45.0);
+    repository.save(first);
+
+    second.setPrice(40.0);
+    assertThatThrownBy(() -> repository.save(second)).isInstanceOf(OptimisticLockingFailureException.class);
+    assertThat(repository.findById(saved.getId())).hasValueSatisfying(p -> assertThat(p.getPrice()).isEqualTo(45.0));
+  }
+
+  @Test
+  void testBulkUpdateIncrementsVersion() {
+    VersionedProduct saved = repository.save(keyboard());
+    VersionedProduct loaded = repository.findById(saved.getId()).orElseThrow();
+
+    long updated = entityStream.of(VersionedProduct.class) //
+        .filter(VersionedProduct$.NAME.eq("Keyboard")) //
+        .update(VersionedProduct$.PRICE.decrBy(10L));
+
+    assertThat(updated).isEqualTo(1);
+    assertThat(repository.findById(saved.getId())).hasValueSatisfying(p -> assertThat(p.getVersion()).isEqualTo(loaded
+        .getVersion() + 1));
+
+    loaded.setDescription("stale");
+    assertThatThrownBy(() -> repository.save(loaded)).isInstanceOf(OptimisticLockingFailureException.class);
+  }
+
+  @Test
+  void testSaveAllOfLoadedDocumentOnlySendsTheChanges() {
+    VersionedProduct saved = repository.save(keyboard());
+    VersionedProduct loaded = repository.findById(saved.getId()).orElseThrow();
+    modulesOperations.opsForJSON().set(keyOf(saved), "kept", Path2.of("$.external"));
+
+    loaded.setPrice(39.99);
+    repository.saveAll(List.of(loaded));
+
+    assertThat(repository.findById(saved.getId())).hasValueSatisfying(p -> assertThat(p.getPrice()).isEqualTo(39.99));
+    assertThat(modulesOperations.opsForJSON().get(keyOf(saved))).contains("\"external\"");
+  }
+
+  @Test
+  void testSaveAllAfterAConcurrentWriteIsWrittenInFull() {
+    VersionedProduct saved = repository.save(keyboard());
+    VersionedProduct loaded = repository.findById(saved.getId()).orElseThrow();
+
+    // another writer changes the document after it was loaded
+    VersionedProduct concurrent = repository.findById(saved.getId()).orElseThrow();
+    concurrent.setDescription("changed by another writer");
+    repository.save(concurrent);
+
+    loaded.setPrice(39.99);
+    repository.saveAll(List.of(loaded));
+
+    // the snapshot of the loaded version is no longer current: no partial merge over the other write
+    VersionedProduct reloaded = repository.findById(saved.getId()).orElseThrow();
+    assertThat(reloaded.getPrice()).isEqualTo(39.99);
+    assertThat(reloaded.getDescription()).isEqualTo(loaded.getDescription());
+    assertThat(reloaded.getVersion()).isEqualTo(loaded.getVersion());
+  }
+
+  @Test
+  void testDocumentWithoutKnownStateIsWrittenInFull() {
+    VersionedProduct stored = keyboard();
+    stored.setId("unloaded");
+    stored.setVersion(1L);
+    modulesOperations.opsForJSON().set(keyOf(stored), stored);
+    modulesOperations.opsForJSON().set(keyOf(stored), "dropped", Path2.of("$.external"));
+
+    // never loaded through the repository: there is no snapshot to diff against
+    stored.setPrice(29.99);
+    repository.save(stored);
+
+    assertThat(repository.findById("unloaded")).hasValueSatisfying(p -> assertThat(p.getPrice()).isEqualTo(29.99));
+    assertThat(modulesOperations.opsForJSON().get(keyOf(stored))).doesNotContain("\"external\"");
+  }
+}
@@ -1,6 +1,7 @@
 package com.redis.om.spring.search.stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDate;
@@ -999,6 +1000,62 @@ class EntityStreamDocsTest extends AbstractBaseDocumentTest {
     flushSearchIndexFor(Company.class);
   }
 
+  @Test
+  void testBulkUpdateOfMatchingDocuments() {
+    long updated = entityStream.of(Company.class) //
+        .filter(Company$.NAME.eq("RedisInc")) //
+        .update(Company$.YEAR_FOUNDED.incrBy(5L), Company$.PUBLICLY_LISTED.toggle(), Company$.TAGS.add("gaming"));
+
+    assertThat(updated).isEqualTo(1);
+
+    Optional<Company> maybeRedisAfter = repository.findFirstByName("RedisInc");
+    assertTrue(maybeRedisAfter.isPresent());
+    assertEquals(2016, maybeRedisAfter.get().getYearFounded());
+    assertTrue(maybeRedisAfter.get().isPubliclyListed());
+    assertThat(maybeRedisAfter.get().getTags()).contains("gaming");
+
+    Optional<Company> maybeMicrosoftAfter = repository.findFirstByName("Microsoft");
+    assertTrue(maybeMicrosoftAfter.isPresent());
+    assertEquals(1975, maybeMicrosoftAfter.get().getYearFounded());
+    flushSearchIndexFor(Company.class);
+  }
+
+  @Test
+  void testBulkUpdateSetsLastModifiedDate() {
+    Date before = new Date();
+    long updated = entityStream.of(Company.class) //
+        .filter(Company$.NAME.eq("Tesla")) //
+        .update(Company$.YEAR_FOUNDED.incrBy(1L));
+
+    assertThat(updated).isEqualTo(1);
+    assertThat(repository.findFirstByName("Tesla")).hasValueSatisfying(c -> assertThat(c.getLastModifiedDate())
+        .isAfterOrEqualTo(before));
+    flushSearchIndexFor(Company.class);
+  }
+
+  @Test
+  void testBulkUpdateHonorsSortAndLimit() {
+    long updated = entityStream.of(Company.class) //
+        .sorted(Company$.NAME, SortOrder.ASC) //
+        .limit(2) //
+        .update(Company$.YEAR_FOUNDED.decrBy(1L));
+
+    assertThat(updated).isEqualTo(2);
+    assertThat(repository.findFirstByName("Microsoft").map(Company::getYearFounded)).contains(1974);
+    assertThat(repository.findFirstByName("RedisInc").map(Company::getYearFounded)).contains(2010);
+    assertThat(repository.findFirstByName("Tesla").map(Company::getYearFounded)).contains(2003);
+    flushSearchIndexFor(Company.class);
+  }
+
+  @Test
+  void testBulkUpdateWithNoMatches() {
+    long updated = entityStream.of(Company.class) //
+        .filter(Company$.NAME.eq("NoSuchCompany")) //
+        .update(Company$.YEAR_FOUNDED.incrBy(1L));
+
+    assertThat(updated).isZero();
+  }
+
   @Test
   void testStrAppendToIndexedTextFieldInDocuments() {
     entityStream.of(Company.class) //
@@ -1552,6 +1609,93 @@ class EntityStreamDocsTest extends AbstractBaseDocumentTest {
     assertThat(doubleStream.boxed().collect(Collectors.toList())).contains(.9999, 1234.5678, 999.99, 899.0);
   }
 
+  @Test
+  void testMapToIntOnNumericField() {
+    IntStream intStream = entityStream //
+        .of(Company.class) //
+        .mapToInt(Company$.YEAR_FOUNDED);
+
+    assertThat(intStream.boxed().collect(Collectors.toList())).contains(2011, 1975, 2003);
+  }
+
+  @Test
+  void testMapToLongOnNumericField() {
+    LongStream longStream = entityStream //
+        .of(Company.class) //
+        .filter(Company$.NAME.eq("RedisInc")) //
+        .mapToLong(Company$.YEAR_FOUNDED);
+
+    assertThat(longStream.boxed().collect(Collectors.toList())).containsExactly(2011L);
+  }
+
+  @Test
+  void testMapToDoubleOnNumericField() {
+    DoubleStream doubleStream = entityStream //
+        .of(User.class) //
+        .mapToDouble(User$.LOTTERY_WINNINGS);
+
+    assertThat(doubleStream.boxed().collect(Collectors.toList())).contains(.9999, 1234.5678, 999.99, 899.0);
+  }
+
+  @Test
+  void testSumOfNumericField() {
+    double expected = entityStream.of(User.class).mapToDouble(User::getLotteryWinnings).sum();
+
+    double sum = entityStream //
+        .of(User.class) //
+        .sum(User$.LOTTERY_WINNINGS);
+
+    assertThat(sum).isCloseTo(expected, within(0.0001));
+  }
+
+  @Test
+  void testSumOfNumericFieldOfLimitedStream() {
+    double sum = entityStream //
+        .of(Company.class) //
+        .filter(Company$.NAME.eq("RedisInc")) //
+        .limit(1) //
+        .sum(Company$.YEAR_FOUNDED);
+
+    assertThat(sum).isEqualTo(2011.0);
+  }
+
+  @Test
+  void testAverageOfNumericField() {
+    OptionalDouble expected = entityStream.of(Company.class).mapToInt(Company::getYearFounded).average();
+
+    OptionalDouble average = entityStream //
+        .of(Company.class) //
+        .average(Company$.YEAR_FOUNDED);
+
+    assertThat(average).isPresent();
+    assertThat(average.getAsDouble()).isCloseTo(expected.getAsDouble(), within(0.0001));
+  }
+
+  @Test
+  void testAverageOfNumericFieldWithoutMatches() {
+    OptionalDouble average = entityStream //
+        .of(Company.class) //
+        .filter(Company$.YEAR_FOUNDED.gt(3000)) //
+        .average(Company$.YEAR_FOUNDED);
+
+    assertThat(average).isEmpty();
+  }
+
+  @Test
+  void testSummaryStatisticsOfNumericField() {
+    DoubleSummaryStatistics expected = entityStream.of(User.class).mapToDouble(User::getLotteryWinnings)
+        .summaryStatistics();
+
+    DoubleSummaryStatistics statistics = entityStream //
+        .of(User.class) //
+        .summaryStatistics(User$.LOTTERY_WINNINGS);
+
+    assertThat(statistics.getCount()).isEqualTo(expected.getCount());
+    assertThat(statistics.getMin()).isCloseTo(expected.getMin(), within(0.0001));
+    assertThat(statistics.getMax()).isCloseTo(expected.getMax(), within(0.0001));
+    assertThat(statistics.getSum()).isCloseTo(expected.getSum(), within(0.0001));
+  }
+
   @Test
   void testFlatMapToInt() {
     // expected
@@ -0,0 +1,82 @@
+package com.redis.om.spring.search.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.redis.om.spring.AbstractBaseEnhancedRedisTest;
+import com.redis.om.spring.fixtures.hash.model.HashWithQuantizedVectors;
+import com.redis.om.spring.fixtures.hash.model.HashWithQuantizedVectors$;
+import com.redis.om.spring.fixtures.hash.repository.HashWithQuantizedVectorsRepository;
+import com.redis.om.spring.indexing.VectorType;
+import com.redis.om.spring.util.ObjectUtils;
+
+class EntityStreamsHashQuantizedVSSTests extends AbstractBaseEnhancedRedisTest {
+  @Autowired
+  HashWithQuantizedVectorsRepository repository;
+
+  @Autowired
+  EntityStream entityStream;
+
+  @BeforeEach
+  void loadTestData() {
+    for (int i = 0; i < 10; i++) {
+      float[] vec = { i, i + 0.5f, -i, 2 * i };
+      repository.save(HashWithQuantizedVectors.of("doc:" + i, //
+          ObjectUtils.floatArrayToByteArray(vec, VectorType.FLOAT16), //
+          ObjectUtils.floatArrayToByteArray(vec, VectorType.BFLOAT16), //
+          ObjectUtils.floatArrayToByteArray(vec, VectorType.INT8)));
+    }
+  }
+
+  @AfterEach
+  void cleanUp() {
+    repository.deleteAll();
+  }
+
+  @Test
+  void testStoredVectorsTakeTheSizeOfTheirType() {
+    HashWithQuantizedVectors doc = repository.findById("doc:3").orElseThrow();
+    assertThat(doc.getHalf()).hasSize(8);
+    assertThat(doc.getBrain()).hasSize(8);
+    assertThat(doc.getQuantized()).hasSize(4);
+    assertThat(ObjectUtils.byteArrayToFloatArray(doc.getHalf(), VectorType.FLOAT16)).containsExactly(3f, 3.5f, -3f,
+        6f);
+  }
+
+  @Test
+  void testKNNWithFloatQueryVectorOnFloat16Field() {
+    List<String> ids = entityStream.of(HashWithQuantizedVectors.class) //
+        .filter(HashWithQuantizedVectors$.HALF.knn(3, new float[] { 4.2f, 4.7f, -4.2f, 8.4f })) //
+        .sorted(HashWithQuantizedVectors$._HALF_SCORE).map(HashWithQuantizedVectors$.ID) //
+        .collect(Collectors.toList());
+
+    assertThat(ids).containsExactly("doc:4", "doc:5", "doc:3");
+  }
+
+  @Test
+  void testKNNWithFloatQueryVectorOnBFloat16Field() {
+    List<String> ids = entityStream.of(HashWithQuantizedVectors.class) //
+        .filter(HashWithQuantizedVectors$.BRAIN.knn(2, new float[] { 7, 7.5f, -7, 14 })) //
+        .sorted(HashWithQuantizedVectors$._BRAIN_SCORE).map(HashWithQuantizedVectors$.ID) //
+        .collect(Collectors.toList());
+
+    assertThat(ids).hasSize(2).first().isEqualTo("doc:7");
+  }
+
+  @Test
+  void testKNNWithFloatQueryVectorOnInt8Field() {
+    List<String> ids = entityStream.of(HashWithQuantizedVectors.class) //
+        .filter(HashWithQuantizedVectors$.QUANTIZED.knn(1, new float[] { 9, 9.5f, -9, 18 })) //
+        .map(HashWithQuantizedVectors$.ID) //
+        .collect(Collectors.toList());
+
+    assertThat(ids).containsExactly("doc:9");
+  }
+}
@@ -26,6 +26,8 @@ import com.redis.om.spring.annotations.Searchable;
 import com.redis.om.spring.fixtures.document.model.*;
 import com.redis.om.spring.fixtures.document.repository.CompanyRepository;
 import com.redis.om.spring.fixtures.document.repository.DocWithCustomNameIdRepository;
+import com.redis.om.spring.fixtures.hash.model.HashWithQuantizedVectors;
+import com.redis.om.spring.indexing.VectorType;
 
 import redis.clients.jedis.args.GeoUnit;
 
@@ -380,6 +382,57 @@ class ObjectUtilsTest extends AbstractBaseDocumentTest {
     assertThat(result).isEqualTo(expected);
   }
 
+  @Test
+  void testFloatArrayToByteArrayForEachVectorType() {
+    float[] vector = { 1.0f, -2.0f, 0.1f, 300.4f };
+
+    assertThat(ObjectUtils.floatArrayToByteArray(vector, VectorType.FLOAT32)).isEqualTo(ObjectUtils
+        .floatArrayToByteArray(vector));
+    assertThat(ObjectUtils.floatArrayToByteArray(vector, VectorType.FLOAT64)).hasSize(32);
+    // 1.0 = 0x3c00, -2.0 = 0xc000, 0.1 = 0x2e66, 300.4 = 0x5cb2 (little-endian)
+    assertThat(ObjectUtils.floatArrayToByteArray(vector, VectorType.FLOAT16)).containsExactly(0x00, 0x3c, 0x00, 0xc0,
+        0x66, 0x2e, 0xb2, 0x5c);
+    // 1.0 = 0x3f80, -2.0 = 0xc000, 0.1 = 0x3dcd, 300.4 = 0x4396 (little-endian)
+    assertThat(ObjectUtils.floatArrayToByteArray(vector, VectorType.BFLOAT16)).containsExactly(0x80, 0x3f, 0x00, 0xc0,
+        0xcd, 0x3d, 0x96, 0x43);
+    assertThat(ObjectUtils.floatArrayToByteArray(vector, VectorType.INT8)).containsExactly(1, -2, 0, 127);
+    assertThat(ObjectUtils.floatArrayToByteArray(vector, VectorType.UINT8)).containsExactly(1, 0, 0, 255);
+  }
+
+  @Test
+  void testByteArrayToFloatArrayForEachVectorType() {
+    float[] vector = { 1.5f, -3.25f, 1024.0f, 0.0f };
+    for (VectorType type : VectorType.values()) {
+      byte[] bytes = ObjectUtils.floatArrayToByteArray(vector, type);
+      assertThat(bytes).hasSize(vector.length * type.getBytesPerElement());
+      float[] decoded = ObjectUtils.byteArrayToFloatArray(bytes, type);
+      switch (type) {
+        case INT8 -> assertThat(decoded).containsExactly(2f, -3f, 127f, 0f);
+        case UINT8 -> assertThat(decoded).containsExactly(2f, 0f, 255f, 0f);
+        default -> assertThat(decoded).containsExactly(vector);
+      }
+    }
+  }
+
+  @Test
+  void testFloat16RoundsToNearestEvenAndSaturatesToInfinity() {
+    // 1 + 2^-11 lies halfway between 1.0 and the next half precision value, ties go to the even 1.0
+    float[] decoded = ObjectUtils.byteArrayToFloatArray(ObjectUtils.floatArrayToByteArray(new float[] { 1.00048828125f,
+        1.00146484375f, 70000f, 1e-9f }, VectorType.FLOAT16), VectorType.FLOAT16);
+    assertThat(decoded).containsExactly(1.0f, 1.001953125f, Float.POSITIVE_INFINITY, 0.0f);
+  }
+
+  @Test
+  void testGetVectorType() {
+    assertThat(ObjectUtils.getVectorType(ReflectionUtils.findField(HashWithQuantizedVectors.class, "half")))
+        .isEqualTo(VectorType.FLOAT16);
+    assertThat(ObjectUtils.getVectorType(ReflectionUtils.findField(HashWithQuantizedVectors.class, "quantized")))
+        .isEqualTo(VectorType.INT8);
+    assertThat(ObjectUtils.getVectorType(ReflectionUtils.findField(HashWithQuantizedVectors.class, "id"))).isEqualTo(
+        VectorType.FLOAT32);
+    assertThat(ObjectUtils.getVectorType(null)).isEqualTo(VectorType.FLOAT32);
+  }
+
   static class BunchOfCollections {
     public final List<String> lofs = new ArrayList<>();
     public final Set<Integer> sois = new HashSet<>();
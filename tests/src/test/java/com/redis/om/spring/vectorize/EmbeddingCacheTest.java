@@ -0,0 +1,94 @@
+package com.redis.om.spring.vectorize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.redis.om.spring.AbstractBaseEnhancedRedisTest;
+import com.redis.om.spring.ops.NoOpCommandListener;
+
+class EmbeddingCacheTest extends AbstractBaseEnhancedRedisTest {
+  private static final String PREFIX = "EmbeddingCacheTest:";
+  private static final String MODEL = "openai:text-embedding-3-small";
+
+  @AfterEach
+  void cleanUp() {
+    template.delete(Objects.requireNonNull(template.keys(PREFIX + "*")));
+  }
+
+  @Test
+  void testContentHashIsStableAndContentSensitive() {
+    String hash = EmbeddingCache.contentHash("hello".getBytes(StandardCharsets.UTF_8));
+
+    assertThat(hash).hasSize(64).isEqualTo(EmbeddingCache.contentHash("hello".getBytes(StandardCharsets.UTF_8)));
+    assertThat(EmbeddingCache.contentHash("hello!".getBytes(StandardCharsets.UTF_8))).isNotEqualTo(hash);
+  }
+
+  @Test
+  void testLookupsAreServedLocallyThenFromRedis() {
+    EmbeddingCache cache = new EmbeddingCache(template, new NoOpCommandListener(), PREFIX, 100);
+    cache.putAll(MODEL, Map.of("a", new float[] { 1.0f, 2.0f }, "b", new float[] { 3.0f, 4.0f }));
+
+    Map<String, float[]> found = cache.getAll(MODEL, List.of("a", "b", "c"));
+    assertThat(found).containsOnlyKeys("a", "b");
+    assertThat(found.get("b")).containsExactly(3.0f, 4.0f);
+    assertThat(cache.getLocalHits()).isEqualTo(2);
+    assertThat(cache.getMisses()).isEqualTo(1);
+    assertThat(template.hasKey(PREFIX + MODEL + ":a")).isTrue();
+    assertThat(template.opsForZSet().size(PREFIX + MODEL)).isEqualTo(2);
+
+    // a restarted instance only has the shared tier
+    cache.clearLocal();
+    assertThat(cache.get(MODEL, "a")).containsExactly(1.0f, 2.0f);
+    assertThat(cache.getRedisHits()).isEqualTo(1);
+
+    // the Redis hit was promoted to the local tier
+    assertThat(cache.get(MODEL, "a")).containsExactly(1.0f, 2.0f);
+    assertThat(cache.getLocalHits()).isEqualTo(3);
+    assertThat(cache.getHitRate()).isEqualTo(4.0 / 5.0);
+  }
+
+  @Test
+  void testEmbeddingsAreCachedPerModel() {
+    EmbeddingCache cache = new EmbeddingCache(template, new NoOpCommandListener(), PREFIX, 100);
+    cache.put(MODEL, "a", new float[] { 1.0f });
+
+    assertThat(cache.get("openai:text-embedding-3-large", "a")).isNull();
+    assertThat(cache.get(MODEL, "a")).containsExactly(1.0f);
+  }
+
+  @Test
+  void testRedisTierExpiresAndIsBounded() {
+    EmbeddingCache cache = new EmbeddingCache(template, new NoOpCommandListener(), PREFIX, 100, Duration.ofMinutes(5),
+        2);
+    cache.put(MODEL, "a", new float[] { 1.0f });
+    cache.put(MODEL, "b", new float[] { 2.0f });
+    cache.put(MODEL, "c", new float[] { 3.0f });
+
+    assertThat(template.getExpire(PREFIX + MODEL + ":c", TimeUnit.SECONDS)).isBetween(1L, 300L);
+    assertThat(template.opsForZSet().size(PREFIX + MODEL)).isEqualTo(2);
+
+    cache.clearLocal();
+    assertThat(cache.getAll(MODEL, List.of("a", "b", "c"))).hasSize(2).containsKey("c");
+  }
+
+  @Test
+  void testLocalTierEvictsLeastRecentlyUsed() {
+    EmbeddingCache cache = new EmbeddingCache(null, new NoOpCommandListener(), PREFIX, 2);
+    cache.put(MODEL, "a", new float[] { 1.0f });
+    cache.put(MODEL, "b", new float[] { 2.0f });
+    cache.get(MODEL, "a");
+    cache.put(MODEL, "c", new float[] { 3.0f });
+
+    assertThat(cache.getAll(MODEL, List.of("a", "b", "c"))).containsOnlyKeys("a", "c");
+    assertThat(template.hasKey(PREFIX + MODEL)).isFalse();
+  }
+}
@@ -0,0 +1,116 @@
+package com.redis.om.spring.vectorize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.retry.NonTransientAiException;
+
+import com.redis.om.spring.AIRedisOMProperties;
+import com.redis.om.spring.annotations.EmbeddingProvider;
+
+class EmbeddingSchedulerTest {
+  private AIRedisOMProperties.EmbeddingSchedulerProperties properties;
+  private EmbeddingScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    properties = new AIRedisOMProperties.EmbeddingSchedulerProperties();
+    properties.setRetryBackoff(1);
+    properties.getLimits().put(EmbeddingProvider.OLLAMA, new AIRedisOMProperties.ProviderLimits(3, 0));
+    scheduler = new EmbeddingScheduler(properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.destroy();
+  }
+
+  @Test
+  void testSplitRespectsBatchSizeAndTokenLimits() {
+    List<String> texts = IntStream.range(0, 7).mapToObj(i -> "text " + i).toList();
+
+    assertThat(scheduler.split(texts, new AIRedisOMProperties.ProviderLimits(3, 0))).extracting(List::size)
+        .containsExactly(3, 3, 1);
+    // each text is estimated at 4 tokens
+    assertThat(scheduler.split(texts, new AIRedisOMProperties.ProviderLimits(0, 9))).extracting(List::size)
+        .containsExactly(2, 2, 2, 1);
+    assertThat(scheduler.split(texts, new AIRedisOMProperties.ProviderLimits(0, 0))).hasSize(1);
+    // a text over the token limit is sent on its own
+    assertThat(scheduler.split(List.of("a".repeat(100), "b"), new AIRedisOMProperties.ProviderLimits(0, 5)))
+        .extracting(List::size).containsExactly(1, 1);
+  }
+
+  @Test
+  void testEmbedKeepsOrderAcrossConcurrentSubBatches() throws Exception {
+    List<String> texts = IntStream.range(0, 10).mapToObj(String::valueOf).toList();
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+    CountDownLatch started = new CountDownLatch(2);
+
+    List<float[]> embeddings = scheduler.await(scheduler.embed(EmbeddingProvider.OLLAMA, texts, subBatch -> {
+      threads.add(Thread.currentThread().getName());
+      started.countDown();
+      try {
+        // two sub-batches must be in flight at the same time to get past this point
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+      return subBatch.stream().map(text -> new float[] { Float.parseFloat(text) }).toList();
+    }));
+
+    assertThat(embeddings).extracting(e -> (int) e[0]).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    assertThat(threads.size()).isGreaterThan(1);
+  }
+
+  @Test
+  void testFailedSubBatchIsRetriedOnItsOwn() {
+    List<String> texts = List.of("a", "b", "c", "d");
+    AtomicInteger calls = new AtomicInteger();
+    AtomicInteger failures = new AtomicInteger();
+
+    List<float[]> embeddings = scheduler.await(scheduler.embed(EmbeddingProvider.OLLAMA, texts, subBatch -> {
+      calls.incrementAndGet();
+      if (subBatch.contains("d") && failures.getAndIncrement() < 2) {
+        throw new IllegalStateException("rate limited");
+      }
+      return subBatch.stream().map(text -> new float[] { text.charAt(0) }).toList();
+    }));
+
+    assertThat(embeddings).hasSize(4);
+    assertThat(calls).hasValue(4);
+  }
+
+  @Test
+  void testRetriesGiveUpAfterMaxAttempts() {
+    properties.setMaxAttempts(2);
+    AtomicInteger calls = new AtomicInteger();
+
+    assertThatThrownBy(() -> scheduler.await(scheduler.embed(EmbeddingProvider.OPENAI, List.of("a"), subBatch -> {
+      calls.incrementAndGet();
+      throw new IllegalStateException("unavailable");
+    }))).isInstanceOf(IllegalStateException.class).hasMessage("unavailable");
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void testNonTransientFailuresAreNotRetried() {
+    AtomicInteger calls = new AtomicInteger();
+
+    assertThatThrownBy(() -> scheduler.await(scheduler.embed(EmbeddingProvider.OPENAI, List.of("a"), subBatch -> {
+      calls.incrementAndGet();
+      throw new NonTransientAiException("invalid api key");
+    }))).isInstanceOf(NonTransientAiException.class);
+    assertThat(calls).hasValue(1);
+  }
+}
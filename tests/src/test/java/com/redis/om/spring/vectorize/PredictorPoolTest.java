@@ -0,0 +1,135 @@
+package com.redis.om.spring.vectorize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import ai.djl.inference.Predictor;
+
+class PredictorPoolTest {
+  private final List<Predictor<String, String>> predictors = new CopyOnWriteArrayList<>();
+  private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @SuppressWarnings(
+    "unchecked"
+  )
+  private Predictor<String, String> newPredictor(Callable<Void> onPredict) {
+    Predictor<String, String> predictor = mock(Predictor.class);
+    try {
+      when(predictor.batchPredict(anyList())).thenAnswer(invocation -> {
+        onPredict.call();
+        return invocation.<List<String>>getArgument(0).stream().map(String::toUpperCase).toList();
+      });
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+    predictors.add(predictor);
+    return predictor;
+  }
+
+  @Test
+  void testPredictorsAreCreatedLazilyAndReused() throws Exception {
+    PredictorPool<String, String> pool = new PredictorPool<>(() -> newPredictor(() -> null), 4);
+    assertThat(pool.size()).isZero();
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(pool.batchPredict(List.of("a", "b"))).containsExactly("A", "B");
+    }
+
+    assertThat(pool.size()).isEqualTo(1);
+    verify(predictors.get(0), times(3)).batchPredict(anyList());
+  }
+
+  @Test
+  void testConcurrentInferencesAreBoundedByMaxSize() throws Exception {
+    AtomicInteger inUse = new AtomicInteger();
+    AtomicInteger maxInUse = new AtomicInteger();
+    PredictorPool<String, String> pool = new PredictorPool<>(() -> newPredictor(() -> {
+      maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+      Thread.sleep(5);
+      inUse.decrementAndGet();
+      return null;
+    }), 2);
+
+    List<Future<List<String>>> futures = new ArrayList<>();
+    for (int i = 0; i < 32; i++) {
+      futures.add(executor.submit(() -> pool.batchPredict(List.of("x"))));
+    }
+    for (Future<List<String>> future : futures) {
+      assertThat(future.get(30, TimeUnit.SECONDS)).containsExactly("X");
+    }
+
+    assertThat(pool.size()).isLessThanOrEqualTo(2);
+    assertThat(maxInUse.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void testBorrowWaitsWhilePoolIsExhausted() throws Exception {
+    CountDownLatch predicting = new CountDownLatch(1);
+    CountDownLatch proceed = new CountDownLatch(1);
+    AtomicInteger calls = new AtomicInteger();
+    PredictorPool<String, String> pool = new PredictorPool<>(() -> newPredictor(() -> {
+      if (calls.incrementAndGet() == 1) {
+        predicting.countDown();
+        proceed.await(30, TimeUnit.SECONDS);
+      }
+      return null;
+    }), 1);
+
+    Future<List<String>> first = executor.submit(() -> pool.batchPredict(List.of("first")));
+    assertThat(predicting.await(30, TimeUnit.SECONDS)).isTrue();
+    Future<List<String>> second = executor.submit(() -> pool.batchPredict(List.of("second")));
+
+    // the only predictor is in use, so the second inference waits instead of creating another
+    assertThatThrownBy(() -> second.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+    assertThat(pool.size()).isEqualTo(1);
+
+    proceed.countDown();
+    assertThat(first.get(30, TimeUnit.SECONDS)).containsExactly("FIRST");
+    assertThat(second.get(30, TimeUnit.SECONDS)).containsExactly("SECOND");
+    assertThat(pool.size()).isEqualTo(1);
+  }
+
+  @Test
+  void testCloseClosesIdlePredictorsAndThoseInUseOnRelease() throws Exception {
+    CountDownLatch predicting = new CountDownLatch(1);
+    CountDownLatch proceed = new CountDownLatch(1);
+    AtomicInteger calls = new AtomicInteger();
+    PredictorPool<String, String> pool = new PredictorPool<>(() -> newPredictor(() -> {
+      if (calls.incrementAndGet() == 1) {
+        predicting.countDown();
+        proceed.await(30, TimeUnit.SECONDS);
+      }
+      return null;
+    }), 2);
+
+    // the first predictor is in use and the second one idle when the pool is closed
+    Future<List<String>> busy = executor.submit(() -> pool.batchPredict(List.of("busy")));
+    assertThat(predicting.await(30, TimeUnit.SECONDS)).isTrue();
+    assertThat(pool.batchPredict(List.of("idle"))).containsExactly("IDLE");
+    assertThat(pool.size()).isEqualTo(2);
+
+    pool.close();
+    verify(predictors.get(1)).close();
+    verify(predictors.get(0), never()).close();
+    assertThatThrownBy(() -> pool.batchPredict(List.of("closed"))).isInstanceOf(IllegalStateException.class);
+
+    proceed.countDown();
+    assertThat(busy.get(30, TimeUnit.SECONDS)).containsExactly("BUSY");
+    verify(predictors.get(0)).close();
+  }
+}
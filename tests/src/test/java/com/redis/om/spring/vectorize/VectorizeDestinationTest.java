@@ -0,0 +1,59 @@
+package com.redis.om.spring.vectorize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.ReflectionUtils;
+
+import com.redis.om.spring.annotations.VectorIndexed;
+import com.redis.om.spring.annotations.Vectorize;
+import com.redis.om.spring.indexing.DistanceMetric;
+import com.redis.om.spring.indexing.VectorType;
+
+import redis.clients.jedis.search.schemafields.VectorField.VectorAlgorithm;
+
+class VectorizeDestinationTest {
+  @SuppressWarnings(
+    "unused"
+  )
+  static class Destinations {
+    @Vectorize(
+        destination = "halfEmbedding"
+    )
+    String half;
+
+    @VectorIndexed(
+        algorithm = VectorAlgorithm.FLAT, type = VectorType.FLOAT16, dimension = 4,
+        distanceMetric = DistanceMetric.COSINE
+    )
+    byte[] halfEmbedding;
+
+    @Vectorize(
+        destination = "quantizedEmbedding"
+    )
+    String quantized;
+
+    @VectorIndexed(
+        algorithm = VectorAlgorithm.FLAT, type = VectorType.INT8, dimension = 4, distanceMetric = DistanceMetric.L2
+    )
+    byte[] quantizedEmbedding;
+  }
+
+  private static Vectorize vectorizeOf(String field) {
+    return ReflectionUtils.findField(Destinations.class, field).getAnnotation(Vectorize.class);
+  }
+
+  @Test
+  void testFloatDestinationsKeepTheirVectorType() {
+    assertThat(DefaultEmbedder.destinationVectorType(Destinations.class, vectorizeOf("half"))).isEqualTo(
+        VectorType.FLOAT16);
+  }
+
+  @Test
+  void testIntegerDestinationsAreRejected() {
+    assertThatThrownBy(() -> DefaultEmbedder.destinationVectorType(Destinations.class, vectorizeOf("quantized")))
+        .isInstanceOf(IllegalStateException.class).hasMessageContaining("quantizedEmbedding").hasMessageContaining(
+            "INT8");
+  }
+}